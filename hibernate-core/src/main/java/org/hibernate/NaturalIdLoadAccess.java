@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate;
+
+/**
+ * Loads an entity by its natural-id, obtained from {@link Session#byNaturalId}.  All of the
+ * natural-id properties of the entity must be given through {@link #using} before loading.
+ * <p/>
+ * The natural-id is resolved to the entity identifier from, in order: the resolutions already
+ * made by the session, the natural-id cross-reference cache region (when
+ * {@value org.hibernate.cfg.AvailableSettings#USE_NATURAL_ID_CACHE} is enabled and the entity
+ * is cached) and finally the database.
+ */
+public interface NaturalIdLoadAccess {
+
+	/**
+	 * Specify the lock options to apply when loading the entity.
+	 *
+	 * @param lockOptions The lock options to use
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public NaturalIdLoadAccess with(LockOptions lockOptions);
+
+	/**
+	 * Add a natural-id property value.
+	 *
+	 * @param propertyName The name of a natural-id property
+	 * @param value The value of that property
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public NaturalIdLoadAccess using(String propertyName, Object value);
+
+	/**
+	 * Return the persistent instance with the given natural-id, or null if the natural-id cannot
+	 * be resolved.  As for {@link Session#load(String, java.io.Serializable)}, this may return an
+	 * uninitialized proxy once the natural-id has been resolved.
+	 *
+	 * @return the persistent instance or proxy, or {@code null}
+	 *
+	 * @throws HibernateException
+	 */
+	public Object getReference() throws HibernateException;
+
+	/**
+	 * Return the persistent instance with the given natural-id, or null if there is no such
+	 * persistent instance.  As for {@link Session#get(String, java.io.Serializable)}, this never
+	 * returns an uninitialized instance.
+	 *
+	 * @return The persistent instance or {@code null}
+	 *
+	 * @throws HibernateException
+	 */
+	public Object load() throws HibernateException;
+
+}
@@ -762,6 +762,26 @@ public interface Session extends SharedSessionContract {
 	 */
 	public Object get(String entityName, Serializable id, LockOptions lockOptions) throws HibernateException;
 
+	/**
+	 * Create a {@link NaturalIdLoadAccess} to load an instance of the given entity class by its
+	 * natural-id.
+	 *
+	 * @param entityClass a persistent class defining a natural-id
+	 * @return a NaturalIdLoadAccess for the class
+	 * @throws HibernateException if the class does not define a natural-id
+	 */
+	public NaturalIdLoadAccess byNaturalId(Class entityClass) throws HibernateException;
+
+	/**
+	 * Create a {@link NaturalIdLoadAccess} to load an instance of the named entity by its
+	 * natural-id.
+	 *
+	 * @param entityName the name of an entity defining a natural-id
+	 * @return a NaturalIdLoadAccess for the entity
+	 * @throws HibernateException if the entity does not define a natural-id
+	 */
+	public NaturalIdLoadAccess byNaturalId(String entityName) throws HibernateException;
+
 	/**
 	 * Return the entity name for a persistent entity
 	 *   
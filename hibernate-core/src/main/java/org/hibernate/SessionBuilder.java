@@ -113,4 +113,23 @@ public interface SessionBuilder {
 	 * @return {@code this}, for method chaining
 	 */
 	public SessionBuilder tenantIdentifier(String tenantIdentifier);
+
+	/**
+	 * Bound the number of entities the session manages, for batch processing.  Whenever a save, update,
+	 * persist, merge or replicate is requested while the session already manages {@code maxManagedEntities}
+	 * entities, the session is first flushed and cleared, just as a hand written <tt>flush()</tt>/<tt>clear()</tt>
+	 * loop would, so the memory held by the session stays constant however large the batch.
+	 * <p/>
+	 * Instances of the given working set types are re-associated with the session once it has been cleared, as
+	 * are the entity the requested operation applies to and, for a persist, the managed entities it cascades to;
+	 * every other entity is detached.  Should these entities alone reach the limit, the operation fails with a
+	 * {@link HibernateException}.
+	 *
+	 * @param maxManagedEntities The number of managed entities triggering a flush and clear; 0 (the default)
+	 * for no limit.
+	 * @param workingSetTypes The types whose instances should stay managed across a clear.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public SessionBuilder managedEntityLimit(int maxManagedEntities, Class... workingSetTypes);
 }
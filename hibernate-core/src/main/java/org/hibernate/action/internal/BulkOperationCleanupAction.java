@@ -36,6 +36,7 @@ import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -60,6 +61,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 
 	private final Set<EntityCleanup> entityCleanups = new HashSet<EntityCleanup>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<CollectionCleanup>();
+	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<NaturalIdCleanup>();
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -80,6 +82,10 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 			if ( persister.hasCache() ) {
 				entityCleanups.add( new EntityCleanup( persister.getCacheAccessStrategy() ) );
 			}
+			NaturalIdRegionAccessStrategy naturalIdCacheAccess = factory.getNaturalIdCacheAccessStrategy( persister.getEntityName() );
+			if ( naturalIdCacheAccess != null ) {
+				naturalIdCleanups.add( new NaturalIdCleanup( naturalIdCacheAccess ) );
+			}
 
 			Set<String> roles = factory.getCollectionRolesByEntityParticipant( persister.getEntityName() );
 			if ( roles != null ) {
@@ -122,6 +128,10 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				if ( persister.hasCache() ) {
 					entityCleanups.add( new EntityCleanup( persister.getCacheAccessStrategy() ) );
 				}
+				NaturalIdRegionAccessStrategy naturalIdCacheAccess = factory.getNaturalIdCacheAccessStrategy( entityName );
+				if ( naturalIdCacheAccess != null ) {
+					naturalIdCleanups.add( new NaturalIdCleanup( naturalIdCacheAccess ) );
+				}
 				Set<String> roles = session.getFactory().getCollectionRolesByEntityParticipant( persister.getEntityName() );
 				if ( roles != null ) {
 					for ( String role : roles ) {
@@ -191,6 +201,12 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 					final CollectionCleanup cleanup = ( CollectionCleanup ) itr.next();
 					cleanup.release();
 				}
+
+				itr = naturalIdCleanups.iterator();
+				while ( itr.hasNext() ) {
+					final NaturalIdCleanup cleanup = ( NaturalIdCleanup ) itr.next();
+					cleanup.release();
+				}
 			}
 		};
 	}
@@ -234,4 +250,19 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 			cacheAccess.unlockRegion( cacheLock );
 		}
 	}
+
+	private static class NaturalIdCleanup {
+		private final NaturalIdRegionAccessStrategy cacheAccess;
+		private final SoftLock cacheLock;
+
+		private NaturalIdCleanup(NaturalIdRegionAccessStrategy cacheAccess) {
+			this.cacheAccess = cacheAccess;
+			this.cacheLock = cacheAccess.lockRegion();
+			cacheAccess.removeAll();
+		}
+
+		private void release() {
+			cacheAccess.unlockRegion( cacheLock );
+		}
+	}
 }
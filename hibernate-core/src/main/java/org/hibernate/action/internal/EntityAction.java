@@ -143,6 +143,22 @@ public abstract class EntityAction
 		return persister;
 	}
 
+	/**
+	 * Extract the natural-id values of the entity out of the given state.
+	 *
+	 * @param state The entity state
+	 *
+	 * @return The natural-id values, in the order of the natural-id properties
+	 */
+	protected final Object[] extractNaturalIdValues(Object[] state) {
+		final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+		final Object[] naturalIdValues = new Object[ naturalIdProperties.length ];
+		for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+			naturalIdValues[i] = state[ naturalIdProperties[i] ];
+		}
+		return naturalIdValues;
+	}
+
 	@Override
 	public final Serializable[] getPropertySpaces() {
 		return persister.getPropertySpaces();
@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.action.internal;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.hibernate.action.spi.Executable;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Lets the entity insertions, updates or deletions of a flush keep the JDBC batches of
+ * {@link JdbcCoordinator#setMaxOpenBatches several entities} open, instead of executing a batch each time a
+ * statement for another entity is issued.
+ * <p/>
+ * The open batches execute in the order they were opened, so a statement may run before statements issued earlier
+ * into batches opened later.  That is harmless unless both touch the same entity instance, by writing its row or
+ * referencing it (a foreign key), so before an action joins an already open batch, the open batches are executed
+ * if an action in a batch opened later touched one of the instances the action touches.
+ */
+public final class EntityActionBatchOrdering {
+	private final SessionImplementor session;
+	private final JdbcCoordinator jdbcCoordinator;
+
+	// the batch the last action of each entity and kind went to
+	private final Map<String, Batch> batches = new HashMap<String, Batch>();
+	// the latest opened batch touching each instance
+	private final Map<Object, Batch> touchingBatches = new IdentityHashMap<Object, Batch>();
+	private Batch batchBeforeExecution;
+
+	public EntityActionBatchOrdering(SessionImplementor session, int maxOpenBatches) {
+		this.session = session;
+		this.jdbcCoordinator = session.getTransactionCoordinator().getJdbcCoordinator();
+		jdbcCoordinator.setMaxOpenBatches( maxOpenBatches );
+	}
+
+	/**
+	 * Is the given action ordered against the open batches?  Others either do not batch their statements, or
+	 * execute the open batches before their own statements.
+	 *
+	 * @param executable The action
+	 *
+	 * @return True if the action has to go through {@link #beforeExecution} and {@link #afterExecution}.
+	 */
+	public static boolean isOrdered(Executable executable) {
+		return executable instanceof EntityInsertAction
+				|| executable instanceof EntityUpdateAction
+				|| executable instanceof EntityDeleteAction;
+	}
+
+	/**
+	 * Execute the open batches if the given action cannot join them.
+	 *
+	 * @param action An {@link #isOrdered ordered} action about to execute.
+	 */
+	public void beforeExecution(EntityAction action) {
+		batchBeforeExecution = jdbcCoordinator.getCurrentBatch();
+		final Batch batch = batches.get( slot( action ) );
+		final int position = batch == null ? -1 : jdbcCoordinator.getOpenBatchPosition( batch );
+		if ( position < 0 ) {
+			// a new batch executes after all the open ones
+			return;
+		}
+		if ( isTouchedLater( action.getInstance(), position )
+				|| referencesTouchedLater( getState( action ), action.getPersister().getPropertyTypes(), position ) ) {
+			jdbcCoordinator.executeBatch();
+			touchingBatches.clear();
+		}
+	}
+
+	/**
+	 * Record the batch the given action went to.
+	 *
+	 * @param action An {@link #isOrdered ordered} action which just executed.
+	 */
+	public void afterExecution(EntityAction action) {
+		final Batch batch = jdbcCoordinator.getCurrentBatch();
+		if ( batch == null ) {
+			// the action did not batch, and nothing is open anymore
+			touchingBatches.clear();
+			return;
+		}
+		final String slot = slot( action );
+		if ( batch == batchBeforeExecution && batch != batches.get( slot ) ) {
+			// the action did not batch (it was vetoed, for example); that batch belongs to another action
+			return;
+		}
+		batches.put( slot, batch );
+		touch( action.getInstance(), batch );
+		touchReferences( getState( action ), action.getPersister().getPropertyTypes(), batch );
+	}
+
+	private static String slot(EntityAction action) {
+		return action.getPersister().getEntityName() + '#' + action.getClass().getName();
+	}
+
+	private static Object[] getState(EntityAction action) {
+		if ( action instanceof EntityInsertAction ) {
+			return ( (EntityInsertAction) action ).getState();
+		}
+		else if ( action instanceof EntityUpdateAction ) {
+			return ( (EntityUpdateAction) action ).getState();
+		}
+		else {
+			return ( (EntityDeleteAction) action ).getState();
+		}
+	}
+
+	private boolean isTouchedLater(Object instance, int position) {
+		final Batch batch = touchingBatches.get( instance );
+		return batch != null && jdbcCoordinator.getOpenBatchPosition( batch ) > position;
+	}
+
+	private boolean referencesTouchedLater(Object[] values, Type[] types, int position) {
+		if ( values == null ) {
+			return false;
+		}
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null ) {
+				continue;
+			}
+			if ( types[i].isEntityType() ) {
+				final Object instance = resolve( value );
+				if ( instance != null && isTouchedLater( instance, position ) ) {
+					return true;
+				}
+			}
+			else if ( types[i].isComponentType() ) {
+				final CompositeType componentType = (CompositeType) types[i];
+				if ( referencesTouchedLater( componentType.getPropertyValues( value, session ), componentType.getSubtypes(), position ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void touch(Object instance, Batch batch) {
+		final Batch previous = touchingBatches.get( instance );
+		if ( previous == null
+				|| jdbcCoordinator.getOpenBatchPosition( previous ) < jdbcCoordinator.getOpenBatchPosition( batch ) ) {
+			touchingBatches.put( instance, batch );
+		}
+	}
+
+	private void touchReferences(Object[] values, Type[] types, Batch batch) {
+		if ( values == null ) {
+			return;
+		}
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null ) {
+				continue;
+			}
+			if ( types[i].isEntityType() ) {
+				final Object instance = resolve( value );
+				if ( instance != null ) {
+					touch( instance, batch );
+				}
+			}
+			else if ( types[i].isComponentType() ) {
+				final CompositeType componentType = (CompositeType) types[i];
+				touchReferences( componentType.getPropertyValues( value, session ), componentType.getSubtypes(), batch );
+			}
+		}
+	}
+
+	private Object resolve(Object value) {
+		if ( value instanceof HibernateProxy ) {
+			final LazyInitializer li = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+			if ( li.isUninitialized() ) {
+				return session.getPersistenceContext().getEntity(
+						session.generateEntityKey(
+								li.getIdentifier(),
+								session.getFactory().getEntityPersister( li.getEntityName() )
+						)
+				);
+			}
+			return li.getImplementation();
+		}
+		return value;
+	}
+}
@@ -28,6 +28,8 @@ import java.io.Serializable;
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.NaturalIdCacheKey;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -46,6 +48,8 @@ public final class EntityDeleteAction extends EntityAction {
 	private final Object[] state;
 
 	private SoftLock lock;
+	private NaturalIdCacheKey naturalIdCacheKey;
+	private SoftLock naturalIdLock;
 
 	public EntityDeleteAction(
 			final Serializable id,
@@ -61,6 +65,10 @@ public final class EntityDeleteAction extends EntityAction {
 		this.state = state;
 	}
 
+	Object[] getState() {
+		return state;
+	}
+
 	@Override
 	public void execute() throws HibernateException {
 		Serializable id = getId();
@@ -87,6 +95,13 @@ public final class EntityDeleteAction extends EntityAction {
 			ck = null;
 		}
 
+		final NaturalIdRegionAccessStrategy naturalIdCacheAccess =
+				session.getFactory().getNaturalIdCacheAccessStrategy( persister.getEntityName() );
+		if ( naturalIdCacheAccess != null && state != null ) {
+			naturalIdCacheKey = new NaturalIdCacheKey( extractNaturalIdValues( state ), persister, session );
+			naturalIdLock = naturalIdCacheAccess.lockItem( naturalIdCacheKey, null );
+		}
+
 		if ( !isCascadeDeleteEnabled && !veto ) {
 			persister.delete( id, version, instance, session );
 		}
@@ -108,6 +123,9 @@ public final class EntityDeleteAction extends EntityAction {
 		if ( persister.hasCache() ) {
 			persister.getCacheAccessStrategy().remove( ck );
 		}
+		if ( naturalIdCacheKey != null ) {
+			naturalIdCacheAccess.remove( naturalIdCacheKey );
+		}
 
 		postDelete();
 
@@ -173,6 +191,11 @@ public final class EntityDeleteAction extends EntityAction {
 			);
 			getPersister().getCacheAccessStrategy().unlockItem( ck, lock );
 		}
+		if ( naturalIdCacheKey != null ) {
+			getSession().getFactory()
+					.getNaturalIdCacheAccessStrategy( getPersister().getEntityName() )
+					.unlockItem( naturalIdCacheKey, naturalIdLock );
+		}
 		postCommitDelete();
 	}
 
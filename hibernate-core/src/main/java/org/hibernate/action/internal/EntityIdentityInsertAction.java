@@ -37,6 +37,7 @@ import org.hibernate.event.spi.PostInsertEventListener;
 import org.hibernate.event.spi.PreInsertEvent;
 import org.hibernate.event.spi.PreInsertEventListener;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.IdentityInsertBatchable;
 
 public final class EntityIdentityInsertAction extends EntityAction  {
 
@@ -65,24 +66,13 @@ public final class EntityIdentityInsertAction extends EntityAction  {
 
 	@Override
 	public void execute() throws HibernateException {
-		final EntityPersister persister = getPersister();
-		final SessionImplementor session = getSession();
-		final Object instance = getInstance();
-
 		boolean veto = preInsert();
 
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
 
 		if ( !veto ) {
-			generatedId = persister.insert( state, instance, session );
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, state, session );
-			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			getSession().getPersistenceContext().registerInsertedKey( getPersister(), generatedId );
+			inserted( getPersister().insert( state, getInstance(), getSession() ) );
 		}
 
 
@@ -94,12 +84,48 @@ public final class EntityIdentityInsertAction extends EntityAction  {
 			persister.getCache().insert(generatedId, cacheEntry);
 		}*/
 
+		completed( veto );
+	}
+
+	/**
+	 * Can this insertion be executed as part of a JDBC batch?  Only insertions delayed until
+	 * flush time qualify, as anything else needs the generated identifier immediately.
+	 *
+	 * @return True if this insertion can be executed by an {@link EntityIdentityInsertBatch}.
+	 */
+	public boolean isBatchable() {
+		return isDelayed
+				&& getPersister() instanceof IdentityInsertBatchable
+				&& ( (IdentityInsertBatchable) getPersister() ).isIdentityInsertBatchable();
+	}
+
+	Object[] getState() {
+		return state;
+	}
+
+	void inserted(Serializable generatedId) {
+		final EntityPersister persister = getPersister();
+		final SessionImplementor session = getSession();
+		final Object instance = getInstance();
+
+		this.generatedId = generatedId;
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, state, session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		session.getPersistenceContext().registerInsertedKey( persister, generatedId );
+	}
+
+	void completed(boolean veto) {
+		final SessionImplementor session = getSession();
+
 		postInsert();
 
 		if ( session.getFactory().getStatistics().isStatisticsEnabled() && !veto ) {
 			session.getFactory().getStatisticsImplementor().insertEntity( getPersister().getEntityName() );
 		}
-
 	}
 
 	@Override
@@ -161,7 +187,7 @@ public final class EntityIdentityInsertAction extends EntityAction  {
 		}
 	}
 
-	private boolean preInsert() {
+	boolean preInsert() {
 		EventListenerGroup<PreInsertEventListener> listenerGroup = listenerGroup( EventType.PRE_INSERT );
 		if ( listenerGroup.isEmpty() ) {
 			return false; // NO_VETO
@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.action.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.IdentityInsertBatchable;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Collects consecutive {@link EntityIdentityInsertAction#isBatchable() batchable} identity insertions
+ * of the same entity and executes them as a single JDBC batch, reading the generated identifiers back
+ * through <tt>getGeneratedKeys()</tt>.
+ * <p/>
+ * The identifiers only become known once the batch is executed, so an insertion referencing an entity
+ * still pending in the batch cannot join it; the batch has to be executed first.
+ */
+public final class EntityIdentityInsertBatch {
+	private final SessionImplementor session;
+	private final int maxSize;
+
+	private final List<EntityIdentityInsertAction> actions = new ArrayList<EntityIdentityInsertAction>();
+	private final List<EntityIdentityInsertAction> inserts = new ArrayList<EntityIdentityInsertAction>();
+	private final Map<Object, Object> pendingInstances = new IdentityHashMap<Object, Object>();
+	private EntityPersister persister;
+
+	public EntityIdentityInsertBatch(SessionImplementor session) {
+		this.session = session;
+		this.maxSize = session.getFactory().getSettings().getJdbcBatchSize();
+	}
+
+	/**
+	 * Can the given insertion be added to this batch?
+	 *
+	 * @param action A {@link EntityIdentityInsertAction#isBatchable() batchable} insertion.
+	 * @return True if the insertion can be added; false if this batch has to be executed first.
+	 */
+	public boolean accepts(EntityIdentityInsertAction action) {
+		if ( actions.isEmpty() ) {
+			return true;
+		}
+		return action.getPersister() == persister
+				&& inserts.size() < maxSize
+				&& !referencesPendingInstance( action.getState(), persister.getPropertyTypes() );
+	}
+
+	private boolean referencesPendingInstance(Object[] values, Type[] types) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null ) {
+				continue;
+			}
+			if ( types[i].isEntityType() ) {
+				if ( pendingInstances.containsKey( value ) ) {
+					return true;
+				}
+			}
+			else if ( types[i].isComponentType() ) {
+				final CompositeType componentType = (CompositeType) types[i];
+				if ( referencesPendingInstance( componentType.getPropertyValues( value, session ), componentType.getSubtypes() ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Add an insertion to this batch; it must be {@link #accepts accepted}.
+	 *
+	 * @param action The insertion.
+	 */
+	public void add(EntityIdentityInsertAction action) {
+		persister = action.getPersister();
+		actions.add( action );
+		if ( !action.preInsert() ) {
+			inserts.add( action );
+			pendingInstances.put( action.getInstance(), action );
+		}
+	}
+
+	/**
+	 * Execute the batch, assigning the generated identifiers to the inserted instances.
+	 *
+	 * @throws HibernateException Problem inserting.
+	 */
+	public void execute() throws HibernateException {
+		if ( !inserts.isEmpty() ) {
+			final Object[][] states = new Object[inserts.size()][];
+			final Object[] instances = new Object[inserts.size()];
+			for ( int i = 0; i < states.length; i++ ) {
+				states[i] = inserts.get( i ).getState();
+				instances[i] = inserts.get( i ).getInstance();
+			}
+			final Serializable[] generatedIds = ( (IdentityInsertBatchable) persister ).insert( states, instances, session );
+			for ( int i = 0; i < generatedIds.length; i++ ) {
+				inserts.get( i ).inserted( generatedIds[i] );
+			}
+		}
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completed( !pendingInstances.containsKey( action.getInstance() ) );
+		}
+	}
+
+	/**
+	 * @return The insertions added to this batch, vetoed or not.
+	 */
+	public List<EntityIdentityInsertAction> getActions() {
+		return actions;
+	}
+}
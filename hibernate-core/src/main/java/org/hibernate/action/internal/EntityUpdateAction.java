@@ -29,6 +29,8 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.NaturalIdCacheKey;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.internal.Versioning;
@@ -43,6 +45,7 @@ import org.hibernate.event.spi.PostUpdateEventListener;
 import org.hibernate.event.spi.PreUpdateEvent;
 import org.hibernate.event.spi.PreUpdateEventListener;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
 public final class EntityUpdateAction extends EntityAction {
@@ -55,6 +58,8 @@ public final class EntityUpdateAction extends EntityAction {
 	private Object nextVersion;
 	private Object cacheEntry;
 	private SoftLock lock;
+	private NaturalIdCacheKey previousNaturalIdCacheKey;
+	private SoftLock naturalIdLock;
 
 	public EntityUpdateAction(
 	        final Serializable id,
@@ -78,6 +83,10 @@ public final class EntityUpdateAction extends EntityAction {
 		this.rowId = rowId;
 	}
 
+	Object[] getState() {
+		return state;
+	}
+
 	@Override
 	public void execute() throws HibernateException {
 		Serializable id = getId();
@@ -109,6 +118,21 @@ public final class EntityUpdateAction extends EntityAction {
 			ck = null;
 		}
 
+		final boolean mutableNaturalId = persister.hasNaturalIdentifier()
+				&& !persister.getEntityMetamodel().hasImmutableNaturalId();
+		final NaturalIdRegionAccessStrategy naturalIdCacheAccess = factory.getNaturalIdCacheAccessStrategy( persister.getEntityName() );
+		if ( naturalIdCacheAccess != null && mutableNaturalId ) {
+			// without a previous state (update() of a detached instance) the row still holds the previous natural-id
+			final Object[] previousNaturalIdValues = previousState == null
+					? session.getPersistenceContext().getNaturalIdSnapshot( id, persister )
+					: extractNaturalIdValues( previousState );
+			if ( previousNaturalIdValues != null && isNaturalIdChanged( previousNaturalIdValues ) ) {
+				// the cross-reference for the previous natural-id is now stale
+				previousNaturalIdCacheKey = new NaturalIdCacheKey( previousNaturalIdValues, persister, session );
+				naturalIdLock = naturalIdCacheAccess.lockItem( previousNaturalIdCacheKey, null );
+			}
+		}
+
 		if ( !veto ) {
 			persister.update( 
 					id, 
@@ -150,6 +174,12 @@ public final class EntityUpdateAction extends EntityAction {
 			// have the entity entry doAfterTransactionCompletion post-update processing, passing it the
 			// update state and the new version (if one).
 			entry.postUpdate( instance, state, nextVersion );
+
+			if ( mutableNaturalId && !veto
+					&& ( previousState == null || isNaturalIdChanged( extractNaturalIdValues( previousState ) ) ) ) {
+				// replaces any resolution of the previous natural-id within this session
+				session.getPersistenceContext().addNaturalIdResolution( persister, extractNaturalIdValues( state ), id );
+			}
 		}
 
 		if ( persister.hasCache() ) {
@@ -174,6 +204,10 @@ public final class EntityUpdateAction extends EntityAction {
 			}
 		}
 
+		if ( previousNaturalIdCacheKey != null ) {
+			naturalIdCacheAccess.remove( previousNaturalIdCacheKey );
+		}
+
 		postUpdate();
 
 		if ( factory.getStatistics().isStatisticsEnabled() && !veto ) {
@@ -182,6 +216,19 @@ public final class EntityUpdateAction extends EntityAction {
 		}
 	}
 
+	private boolean isNaturalIdChanged(Object[] previousNaturalIdValues) {
+		final EntityPersister persister = getPersister();
+		final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+			final Type type = propertyTypes[ naturalIdProperties[i] ];
+			if ( !type.isEqual( previousNaturalIdValues[i], state[ naturalIdProperties[i] ], getSession().getFactory() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean preUpdate() {
 		boolean veto = false;
 		EventListenerGroup<PreUpdateEventListener> listenerGroup = listenerGroup( EventType.PRE_UPDATE );
@@ -267,6 +314,11 @@ public final class EntityUpdateAction extends EntityAction {
 				persister.getCacheAccessStrategy().unlockItem( ck, lock );
 			}
 		}
+		if ( previousNaturalIdCacheKey != null ) {
+			getSession().getFactory()
+					.getNaturalIdCacheAccessStrategy( persister.getEntityName() )
+					.unlockItem( previousNaturalIdCacheKey, naturalIdLock );
+		}
 		postCommitUpdate();
 	}
 
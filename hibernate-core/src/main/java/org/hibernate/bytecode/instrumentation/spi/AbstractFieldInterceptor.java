@@ -23,6 +23,8 @@
  */
 package org.hibernate.bytecode.instrumentation.spi;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.hibernate.LazyInitializationException;
@@ -39,6 +41,7 @@ public abstract class AbstractFieldInterceptor implements FieldInterceptor, Seri
 
 	private transient boolean initializing;
 	private boolean dirty;
+	private Set<String> dirtyFields;
 
 	protected AbstractFieldInterceptor(SessionImplementor session, Set uninitializedFields, String entityName) {
 		this.session = session;
@@ -66,16 +69,40 @@ public abstract class AbstractFieldInterceptor implements FieldInterceptor, Seri
 	}
 
 	public final boolean isDirty() {
-		return dirty;
+		return dirty || dirtyFields != null;
+	}
+
+	public final Set<String> getDirtyFields() {
+		if ( dirty ) {
+			return null;
+		}
+		return dirtyFields == null ? Collections.<String>emptySet() : Collections.unmodifiableSet( dirtyFields );
 	}
 
 	public final void clearDirty() {
 		dirty = false;
+		dirtyFields = null;
 	}
 
 
 	// subclass accesses ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
+	/**
+	 * Record a write to the given field.
+	 *
+	 * @param fieldName The name of the field written
+	 */
+	protected final void dirty(String fieldName) {
+		if ( dirty ) {
+			// all fields are considered dirty already
+			return;
+		}
+		if ( dirtyFields == null ) {
+			dirtyFields = new HashSet<String>();
+		}
+		dirtyFields.add( fieldName );
+	}
+
 	protected final Object intercept(Object target, String fieldName, Object value) {
 		if ( initializing ) {
 			return value;
@@ -23,6 +23,8 @@
  */
 package org.hibernate.bytecode.instrumentation.spi;
 
+import java.util.Set;
+
 import org.hibernate.engine.spi.SessionImplementor;
 
 /**
@@ -66,6 +68,14 @@ public interface FieldInterceptor {
 	 */
 	public boolean isDirty();
 
+	/**
+	 * The names of the fields written since the entity was loaded or last flushed.
+	 *
+	 * @return The names of the written fields; or <tt>null</tt> if the entity was forcefully
+	 * marked dirty (see {@link #dirty()}) and so the modified fields are not known.
+	 */
+	public Set<String> getDirtyFields();
+
 	/**
 	 * Clear the internal dirty flag.
 	 */
@@ -30,6 +30,7 @@ import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.binding.EntityBinding;
 import org.hibernate.metamodel.binding.PluralAttributeBinding;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.type.VersionType;
 
 /**
@@ -90,6 +91,15 @@ public class CacheDataDescriptionImpl implements CacheDataDescription {
 		);
 	}
 
+	public static CacheDataDescriptionImpl decodeNaturalId(EntityPersister persister) {
+		// natural-id cross-references are never versioned
+		return new CacheDataDescriptionImpl(
+				persister.isMutable() && !persister.getEntityMetamodel().hasImmutableNaturalId(),
+				false,
+				null
+		);
+	}
+
 	private static Comparator getVersionComparator(EntityBinding model ) {
 		Comparator versionComparator = null;
 		if ( model.isVersioned() ) {
@@ -39,9 +39,12 @@ import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
+import org.hibernate.cache.spi.access.RegionAccessStrategyHelper;
 import org.hibernate.cfg.Settings;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -150,34 +153,82 @@ public class StandardQueryCache implements QueryCache {
 			}
 		}
 		List result = new ArrayList( cacheable.size() - 1 );
-		for ( int i = 1; i < cacheable.size(); i++ ) {
-			try {
-				if ( returnTypes.length == 1 ) {
-					result.add( returnTypes[0].assemble( (Serializable) cacheable.get( i ), session, null ) );
+		prefetchCachedEntities( cacheable, returnTypes, session );
+		try {
+			for ( int i = 1; i < cacheable.size(); i++ ) {
+				try {
+					if ( returnTypes.length == 1 ) {
+						result.add( returnTypes[0].assemble( (Serializable) cacheable.get( i ), session, null ) );
+					}
+					else {
+						result.add(
+								TypeHelper.assemble( (Serializable[]) cacheable.get( i ), returnTypes, session, null )
+						);
+					}
+					logCachedResultRowDetails( returnTypes, result.get( i - 1 ) );
 				}
-				else {
-					result.add(
-							TypeHelper.assemble( (Serializable[]) cacheable.get( i ), returnTypes, session, null )
-					);
+				catch ( RuntimeException ex ) {
+					if ( isNaturalKeyLookup &&
+							( UnresolvableObjectException.class.isInstance( ex ) ||
+									EntityNotFoundException.class.isInstance( ex ) ) ) {
+						//TODO: not really completely correct, since
+						//      the uoe could occur while resolving
+						//      associations, leaving the PC in an
+						//      inconsistent state
+						LOG.debug( "Unable to reassemble cached result set" );
+						cacheRegion.evict( key );
+						return null;
+					}
+					throw ex;
 				}
-				logCachedResultRowDetails( returnTypes, result.get( i - 1 ) );
 			}
-			catch ( RuntimeException ex ) {
-				if ( isNaturalKeyLookup &&
-						( UnresolvableObjectException.class.isInstance( ex ) ||
-								EntityNotFoundException.class.isInstance( ex ) ) ) {
-					//TODO: not really completely correct, since
-					//      the uoe could occur while resolving
-					//      associations, leaving the PC in an
-					//      inconsistent state
-					LOG.debug( "Unable to reassemble cached result set" );
-					cacheRegion.evict( key );
-					return null;
+		}
+		finally {
+			session.getPersistenceContext().getBatchFetchQueue().clearPrefetchedCacheEntries();
+		}
+		return result;
+	}
+
+	/**
+	 * Read the second-level cache entries of all the entities in the cached result
+	 * in one bulk read per entity type, instead of one read per entity when they
+	 * are resolved.
+	 */
+	private static void prefetchCachedEntities(List cacheable, Type[] returnTypes, SessionImplementor session) {
+		if ( !session.getCacheMode().isGetEnabled() ) {
+			return;
+		}
+		for ( int column = 0; column < returnTypes.length; column++ ) {
+			if ( !returnTypes[column].isEntityType() ) {
+				continue;
+			}
+			final EntityType entityType = (EntityType) returnTypes[column];
+			if ( !entityType.isReferenceToPrimaryKey() ) {
+				continue;
+			}
+			final EntityPersister persister = session.getFactory().getEntityPersister(
+					entityType.getAssociatedEntityName()
+			);
+			if ( !persister.hasCache()
+					|| !RegionAccessStrategyHelper.isBulkReadSupported( persister.getCacheAccessStrategy() ) ) {
+				// without bulk reads, reading ahead would save nothing
+				continue;
+			}
+			final List<Serializable> ids = new ArrayList<Serializable>( cacheable.size() - 1 );
+			for ( int i = 1; i < cacheable.size(); i++ ) {
+				final Serializable disassembled = returnTypes.length == 1
+						? (Serializable) cacheable.get( i )
+						: ( (Serializable[]) cacheable.get( i ) )[column];
+				if ( disassembled == null ) {
+					continue;
+				}
+				final Serializable id = (Serializable) persister.getIdentifierType().assemble( disassembled, session, null );
+				if ( !session.getPersistenceContext().containsEntity( session.generateEntityKey( id, persister ) ) ) {
+					ids.add( id );
 				}
-				throw ex;
 			}
+			session.getPersistenceContext().getBatchFetchQueue().prefetchCacheEntries( persister, ids );
 		}
-		return result;
 	}
 
 	protected boolean isUpToDate(Set spaces, Long timestamp) {
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.compare.EqualsHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Key for the natural-id cross-reference region.  The natural-id values are kept
+ * in their disassembled form so that the key holds no entity references and can be
+ * replicated.  Note that the entity name is always the root entity name, as for
+ * {@link CacheKey}.
+ */
+public class NaturalIdCacheKey implements Serializable {
+	private final Serializable[] naturalIdValues;
+	private final String entityName;
+	private final String tenantId;
+	private final int hashCode;
+
+	/**
+	 * Construct a new key for the given natural-id values.
+	 *
+	 * @param naturalIdValues The natural-id values, in the order of
+	 * {@link EntityPersister#getNaturalIdentifierProperties()}
+	 * @param persister The persister for the entity
+	 * @param session The originating session
+	 */
+	public NaturalIdCacheKey(
+			final Object[] naturalIdValues,
+			final EntityPersister persister,
+			final SessionImplementor session) {
+		final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		this.naturalIdValues = new Serializable[ naturalIdValues.length ];
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			this.naturalIdValues[i] = propertyTypes[ naturalIdProperties[i] ].disassemble( naturalIdValues[i], session, null );
+		}
+		this.entityName = persister.getRootEntityName();
+		this.tenantId = session.getTenantIdentifier();
+		this.hashCode = 37 * entityName.hashCode() + Arrays.deepHashCode( this.naturalIdValues );
+	}
+
+	@Override
+	public String toString() {
+		return entityName + "##NaturalId" + Arrays.deepToString( naturalIdValues );
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if ( !(other instanceof NaturalIdCacheKey) ) {
+			return false;
+		}
+		NaturalIdCacheKey that = (NaturalIdCacheKey) other;
+		return entityName.equals( that.entityName ) &&
+				Arrays.deepEquals( naturalIdValues, that.naturalIdValues ) &&
+				EqualsHelper.equals( tenantId, that.tenantId );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	public Serializable[] getNaturalIdValues() {
+		return naturalIdValues;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+}
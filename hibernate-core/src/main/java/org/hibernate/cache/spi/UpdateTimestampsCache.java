@@ -26,7 +26,8 @@ package org.hibernate.cache.spi;
 import java.io.Serializable;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.logging.Logger;
 
@@ -51,10 +52,16 @@ public class UpdateTimestampsCache {
 	public static final String REGION_NAME = UpdateTimestampsCache.class.getName();
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, UpdateTimestampsCache.class.getName() );
 
-	private ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 	private final TimestampsRegion region;
 	private final SessionFactoryImplementor factory;
 
+	/**
+	 * The timestamps most recently written to the region by this cache, per space.  The region stays
+	 * authoritative (it may be replicated, or may have evicted entries), this snapshot is only used to
+	 * recognise a stale result without going to the region.
+	 */
+	private final ConcurrentMap<Serializable,Long> localTimestamps = new ConcurrentHashMap<Serializable,Long>();
+
 	public UpdateTimestampsCache(Settings settings, Properties props, final SessionFactoryImplementor factory) throws HibernateException {
 		this.factory = factory;
 		String prefix = settings.getCacheRegionPrefix();
@@ -70,84 +77,74 @@ public class UpdateTimestampsCache {
 
 	@SuppressWarnings({"UnnecessaryBoxing"})
 	public void preinvalidate(Serializable[] spaces) throws CacheException {
-		readWriteLock.writeLock().lock();
-
-		try {
-			Long ts = region.nextTimestamp() + region.getTimeout();
-			for ( Serializable space : spaces ) {
-				LOG.debugf( "Pre-invalidating space [%s]", space );
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				region.put( space, ts );
-				if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-					factory.getStatisticsImplementor().updateTimestampsCachePut();
-				}
-			}
-		}
-		finally {
-			readWriteLock.writeLock().unlock();
+		Long ts = region.nextTimestamp() + region.getTimeout();
+		for ( Serializable space : spaces ) {
+			LOG.debugf( "Pre-invalidating space [%s]", space );
+			put( space, ts );
 		}
 	}
 
 	 @SuppressWarnings({"UnnecessaryBoxing"})
 	public void invalidate(Serializable[] spaces) throws CacheException {
-		readWriteLock.writeLock().lock();
-
-		try {
-			Long ts = region.nextTimestamp();
-			for (Serializable space : spaces) {
-				LOG.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				region.put( space, ts );
-				if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-					factory.getStatisticsImplementor().updateTimestampsCachePut();
-				}
-			}
+		Long ts = region.nextTimestamp();
+		for (Serializable space : spaces) {
+			LOG.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
+			put( space, ts );
 		}
-		finally {
-			readWriteLock.writeLock().unlock();
+	}
+
+	private void put(Serializable space, Long ts) {
+		// no lock: each space is written on its own, so a concurrent reader can at worst see some of
+		// the spaces already invalidated, which can only make it consider a result stale
+		localTimestamps.put( space, ts );
+		//put() has nowait semantics, is this really appropriate?
+		//note that it needs to be async replication, never local or sync
+		region.put( space, ts );
+		if ( isStatisticsEnabled() ) {
+			factory.getStatisticsImplementor().updateTimestampsCachePut();
 		}
 	}
 
 	@SuppressWarnings({"unchecked", "UnnecessaryUnboxing"})
 	public boolean isUpToDate(Set spaces, Long timestamp) throws HibernateException {
-		readWriteLock.readLock().lock();
-
-		try {
-			for ( Serializable space : (Set<Serializable>) spaces ) {
-				Long lastUpdate = (Long) region.get( space );
-				if ( lastUpdate == null ) {
-					if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-						factory.getStatisticsImplementor().updateTimestampsCacheMiss();
-					}
-					//the last update timestamp was lost from the cache
-					//(or there were no updates since startup!)
-					//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
-					//result = false; // safer
+		for ( Serializable space : (Set<Serializable>) spaces ) {
+			Long lastUpdate = localTimestamps.get( space );
+			if ( lastUpdate == null || lastUpdate < timestamp ) {
+				// not known to be stale locally, but another node may have updated the space since
+				lastUpdate = (Long) region.get( space );
+			}
+			if ( lastUpdate == null ) {
+				if ( isStatisticsEnabled() ) {
+					factory.getStatisticsImplementor().updateTimestampsCacheMiss();
 				}
-				else {
-                    if ( LOG.isDebugEnabled() ) {
-                        LOG.debugf(
-                                "[%s] last update timestamp: %s",
-                                space,
-                                lastUpdate + ", result set timestamp: " + timestamp
-                        );
-                    }
-					if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-						factory.getStatisticsImplementor().updateTimestampsCacheHit();
-					}
-					if ( lastUpdate >= timestamp ) return false;
+				//the last update timestamp was lost from the cache
+				//(or there were no updates since startup!)
+				//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
+				//result = false; // safer
+			}
+			else {
+                if ( LOG.isDebugEnabled() ) {
+                    LOG.debugf(
+                            "[%s] last update timestamp: %s",
+                            space,
+                            lastUpdate + ", result set timestamp: " + timestamp
+                    );
+                }
+				if ( isStatisticsEnabled() ) {
+					factory.getStatisticsImplementor().updateTimestampsCacheHit();
 				}
+				if ( lastUpdate >= timestamp ) return false;
 			}
-			return true;
-		}
-		finally {
-			readWriteLock.readLock().unlock();
 		}
+		return true;
+	}
+
+	private boolean isStatisticsEnabled() {
+		return factory != null && factory.getStatistics().isStatisticsEnabled();
 	}
 
 	public void clear() throws CacheException {
+		localTimestamps.clear();
 		region.evictAll();
 	}
 
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi.access;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+
+/**
+ * Helper for reading several items through a {@link RegionAccessStrategy}, whether or not it
+ * implements {@link BulkReadRegionAccessStrategy}.
+ */
+public final class RegionAccessStrategyHelper {
+	private RegionAccessStrategyHelper() {
+	}
+
+	/**
+	 * Does the given strategy read several items in one call?
+	 *
+	 * @param strategy The access strategy
+	 * @return true if it implements {@link BulkReadRegionAccessStrategy}
+	 */
+	public static boolean isBulkReadSupported(RegionAccessStrategy strategy) {
+		return strategy instanceof BulkReadRegionAccessStrategy;
+	}
+
+	/**
+	 * Retrieve several objects from the cache, with a single bulk read if the strategy supports
+	 * it and with one {@link RegionAccessStrategy#get} per key otherwise.
+	 *
+	 * @param strategy The access strategy
+	 * @param keys The keys of the items to be retrieved.
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @return the cached objects, keyed by their keys; keys for which nothing is
+	 * cached are either missing from the map or mapped to <tt>null</tt>
+	 * @throws org.hibernate.cache.CacheException Propogated from underlying {@link org.hibernate.cache.spi.Region}
+	 */
+	@SuppressWarnings({ "unchecked" })
+	public static Map getAll(RegionAccessStrategy strategy, Collection keys, long txTimestamp) throws CacheException {
+		if ( isBulkReadSupported( strategy ) ) {
+			return ( (BulkReadRegionAccessStrategy) strategy ).getAll( keys, txTimestamp );
+		}
+		final Map result = new HashMap( keys.size() );
+		for ( Object key : keys ) {
+			result.put( key, strategy.get( key, txTimestamp ) );
+		}
+		return result;
+	}
+}
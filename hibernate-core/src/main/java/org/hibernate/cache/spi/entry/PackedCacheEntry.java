@@ -0,0 +1,294 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.BackrefPropertyAccessor;
+
+/**
+ * Stores a {@link CacheEntry} as a single <tt>byte[]</tt>.  Values of the common basic
+ * types are written in a compact binary form; anything else is written using Java
+ * serialization.  Compared to caching the <tt>CacheEntry</tt> itself this avoids
+ * holding a graph of boxed values per cached entity, and is much cheaper to replicate.
+ */
+public class PackedCacheEntry implements CacheEntryStructure {
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BYTES = 11;
+	private static final byte DATE = 12;
+	private static final byte SQL_DATE = 13;
+	private static final byte TIME = 14;
+	private static final byte TIMESTAMP = 15;
+	private static final byte BIG_DECIMAL = 16;
+	private static final byte BIG_INTEGER = 17;
+	private static final byte ARRAY = 18;
+	private static final byte UNFETCHED = 19;
+	private static final byte UNKNOWN_BACKREF = 20;
+	private static final byte SERIALIZED = 21;
+
+	private final EntityPersister persister;
+
+	public PackedCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	public Object structure(Object item) {
+		CacheEntry entry = (CacheEntry) item;
+		Serializable[] state = entry.getDisassembledState();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 + state.length * 8 );
+		DataOutputStream out = new DataOutputStream( bytes );
+		try {
+			writeString( out, entry.getSubclass() );
+			out.writeBoolean( entry.areLazyPropertiesUnfetched() );
+			writeValue( out, entry.getVersion() );
+			out.writeInt( state.length );
+			for ( Serializable value : state ) {
+				writeValue( out, value );
+			}
+			out.flush();
+		}
+		catch ( IOException e ) {
+			throw new HibernateException( "Unable to pack cache entry for " + persister.getEntityName(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	public Object destructure(Object item, SessionFactoryImplementor factory) {
+		DataInputStream in = new DataInputStream( new ByteArrayInputStream( (byte[]) item ) );
+		try {
+			String subclass = readString( in );
+			boolean lazyPropertiesUnfetched = in.readBoolean();
+			Object version = readValue( in );
+			Serializable[] state = new Serializable[ in.readInt() ];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) readValue( in );
+			}
+			return new CacheEntry( state, subclass, lazyPropertiesUnfetched, version );
+		}
+		catch ( IOException e ) {
+			throw new HibernateException( "Unable to unpack cache entry for " + persister.getEntityName(), e );
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			out.writeByte( UNFETCHED );
+		}
+		else if ( value == BackrefPropertyAccessor.UNKNOWN ) {
+			out.writeByte( UNKNOWN_BACKREF );
+		}
+		else {
+			// exact class checks: a subclass could carry state we would lose
+			final Class valueClass = value.getClass();
+			if ( valueClass == Boolean.class ) {
+				out.writeByte( ( (Boolean) value ) ? TRUE : FALSE );
+			}
+			else if ( valueClass == Integer.class ) {
+				out.writeByte( INTEGER );
+				out.writeInt( (Integer) value );
+			}
+			else if ( valueClass == Long.class ) {
+				out.writeByte( LONG );
+				out.writeLong( (Long) value );
+			}
+			else if ( valueClass == String.class ) {
+				out.writeByte( STRING );
+				writeString( out, (String) value );
+			}
+			else if ( valueClass == Short.class ) {
+				out.writeByte( SHORT );
+				out.writeShort( (Short) value );
+			}
+			else if ( valueClass == Byte.class ) {
+				out.writeByte( BYTE );
+				out.writeByte( (Byte) value );
+			}
+			else if ( valueClass == Double.class ) {
+				out.writeByte( DOUBLE );
+				out.writeDouble( (Double) value );
+			}
+			else if ( valueClass == Float.class ) {
+				out.writeByte( FLOAT );
+				out.writeFloat( (Float) value );
+			}
+			else if ( valueClass == Character.class ) {
+				out.writeByte( CHARACTER );
+				out.writeChar( (Character) value );
+			}
+			else if ( valueClass == byte[].class ) {
+				out.writeByte( BYTES );
+				writeBytes( out, (byte[]) value );
+			}
+			else if ( valueClass == Date.class ) {
+				out.writeByte( DATE );
+				out.writeLong( ( (Date) value ).getTime() );
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				out.writeByte( SQL_DATE );
+				out.writeLong( ( (Date) value ).getTime() );
+			}
+			else if ( valueClass == Time.class ) {
+				out.writeByte( TIME );
+				out.writeLong( ( (Date) value ).getTime() );
+			}
+			else if ( valueClass == Timestamp.class ) {
+				out.writeByte( TIMESTAMP );
+				out.writeLong( ( (Timestamp) value ).getTime() );
+				out.writeInt( ( (Timestamp) value ).getNanos() );
+			}
+			else if ( valueClass == BigDecimal.class ) {
+				out.writeByte( BIG_DECIMAL );
+				out.writeInt( ( (BigDecimal) value ).scale() );
+				writeBytes( out, ( (BigDecimal) value ).unscaledValue().toByteArray() );
+			}
+			else if ( valueClass == BigInteger.class ) {
+				out.writeByte( BIG_INTEGER );
+				writeBytes( out, ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( valueClass == Object[].class ) {
+				// the disassembled state of a component
+				Object[] values = (Object[]) value;
+				out.writeByte( ARRAY );
+				out.writeInt( values.length );
+				for ( Object element : values ) {
+					writeValue( out, element );
+				}
+			}
+			else {
+				out.writeByte( SERIALIZED );
+				writeBytes( out, SerializationHelper.serialize( (Serializable) value ) );
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		final byte tag = in.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case BYTE:
+				return in.readByte();
+			case SHORT:
+				return in.readShort();
+			case INTEGER:
+				return in.readInt();
+			case LONG:
+				return in.readLong();
+			case FLOAT:
+				return in.readFloat();
+			case DOUBLE:
+				return in.readDouble();
+			case CHARACTER:
+				return in.readChar();
+			case STRING:
+				return readString( in );
+			case BYTES:
+				return readBytes( in );
+			case DATE:
+				return new Date( in.readLong() );
+			case SQL_DATE:
+				return new java.sql.Date( in.readLong() );
+			case TIME:
+				return new Time( in.readLong() );
+			case TIMESTAMP: {
+				Timestamp timestamp = new Timestamp( in.readLong() );
+				timestamp.setNanos( in.readInt() );
+				return timestamp;
+			}
+			case BIG_DECIMAL: {
+				int scale = in.readInt();
+				return new BigDecimal( new BigInteger( readBytes( in ) ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( readBytes( in ) );
+			case ARRAY: {
+				Object[] values = new Object[ in.readInt() ];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = readValue( in );
+				}
+				return values;
+			}
+			case UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACKREF:
+				return BackrefPropertyAccessor.UNKNOWN;
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( in ) );
+			default:
+				throw new HibernateException( "Unknown value tag in packed cache entry: " + tag );
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		writeBytes( out, value.getBytes( "UTF-8" ) );
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return new String( readBytes( in ), "UTF-8" );
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+		out.writeInt( value.length );
+		out.write( value );
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		byte[] value = new byte[ in.readInt() ];
+		in.readFully( value );
+		return value;
+	}
+}
@@ -76,10 +76,42 @@ public interface AvailableSettings {
 	public static final String AUTOCOMMIT ="hibernate.connection.autocommit";
 
 	/**
-	 * Maximum number of inactive connections for the built-in Hibernate connection pool.
+	 * Maximum number of connections for the built-in Hibernate connection pool.
 	 */
 	public static final String POOL_SIZE ="hibernate.connection.pool_size";
 
+	/**
+	 * Minimum number of connections the built-in Hibernate connection pool keeps open.  Default is {@code 0}
+	 */
+	public static final String POOL_MIN_SIZE ="hibernate.connection.pool_min_size";
+
+	/**
+	 * Maximum time, in milliseconds, to wait for a connection from the built-in Hibernate connection pool once all
+	 * of its connections are in use.  Default is {@code 30000}
+	 */
+	public static final String POOL_MAX_WAIT ="hibernate.connection.pool_max_wait";
+
+	/**
+	 * Time, in milliseconds, after which an unused connection of the built-in Hibernate connection pool is closed.
+	 * {@code 0} keeps idle connections open.  Default is {@code 600000}
+	 */
+	public static final String POOL_IDLE_TIMEOUT ="hibernate.connection.pool_idle_timeout";
+
+	/**
+	 * Time, in milliseconds, a connection of the built-in Hibernate connection pool may be unused before it is
+	 * validated (see {@link java.sql.Connection#isValid}) prior to being handed out again; idle connections are
+	 * validated in the background at the same interval.  {@code 0} validates on every borrow and on every background
+	 * run, a negative value disables validation.  Default is {@code 30000}
+	 */
+	public static final String POOL_VALIDATION_INTERVAL ="hibernate.connection.pool_validation_interval";
+
+	/**
+	 * Time, in milliseconds, after which a connection still checked out of the built-in Hibernate connection pool
+	 * is reported as a possible leak, along with the stack trace of where it was obtained.  {@code 0} disables
+	 * leak detection.  Default is {@code 0}
+	 */
+	public static final String POOL_LEAK_THRESHOLD ="hibernate.connection.pool_leak_threshold";
+
 	/**
 	 * Names a {@link javax.sql.DataSource}.  Can either reference a {@link javax.sql.DataSource} instance or
 	 * a {@literal JNDI} name under which to locate the {@link javax.sql.DataSource}.
@@ -185,6 +217,29 @@ public interface AvailableSettings {
 	 * Should versioned data be included in batching?
 	 */
 	public static final String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
+	/**
+	 * Should batched entity inserts be sent as multi-row <tt>INSERT ... VALUES (...), (...)</tt>
+	 * statements?  Only takes effect when JDBC batching is enabled and the dialect supports it.
+	 */
+	public static final String MULTI_ROW_INSERT = "hibernate.jdbc.multi_row_insert";
+	/**
+	 * Should inserts of entities with IDENTITY generated ids be batched, reading the ids back through
+	 * JDBC3 <tt>getGeneratedKeys()</tt>?  Only takes effect when JDBC batching and <tt>getGeneratedKeys()</tt>
+	 * are enabled and the dialect reports the driver returns generated keys for batches.
+	 */
+	public static final String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+	/**
+	 * The maximum number of JDBC batches (one per entity and kind of statement) kept open at the same time
+	 * while flushing entity insertions, updates and deletions, instead of executing a batch as soon as a
+	 * statement for another entity is issued.  Defaults to 1, which keeps a single batch open.  Only takes
+	 * effect when JDBC batching is enabled.
+	 */
+	public static final String MAX_OPEN_BATCHES = "hibernate.jdbc.max_open_batches";
+	/**
+	 * The number of prepared statements to keep open for reuse per JDBC connection, for as long as Hibernate
+	 * holds the connection.  Defaults to 0, which leaves statement caching to the connection pool or driver.
+	 */
+	public static final String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
 	/**
 	 * An XSLT resource used to generate "custom" XML
 	 */
@@ -248,6 +303,15 @@ public interface AvailableSettings {
 	 * Enable automatic flush during the JTA <tt>beforeCompletion()</tt> callback
 	 */
 	public static final String FLUSH_BEFORE_COMPLETION = "hibernate.transaction.flush_before_completion";
+
+	/**
+	 * The number of entities in the persistence context from which a flush dirty checks them on several
+	 * threads, ahead of processing them in turn.  Only the reading of the property values and their
+	 * comparison with the loaded state happen in parallel, so getters and custom types must be safe to
+	 * call from another thread.  Not applied to sessions with an interceptor or to custom flush entity event
+	 * listeners.  Defaults to 0, which disables parallel dirty checking.
+	 */
+	public static final String PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
 	/**
 	 * Specifies how Hibernate should release JDBC connections.
 	 */
@@ -326,6 +390,27 @@ public interface AvailableSettings {
 	 */
 	public static final String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of packed (binary) second-level cache entries in all entity regions.  Takes
+	 * precedence over {@link #USE_STRUCTURED_CACHE}.
+	 */
+	public static final String USE_PACKED_CACHE = "hibernate.cache.use_packed_entries";
+
+	/**
+	 * Comma-separated list of the entity cache regions (full names, including the region prefix)
+	 * which use packed (binary) second-level cache entries, for when {@link #USE_PACKED_CACHE} is
+	 * not enabled.
+	 */
+	public static final String PACKED_CACHE_REGIONS = "hibernate.cache.packed_entries_regions";
+
+	/**
+	 * Enable caching of natural-id to identifier cross-references for the cached entities
+	 * which define a natural-id (disabled by default).  The cross-references are stored in
+	 * a region named after the entity region, suffixed with <tt>##NaturalId</tt>.  Only applies
+	 * to region factories implementing {@link org.hibernate.cache.spi.NaturalIdRegionFactory}.
+	 */
+	public static final String USE_NATURAL_ID_CACHE = "hibernate.cache.use_natural_id_cache";
+
 	/**
 	 * Enable statistics collection
 	 */
@@ -392,7 +477,8 @@ public interface AvailableSettings {
 
 	/**
 	 * Enable wrapping of JDBC result sets in order to speed up column name lookups for
-	 * broken JDBC drivers
+	 * broken JDBC drivers.  The column names read by the loaders are then resolved to
+	 * column indexes once, and the values read by index.
 	 */
 	public static final String WRAP_RESULT_SETS = "hibernate.jdbc.wrap_result_sets";
 
@@ -442,14 +528,37 @@ public interface AvailableSettings {
 
 	/**
 	 * The maximum number of strong references maintained by {@link org.hibernate.internal.util.collections.SoftLimitMRUCache}. Default is 128.
+	 *
+	 * @deprecated in favor of {@link #QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE}, which it still defaults
 	 */
+	@Deprecated
 	public static final String QUERY_PLAN_CACHE_MAX_STRONG_REFERENCES = "hibernate.query.plan_cache_max_strong_references";
 
 	/**
 	 * The maximum number of soft references maintained by {@link org.hibernate.internal.util.collections.SoftLimitMRUCache}. Default is 2048.
+	 *
+	 * @deprecated in favor of {@link #QUERY_PLAN_CACHE_MAX_SIZE}, which it still defaults
 	 */
+	@Deprecated
 	public static final String QUERY_PLAN_CACHE_MAX_SOFT_REFERENCES = "hibernate.query.plan_cache_max_soft_references";
 
+	/**
+	 * The maximum number of entries including:
+	 * <ul>
+	 *     <li>{@link org.hibernate.engine.query.spi.HQLQueryPlan}</li>
+	 *     <li>{@link org.hibernate.engine.query.spi.FilterQueryPlan}</li>
+	 *     <li>{@link org.hibernate.engine.query.spi.NativeSQLQueryPlan}</li>
+	 * </ul>
+	 * maintained by {@link org.hibernate.engine.query.spi.QueryPlanCache}. Default is 2048.
+	 */
+	public static final String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
+
+	/**
+	 * The maximum number of {@link org.hibernate.engine.query.spi.ParameterMetadata} maintained
+	 * by {@link org.hibernate.engine.query.spi.QueryPlanCache}. Default is 128.
+	 */
+	public static final String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -23,7 +23,9 @@
  */
 package org.hibernate.cfg;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.EntityMode;
@@ -57,14 +59,22 @@ public final class Settings {
 	private boolean autoValidateSchema;
 	private boolean queryCacheEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean packedCacheEntriesEnabled;
+	private Set<String> packedCacheEntryRegions = Collections.emptySet();
+	private boolean naturalIdCacheEnabled;
 	private boolean secondLevelCacheEnabled;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean commentsEnabled;
 	private boolean statisticsEnabled;
 	private boolean jdbcBatchVersionedData;
+	private boolean multiRowInsertEnabled;
+	private boolean identityInsertBatchingEnabled;
+	private int jdbcMaxOpenBatches;
+	private int jdbcStatementCacheSize;
 	private boolean identifierRollbackEnabled;
 	private boolean flushBeforeCompletionEnabled;
+	private int parallelDirtyCheckThreshold;
 	private boolean autoCloseSessionEnabled;
 	private ConnectionReleaseMode connectionReleaseMode;
 	private RegionFactory regionFactory;
@@ -195,10 +205,30 @@ public final class Settings {
 		return jdbcBatchVersionedData;
 	}
 
+	public boolean isMultiRowInsertEnabled() {
+		return multiRowInsertEnabled;
+	}
+
+	public boolean isIdentityInsertBatchingEnabled() {
+		return identityInsertBatchingEnabled;
+	}
+
+	public int getJdbcMaxOpenBatches() {
+		return jdbcMaxOpenBatches;
+	}
+
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	public boolean isFlushBeforeCompletionEnabled() {
 		return flushBeforeCompletionEnabled;
 	}
 
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
 	public boolean isAutoCloseSessionEnabled() {
 		return autoCloseSessionEnabled;
 	}
@@ -227,6 +257,14 @@ public final class Settings {
 		return structuredCacheEntriesEnabled;
 	}
 
+	public boolean isPackedCacheEntriesEnabled(String regionName) {
+		return packedCacheEntriesEnabled || packedCacheEntryRegions.contains( regionName );
+	}
+
+	public boolean isNaturalIdCacheEnabled() {
+		return naturalIdCacheEnabled;
+	}
+
 	public EntityMode getDefaultEntityMode() {
 		return defaultEntityMode;
 	}
@@ -353,10 +391,30 @@ public final class Settings {
 		this.jdbcBatchVersionedData = jdbcBatchVersionedData;
 	}
 
+	void setMultiRowInsertEnabled(boolean multiRowInsertEnabled) {
+		this.multiRowInsertEnabled = multiRowInsertEnabled;
+	}
+
+	void setIdentityInsertBatchingEnabled(boolean identityInsertBatchingEnabled) {
+		this.identityInsertBatchingEnabled = identityInsertBatchingEnabled;
+	}
+
+	void setJdbcMaxOpenBatches(int jdbcMaxOpenBatches) {
+		this.jdbcMaxOpenBatches = jdbcMaxOpenBatches;
+	}
+
+	void setJdbcStatementCacheSize(int jdbcStatementCacheSize) {
+		this.jdbcStatementCacheSize = jdbcStatementCacheSize;
+	}
+
 	void setFlushBeforeCompletionEnabled(boolean flushBeforeCompletionEnabled) {
 		this.flushBeforeCompletionEnabled = flushBeforeCompletionEnabled;
 	}
 
+	void setParallelDirtyCheckThreshold(int parallelDirtyCheckThreshold) {
+		this.parallelDirtyCheckThreshold = parallelDirtyCheckThreshold;
+	}
+
 	void setAutoCloseSessionEnabled(boolean autoCloseSessionEnabled) {
 		this.autoCloseSessionEnabled = autoCloseSessionEnabled;
 	}
@@ -385,6 +443,18 @@ public final class Settings {
 		this.structuredCacheEntriesEnabled = structuredCacheEntriesEnabled;
 	}
 
+	void setPackedCacheEntriesEnabled(boolean packedCacheEntriesEnabled) {
+		this.packedCacheEntriesEnabled = packedCacheEntriesEnabled;
+	}
+
+	void setPackedCacheEntryRegions(Set<String> packedCacheEntryRegions) {
+		this.packedCacheEntryRegions = packedCacheEntryRegions;
+	}
+
+	void setNaturalIdCacheEnabled(boolean naturalIdCacheEnabled) {
+		this.naturalIdCacheEnabled = naturalIdCacheEnabled;
+	}
+
 	void setDefaultEntityMode(EntityMode defaultEntityMode) {
 		this.defaultEntityMode = defaultEntityMode;
 	}
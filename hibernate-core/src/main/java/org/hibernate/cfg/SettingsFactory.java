@@ -24,8 +24,10 @@
 package org.hibernate.cfg;
 
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import org.jboss.logging.Logger;
 
@@ -98,6 +100,12 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setFlushBeforeCompletionEnabled(flushBeforeCompletion);
 
+		int parallelDirtyCheckThreshold = Math.max( 0, ConfigurationHelper.getInt( Environment.PARALLEL_DIRTY_CHECK_THRESHOLD, properties, 0 ) );
+		if ( debugEnabled ) {
+			LOG.debugf( "Parallel dirty checking from %s entities: %s", parallelDirtyCheckThreshold, enabledDisabled( parallelDirtyCheckThreshold > 0 ) );
+		}
+		settings.setParallelDirtyCheckThreshold(parallelDirtyCheckThreshold);
+
 		boolean autoCloseSession = ConfigurationHelper.getBoolean(Environment.AUTO_CLOSE_SESSION, properties);
 		if ( debugEnabled ) {
 			LOG.debugf( "Automatic session close at end of transaction: %s", enabledDisabled(autoCloseSession) );
@@ -121,6 +129,14 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setJdbcBatchVersionedData(jdbcBatchVersionedData);
 
+		boolean multiRowInsert = batchSize > 1
+				&& jdbcServices.getDialect().supportsMultiRowInsert()
+				&& ConfigurationHelper.getBoolean( Environment.MULTI_ROW_INSERT, properties, false );
+		if ( batchSize > 1 && debugEnabled ) {
+			LOG.debugf( "Multi-row inserts: %s", enabledDisabled(multiRowInsert) );
+		}
+		settings.setMultiRowInsertEnabled(multiRowInsert);
+
 		boolean useScrollableResultSets = ConfigurationHelper.getBoolean(
 				Environment.USE_SCROLLABLE_RESULTSET,
 				properties,
@@ -143,6 +159,29 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setGetGeneratedKeysEnabled(useGetGeneratedKeys);
 
+		boolean batchIdentityInserts = batchSize > 1
+				&& useGetGeneratedKeys
+				&& jdbcServices.getDialect().supportsGetGeneratedKeysForBatch()
+				&& ConfigurationHelper.getBoolean( Environment.BATCH_IDENTITY_INSERTS, properties, false );
+		if ( batchSize > 1 && debugEnabled ) {
+			LOG.debugf( "JDBC batch inserts for identity columns: %s", enabledDisabled(batchIdentityInserts) );
+		}
+		settings.setIdentityInsertBatchingEnabled(batchIdentityInserts);
+
+		int maxOpenBatches = batchSize > 1
+				? Math.max( 1, ConfigurationHelper.getInt( Environment.MAX_OPEN_BATCHES, properties, 1 ) )
+				: 1;
+		if ( batchSize > 1 && debugEnabled ) {
+			LOG.debugf( "Maximum open JDBC batches: %s", maxOpenBatches );
+		}
+		settings.setJdbcMaxOpenBatches(maxOpenBatches);
+
+		int statementCacheSize = Math.max( 0, ConfigurationHelper.getInt( Environment.STATEMENT_CACHE_SIZE, properties, 0 ) );
+		if ( debugEnabled ) {
+			LOG.debugf( "JDBC prepared statement cache size: %s", statementCacheSize );
+		}
+		settings.setJdbcStatementCacheSize(statementCacheSize);
+
 		Integer statementFetchSize = ConfigurationHelper.getInteger(Environment.STATEMENT_FETCH_SIZE, properties);
 		if ( statementFetchSize != null && debugEnabled ) {
 			LOG.debugf( "JDBC result set fetch size: %s", statementFetchSize );
@@ -270,6 +309,30 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setStructuredCacheEntriesEnabled( useStructuredCacheEntries );
 
+		boolean usePackedCacheEntries = ConfigurationHelper.getBoolean( Environment.USE_PACKED_CACHE, properties, false );
+		if ( debugEnabled ) {
+			LOG.debugf( "Packed second-level cache entries: %s", enabledDisabled(usePackedCacheEntries) );
+		}
+		settings.setPackedCacheEntriesEnabled( usePackedCacheEntries );
+
+		String packedCacheRegions = properties.getProperty( Environment.PACKED_CACHE_REGIONS );
+		if ( StringHelper.isNotEmpty( packedCacheRegions ) ) {
+			Set<String> regionNames = new HashSet<String>();
+			for ( String regionName : StringHelper.split( ", ", packedCacheRegions ) ) {
+				regionNames.add( regionName );
+			}
+			if ( debugEnabled ) {
+				LOG.debugf( "Packed second-level cache entries in regions: %s", regionNames );
+			}
+			settings.setPackedCacheEntryRegions( regionNames );
+		}
+
+		boolean useNaturalIdCache = ConfigurationHelper.getBoolean( Environment.USE_NATURAL_ID_CACHE, properties, false );
+		if ( debugEnabled ) {
+			LOG.debugf( "Natural-id cache: %s", enabledDisabled(useNaturalIdCache) );
+		}
+		settings.setNaturalIdCacheEnabled( useNaturalIdCache );
+
 
 		//Statistics and logging:
 
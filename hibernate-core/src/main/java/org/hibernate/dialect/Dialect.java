@@ -803,6 +803,31 @@ public abstract class Dialect {
 		throw new MappingException( getClass().getName() + " does not support sequences" );
 	}
 
+	/**
+	 * Does this dialect support retrieving several values of a sequence
+	 * using a single statement?
+	 *
+	 * @return True if {@link #getSequenceNextValuesString(String, int)} is supported.
+	 */
+	public boolean supportsSequenceNextValues() {
+		return false;
+	}
+
+	/**
+	 * Generate the appropriate select statement to retrieve the next
+	 * <tt>count</tt> values of a sequence, one per row.
+	 * <p/>
+	 * This should be a "stand alone" select statement.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @param count the number of values to retrieve
+	 * @return String The "nextval" select string.
+	 * @throws MappingException If not {@link #supportsSequenceNextValues() supported}.
+	 */
+	public String getSequenceNextValuesString(String sequenceName, int count) throws MappingException {
+		throw new MappingException( getClass().getName() + " does not support retrieving multiple sequence values" );
+	}
+
 	/**
 	 * The multiline script used to create a sequence.
 	 *
@@ -2181,4 +2206,44 @@ public abstract class Dialect {
 		// oddly most database in fact seem to, so true is the default.
 		return true;
 	}
+
+	/**
+	 * Does this dialect support inserting several rows with a single statement, as in
+	 * <tt>insert into t (a, b) values (?, ?), (?, ?)</tt>?
+	 *
+	 * @return True if multi-row inserts are supported; false otherwise.
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of JDBC parameters a single statement may bind.  Used to
+	 * limit the number of rows rendered into a multi-row insert.
+	 *
+	 * @return The maximum number of parameters per statement.
+	 */
+	public int getMaxParametersPerStatement() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * The maximum number of rows a single multi-row insert may carry in its <tt>values</tt> clause.
+	 * Applied together with {@link #getMaxParametersPerStatement()}.
+	 *
+	 * @return The maximum number of rows per insert.
+	 */
+	public int getMaxRowsPerInsert() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Does the JDBC driver return the keys generated by every statement of an executed batch
+	 * through <tt>getGeneratedKeys()</tt>, in the order the statements were added?
+	 *
+	 * @return True if generated keys are returned for batches; false otherwise.
+	 */
+	public boolean supportsGetGeneratedKeysForBatch() {
+		return false;
+	}
 }
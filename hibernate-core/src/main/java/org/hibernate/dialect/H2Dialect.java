@@ -263,6 +263,14 @@ public class H2Dialect extends Dialect {
 		return "call next value for " + sequenceName;
 	}
 
+	public boolean supportsSequenceNextValues() {
+		return true;
+	}
+
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from system_range(1, " + count + ")";
+	}
+
 	public String getQuerySequencesString() {
 		return querySequenceString;
 	}
@@ -356,4 +364,9 @@ public class H2Dialect extends Dialect {
 		// see http://groups.google.com/group/h2-database/browse_thread/thread/562d8a49e2dabe99?hl=en
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
 }
@@ -308,6 +308,17 @@ public class HSQLDialect extends Dialect {
 		return "call next value for " + sequenceName;
 	}
 
+	public boolean supportsSequenceNextValues() {
+		return hsqldbVersion >= 20;
+	}
+
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		if ( hsqldbVersion < 20 ) {
+			return super.getSequenceNextValuesString( sequenceName, count );
+		}
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from unnest(sequence_array(1, " + count + ", 1))";
+	}
+
 	public String getQuerySequencesString() {
 		// this assumes schema support, which is present in 1.8.0 and later...
 		return "select sequence_name from information_schema.system_sequences";
@@ -706,4 +717,8 @@ public class HSQLDialect extends Dialect {
 	public boolean supportsTupleDistinctCounts() {
 		return false;
 	}
+
+	public boolean supportsMultiRowInsert() {
+		return hsqldbVersion >= 20;
+	}
 }
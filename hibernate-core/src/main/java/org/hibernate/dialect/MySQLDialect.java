@@ -366,4 +366,17 @@ public class MySQLDialect extends Dialect {
 	public boolean supportsSubqueryOnMutatingTable() {
 		return false;
 	}
+
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	public boolean supportsGetGeneratedKeysForBatch() {
+		return true;
+	}
+
+	public int getMaxParametersPerStatement() {
+		// the client/server protocol counts parameters in 2 bytes
+		return 65535;
+	}
 }
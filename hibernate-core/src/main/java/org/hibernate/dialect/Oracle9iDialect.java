@@ -103,6 +103,14 @@ public class Oracle9iDialect extends Oracle8iDialect {
 		return "current_timestamp";
 	}
 
+	public boolean supportsSequenceNextValues() {
+		return true;
+	}
+
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from dual connect by level <= " + count;
+	}
+
 	// locking support
 	public String getForUpdateString() {
 		return " for update";
@@ -186,6 +186,14 @@ public class PostgreSQLDialect extends Dialect {
 		return "nextval ('" + sequenceName + "')";
 	}
 
+	public boolean supportsSequenceNextValues() {
+		return true;
+	}
+
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from generate_series(1, " + count + ")";
+	}
+
 	public String getCreateSequenceString(String sequenceName) {
 		return "create sequence " + sequenceName; //starts with 1, implicitly
 	}
@@ -439,4 +447,18 @@ public class PostgreSQLDialect extends Dialect {
 			return " for share";
 	}
 
+	public boolean supportsMultiRowInsert() {
+		// since 8.2
+		return true;
+	}
+
+	public boolean supportsGetGeneratedKeysForBatch() {
+		// since the 9.0 driver, which appends RETURNING to each statement of the batch
+		return true;
+	}
+
+	public int getMaxParametersPerStatement() {
+		// the wire protocol counts parameters in 2 (signed) bytes
+		return 32767;
+	}
 }
@@ -36,6 +36,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.commons.collections.map.AbstractReferenceMap;
 import org.apache.commons.collections.map.ReferenceMap;
@@ -59,6 +60,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.internal.CoreMessageLogger;
@@ -70,6 +72,7 @@ import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.tuple.ElementWrapper;
+import org.hibernate.type.Type;
 
 /**
  * A <tt>PersistenceContext</tt> represents the state of persistent "stuff" which
@@ -118,6 +121,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// Collection wrappers, by the CollectionKey
 	private Map<CollectionKey, PersistentCollection> collectionsByKey;
 
+	// The types of the entities and collections added since the context was last cleared
+	private Set<EntityPersister> managedEntityPersisters;
+	private Set<CollectionPersister> managedCollectionPersisters;
+
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
 
@@ -146,6 +153,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// Natural-id resolutions, plus a reverse index to forget them along with the entity
+	// (both created lazily, and not serialized)
+	private Map<NaturalIdXrefKey, Serializable> naturalIdResolutions;
+	private Map<EntityKey, NaturalIdXrefKey> naturalIdResolutionsByEntityKey;
+
 
 
 	/**
@@ -163,6 +175,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		entityEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 		collectionEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
+		managedEntityPersisters = new HashSet<EntityPersister>();
+		managedCollectionPersisters = new HashSet<CollectionPersister>();
 		parentsByChild = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 
 		collectionsByKey = new HashMap( INIT_COLL_SIZE );
@@ -236,6 +250,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entitySnapshotsByKey.clear();
 		collectionsByKey.clear();
 		collectionEntries.clear();
+		managedEntityPersisters.clear();
+		managedCollectionPersisters.clear();
 		if ( unownedCollections != null ) {
 			unownedCollections.clear();
 		}
@@ -244,6 +260,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
 		}
+		if ( naturalIdResolutions != null ) {
+			naturalIdResolutions.clear();
+			naturalIdResolutionsByEntityKey.clear();
+		}
 		// defaultReadOnly is unaffected by clear()
 		hasNonReadOnlyEntities = false;
 		if ( loadContexts != null ) {
@@ -343,6 +363,36 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 	}
 
+	public Serializable findNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues) {
+		if ( naturalIdResolutions == null ) {
+			return null;
+		}
+		return naturalIdResolutions.get( new NaturalIdXrefKey( persister, naturalIdValues ) );
+	}
+
+	public void addNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues, Serializable id) {
+		if ( naturalIdResolutions == null ) {
+			naturalIdResolutions = new HashMap<NaturalIdXrefKey, Serializable>( INIT_COLL_SIZE );
+			naturalIdResolutionsByEntityKey = new HashMap<EntityKey, NaturalIdXrefKey>( INIT_COLL_SIZE );
+		}
+		final NaturalIdXrefKey xrefKey = new NaturalIdXrefKey( persister, naturalIdValues );
+		final NaturalIdXrefKey previous = naturalIdResolutionsByEntityKey.put( session.generateEntityKey( id, persister ), xrefKey );
+		if ( previous != null ) {
+			naturalIdResolutions.remove( previous );
+		}
+		naturalIdResolutions.put( xrefKey, id );
+	}
+
+	public void removeNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues) {
+		if ( naturalIdResolutions == null ) {
+			return;
+		}
+		final Serializable id = naturalIdResolutions.remove( new NaturalIdXrefKey( persister, naturalIdValues ) );
+		if ( id != null ) {
+			naturalIdResolutionsByEntityKey.remove( session.generateEntityKey( id, persister ) );
+		}
+	}
+
 	/**
 	 * Retrieve the cached database snapshot for the requested entity key.
 	 * <p/>
@@ -400,6 +450,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		nullifiableEntityKeys.remove(key);
 		getBatchFetchQueue().removeBatchLoadableEntityKey(key);
 		getBatchFetchQueue().removeSubselect(key);
+		if ( naturalIdResolutions != null ) {
+			final NaturalIdXrefKey xrefKey = naturalIdResolutionsByEntityKey.remove( key );
+			if ( xrefKey != null ) {
+				naturalIdResolutions.remove( xrefKey );
+			}
+		}
 		return entity;
 	}
 
@@ -508,12 +564,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				lockMode,
 				existsInDatabase,
 				persister,
-				persister.getEntityMode(),
 				session.getTenantIdentifier(),
 				disableVersionIncrement,
 				lazyPropertiesAreUnfetched
 		);
 		entityEntries.put(entity, e);
+		managedEntityPersisters.add( persister );
 
 		setHasNonReadOnlyEnties(status);
 		return e;
@@ -822,6 +878,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private void addCollection(PersistentCollection coll, CollectionEntry entry, Serializable key) {
 		collectionEntries.put( coll, entry );
+		managedCollectionPersisters.add( entry.getLoadedPersister() );
 		CollectionKey collectionKey = new CollectionKey( entry.getLoadedPersister(), key );
 		PersistentCollection old = collectionsByKey.put( collectionKey, coll );
 		if ( old != null ) {
@@ -834,6 +891,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			// watch out for a case where old is still referenced
 			// somewhere in the object graph! (which is a user error)
 		}
+		getBatchFetchQueue().addBatchLoadableCollection( coll, entry );
 	}
 
 	/**
@@ -845,6 +903,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private void addCollection(PersistentCollection collection, CollectionPersister persister) {
 		CollectionEntry ce = new CollectionEntry( persister, collection );
 		collectionEntries.put( collection, ce );
+		managedCollectionPersisters.add( persister );
 	}
 
 	/**
@@ -1048,6 +1107,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return collectionEntries;
 	}
 
+	public Set<EntityPersister> getManagedEntityPersisters() {
+		return managedEntityPersisters;
+	}
+
+	public Set<CollectionPersister> getManagedCollectionPersisters() {
+		return managedCollectionPersisters;
+	}
+
 	public Map getCollectionsByKey() {
 		return collectionsByKey;
 	}
@@ -1581,6 +1648,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				Object entity = ois.readObject();
 				EntityEntry entry = EntityEntry.deserialize( ois, session );
 				rtn.entityEntries.put( entity, entry );
+				if ( entry.getPersister() != null ) {
+					rtn.managedEntityPersisters.add( entry.getPersister() );
+				}
 			}
 
 			count = ois.readInt();
@@ -1598,6 +1668,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				final CollectionEntry ce = CollectionEntry.deserialize( ois, session );
 				pc.setCurrentSession( session );
 				rtn.collectionEntries.put( pc, ce );
+				if ( ce.getLoadedPersister() != null ) {
+					rtn.managedCollectionPersisters.add( ce.getLoadedPersister() );
+				}
+				rtn.getBatchFetchQueue().addBatchLoadableCollection( pc, ce );
 			}
 
 			count = ois.readInt();
@@ -1679,4 +1753,53 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			insertedKeysMap.clear();
 		}
 	}
+
+	/**
+	 * Keys a natural-id resolution by root entity name and natural-id values, comparing
+	 * the values through their types as {@link EntityUniqueKey} does.
+	 */
+	private static final class NaturalIdXrefKey {
+		private final String rootEntityName;
+		private final Object[] naturalIdValues;
+		private final Type[] naturalIdTypes;
+		private final SessionFactoryImplementor factory;
+		private final int hashCode;
+
+		private NaturalIdXrefKey(EntityPersister persister, Object[] naturalIdValues) {
+			final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			this.rootEntityName = persister.getRootEntityName();
+			this.naturalIdValues = naturalIdValues;
+			this.naturalIdTypes = new Type[ naturalIdProperties.length ];
+			this.factory = persister.getFactory();
+			int result = rootEntityName.hashCode();
+			for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+				naturalIdTypes[i] = propertyTypes[ naturalIdProperties[i] ];
+				result = 37 * result + naturalIdTypes[i].getHashCode( naturalIdValues[i], factory );
+			}
+			this.hashCode = result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			final NaturalIdXrefKey that = (NaturalIdXrefKey) other;
+			if ( !rootEntityName.equals( that.rootEntityName ) || naturalIdValues.length != that.naturalIdValues.length ) {
+				return false;
+			}
+			for ( int i = 0; i < naturalIdValues.length; i++ ) {
+				if ( !naturalIdTypes[i].isEqual( naturalIdValues[i], that.naturalIdValues[i], factory ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
 }
@@ -0,0 +1,901 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * A {@link ResultSet} wrapper reading columns by index rather than by name, resolving the column names through a
+ * {@link ColumnNameCache}.
+ * <p/>
+ * The loaders read the columns of each row in (mostly) the same order, passing the same alias instances.  The order
+ * of the names read from the first row is therefore remembered, so that the following rows resolve each name by
+ * comparing references with the one expected next rather than looking it up.  Names read out of that order are
+ * looked up in the {@link ColumnNameCache}.
+ */
+public class ColumnIndexResolvingResultSet implements ResultSet {
+	private final ResultSet resultSet;
+	private final ColumnNameCache columnNameCache;
+
+	private String[] readNames = new String[16];
+	private int[] readIndexes = new int[16];
+	private int readCount;
+	private boolean recording = true;
+	private int rowCount;
+	private int cursor;
+
+	public ColumnIndexResolvingResultSet(ResultSet resultSet, ColumnNameCache columnNameCache) {
+		this.resultSet = resultSet;
+		this.columnNameCache = columnNameCache;
+	}
+
+	@Override
+	public int findColumn(String columnLabel) throws SQLException {
+		for ( int position = cursor; position < readCount; position++ ) {
+			// names skipped for this row are stepped over
+			if ( readNames[position] == columnLabel ) {
+				cursor = position + 1;
+				return readIndexes[position];
+			}
+		}
+
+		final int index = columnNameCache.getIndexForColumnName( columnLabel, resultSet );
+		if ( recording ) {
+			record( columnLabel, index );
+		}
+		return index;
+	}
+
+	private void record(String columnLabel, int index) {
+		if ( readCount == readNames.length ) {
+			String[] names = new String[readCount * 2];
+			System.arraycopy( readNames, 0, names, 0, readCount );
+			readNames = names;
+			int[] indexes = new int[readCount * 2];
+			System.arraycopy( readIndexes, 0, indexes, 0, readCount );
+			readIndexes = indexes;
+		}
+		readNames[readCount] = columnLabel;
+		readIndexes[readCount] = index;
+		readCount++;
+		cursor = readCount;
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		if ( ++rowCount > 1 ) {
+			recording = false;
+		}
+		cursor = 0;
+		return resultSet.next();
+	}
+
+	@Override
+	public Statement getStatement() throws SQLException {
+		return resultSet.getStatement();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return resultSet.unwrap( iface );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return resultSet.isWrapperFor( iface );
+	}
+
+	// JDBC 4.1 methods are invoked reflectively as long as we build against JDBC 4.0 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+		return type.cast( getObjectAs( columnIndex, type ) );
+	}
+
+	public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+		return type.cast( getObjectAs( findColumn( columnLabel ), type ) );
+	}
+
+	private Object getObjectAs(int columnIndex, Class type) throws SQLException {
+		try {
+			return ResultSet.class.getMethod( "getObject", int.class, Class.class )
+					.invoke( resultSet, columnIndex, type );
+		}
+		catch ( InvocationTargetException e ) {
+			if ( e.getTargetException() instanceof SQLException ) {
+				throw (SQLException) e.getTargetException();
+			}
+			throw new SQLException( "Unable to invoke ResultSet#getObject", e.getTargetException() );
+		}
+		catch ( NoSuchMethodException e ) {
+			throw new SQLException( "ResultSet#getObject(int, Class) requires JDBC 4.1", e );
+		}
+		catch ( IllegalAccessException e ) {
+			throw new SQLException( "Unable to invoke ResultSet#getObject", e );
+		}
+	}
+
+	// delegation ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public void close() throws SQLException {
+		resultSet.close();
+	}
+
+	public boolean wasNull() throws SQLException {
+		return resultSet.wasNull();
+	}
+
+	public String getString(int columnIndex) throws SQLException {
+		return resultSet.getString( columnIndex );
+	}
+
+	public boolean getBoolean(int columnIndex) throws SQLException {
+		return resultSet.getBoolean( columnIndex );
+	}
+
+	public byte getByte(int columnIndex) throws SQLException {
+		return resultSet.getByte( columnIndex );
+	}
+
+	public short getShort(int columnIndex) throws SQLException {
+		return resultSet.getShort( columnIndex );
+	}
+
+	public int getInt(int columnIndex) throws SQLException {
+		return resultSet.getInt( columnIndex );
+	}
+
+	public long getLong(int columnIndex) throws SQLException {
+		return resultSet.getLong( columnIndex );
+	}
+
+	public float getFloat(int columnIndex) throws SQLException {
+		return resultSet.getFloat( columnIndex );
+	}
+
+	public double getDouble(int columnIndex) throws SQLException {
+		return resultSet.getDouble( columnIndex );
+	}
+
+	public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+		return resultSet.getBigDecimal( columnIndex, scale );
+	}
+
+	public byte[] getBytes(int columnIndex) throws SQLException {
+		return resultSet.getBytes( columnIndex );
+	}
+
+	public Date getDate(int columnIndex) throws SQLException {
+		return resultSet.getDate( columnIndex );
+	}
+
+	public Time getTime(int columnIndex) throws SQLException {
+		return resultSet.getTime( columnIndex );
+	}
+
+	public Timestamp getTimestamp(int columnIndex) throws SQLException {
+		return resultSet.getTimestamp( columnIndex );
+	}
+
+	public InputStream getAsciiStream(int columnIndex) throws SQLException {
+		return resultSet.getAsciiStream( columnIndex );
+	}
+
+	public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+		return resultSet.getUnicodeStream( columnIndex );
+	}
+
+	public InputStream getBinaryStream(int columnIndex) throws SQLException {
+		return resultSet.getBinaryStream( columnIndex );
+	}
+
+	public String getString(String columnLabel) throws SQLException {
+		return resultSet.getString( findColumn( columnLabel ) );
+	}
+
+	public boolean getBoolean(String columnLabel) throws SQLException {
+		return resultSet.getBoolean( findColumn( columnLabel ) );
+	}
+
+	public byte getByte(String columnLabel) throws SQLException {
+		return resultSet.getByte( findColumn( columnLabel ) );
+	}
+
+	public short getShort(String columnLabel) throws SQLException {
+		return resultSet.getShort( findColumn( columnLabel ) );
+	}
+
+	public int getInt(String columnLabel) throws SQLException {
+		return resultSet.getInt( findColumn( columnLabel ) );
+	}
+
+	public long getLong(String columnLabel) throws SQLException {
+		return resultSet.getLong( findColumn( columnLabel ) );
+	}
+
+	public float getFloat(String columnLabel) throws SQLException {
+		return resultSet.getFloat( findColumn( columnLabel ) );
+	}
+
+	public double getDouble(String columnLabel) throws SQLException {
+		return resultSet.getDouble( findColumn( columnLabel ) );
+	}
+
+	public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+		return resultSet.getBigDecimal( findColumn( columnLabel ), scale );
+	}
+
+	public byte[] getBytes(String columnLabel) throws SQLException {
+		return resultSet.getBytes( findColumn( columnLabel ) );
+	}
+
+	public Date getDate(String columnLabel) throws SQLException {
+		return resultSet.getDate( findColumn( columnLabel ) );
+	}
+
+	public Time getTime(String columnLabel) throws SQLException {
+		return resultSet.getTime( findColumn( columnLabel ) );
+	}
+
+	public Timestamp getTimestamp(String columnLabel) throws SQLException {
+		return resultSet.getTimestamp( findColumn( columnLabel ) );
+	}
+
+	public InputStream getAsciiStream(String columnLabel) throws SQLException {
+		return resultSet.getAsciiStream( findColumn( columnLabel ) );
+	}
+
+	public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+		return resultSet.getUnicodeStream( findColumn( columnLabel ) );
+	}
+
+	public InputStream getBinaryStream(String columnLabel) throws SQLException {
+		return resultSet.getBinaryStream( findColumn( columnLabel ) );
+	}
+
+	public SQLWarning getWarnings() throws SQLException {
+		return resultSet.getWarnings();
+	}
+
+	public void clearWarnings() throws SQLException {
+		resultSet.clearWarnings();
+	}
+
+	public String getCursorName() throws SQLException {
+		return resultSet.getCursorName();
+	}
+
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return resultSet.getMetaData();
+	}
+
+	public Object getObject(int columnIndex) throws SQLException {
+		return resultSet.getObject( columnIndex );
+	}
+
+	public Object getObject(String columnLabel) throws SQLException {
+		return resultSet.getObject( findColumn( columnLabel ) );
+	}
+
+	public Reader getCharacterStream(int columnIndex) throws SQLException {
+		return resultSet.getCharacterStream( columnIndex );
+	}
+
+	public Reader getCharacterStream(String columnLabel) throws SQLException {
+		return resultSet.getCharacterStream( findColumn( columnLabel ) );
+	}
+
+	public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+		return resultSet.getBigDecimal( columnIndex );
+	}
+
+	public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+		return resultSet.getBigDecimal( findColumn( columnLabel ) );
+	}
+
+	public boolean isBeforeFirst() throws SQLException {
+		return resultSet.isBeforeFirst();
+	}
+
+	public boolean isAfterLast() throws SQLException {
+		return resultSet.isAfterLast();
+	}
+
+	public boolean isFirst() throws SQLException {
+		return resultSet.isFirst();
+	}
+
+	public boolean isLast() throws SQLException {
+		return resultSet.isLast();
+	}
+
+	public void beforeFirst() throws SQLException {
+		resultSet.beforeFirst();
+	}
+
+	public void afterLast() throws SQLException {
+		resultSet.afterLast();
+	}
+
+	public boolean first() throws SQLException {
+		cursor = 0;
+		return resultSet.first();
+	}
+
+	public boolean last() throws SQLException {
+		cursor = 0;
+		return resultSet.last();
+	}
+
+	public int getRow() throws SQLException {
+		return resultSet.getRow();
+	}
+
+	public boolean absolute(int row) throws SQLException {
+		cursor = 0;
+		return resultSet.absolute( row );
+	}
+
+	public boolean relative(int rows) throws SQLException {
+		cursor = 0;
+		return resultSet.relative( rows );
+	}
+
+	public boolean previous() throws SQLException {
+		cursor = 0;
+		return resultSet.previous();
+	}
+
+	public void setFetchDirection(int direction) throws SQLException {
+		resultSet.setFetchDirection( direction );
+	}
+
+	public int getFetchDirection() throws SQLException {
+		return resultSet.getFetchDirection();
+	}
+
+	public void setFetchSize(int rows) throws SQLException {
+		resultSet.setFetchSize( rows );
+	}
+
+	public int getFetchSize() throws SQLException {
+		return resultSet.getFetchSize();
+	}
+
+	public int getType() throws SQLException {
+		return resultSet.getType();
+	}
+
+	public int getConcurrency() throws SQLException {
+		return resultSet.getConcurrency();
+	}
+
+	public boolean rowUpdated() throws SQLException {
+		return resultSet.rowUpdated();
+	}
+
+	public boolean rowInserted() throws SQLException {
+		return resultSet.rowInserted();
+	}
+
+	public boolean rowDeleted() throws SQLException {
+		return resultSet.rowDeleted();
+	}
+
+	public void updateNull(int columnIndex) throws SQLException {
+		resultSet.updateNull( columnIndex );
+	}
+
+	public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+		resultSet.updateBoolean( columnIndex, x );
+	}
+
+	public void updateByte(int columnIndex, byte x) throws SQLException {
+		resultSet.updateByte( columnIndex, x );
+	}
+
+	public void updateShort(int columnIndex, short x) throws SQLException {
+		resultSet.updateShort( columnIndex, x );
+	}
+
+	public void updateInt(int columnIndex, int x) throws SQLException {
+		resultSet.updateInt( columnIndex, x );
+	}
+
+	public void updateLong(int columnIndex, long x) throws SQLException {
+		resultSet.updateLong( columnIndex, x );
+	}
+
+	public void updateFloat(int columnIndex, float x) throws SQLException {
+		resultSet.updateFloat( columnIndex, x );
+	}
+
+	public void updateDouble(int columnIndex, double x) throws SQLException {
+		resultSet.updateDouble( columnIndex, x );
+	}
+
+	public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+		resultSet.updateBigDecimal( columnIndex, x );
+	}
+
+	public void updateString(int columnIndex, String x) throws SQLException {
+		resultSet.updateString( columnIndex, x );
+	}
+
+	public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+		resultSet.updateBytes( columnIndex, x );
+	}
+
+	public void updateDate(int columnIndex, Date x) throws SQLException {
+		resultSet.updateDate( columnIndex, x );
+	}
+
+	public void updateTime(int columnIndex, Time x) throws SQLException {
+		resultSet.updateTime( columnIndex, x );
+	}
+
+	public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+		resultSet.updateTimestamp( columnIndex, x );
+	}
+
+	public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+		resultSet.updateAsciiStream( columnIndex, x, length );
+	}
+
+	public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+		resultSet.updateBinaryStream( columnIndex, x, length );
+	}
+
+	public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+		resultSet.updateCharacterStream( columnIndex, x, length );
+	}
+
+	public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+		resultSet.updateObject( columnIndex, x, scaleOrLength );
+	}
+
+	public void updateObject(int columnIndex, Object x) throws SQLException {
+		resultSet.updateObject( columnIndex, x );
+	}
+
+	public void updateNull(String columnLabel) throws SQLException {
+		resultSet.updateNull( findColumn( columnLabel ) );
+	}
+
+	public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+		resultSet.updateBoolean( findColumn( columnLabel ), x );
+	}
+
+	public void updateByte(String columnLabel, byte x) throws SQLException {
+		resultSet.updateByte( findColumn( columnLabel ), x );
+	}
+
+	public void updateShort(String columnLabel, short x) throws SQLException {
+		resultSet.updateShort( findColumn( columnLabel ), x );
+	}
+
+	public void updateInt(String columnLabel, int x) throws SQLException {
+		resultSet.updateInt( findColumn( columnLabel ), x );
+	}
+
+	public void updateLong(String columnLabel, long x) throws SQLException {
+		resultSet.updateLong( findColumn( columnLabel ), x );
+	}
+
+	public void updateFloat(String columnLabel, float x) throws SQLException {
+		resultSet.updateFloat( findColumn( columnLabel ), x );
+	}
+
+	public void updateDouble(String columnLabel, double x) throws SQLException {
+		resultSet.updateDouble( findColumn( columnLabel ), x );
+	}
+
+	public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+		resultSet.updateBigDecimal( findColumn( columnLabel ), x );
+	}
+
+	public void updateString(String columnLabel, String x) throws SQLException {
+		resultSet.updateString( findColumn( columnLabel ), x );
+	}
+
+	public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+		resultSet.updateBytes( findColumn( columnLabel ), x );
+	}
+
+	public void updateDate(String columnLabel, Date x) throws SQLException {
+		resultSet.updateDate( findColumn( columnLabel ), x );
+	}
+
+	public void updateTime(String columnLabel, Time x) throws SQLException {
+		resultSet.updateTime( findColumn( columnLabel ), x );
+	}
+
+	public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+		resultSet.updateTimestamp( findColumn( columnLabel ), x );
+	}
+
+	public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+		resultSet.updateAsciiStream( findColumn( columnLabel ), x, length );
+	}
+
+	public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+		resultSet.updateBinaryStream( findColumn( columnLabel ), x, length );
+	}
+
+	public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+		resultSet.updateCharacterStream( findColumn( columnLabel ), reader, length );
+	}
+
+	public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+		resultSet.updateObject( findColumn( columnLabel ), x, scaleOrLength );
+	}
+
+	public void updateObject(String columnLabel, Object x) throws SQLException {
+		resultSet.updateObject( findColumn( columnLabel ), x );
+	}
+
+	public void insertRow() throws SQLException {
+		resultSet.insertRow();
+	}
+
+	public void updateRow() throws SQLException {
+		resultSet.updateRow();
+	}
+
+	public void deleteRow() throws SQLException {
+		resultSet.deleteRow();
+	}
+
+	public void refreshRow() throws SQLException {
+		resultSet.refreshRow();
+	}
+
+	public void cancelRowUpdates() throws SQLException {
+		resultSet.cancelRowUpdates();
+	}
+
+	public void moveToInsertRow() throws SQLException {
+		resultSet.moveToInsertRow();
+	}
+
+	public void moveToCurrentRow() throws SQLException {
+		resultSet.moveToCurrentRow();
+	}
+
+	public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+		return resultSet.getObject( columnIndex, map );
+	}
+
+	public Ref getRef(int columnIndex) throws SQLException {
+		return resultSet.getRef( columnIndex );
+	}
+
+	public Blob getBlob(int columnIndex) throws SQLException {
+		return resultSet.getBlob( columnIndex );
+	}
+
+	public Clob getClob(int columnIndex) throws SQLException {
+		return resultSet.getClob( columnIndex );
+	}
+
+	public Array getArray(int columnIndex) throws SQLException {
+		return resultSet.getArray( columnIndex );
+	}
+
+	public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+		return resultSet.getObject( findColumn( columnLabel ), map );
+	}
+
+	public Ref getRef(String columnLabel) throws SQLException {
+		return resultSet.getRef( findColumn( columnLabel ) );
+	}
+
+	public Blob getBlob(String columnLabel) throws SQLException {
+		return resultSet.getBlob( findColumn( columnLabel ) );
+	}
+
+	public Clob getClob(String columnLabel) throws SQLException {
+		return resultSet.getClob( findColumn( columnLabel ) );
+	}
+
+	public Array getArray(String columnLabel) throws SQLException {
+		return resultSet.getArray( findColumn( columnLabel ) );
+	}
+
+	public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+		return resultSet.getDate( columnIndex, cal );
+	}
+
+	public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+		return resultSet.getDate( findColumn( columnLabel ), cal );
+	}
+
+	public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+		return resultSet.getTime( columnIndex, cal );
+	}
+
+	public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+		return resultSet.getTime( findColumn( columnLabel ), cal );
+	}
+
+	public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+		return resultSet.getTimestamp( columnIndex, cal );
+	}
+
+	public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+		return resultSet.getTimestamp( findColumn( columnLabel ), cal );
+	}
+
+	public URL getURL(int columnIndex) throws SQLException {
+		return resultSet.getURL( columnIndex );
+	}
+
+	public URL getURL(String columnLabel) throws SQLException {
+		return resultSet.getURL( findColumn( columnLabel ) );
+	}
+
+	public void updateRef(int columnIndex, java.sql.Ref x) throws SQLException {
+		resultSet.updateRef( columnIndex, x );
+	}
+
+	public void updateRef(String columnLabel, java.sql.Ref x) throws SQLException {
+		resultSet.updateRef( findColumn( columnLabel ), x );
+	}
+
+	public void updateBlob(int columnIndex, java.sql.Blob x) throws SQLException {
+		resultSet.updateBlob( columnIndex, x );
+	}
+
+	public void updateBlob(String columnLabel, java.sql.Blob x) throws SQLException {
+		resultSet.updateBlob( findColumn( columnLabel ), x );
+	}
+
+	public void updateClob(int columnIndex, java.sql.Clob x) throws SQLException {
+		resultSet.updateClob( columnIndex, x );
+	}
+
+	public void updateClob(String columnLabel, java.sql.Clob x) throws SQLException {
+		resultSet.updateClob( findColumn( columnLabel ), x );
+	}
+
+	public void updateArray(int columnIndex, java.sql.Array x) throws SQLException {
+		resultSet.updateArray( columnIndex, x );
+	}
+
+	public void updateArray(String columnLabel, java.sql.Array x) throws SQLException {
+		resultSet.updateArray( findColumn( columnLabel ), x );
+	}
+
+	public RowId getRowId(int columnIndex) throws SQLException {
+		return resultSet.getRowId( columnIndex );
+	}
+
+	public RowId getRowId(String columnLabel) throws SQLException {
+		return resultSet.getRowId( findColumn( columnLabel ) );
+	}
+
+	public void updateRowId(int columnIndex, RowId x) throws SQLException {
+		resultSet.updateRowId( columnIndex, x );
+	}
+
+	public void updateRowId(String columnLabel, RowId x) throws SQLException {
+		resultSet.updateRowId( findColumn( columnLabel ), x );
+	}
+
+	public int getHoldability() throws SQLException {
+		return resultSet.getHoldability();
+	}
+
+	public boolean isClosed() throws SQLException {
+		return resultSet.isClosed();
+	}
+
+	public void updateNString(int columnIndex, String nString) throws SQLException {
+		resultSet.updateNString( columnIndex, nString );
+	}
+
+	public void updateNString(String columnLabel, String nString) throws SQLException {
+		resultSet.updateNString( findColumn( columnLabel ), nString );
+	}
+
+	public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+		resultSet.updateNClob( columnIndex, nClob );
+	}
+
+	public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+		resultSet.updateNClob( findColumn( columnLabel ), nClob );
+	}
+
+	public NClob getNClob(int columnIndex) throws SQLException {
+		return resultSet.getNClob( columnIndex );
+	}
+
+	public NClob getNClob(String columnLabel) throws SQLException {
+		return resultSet.getNClob( findColumn( columnLabel ) );
+	}
+
+	public SQLXML getSQLXML(int columnIndex) throws SQLException {
+		return resultSet.getSQLXML( columnIndex );
+	}
+
+	public SQLXML getSQLXML(String columnLabel) throws SQLException {
+		return resultSet.getSQLXML( findColumn( columnLabel ) );
+	}
+
+	public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+		resultSet.updateSQLXML( columnIndex, xmlObject );
+	}
+
+	public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+		resultSet.updateSQLXML( findColumn( columnLabel ), xmlObject );
+	}
+
+	public String getNString(int columnIndex) throws SQLException {
+		return resultSet.getNString( columnIndex );
+	}
+
+	public String getNString(String columnLabel) throws SQLException {
+		return resultSet.getNString( findColumn( columnLabel ) );
+	}
+
+	public Reader getNCharacterStream(int columnIndex) throws SQLException {
+		return resultSet.getNCharacterStream( columnIndex );
+	}
+
+	public Reader getNCharacterStream(String columnLabel) throws SQLException {
+		return resultSet.getNCharacterStream( findColumn( columnLabel ) );
+	}
+
+	public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		resultSet.updateNCharacterStream( columnIndex, x, length );
+	}
+
+	public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		resultSet.updateNCharacterStream( findColumn( columnLabel ), reader, length );
+	}
+
+	public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+		resultSet.updateAsciiStream( columnIndex, x, length );
+	}
+
+	public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+		resultSet.updateBinaryStream( columnIndex, x, length );
+	}
+
+	public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		resultSet.updateCharacterStream( columnIndex, x, length );
+	}
+
+	public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+		resultSet.updateAsciiStream( findColumn( columnLabel ), x, length );
+	}
+
+	public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+		resultSet.updateBinaryStream( findColumn( columnLabel ), x, length );
+	}
+
+	public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		resultSet.updateCharacterStream( findColumn( columnLabel ), reader, length );
+	}
+
+	public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+		resultSet.updateBlob( columnIndex, inputStream, length );
+	}
+
+	public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+		resultSet.updateBlob( findColumn( columnLabel ), inputStream, length );
+	}
+
+	public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+		resultSet.updateClob( columnIndex, reader, length );
+	}
+
+	public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+		resultSet.updateClob( findColumn( columnLabel ), reader, length );
+	}
+
+	public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+		resultSet.updateNClob( columnIndex, reader, length );
+	}
+
+	public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+		resultSet.updateNClob( findColumn( columnLabel ), reader, length );
+	}
+
+	public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+		resultSet.updateNCharacterStream( columnIndex, x );
+	}
+
+	public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		resultSet.updateNCharacterStream( findColumn( columnLabel ), reader );
+	}
+
+	public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+		resultSet.updateAsciiStream( columnIndex, x );
+	}
+
+	public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+		resultSet.updateBinaryStream( columnIndex, x );
+	}
+
+	public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+		resultSet.updateCharacterStream( columnIndex, x );
+	}
+
+	public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+		resultSet.updateAsciiStream( findColumn( columnLabel ), x );
+	}
+
+	public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+		resultSet.updateBinaryStream( findColumn( columnLabel ), x );
+	}
+
+	public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		resultSet.updateCharacterStream( findColumn( columnLabel ), reader );
+	}
+
+	public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+		resultSet.updateBlob( columnIndex, inputStream );
+	}
+
+	public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+		resultSet.updateBlob( findColumn( columnLabel ), inputStream );
+	}
+
+	public void updateClob(int columnIndex, Reader reader) throws SQLException {
+		resultSet.updateClob( columnIndex, reader );
+	}
+
+	public void updateClob(String columnLabel, Reader reader) throws SQLException {
+		resultSet.updateClob( findColumn( columnLabel ), reader );
+	}
+
+	public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+		resultSet.updateNClob( columnIndex, reader );
+	}
+
+	public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+		resultSet.updateNClob( findColumn( columnLabel ), reader );
+	}
+}
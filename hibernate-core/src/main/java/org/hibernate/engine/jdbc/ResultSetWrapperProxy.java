@@ -41,7 +41,10 @@ import org.hibernate.internal.CoreMessageLogger;
  *
  * @author Steve Ebersole
  * @author Gail Badner
+ *
+ * @deprecated Use {@link ColumnIndexResolvingResultSet}, which does not go through reflection for each value read
  */
+@Deprecated
 public class ResultSetWrapperProxy implements InvocationHandler {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, ResultSetWrapperProxy.class.getName());
@@ -72,6 +72,15 @@ public abstract class AbstractBatchImpl implements Batch {
 	 */
 	protected abstract void doExecuteBatch();
 
+	/**
+	 * Does this batch hold anything to execute?  By default that is the case once a statement was prepared.
+	 *
+	 * @return True if there is work to execute; false otherwise.
+	 */
+	protected boolean hasBatchedWork() {
+		return !statements.isEmpty();
+	}
+
 	/**
 	 * Convenience access to the SQLException helper.
 	 *
@@ -153,7 +162,7 @@ public abstract class AbstractBatchImpl implements Batch {
 	@Override
 	public final void execute() {
 		notifyObserversExplicitExecution();
-		if ( statements.isEmpty() ) {
+		if ( !hasBatchedWork() ) {
 			return;
 		}
 		try {
@@ -31,6 +31,7 @@ import org.hibernate.cfg.Environment;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowBatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
@@ -66,6 +67,9 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable {
 	@Override
 	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
 		LOG.tracef( "Building batch [size=%s]", size );
+		if ( size > 1 && key instanceof MultiRowBatchKey ) {
+			return new MultiRowBatchingBatch( (MultiRowBatchKey) key, jdbcCoordinator );
+		}
 		return size > 1
 				? new BatchingBatch( key, jdbcCoordinator, size )
 				: new NonBatchingBatch( key, jdbcCoordinator );
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowBatch;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowBatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+
+/**
+ * A {@link MultiRowBatch} implementation sending up to {@link MultiRowBatchKey#getMaxRowCount()} rows per
+ * statement execution.  Parameter sets bound to a {@link #getBatchStatement batch statement} and completed
+ * through {@link #addToBatch()} are batched through JDBC instead, executing in order with the rows.
+ */
+public class MultiRowBatchingBatch extends AbstractBatchImpl implements MultiRowBatch {
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, MultiRowBatchingBatch.class.getName() );
+
+	private final MultiRowBatchKey key;
+	private final List<Object> rows;
+	private final LinkedHashMap<String,PreparedStatement> batchedStatements = new LinkedHashMap<String,PreparedStatement>();
+	private int batchPosition;
+
+	private String currentStatementSql;
+	private PreparedStatement currentStatement;
+
+	public MultiRowBatchingBatch(MultiRowBatchKey key, JdbcCoordinator jdbcCoordinator) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.key = key;
+		this.rows = new ArrayList<Object>( key.getMaxRowCount() );
+	}
+
+	@Override
+	public void addRow(Object row) {
+		if ( batchPosition > 0 ) {
+			// the parameter sets added before were issued before this row
+			notifyObserversImplicitExecution();
+			performBatchExecution();
+		}
+		rows.add( row );
+		if ( rows.size() == key.getMaxRowCount() ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( !rows.isEmpty() ) {
+			// the rows added before were issued before the parameters about to be bound
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+		currentStatementSql = sql;
+		currentStatement = super.getBatchStatement( sql, callable );
+		return currentStatement;
+	}
+
+	@Override
+	public void addToBatch() {
+		try {
+			currentStatement.addBatch();
+		}
+		catch ( SQLException e ) {
+			LOG.debugf( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
+		}
+		batchedStatements.put( currentStatementSql, currentStatement );
+		batchPosition++;
+		if ( batchPosition == key.getMaxRowCount() ) {
+			notifyObserversImplicitExecution();
+			performBatchExecution();
+		}
+	}
+
+	@Override
+	protected boolean hasBatchedWork() {
+		return !rows.isEmpty() || super.hasBatchedWork();
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		if ( rows.isEmpty() && batchPosition == 0 ) {
+			LOG.debug( "No batched rows to execute" );
+		}
+		else if ( batchPosition > 0 ) {
+			LOG.debugf( "Executing batch size: %s", batchPosition );
+			performBatchExecution();
+		}
+		else {
+			LOG.debugf( "Executing multi-row batch size: %s", rows.size() );
+			performExecution();
+		}
+	}
+
+	private void performBatchExecution() {
+		try {
+			for ( Map.Entry<String,PreparedStatement> entry : batchedStatements.entrySet() ) {
+				try {
+					final PreparedStatement statement = entry.getValue();
+					final int[] rowCounts = statement.executeBatch();
+					for ( int i = 0; i < rowCounts.length; i++ ) {
+						key.getExpectation().verifyOutcome( rowCounts[i], statement, i );
+					}
+				}
+				catch ( SQLException e ) {
+					LOG.debug( "SQLException escaped proxy", e );
+					throw sqlExceptionHelper().convert( e, "could not perform addBatch", entry.getKey() );
+				}
+			}
+		}
+		catch ( RuntimeException re ) {
+			LOG.unableToExecuteBatch( re.getMessage() );
+			throw re;
+		}
+		finally {
+			batchedStatements.clear();
+			batchPosition = 0;
+		}
+	}
+
+	private void performExecution() {
+		final String sql = key.getSql( rows.size() );
+		try {
+			// a full statement is kept for reuse by the next rows
+			final PreparedStatement statement = super.getBatchStatement( sql, false );
+			int index = 1;
+			for ( Object row : rows ) {
+				index = key.bindRow( row, statement, index );
+			}
+			checkRowCount( statement.executeUpdate(), rows.size() );
+		}
+		catch ( SQLException e ) {
+			LOG.debug( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper().convert( e, "could not execute multi-row batch", sql );
+		}
+		catch ( RuntimeException re ) {
+			LOG.unableToExecuteBatch( re.getMessage() );
+			throw re;
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	private void checkRowCount(int rowCount, int expectedRowCount) {
+		if ( key.getExpectation() == Expectations.NONE ) {
+			return;
+		}
+		if ( expectedRowCount > rowCount ) {
+			throw new StaleStateException(
+					"Multi-row batch returned unexpected row count; actual row count: " + rowCount
+							+ "; expected: " + expectedRowCount
+			);
+		}
+		if ( expectedRowCount < rowCount ) {
+			String msg = "Multi-row batch returned unexpected row count; actual row count: " + rowCount
+					+ "; expected: " + expectedRowCount;
+			throw new TooManyRowsAffectedException( msg, expectedRowCount, rowCount );
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( !rows.isEmpty() ) {
+			LOG.batchContainedStatementsOnRelease();
+			rows.clear();
+		}
+		batchedStatements.clear();
+		batchPosition = 0;
+		super.release();
+	}
+}
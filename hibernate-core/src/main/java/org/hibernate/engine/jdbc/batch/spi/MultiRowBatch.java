@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.batch.spi;
+
+/**
+ * A {@link Batch} buffering rows for a statement keyed by a {@link MultiRowBatchKey}.  The rows are bound
+ * when a statement is executed, either implicitly once {@link MultiRowBatchKey#getMaxRowCount()} rows were
+ * added, or on {@link #execute()}.  The values of a row must therefore not be changed once it is added.
+ * <p/>
+ * The plain {@link Batch} contract keeps working: parameters bound to a {@link #getBatchStatement batch statement}
+ * and completed through {@link #addToBatch()} are executed in the order they were added relative to the rows.
+ */
+public interface MultiRowBatch extends Batch {
+	/**
+	 * Adds a row to the batch.
+	 *
+	 * @param row The row, later handed to {@link MultiRowBatchKey#bindRow}
+	 */
+	public void addRow(Object row);
+}
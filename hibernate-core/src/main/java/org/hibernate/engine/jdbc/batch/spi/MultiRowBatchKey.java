@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.batch.spi;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A {@link BatchKey} for a statement which can carry several rows per execution, such as a multi-row
+ * <tt>INSERT ... VALUES (...), (...)</tt>.  Rather than binding each row to its own parameter set, rows
+ * are buffered by a {@link MultiRowBatch} and bound together into a statement rendered for that number
+ * of rows.
+ */
+public interface MultiRowBatchKey extends BatchKey {
+	/**
+	 * The maximum number of rows to render into a single statement.
+	 *
+	 * @return The maximum row count.
+	 */
+	public int getMaxRowCount();
+
+	/**
+	 * Render the statement for the given number of rows.
+	 *
+	 * @param rowCount The number of rows, between 1 and {@link #getMaxRowCount()}.
+	 *
+	 * @return The SQL statement.
+	 */
+	public String getSql(int rowCount);
+
+	/**
+	 * Bind the values of a buffered row to the statement.
+	 *
+	 * @param row The row, as passed to {@link MultiRowBatch#addRow}
+	 * @param statement The statement rendered by {@link #getSql}
+	 * @param index The index of the first parameter of the row
+	 *
+	 * @return The index of the first parameter of the next row
+	 *
+	 * @throws SQLException Indicates a problem binding the values
+	 */
+	public int bindRow(Object row, PreparedStatement statement, int index) throws SQLException;
+}
@@ -28,6 +28,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 import org.jboss.logging.Logger;
 
@@ -36,6 +38,7 @@ import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
@@ -64,7 +67,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient TransactionCoordinatorImpl transactionCoordinator;
 	private final transient LogicalConnectionImpl logicalConnection;
 
+	// the open batches, in the order they were opened (which is the order they execute in)
+	private final transient LinkedHashMap<BatchKey,Batch> openBatches = new LinkedHashMap<BatchKey,Batch>();
 	private transient Batch currentBatch;
+	private transient int maxOpenBatches = 1;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -76,7 +82,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				userSuppliedConnection,
 				transactionCoordinator.getTransactionContext().getConnectionReleaseMode(),
 				transactionCoordinator.getTransactionContext().getTransactionEnvironment().getJdbcServices(),
-				transactionCoordinator.getTransactionContext().getJdbcConnectionAccess()
+				transactionCoordinator.getTransactionContext().getJdbcConnectionAccess(),
+				transactionCoordinator.getTransactionContext().getStatementCacheSize()
 		);
 	}
 
@@ -134,40 +141,112 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Connection close() {
-		if ( currentBatch != null ) {
+		if ( !openBatches.isEmpty() ) {
 			LOG.closingUnreleasedBatch();
-			currentBatch.release();
+			abortBatch();
 		}
 		return logicalConnection.close();
 	}
 
 	@Override
 	public Batch getBatch(BatchKey key) {
-		if ( currentBatch != null ) {
-			if ( currentBatch.getKey().equals( key ) ) {
-				return currentBatch;
-			}
-			else {
-				currentBatch.execute();
-				currentBatch.release();
+		Batch batch = openBatches.get( key );
+		if ( batch == null ) {
+			// the oldest batch never depends on the others, so it is the one to execute to make room
+			while ( !openBatches.isEmpty() && openBatches.size() >= maxOpenBatches ) {
+				final Iterator<Batch> itr = openBatches.values().iterator();
+				final Batch oldest = itr.next();
+				itr.remove();
+				executeAndRelease( oldest );
 			}
+			batch = batchBuilder().buildBatch( key, this );
+			batch.addObserver( new PrecedingBatchExecutor( batch ) );
+			openBatches.put( key, batch );
 		}
-		currentBatch = batchBuilder().buildBatch( key, this );
-		return currentBatch;
+		currentBatch = batch;
+		return batch;
 	}
 
 	@Override
 	public void executeBatch() {
-		if ( currentBatch != null ) {
-			currentBatch.execute();
-			currentBatch.release(); // needed?
+		final Iterator<Batch> itr = openBatches.values().iterator();
+		while ( itr.hasNext() ) {
+			final Batch batch = itr.next();
+			itr.remove();
+			executeAndRelease( batch );
 		}
+		currentBatch = null;
 	}
 
 	@Override
 	public void abortBatch() {
-		if ( currentBatch != null ) {
-			currentBatch.release();
+		for ( Batch batch : openBatches.values() ) {
+			batch.release();
+		}
+		openBatches.clear();
+		currentBatch = null;
+	}
+
+	@Override
+	public void setMaxOpenBatches(int maxOpenBatches) {
+		if ( maxOpenBatches < 1 ) {
+			throw new IllegalArgumentException( "At least one batch must be allowed to be open" );
+		}
+		this.maxOpenBatches = maxOpenBatches;
+	}
+
+	@Override
+	public Batch getCurrentBatch() {
+		return currentBatch != null && openBatches.get( currentBatch.getKey() ) == currentBatch ? currentBatch : null;
+	}
+
+	@Override
+	public int getOpenBatchPosition(Batch batch) {
+		int position = 0;
+		for ( Batch open : openBatches.values() ) {
+			if ( open == batch ) {
+				return position;
+			}
+			position++;
+		}
+		return -1;
+	}
+
+	private void executeAndRelease(Batch batch) {
+		try {
+			batch.execute();
+		}
+		finally {
+			batch.release();
+		}
+	}
+
+	/**
+	 * Keeps the execution order of the open batches when one of them executes on its own because it is full: the
+	 * batches opened before it are executed first.
+	 */
+	private class PrecedingBatchExecutor implements BatchObserver {
+		private final Batch batch;
+
+		private PrecedingBatchExecutor(Batch batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void batchExplicitlyExecuted() {
+		}
+
+		@Override
+		public void batchImplicitlyExecuted() {
+			final Iterator<Batch> itr = openBatches.values().iterator();
+			while ( itr.hasNext() ) {
+				final Batch preceding = itr.next();
+				if ( preceding == batch ) {
+					break;
+				}
+				itr.remove();
+				executeAndRelease( preceding );
+			}
 		}
 	}
 
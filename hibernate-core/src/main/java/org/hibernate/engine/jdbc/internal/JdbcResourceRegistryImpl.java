@@ -38,6 +38,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcResourceRegistry;
 import org.hibernate.engine.jdbc.spi.JdbcWrapper;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCache;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.internal.CoreMessageLogger;
 
@@ -53,11 +54,17 @@ public class JdbcResourceRegistryImpl implements JdbcResourceRegistry {
 	private final HashMap<Statement,Set<ResultSet>> xref = new HashMap<Statement,Set<ResultSet>>();
 	private final Set<ResultSet> unassociatedResultSets = new HashSet<ResultSet>();
 	private final SqlExceptionHelper exceptionHelper;
+	private final PreparedStatementCache preparedStatementCache;
 
 	private Statement lastQuery;
 
 	public JdbcResourceRegistryImpl(SqlExceptionHelper exceptionHelper) {
+		this( exceptionHelper, null );
+	}
+
+	public JdbcResourceRegistryImpl(SqlExceptionHelper exceptionHelper, PreparedStatementCache preparedStatementCache) {
 		this.exceptionHelper = exceptionHelper;
+		this.preparedStatementCache = preparedStatementCache;
 	}
 
 	public void register(Statement statement) {
@@ -276,7 +283,9 @@ public class JdbcResourceRegistryImpl implements JdbcResourceRegistry {
 				}
 				return; // EARLY EXIT!!!
 			}
-			statement.close();
+			if ( preparedStatementCache == null || !preparedStatementCache.checkIn( statement ) ) {
+				statement.close();
+			}
 			if ( lastQuery == statement ) {
 				lastQuery = null;
 			}
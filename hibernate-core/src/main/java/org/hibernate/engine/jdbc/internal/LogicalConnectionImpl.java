@@ -44,6 +44,7 @@ import org.hibernate.engine.jdbc.spi.JdbcResourceRegistry;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.engine.jdbc.spi.NonDurableConnectionObserver;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCache;
 import org.hibernate.engine.transaction.spi.TransactionContext;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -65,6 +66,7 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 	private final transient ConnectionReleaseMode connectionReleaseMode;
 	private final transient JdbcServices jdbcServices;
 	private final transient JdbcConnectionAccess jdbcConnectionAccess;
+	private final transient PreparedStatementCache preparedStatementCache;
 	private final transient JdbcResourceRegistry jdbcResourceRegistry;
 	private final transient List<ConnectionObserver> observers;
 
@@ -79,10 +81,20 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 			ConnectionReleaseMode connectionReleaseMode,
 			JdbcServices jdbcServices,
 			JdbcConnectionAccess jdbcConnectionAccess) {
+		this( userSuppliedConnection, connectionReleaseMode, jdbcServices, jdbcConnectionAccess, 0 );
+	}
+
+	public LogicalConnectionImpl(
+			Connection userSuppliedConnection,
+			ConnectionReleaseMode connectionReleaseMode,
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess jdbcConnectionAccess,
+			int statementCacheSize) {
 		this(
 				connectionReleaseMode,
 				jdbcServices,
 				jdbcConnectionAccess,
+				statementCacheSize,
 				(userSuppliedConnection != null),
 				false,
 				new ArrayList<ConnectionObserver>()
@@ -94,6 +106,7 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 			ConnectionReleaseMode connectionReleaseMode,
 			JdbcServices jdbcServices,
 			JdbcConnectionAccess jdbcConnectionAccess,
+			int statementCacheSize,
 			boolean isUserSuppliedConnection,
 			boolean isClosed,
 			List<ConnectionObserver> observers) {
@@ -102,7 +115,11 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 		);
 		this.jdbcServices = jdbcServices;
 		this.jdbcConnectionAccess = jdbcConnectionAccess;
-		this.jdbcResourceRegistry = new JdbcResourceRegistryImpl( getJdbcServices().getSqlExceptionHelper() );
+		this.preparedStatementCache = statementCacheSize > 0 ? new PreparedStatementCache( statementCacheSize ) : null;
+		this.jdbcResourceRegistry = new JdbcResourceRegistryImpl(
+				getJdbcServices().getSqlExceptionHelper(),
+				preparedStatementCache
+		);
 		this.observers = observers;
 
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
@@ -136,6 +153,11 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 		return jdbcResourceRegistry;
 	}
 
+	@Override
+	public PreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
 	@Override
 	public void addObserver(ConnectionObserver observer) {
 		observers.add( observer );
@@ -195,6 +217,7 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 		try {
 			releaseProxies();
 			jdbcResourceRegistry.close();
+			clearPreparedStatementCache();
 			if ( !isUserSuppliedConnection && physicalConnection != null ) {
 				releaseConnection();
 			}
@@ -315,6 +338,8 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 		if ( physicalConnection == null ) {
 			return;
 		}
+		// the cached statements belong to the physical connection
+		clearPreparedStatementCache();
 		try {
 			if ( !physicalConnection.isClosed() ) {
 				getJdbcServices().getSqlExceptionHelper().logAndClearWarnings( physicalConnection );
@@ -336,6 +361,12 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 		releaseNonDurableObservers();
 	}
 
+	private void clearPreparedStatementCache() {
+		if ( preparedStatementCache != null ) {
+			preparedStatementCache.clear();
+		}
+	}
+
 	private void releaseNonDurableObservers() {
 		Iterator observers = this.observers.iterator();
 		while ( observers.hasNext() ) {
@@ -403,6 +434,20 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 		}
 	}
 
+	@Override
+	public void notifyObserversPreparedStatementCacheHit() {
+		for ( ConnectionObserver observer : observers ) {
+			observer.preparedStatementCacheHit();
+		}
+	}
+
+	@Override
+	public void notifyObserversPreparedStatementCacheMiss() {
+		for ( ConnectionObserver observer : observers ) {
+			observer.preparedStatementCacheMiss();
+		}
+	}
+
 	@Override
 	public boolean isReadyForSerialization() {
 		return isUserSuppliedConnection
@@ -439,6 +484,7 @@ public class LogicalConnectionImpl implements LogicalConnectionImplementor {
 				transactionContext.getConnectionReleaseMode(),
 				transactionContext.getTransactionEnvironment().getJdbcServices(),
 				transactionContext.getJdbcConnectionAccess(),
+				transactionContext.getStatementCacheSize(),
 				isUserSuppliedConnection,
 				isClosed,
 				observers
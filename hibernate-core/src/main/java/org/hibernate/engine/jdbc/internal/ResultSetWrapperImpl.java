@@ -24,8 +24,8 @@
 package org.hibernate.engine.jdbc.internal;
 import java.sql.ResultSet;
 
+import org.hibernate.engine.jdbc.ColumnIndexResolvingResultSet;
 import org.hibernate.engine.jdbc.ColumnNameCache;
-import org.hibernate.engine.jdbc.ResultSetWrapperProxy;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
 
 /**
@@ -44,6 +44,6 @@ public class ResultSetWrapperImpl implements ResultSetWrapper {
 	 * {@inheritDoc}
 	 */
 	public ResultSet wrap(ResultSet resultSet, ColumnNameCache columnNameCache) {
-		return ResultSetWrapperProxy.generateProxy( resultSet, columnNameCache );
+		return new ColumnIndexResolvingResultSet( resultSet, columnNameCache );
 	}
 }
\ No newline at end of file
@@ -35,7 +35,7 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
- * Basic support for building {@link ResultSet}-based proxy handlers
+ * Basic support for building {@link ResultSet}-based proxy handlers, which also back {@link DelegatingResultSet}
  *
  * @author Steve Ebersole
  */
@@ -111,7 +111,7 @@ public abstract class AbstractResultSetProxyHandler extends AbstractProxyHandler
 		}
 	}
 
-	private void explicitClose(ResultSet proxy) {
+	void explicitClose(ResultSet proxy) {
 		if ( isValid() ) {
 			getResourceRegistry().release( proxy );
 		}
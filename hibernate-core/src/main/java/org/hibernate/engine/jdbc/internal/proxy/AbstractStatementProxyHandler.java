@@ -82,6 +82,18 @@ public abstract class AbstractStatementProxyHandler extends AbstractProxyHandler
 		return statement;
 	}
 
+	/**
+	 * The connection proxy to expose from {@link Statement#getConnection()}.
+	 * <p/>
+	 * NOTE : package-protected
+	 *
+	 * @return The connection proxy
+	 */
+	Connection getExposableConnection() {
+		errorIfInvalid();
+		return connectionProxy;
+	}
+
 	@Override
 	protected Object continueInvocation(Object proxy, Method method, Object[] args) throws Throwable {
 		final String methodName = method.getName();
@@ -139,13 +151,30 @@ public abstract class AbstractStatementProxyHandler extends AbstractProxyHandler
 		if ( !( ResultSet.class.isAssignableFrom( method.getReturnType() ) ) ) {
 			return result;
 		}
+		return wrapResultSet( ( ResultSet ) result, ( Statement ) proxy, "getGeneratedKeys".equals( method.getName() ) );
+	}
 
+	/**
+	 * Wrap and register a result set obtained from our statement.
+	 * <p/>
+	 * NOTE : package-protected
+	 *
+	 * @param resultSet The result set obtained from the statement
+	 * @param statementProxy The statement proxy (or wrapper) the result set was obtained through
+	 * @param generatedKeys Whether the result set comes from {@link Statement#getGeneratedKeys()}
+	 *
+	 * @return The registered result set wrapper
+	 */
+	ResultSet wrapResultSet(ResultSet resultSet, Statement statementProxy, boolean generatedKeys) {
+		if ( resultSet == null ) {
+			return null;
+		}
 		final ResultSet wrapper;
-		if ( "getGeneratedKeys".equals( method.getName() ) ) {
-			wrapper = ProxyBuilder.buildImplicitResultSet( ( ResultSet ) result, connectionProxyHandler, connectionProxy, ( Statement ) proxy );
+		if ( generatedKeys ) {
+			wrapper = ProxyBuilder.buildImplicitResultSet( resultSet, connectionProxyHandler, connectionProxy, statementProxy );
 		}
 		else {
-			wrapper = ProxyBuilder.buildResultSet( ( ResultSet ) result, this, ( Statement ) proxy );
+			wrapper = ProxyBuilder.buildResultSet( resultSet, this, statementProxy );
 		}
 		getResourceRegistry().register( wrapper );
 		return wrapper;
@@ -154,7 +183,7 @@ public abstract class AbstractStatementProxyHandler extends AbstractProxyHandler
 	protected void beginningInvocationHandling(Method method, Object[] args) {
 	}
 
-	private void explicitClose(Statement proxy) {
+	void explicitClose(Statement proxy) {
 		if ( isValid() ) {
 			LogicalConnectionImplementor lc = getConnectionProxy().getLogicalConnection();
 			getResourceRegistry().release( proxy );
@@ -162,7 +191,7 @@ public abstract class AbstractStatementProxyHandler extends AbstractProxyHandler
 		}
 	}
 
-	private void invalidateHandle() {
+	void invalidateHandle() {
 		connectionProxyHandler = null;
 		statement = null;
 		invalidate();
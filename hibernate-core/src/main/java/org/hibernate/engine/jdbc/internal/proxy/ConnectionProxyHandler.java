@@ -39,6 +39,7 @@ import org.hibernate.engine.jdbc.spi.JdbcResourceRegistry;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.engine.jdbc.spi.NonDurableConnectionObserver;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCache;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
@@ -135,7 +136,10 @@ public class ConnectionProxyHandler
 		}
 
 		try {
-			Object result = method.invoke( extractPhysicalConnection(), args );
+			Object result = logicalConnection.getPreparedStatementCache() != null
+					&& PreparedStatementCache.isCacheable( methodName )
+					? prepareThroughCache( method, args )
+					: method.invoke( extractPhysicalConnection(), args );
 			result = postProcess( result, proxy, method, args );
 
 			return result;
@@ -152,6 +156,21 @@ public class ConnectionProxyHandler
 		}
 	}
 
+	private PreparedStatement prepareThroughCache(Method method, Object[] args)
+			throws IllegalAccessException, InvocationTargetException {
+		final PreparedStatementCache cache = logicalConnection.getPreparedStatementCache();
+		final String methodName = method.getName();
+		PreparedStatement statement = cache.checkOut( methodName, args );
+		if ( statement != null ) {
+			logicalConnection.notifyObserversPreparedStatementCacheHit();
+			return statement;
+		}
+		statement = (PreparedStatement) method.invoke( extractPhysicalConnection(), args );
+		cache.checkedOut( methodName, args, statement );
+		logicalConnection.notifyObserversPreparedStatementCacheMiss();
+		return statement;
+	}
+
 	private Object postProcess(Object result, Object proxy, Method method, Object[] args) throws SQLException {
 		String methodName = method.getName();
 		Object wrapped = result;
@@ -229,4 +248,14 @@ public class ConnectionProxyHandler
 	public void statementPrepared() {
 		// N/A
 	}
+
+	@Override
+	public void preparedStatementCacheHit() {
+		// N/A
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		// N/A
+	}
 }
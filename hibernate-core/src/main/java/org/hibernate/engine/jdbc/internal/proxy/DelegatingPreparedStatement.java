@@ -0,0 +1,982 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+import org.hibernate.HibernateException;
+import org.hibernate.JDBCException;
+import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
+
+/**
+ * A {@link PreparedStatement} wrapper calling the wrapped statement directly, rather than through the
+ * reflection of a {@link java.lang.reflect.Proxy}, as it is used for every parameter bound.  The validity
+ * and resource tracking are left to the {@link AbstractStatementProxyHandler} it is built with, which also
+ * wraps and registers the result sets obtained from the statement.
+ */
+public class DelegatingPreparedStatement implements PreparedStatement, InvalidatableWrapper<Statement> {
+	private final AbstractStatementProxyHandler handler;
+
+	public DelegatingPreparedStatement(AbstractStatementProxyHandler handler) {
+		this.handler = handler;
+	}
+
+	private PreparedStatement statement() {
+		return (PreparedStatement) handler.getStatement();
+	}
+
+	private JDBCException convert(SQLException e) {
+		return handler.getJdbcServices().getSqlExceptionHelper().convert( e, e.getMessage() );
+	}
+
+	@Override
+	public Statement getWrappedObject() {
+		return statement();
+	}
+
+	@Override
+	public void invalidate() {
+		handler.invalidateHandle();
+	}
+
+	@Override
+	public void close() {
+		handler.explicitClose( this );
+	}
+
+	@Override
+	public Connection getConnection() {
+		return handler.getExposableConnection();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return statement().unwrap( iface );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return statement().isWrapperFor( iface );
+	}
+
+	@Override
+	public int hashCode() {
+		return handler.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return handler.toString();
+	}
+
+	// JDBC 4.1 methods are invoked reflectively as long as we build against JDBC 4.0 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public void closeOnCompletion() throws SQLException {
+		invokeJdbc41( "closeOnCompletion" );
+	}
+
+	public boolean isCloseOnCompletion() throws SQLException {
+		return (Boolean) invokeJdbc41( "isCloseOnCompletion" );
+	}
+
+	private Object invokeJdbc41(String methodName) {
+		try {
+			return Statement.class.getMethod( methodName ).invoke( statement() );
+		}
+		catch ( InvocationTargetException e ) {
+			if ( e.getTargetException() instanceof SQLException ) {
+				throw convert( (SQLException) e.getTargetException() );
+			}
+			throw new HibernateException( "Unable to invoke Statement#" + methodName, e.getTargetException() );
+		}
+		catch ( NoSuchMethodException e ) {
+			throw new HibernateException( "Statement#" + methodName + " requires JDBC 4.1", e );
+		}
+		catch ( IllegalAccessException e ) {
+			throw new HibernateException( "Unable to invoke Statement#" + methodName, e );
+		}
+	}
+
+	// delegation ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public ResultSet executeQuery() throws SQLException {
+		try {
+			return handler.wrapResultSet( statement().executeQuery(), this, false );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int executeUpdate() throws SQLException {
+		try {
+			return statement().executeUpdate();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNull(int parameterIndex, int sqlType) throws SQLException {
+		try {
+			statement().setNull( parameterIndex, sqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+		try {
+			statement().setBoolean( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setByte(int parameterIndex, byte x) throws SQLException {
+		try {
+			statement().setByte( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setShort(int parameterIndex, short x) throws SQLException {
+		try {
+			statement().setShort( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setInt(int parameterIndex, int x) throws SQLException {
+		try {
+			statement().setInt( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setLong(int parameterIndex, long x) throws SQLException {
+		try {
+			statement().setLong( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setFloat(int parameterIndex, float x) throws SQLException {
+		try {
+			statement().setFloat( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setDouble(int parameterIndex, double x) throws SQLException {
+		try {
+			statement().setDouble( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+		try {
+			statement().setBigDecimal( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setString(int parameterIndex, String x) throws SQLException {
+		try {
+			statement().setString( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+		try {
+			statement().setBytes( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setDate(int parameterIndex, Date x) throws SQLException {
+		try {
+			statement().setDate( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setTime(int parameterIndex, Time x) throws SQLException {
+		try {
+			statement().setTime( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+		try {
+			statement().setTimestamp( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		try {
+			statement().setAsciiStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		try {
+			statement().setUnicodeStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		try {
+			statement().setBinaryStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void clearParameters() throws SQLException {
+		try {
+			statement().clearParameters();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+		try {
+			statement().setObject( parameterIndex, x, targetSqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setObject(int parameterIndex, Object x) throws SQLException {
+		try {
+			statement().setObject( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean execute() throws SQLException {
+		try {
+			return statement().execute();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void addBatch() throws SQLException {
+		try {
+			statement().addBatch();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+		try {
+			statement().setCharacterStream( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setRef(int parameterIndex, Ref x) throws SQLException {
+		try {
+			statement().setRef( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBlob(int parameterIndex, Blob x) throws SQLException {
+		try {
+			statement().setBlob( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setClob(int parameterIndex, Clob x) throws SQLException {
+		try {
+			statement().setClob( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setArray(int parameterIndex, Array x) throws SQLException {
+		try {
+			statement().setArray( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public ResultSetMetaData getMetaData() throws SQLException {
+		try {
+			return statement().getMetaData();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+		try {
+			statement().setDate( parameterIndex, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+		try {
+			statement().setTime( parameterIndex, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+		try {
+			statement().setTimestamp( parameterIndex, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+		try {
+			statement().setNull( parameterIndex, sqlType, typeName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setURL(int parameterIndex, URL x) throws SQLException {
+		try {
+			statement().setURL( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public ParameterMetaData getParameterMetaData() throws SQLException {
+		try {
+			return statement().getParameterMetaData();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setRowId(int parameterIndex, RowId x) throws SQLException {
+		try {
+			statement().setRowId( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNString(int parameterIndex, String value) throws SQLException {
+		try {
+			statement().setNString( parameterIndex, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+		try {
+			statement().setNCharacterStream( parameterIndex, value, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNClob(int parameterIndex, NClob value) throws SQLException {
+		try {
+			statement().setNClob( parameterIndex, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		try {
+			statement().setClob( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+		try {
+			statement().setBlob( parameterIndex, inputStream, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		try {
+			statement().setNClob( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+		try {
+			statement().setSQLXML( parameterIndex, xmlObject );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+		try {
+			statement().setObject( parameterIndex, x, targetSqlType, scaleOrLength );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		try {
+			statement().setAsciiStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		try {
+			statement().setBinaryStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+		try {
+			statement().setCharacterStream( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+		try {
+			statement().setAsciiStream( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+		try {
+			statement().setBinaryStream( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+		try {
+			statement().setCharacterStream( parameterIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+		try {
+			statement().setNCharacterStream( parameterIndex, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setClob(int parameterIndex, Reader reader) throws SQLException {
+		try {
+			statement().setClob( parameterIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+		try {
+			statement().setBlob( parameterIndex, inputStream );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+		try {
+			statement().setNClob( parameterIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public ResultSet executeQuery(String sql) throws SQLException {
+		try {
+			return handler.wrapResultSet( statement().executeQuery( sql ), this, false );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int executeUpdate(String sql) throws SQLException {
+		try {
+			return statement().executeUpdate( sql );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getMaxFieldSize() throws SQLException {
+		try {
+			return statement().getMaxFieldSize();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setMaxFieldSize(int max) throws SQLException {
+		try {
+			statement().setMaxFieldSize( max );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getMaxRows() throws SQLException {
+		try {
+			return statement().getMaxRows();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setMaxRows(int max) throws SQLException {
+		try {
+			statement().setMaxRows( max );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		try {
+			statement().setEscapeProcessing( enable );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getQueryTimeout() throws SQLException {
+		try {
+			return statement().getQueryTimeout();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setQueryTimeout(int seconds) throws SQLException {
+		try {
+			statement().setQueryTimeout( seconds );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void cancel() throws SQLException {
+		try {
+			statement().cancel();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public SQLWarning getWarnings() throws SQLException {
+		try {
+			return statement().getWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void clearWarnings() throws SQLException {
+		try {
+			statement().clearWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setCursorName(String name) throws SQLException {
+		try {
+			statement().setCursorName( name );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean execute(String sql) throws SQLException {
+		try {
+			return statement().execute( sql );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public ResultSet getResultSet() throws SQLException {
+		try {
+			return handler.wrapResultSet( statement().getResultSet(), this, false );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getUpdateCount() throws SQLException {
+		try {
+			return statement().getUpdateCount();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean getMoreResults() throws SQLException {
+		try {
+			return statement().getMoreResults();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setFetchDirection(int direction) throws SQLException {
+		try {
+			statement().setFetchDirection( direction );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getFetchDirection() throws SQLException {
+		try {
+			return statement().getFetchDirection();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setFetchSize(int rows) throws SQLException {
+		try {
+			statement().setFetchSize( rows );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getFetchSize() throws SQLException {
+		try {
+			return statement().getFetchSize();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getResultSetConcurrency() throws SQLException {
+		try {
+			return statement().getResultSetConcurrency();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getResultSetType() throws SQLException {
+		try {
+			return statement().getResultSetType();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void addBatch(String sql) throws SQLException {
+		try {
+			statement().addBatch( sql );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void clearBatch() throws SQLException {
+		try {
+			statement().clearBatch();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int[] executeBatch() throws SQLException {
+		try {
+			return statement().executeBatch();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean getMoreResults(int current) throws SQLException {
+		try {
+			return statement().getMoreResults( current );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public ResultSet getGeneratedKeys() throws SQLException {
+		try {
+			return handler.wrapResultSet( statement().getGeneratedKeys(), this, true );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		try {
+			return statement().executeUpdate( sql, autoGeneratedKeys );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		try {
+			return statement().executeUpdate( sql, columnIndexes );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		try {
+			return statement().executeUpdate( sql, columnNames );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		try {
+			return statement().execute( sql, autoGeneratedKeys );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		try {
+			return statement().execute( sql, columnIndexes );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean execute(String sql, String[] columnNames) throws SQLException {
+		try {
+			return statement().execute( sql, columnNames );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getResultSetHoldability() throws SQLException {
+		try {
+			return statement().getResultSetHoldability();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean isClosed() throws SQLException {
+		try {
+			return statement().isClosed();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setPoolable(boolean poolable) throws SQLException {
+		try {
+			statement().setPoolable( poolable );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean isPoolable() throws SQLException {
+		try {
+			return statement().isPoolable();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+}
@@ -0,0 +1,1808 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.JDBCException;
+import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
+
+/**
+ * A {@link ResultSet} wrapper calling the wrapped result set directly, rather than through the reflection
+ * of a {@link java.lang.reflect.Proxy}, as it is used for every value read while hydrating.  The validity
+ * and resource tracking are left to the {@link AbstractResultSetProxyHandler} it is built with.
+ */
+public class DelegatingResultSet implements ResultSet, InvalidatableWrapper<ResultSet> {
+	private final AbstractResultSetProxyHandler handler;
+
+	public DelegatingResultSet(AbstractResultSetProxyHandler handler) {
+		this.handler = handler;
+	}
+
+	private ResultSet resultSet() {
+		return handler.getResultSet();
+	}
+
+	private JDBCException convert(SQLException e) {
+		return handler.getJdbcServices().getSqlExceptionHelper().convert( e, e.getMessage() );
+	}
+
+	@Override
+	public ResultSet getWrappedObject() {
+		return resultSet();
+	}
+
+	@Override
+	public void invalidate() {
+		handler.invalidateHandle();
+	}
+
+	@Override
+	public void close() {
+		handler.explicitClose( this );
+	}
+
+	@Override
+	public Statement getStatement() {
+		handler.errorIfInvalid();
+		return handler.getExposableStatement();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return resultSet().unwrap( iface );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return resultSet().isWrapperFor( iface );
+	}
+
+	@Override
+	public int hashCode() {
+		return handler.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return handler.toString();
+	}
+
+	// JDBC 4.1 methods are invoked reflectively as long as we build against JDBC 4.0 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+		return type.cast( invokeJdbc41( "getObject", new Class[] { int.class, Class.class }, columnIndex, type ) );
+	}
+
+	public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+		return type.cast( invokeJdbc41( "getObject", new Class[] { String.class, Class.class }, columnLabel, type ) );
+	}
+
+	private Object invokeJdbc41(String methodName, Class[] parameterTypes, Object... args) {
+		try {
+			return ResultSet.class.getMethod( methodName, parameterTypes ).invoke( resultSet(), args );
+		}
+		catch ( InvocationTargetException e ) {
+			if ( e.getTargetException() instanceof SQLException ) {
+				throw convert( (SQLException) e.getTargetException() );
+			}
+			throw new HibernateException( "Unable to invoke ResultSet#" + methodName, e.getTargetException() );
+		}
+		catch ( NoSuchMethodException e ) {
+			throw new HibernateException( "ResultSet#" + methodName + " requires JDBC 4.1", e );
+		}
+		catch ( IllegalAccessException e ) {
+			throw new HibernateException( "Unable to invoke ResultSet#" + methodName, e );
+		}
+	}
+
+	// delegation ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public boolean next() throws SQLException {
+		try {
+			return resultSet().next();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean wasNull() throws SQLException {
+		try {
+			return resultSet().wasNull();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public String getString(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getString( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean getBoolean(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBoolean( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public byte getByte(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getByte( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public short getShort(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getShort( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getInt(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getInt( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public long getLong(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getLong( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public float getFloat(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getFloat( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public double getDouble(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getDouble( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnIndex, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public byte[] getBytes(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBytes( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Date getDate(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getDate( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Time getTime(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getTime( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Timestamp getTimestamp(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public InputStream getAsciiStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getAsciiStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getUnicodeStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public InputStream getBinaryStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBinaryStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public String getString(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getString( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean getBoolean(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBoolean( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public byte getByte(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getByte( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public short getShort(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getShort( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getInt(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getInt( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public long getLong(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getLong( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public float getFloat(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getFloat( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public double getDouble(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getDouble( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnLabel, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public byte[] getBytes(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBytes( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Date getDate(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getDate( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Time getTime(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getTime( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Timestamp getTimestamp(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public InputStream getAsciiStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getAsciiStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getUnicodeStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public InputStream getBinaryStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBinaryStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public SQLWarning getWarnings() throws SQLException {
+		try {
+			return resultSet().getWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void clearWarnings() throws SQLException {
+		try {
+			resultSet().clearWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public String getCursorName() throws SQLException {
+		try {
+			return resultSet().getCursorName();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public ResultSetMetaData getMetaData() throws SQLException {
+		try {
+			return resultSet().getMetaData();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Object getObject(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getObject( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Object getObject(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getObject( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int findColumn(String columnLabel) throws SQLException {
+		try {
+			return resultSet().findColumn( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Reader getCharacterStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getCharacterStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Reader getCharacterStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getCharacterStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean isBeforeFirst() throws SQLException {
+		try {
+			return resultSet().isBeforeFirst();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean isAfterLast() throws SQLException {
+		try {
+			return resultSet().isAfterLast();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean isFirst() throws SQLException {
+		try {
+			return resultSet().isFirst();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean isLast() throws SQLException {
+		try {
+			return resultSet().isLast();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void beforeFirst() throws SQLException {
+		try {
+			resultSet().beforeFirst();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void afterLast() throws SQLException {
+		try {
+			resultSet().afterLast();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean first() throws SQLException {
+		try {
+			return resultSet().first();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean last() throws SQLException {
+		try {
+			return resultSet().last();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getRow() throws SQLException {
+		try {
+			return resultSet().getRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean absolute(int row) throws SQLException {
+		try {
+			return resultSet().absolute( row );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean relative(int rows) throws SQLException {
+		try {
+			return resultSet().relative( rows );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean previous() throws SQLException {
+		try {
+			return resultSet().previous();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setFetchDirection(int direction) throws SQLException {
+		try {
+			resultSet().setFetchDirection( direction );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getFetchDirection() throws SQLException {
+		try {
+			return resultSet().getFetchDirection();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void setFetchSize(int rows) throws SQLException {
+		try {
+			resultSet().setFetchSize( rows );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getFetchSize() throws SQLException {
+		try {
+			return resultSet().getFetchSize();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getType() throws SQLException {
+		try {
+			return resultSet().getType();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getConcurrency() throws SQLException {
+		try {
+			return resultSet().getConcurrency();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean rowUpdated() throws SQLException {
+		try {
+			return resultSet().rowUpdated();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean rowInserted() throws SQLException {
+		try {
+			return resultSet().rowInserted();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean rowDeleted() throws SQLException {
+		try {
+			return resultSet().rowDeleted();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNull(int columnIndex) throws SQLException {
+		try {
+			resultSet().updateNull( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+		try {
+			resultSet().updateBoolean( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateByte(int columnIndex, byte x) throws SQLException {
+		try {
+			resultSet().updateByte( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateShort(int columnIndex, short x) throws SQLException {
+		try {
+			resultSet().updateShort( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateInt(int columnIndex, int x) throws SQLException {
+		try {
+			resultSet().updateInt( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateLong(int columnIndex, long x) throws SQLException {
+		try {
+			resultSet().updateLong( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateFloat(int columnIndex, float x) throws SQLException {
+		try {
+			resultSet().updateFloat( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateDouble(int columnIndex, double x) throws SQLException {
+		try {
+			resultSet().updateDouble( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+		try {
+			resultSet().updateBigDecimal( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateString(int columnIndex, String x) throws SQLException {
+		try {
+			resultSet().updateString( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+		try {
+			resultSet().updateBytes( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateDate(int columnIndex, Date x) throws SQLException {
+		try {
+			resultSet().updateDate( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateTime(int columnIndex, Time x) throws SQLException {
+		try {
+			resultSet().updateTime( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+		try {
+			resultSet().updateTimestamp( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+		try {
+			resultSet().updateObject( columnIndex, x, scaleOrLength );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateObject(int columnIndex, Object x) throws SQLException {
+		try {
+			resultSet().updateObject( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNull(String columnLabel) throws SQLException {
+		try {
+			resultSet().updateNull( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+		try {
+			resultSet().updateBoolean( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateByte(String columnLabel, byte x) throws SQLException {
+		try {
+			resultSet().updateByte( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateShort(String columnLabel, short x) throws SQLException {
+		try {
+			resultSet().updateShort( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateInt(String columnLabel, int x) throws SQLException {
+		try {
+			resultSet().updateInt( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateLong(String columnLabel, long x) throws SQLException {
+		try {
+			resultSet().updateLong( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateFloat(String columnLabel, float x) throws SQLException {
+		try {
+			resultSet().updateFloat( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateDouble(String columnLabel, double x) throws SQLException {
+		try {
+			resultSet().updateDouble( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+		try {
+			resultSet().updateBigDecimal( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateString(String columnLabel, String x) throws SQLException {
+		try {
+			resultSet().updateString( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+		try {
+			resultSet().updateBytes( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateDate(String columnLabel, Date x) throws SQLException {
+		try {
+			resultSet().updateDate( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateTime(String columnLabel, Time x) throws SQLException {
+		try {
+			resultSet().updateTime( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+		try {
+			resultSet().updateTimestamp( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+		try {
+			resultSet().updateObject( columnLabel, x, scaleOrLength );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateObject(String columnLabel, Object x) throws SQLException {
+		try {
+			resultSet().updateObject( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void insertRow() throws SQLException {
+		try {
+			resultSet().insertRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateRow() throws SQLException {
+		try {
+			resultSet().updateRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void deleteRow() throws SQLException {
+		try {
+			resultSet().deleteRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void refreshRow() throws SQLException {
+		try {
+			resultSet().refreshRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void cancelRowUpdates() throws SQLException {
+		try {
+			resultSet().cancelRowUpdates();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void moveToInsertRow() throws SQLException {
+		try {
+			resultSet().moveToInsertRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void moveToCurrentRow() throws SQLException {
+		try {
+			resultSet().moveToCurrentRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+		try {
+			return resultSet().getObject( columnIndex, map );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Ref getRef(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getRef( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Blob getBlob(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBlob( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Clob getClob(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getClob( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Array getArray(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getArray( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+		try {
+			return resultSet().getObject( columnLabel, map );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Ref getRef(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getRef( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Blob getBlob(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBlob( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Clob getClob(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getClob( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Array getArray(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getArray( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getDate( columnIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getDate( columnLabel, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTime( columnIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTime( columnLabel, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnLabel, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public URL getURL(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getURL( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public URL getURL(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getURL( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateRef(int columnIndex, java.sql.Ref x) throws SQLException {
+		try {
+			resultSet().updateRef( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateRef(String columnLabel, java.sql.Ref x) throws SQLException {
+		try {
+			resultSet().updateRef( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBlob(int columnIndex, java.sql.Blob x) throws SQLException {
+		try {
+			resultSet().updateBlob( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBlob(String columnLabel, java.sql.Blob x) throws SQLException {
+		try {
+			resultSet().updateBlob( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateClob(int columnIndex, java.sql.Clob x) throws SQLException {
+		try {
+			resultSet().updateClob( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateClob(String columnLabel, java.sql.Clob x) throws SQLException {
+		try {
+			resultSet().updateClob( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateArray(int columnIndex, java.sql.Array x) throws SQLException {
+		try {
+			resultSet().updateArray( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateArray(String columnLabel, java.sql.Array x) throws SQLException {
+		try {
+			resultSet().updateArray( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public RowId getRowId(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getRowId( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public RowId getRowId(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getRowId( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateRowId(int columnIndex, RowId x) throws SQLException {
+		try {
+			resultSet().updateRowId( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateRowId(String columnLabel, RowId x) throws SQLException {
+		try {
+			resultSet().updateRowId( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public int getHoldability() throws SQLException {
+		try {
+			return resultSet().getHoldability();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public boolean isClosed() throws SQLException {
+		try {
+			return resultSet().isClosed();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNString(int columnIndex, String nString) throws SQLException {
+		try {
+			resultSet().updateNString( columnIndex, nString );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNString(String columnLabel, String nString) throws SQLException {
+		try {
+			resultSet().updateNString( columnLabel, nString );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+		try {
+			resultSet().updateNClob( columnIndex, nClob );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+		try {
+			resultSet().updateNClob( columnLabel, nClob );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public NClob getNClob(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getNClob( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public NClob getNClob(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getNClob( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public SQLXML getSQLXML(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getSQLXML( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public SQLXML getSQLXML(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getSQLXML( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+		try {
+			resultSet().updateSQLXML( columnIndex, xmlObject );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+		try {
+			resultSet().updateSQLXML( columnLabel, xmlObject );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public String getNString(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getNString( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public String getNString(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getNString( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Reader getNCharacterStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getNCharacterStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public Reader getNCharacterStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getNCharacterStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+		try {
+			resultSet().updateBlob( columnIndex, inputStream, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+		try {
+			resultSet().updateBlob( columnLabel, inputStream, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateClob( columnIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateClob( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateNClob( columnIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateNClob( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+		try {
+			resultSet().updateBlob( columnIndex, inputStream );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+		try {
+			resultSet().updateBlob( columnLabel, inputStream );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateClob(int columnIndex, Reader reader) throws SQLException {
+		try {
+			resultSet().updateClob( columnIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateClob(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateClob( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+		try {
+			resultSet().updateNClob( columnIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateNClob( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+}
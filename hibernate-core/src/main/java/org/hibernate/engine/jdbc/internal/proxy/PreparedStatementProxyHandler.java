@@ -32,7 +32,7 @@ import org.jboss.logging.Logger;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
- * Invocation handler for {@link java.sql.PreparedStatement} proxies
+ * Invocation handler for {@link java.sql.PreparedStatement} proxies, also backing {@link DelegatingPreparedStatement}
  *
  * @author Steve Ebersole
  */
@@ -100,12 +100,6 @@ public class ProxyBuilder {
 
 	// PreparedStatement ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-	public static final Class[] PREPARED_STMNT_PROXY_INTERFACES = new Class[] {
-			PreparedStatement.class,
-			JdbcWrapper.class,
-			InvalidatableWrapper.class
-	};
-
 	public static PreparedStatement buildPreparedStatement(
 			String sql,
 			Statement statement,
@@ -117,11 +111,7 @@ public class ProxyBuilder {
 				connectionProxyHandler,
 				connectionProxy
 		);
-		return ( PreparedStatement ) Proxy.newProxyInstance(
-				JdbcWrapper.class.getClassLoader(),
-				PREPARED_STMNT_PROXY_INTERFACES,
-				proxyHandler
-		);
+		return new DelegatingPreparedStatement( proxyHandler );
 	}
 
 
@@ -154,23 +144,12 @@ public class ProxyBuilder {
 
 	// ResultSet ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-	public static final Class[] RESULTSET_PROXY_INTERFACES = new Class[] {
-			ResultSet.class,
-			JdbcWrapper.class,
-			InvalidatableWrapper.class
-	};
-
-
 	public static ResultSet buildResultSet(
 			ResultSet resultSet,
 			AbstractStatementProxyHandler statementProxyHandler,
 			Statement statementProxy) {
 		ResultSetProxyHandler proxyHandler = new ResultSetProxyHandler( resultSet, statementProxyHandler, statementProxy );
-		return ( ResultSet ) Proxy.newProxyInstance(
-				JdbcWrapper.class.getClassLoader(),
-				RESULTSET_PROXY_INTERFACES,
-				proxyHandler
-		);
+		return new DelegatingResultSet( proxyHandler );
 	}
 
 	public static ResultSet buildImplicitResultSet(
@@ -178,11 +157,7 @@ public class ProxyBuilder {
 			ConnectionProxyHandler connectionProxyHandler,
 			Connection connectionProxy) {
 		ImplicitResultSetProxyHandler proxyHandler = new ImplicitResultSetProxyHandler( resultSet, connectionProxyHandler, connectionProxy );
-		return ( ResultSet ) Proxy.newProxyInstance(
-				JdbcWrapper.class.getClassLoader(),
-				RESULTSET_PROXY_INTERFACES,
-				proxyHandler
-		);
+		return new DelegatingResultSet( proxyHandler );
 	}
 
 	public static ResultSet buildImplicitResultSet(
@@ -191,11 +166,7 @@ public class ProxyBuilder {
 			Connection connectionProxy,
 			Statement sourceStatement) {
 		ImplicitResultSetProxyHandler proxyHandler = new ImplicitResultSetProxyHandler( resultSet, connectionProxyHandler, connectionProxy, sourceStatement );
-		return ( ResultSet ) Proxy.newProxyInstance(
-				JdbcWrapper.class.getClassLoader(),
-				RESULTSET_PROXY_INTERFACES,
-				proxyHandler
-		);
+		return new DelegatingResultSet( proxyHandler );
 	}
 
 
@@ -51,4 +51,16 @@ public interface ConnectionObserver {
 	 * Notification of a statement being prepared
 	 */
 	public void statementPrepared();
+
+	/**
+	 * Notification of a statement being taken from the {@link PreparedStatementCache prepared statement cache}
+	 * instead of being prepared
+	 */
+	public void preparedStatementCacheHit();
+
+	/**
+	 * Notification of a statement being prepared because the
+	 * {@link PreparedStatementCache prepared statement cache} had no such statement
+	 */
+	public void preparedStatementCacheMiss();
 }
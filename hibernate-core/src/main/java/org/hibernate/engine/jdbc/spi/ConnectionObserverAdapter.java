@@ -44,4 +44,12 @@ public class ConnectionObserverAdapter implements ConnectionObserver {
 	@Override
 	public void statementPrepared() {
 	}
+
+	@Override
+	public void preparedStatementCacheHit() {
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+	}
 }
@@ -61,15 +61,44 @@ public interface JdbcCoordinator extends Serializable {
 	public Batch getBatch(BatchKey key);
 
 	/**
-	 * Execute the currently managed batch (if any)
+	 * Execute the currently managed batches (if any), in the order they were opened
 	 */
 	public void executeBatch();
 
 	/**
-	 * Abort the currently managed batch (if any)
+	 * Abort the currently managed batches (if any)
 	 */
 	public void abortBatch();
 
+	/**
+	 * Set the number of batches which may be open at the same time.  With more than one, asking for the batch of
+	 * another key leaves the current batch open; open batches are executed in the order they were opened, and
+	 * executing one (because it is full, or to make room for a new one) first executes those opened before it.
+	 * The caller is responsible for {@link #executeBatch() executing} the batches whenever that order would break
+	 * a dependency between its statements.
+	 * <p/>
+	 * Lowering the number takes effect when the next batch is opened.
+	 *
+	 * @param maxOpenBatches The maximum number of open batches; 1 (the default) keeps a single batch.
+	 */
+	public void setMaxOpenBatches(int maxOpenBatches);
+
+	/**
+	 * Retrieve the batch most recently obtained through {@link #getBatch}, if it is still open.
+	 *
+	 * @return The batch, or null.
+	 */
+	public Batch getCurrentBatch();
+
+	/**
+	 * Determine where the given batch stands in the execution order of the open batches.
+	 *
+	 * @param batch The batch
+	 *
+	 * @return The position of the batch among the open batches, or -1 if it is not open (anymore).
+	 */
+	public int getOpenBatchPosition(Batch batch);
+
 	/**
 	 * Obtain the statement preparer associated with this JDBC coordinator.
 	 *
@@ -46,6 +46,13 @@ public interface LogicalConnectionImplementor extends LogicalConnection {
 	 */
 	public JdbcResourceRegistry getResourceRegistry();
 
+	/**
+	 * Obtains the cache of prepared statements of the physical connection.
+	 *
+	 * @return The prepared statement cache, or null if statements are not cached.
+	 */
+	public PreparedStatementCache getPreparedStatementCache();
+
 	/**
 	 * Add an observer interested in notification of connection events.
 	 *
@@ -113,4 +120,8 @@ public interface LogicalConnectionImplementor extends LogicalConnection {
 	public boolean isReadyForSerialization();
 
 	public void notifyObserversStatementPrepared();
+
+	public void notifyObserversPreparedStatementCacheHit();
+
+	public void notifyObserversPreparedStatementCacheMiss();
 }
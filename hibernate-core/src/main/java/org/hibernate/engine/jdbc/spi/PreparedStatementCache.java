@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A bounded, least-recently-used cache of the idle prepared statements of a physical connection.
+ * <p/>
+ * Statements are keyed by the arguments they were prepared with (SQL, result set type and concurrency,
+ * generated keys mode...).  Closing a statement which came through the cache hands it back, to be reused by the
+ * next preparation of the same statement rather than preparing it again; the cached statements are closed when
+ * the cache is {@link #clear() cleared}, which must happen before the physical connection is released.
+ */
+public class PreparedStatementCache {
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, PreparedStatementCache.class.getName() );
+
+	private final int maxSize;
+	private final LinkedHashMap<Key,Entry> idleStatements;
+	private final Map<Statement,Entry> activeStatements = new IdentityHashMap<Statement,Entry>();
+
+	public PreparedStatementCache(int maxSize) {
+		if ( maxSize < 1 ) {
+			throw new IllegalArgumentException( "Prepared statement cache size must be positive" );
+		}
+		this.maxSize = maxSize;
+		this.idleStatements = new LinkedHashMap<Key,Entry>( maxSize + 1, .75f, true );
+	}
+
+	/**
+	 * Can statements prepared through the given {@link java.sql.Connection} method be cached?
+	 *
+	 * @param methodName The name of the method
+	 *
+	 * @return True for <tt>prepareStatement</tt> and <tt>prepareCall</tt>.
+	 */
+	public static boolean isCacheable(String methodName) {
+		return "prepareStatement".equals( methodName ) || "prepareCall".equals( methodName );
+	}
+
+	/**
+	 * Take an idle statement out of the cache.
+	 *
+	 * @param methodName The {@link java.sql.Connection} method preparing the statement
+	 * @param args The arguments of that method
+	 *
+	 * @return The idle statement, or null if there is none and the statement has to be prepared.
+	 */
+	public PreparedStatement checkOut(String methodName, Object[] args) {
+		final Entry entry = idleStatements.remove( new Key( methodName, args ) );
+		if ( entry == null ) {
+			return null;
+		}
+		activeStatements.put( entry.statement, entry );
+		return entry.statement;
+	}
+
+	/**
+	 * Track a statement which was just prepared, to be cached once it is {@link #checkIn checked in}.
+	 *
+	 * @param methodName The {@link java.sql.Connection} method which prepared the statement
+	 * @param args The arguments of that method
+	 * @param statement The prepared statement
+	 */
+	public void checkedOut(String methodName, Object[] args, PreparedStatement statement) {
+		int fetchSize;
+		try {
+			fetchSize = statement.getFetchSize();
+		}
+		catch ( SQLException e ) {
+			// not something we could restore
+			return;
+		}
+		activeStatements.put( statement, new Entry( new Key( methodName, args ), statement, fetchSize ) );
+	}
+
+	/**
+	 * Hand back a statement the user is done with.
+	 *
+	 * @param statement The statement (the physical one, not a proxy)
+	 *
+	 * @return True if the statement was cached; false if it has to be closed.
+	 */
+	public boolean checkIn(Statement statement) {
+		final Entry entry = activeStatements.remove( statement );
+		if ( entry == null || idleStatements.containsKey( entry.key ) ) {
+			return false;
+		}
+		try {
+			entry.statement.clearParameters();
+			entry.statement.clearBatch();
+			entry.statement.clearWarnings();
+			if ( entry.statement.getFetchSize() != entry.fetchSize ) {
+				entry.statement.setFetchSize( entry.fetchSize );
+			}
+		}
+		catch ( SQLException e ) {
+			LOG.debugf( "Unable to reset statement for caching [%s]", e.getMessage() );
+			return false;
+		}
+		idleStatements.put( entry.key, entry );
+		if ( idleStatements.size() > maxSize ) {
+			final Iterator<Entry> itr = idleStatements.values().iterator();
+			final Entry eldest = itr.next();
+			itr.remove();
+			close( eldest.statement );
+		}
+		return true;
+	}
+
+	/**
+	 * Close the idle statements and forget about the others, which their users are responsible for closing.
+	 */
+	public void clear() {
+		for ( Entry entry : idleStatements.values() ) {
+			close( entry.statement );
+		}
+		idleStatements.clear();
+		activeStatements.clear();
+	}
+
+	private static void close(PreparedStatement statement) {
+		try {
+			statement.close();
+		}
+		catch ( SQLException e ) {
+			LOG.debugf( "Unable to release cached statement [%s]", e.getMessage() );
+		}
+	}
+
+	private static final class Key {
+		private final String methodName;
+		private final Object[] args;
+		private final int hashCode;
+
+		private Key(String methodName, Object[] args) {
+			this.methodName = methodName;
+			this.args = args;
+			this.hashCode = 31 * methodName.hashCode() + Arrays.deepHashCode( args );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key that = (Key) o;
+			return methodName.equals( that.methodName ) && Arrays.deepEquals( args, that.args );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class Entry {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private Entry(Key key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+	}
+}
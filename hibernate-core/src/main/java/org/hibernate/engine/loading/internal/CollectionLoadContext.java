@@ -252,6 +252,7 @@ public class CollectionLoadContext {
 		}
 		else {
 			ce.postInitialize( lce.getCollection() );
+			getLoadContext().getPersistenceContext().getBatchFetchQueue().removeBatchLoadableCollection( lce.getCollection(), ce );
 		}
 
 		boolean addToCache = hasNoQueuedAdds && // there were no queued additions
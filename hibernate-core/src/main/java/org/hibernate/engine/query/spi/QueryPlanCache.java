@@ -41,22 +41,32 @@ import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterImpl;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
 import org.hibernate.internal.util.collections.CollectionHelper;
-import org.hibernate.internal.util.collections.SimpleMRUCache;
-import org.hibernate.internal.util.collections.SoftLimitMRUCache;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 
 /**
  * Acts as a cache for compiled query plans, as well as query-parameter metadata.
  *
- * @see Environment#QUERY_PLAN_CACHE_MAX_STRONG_REFERENCES
- * @see Environment#QUERY_PLAN_CACHE_MAX_SOFT_REFERENCES
+ * @see Environment#QUERY_PLAN_CACHE_MAX_SIZE
+ * @see Environment#QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE
  *
  * @author Steve Ebersole
  */
 public class QueryPlanCache implements Serializable {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, QueryPlanCache.class.getName());
+
+	/**
+	 * The default maximum number of parameter metadata entries kept by {@link #sqlParamMetadataCache}.
+	 */
+	public static final int DEFAULT_PARAMETER_METADATA_MAX_COUNT = 128;
+
+	/**
+	 * The default maximum number of query plans kept by {@link #planCache}.
+	 */
+	public static final int DEFAULT_QUERY_PLAN_MAX_COUNT = BoundedConcurrentCache.DEFAULT_MAX_SIZE;
+
 	/**
 	 * simple cache of param metadata based on query string.  Ideally, the original "user-supplied query"
 	 * string should be used to obtain this metadata (i.e., not the para-list-expanded query string) to avoid
@@ -65,29 +75,41 @@ public class QueryPlanCache implements Serializable {
 	 * Used solely for caching param metadata for native-sql queries, see {@link #getSQLParameterMetadata} for a
 	 * discussion as to why...
 	 */
-	private final SimpleMRUCache sqlParamMetadataCache;
+	private final BoundedConcurrentCache<String,ParameterMetadata> sqlParamMetadataCache;
 
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final SoftLimitMRUCache planCache;
+	private final BoundedConcurrentCache<Object,Object> planCache;
 	private SessionFactoryImplementor factory;
 
-	public QueryPlanCache(SessionFactoryImplementor factory) {
-		int maxStrongReferenceCount = ConfigurationHelper.getInt(
-				Environment.QUERY_PLAN_CACHE_MAX_STRONG_REFERENCES,
+	public QueryPlanCache(final SessionFactoryImplementor factory) {
+		// the legacy soft/strong reference settings are honored as the defaults of their replacements
+		int maxParameterMetadataCount = ConfigurationHelper.getInt(
+				Environment.QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE,
 				factory.getProperties(),
-				SoftLimitMRUCache.DEFAULT_STRONG_REF_COUNT
+				ConfigurationHelper.getInt(
+						Environment.QUERY_PLAN_CACHE_MAX_STRONG_REFERENCES,
+						factory.getProperties(),
+						DEFAULT_PARAMETER_METADATA_MAX_COUNT
+				)
 		);
-		int maxSoftReferenceCount = ConfigurationHelper.getInt(
-				Environment.QUERY_PLAN_CACHE_MAX_SOFT_REFERENCES,
+		int maxQueryPlanCount = ConfigurationHelper.getInt(
+				Environment.QUERY_PLAN_CACHE_MAX_SIZE,
 				factory.getProperties(),
-				SoftLimitMRUCache.DEFAULT_SOFT_REF_COUNT
+				ConfigurationHelper.getInt(
+						Environment.QUERY_PLAN_CACHE_MAX_SOFT_REFERENCES,
+						factory.getProperties(),
+						DEFAULT_QUERY_PLAN_MAX_COUNT
+				)
 		);
 
 		this.factory = factory;
-		this.sqlParamMetadataCache = new SimpleMRUCache( maxStrongReferenceCount );
-		this.planCache = new SoftLimitMRUCache( maxStrongReferenceCount, maxSoftReferenceCount );
+		this.sqlParamMetadataCache = new BoundedConcurrentCache<String,ParameterMetadata>( maxParameterMetadataCount );
+		this.planCache = new BoundedConcurrentCache<Object,Object>(
+				maxQueryPlanCount,
+				new PlanEvictionListener( factory )
+		);
 	}
 
 	/**
@@ -101,10 +123,10 @@ public class QueryPlanCache implements Serializable {
 	 * @return The parameter metadata
 	 */
 	public ParameterMetadata getSQLParameterMetadata(String query) {
-		ParameterMetadata metadata = ( ParameterMetadata ) sqlParamMetadataCache.get( query );
+		ParameterMetadata metadata = sqlParamMetadataCache.get( query );
 		if ( metadata == null ) {
 			metadata = buildNativeSQLParameterMetadata( query );
-			sqlParamMetadataCache.put( query, metadata );
+			sqlParamMetadataCache.putIfAbsent( query, metadata );
 		}
 		return metadata;
 	}
@@ -116,12 +138,14 @@ public class QueryPlanCache implements Serializable {
 
 		if ( plan == null ) {
 			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
+			planCacheMiss();
 			plan = new HQLQueryPlan(queryString, shallow, enabledFilters, factory );
+			planCache.putIfAbsent( key, plan );
 		}
 		else {
 			LOG.tracev( "Located HQL query plan in cache ({0})", queryString );
+			planCacheHit();
 		}
-		planCache.put( key, plan );
 
 		return plan;
 	}
@@ -134,14 +158,15 @@ public class QueryPlanCache implements Serializable {
 		if ( plan == null ) {
 			LOG.tracev( "Unable to locate collection-filter query plan in cache; generating ({0} : {1} )",
 					collectionRole, filterString );
+			planCacheMiss();
 			plan = new FilterQueryPlan( filterString, collectionRole, shallow, enabledFilters, factory );
+			planCache.putIfAbsent( key, plan );
 		}
 		else {
 			LOG.tracev( "Located collection-filter query plan in cache ({0} : {1})", collectionRole, filterString );
+			planCacheHit();
 		}
 
-		planCache.put( key, plan );
-
 		return plan;
 	}
 
@@ -152,18 +177,41 @@ public class QueryPlanCache implements Serializable {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.tracev( "Unable to locate native-sql query plan in cache; generating ({0})", spec.getQueryString() );
 			}
+			planCacheMiss();
 			plan = new NativeSQLQueryPlan( spec, factory );
+			planCache.putIfAbsent( spec, plan );
 		}
 		else {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.tracev( "Located native-sql query plan in cache ({0})", spec.getQueryString() );
 			}
+			planCacheHit();
 		}
 
-		planCache.put( spec, plan );
 		return plan;
 	}
 
+	/**
+	 * Clean up the caches when the SessionFactory is closed.
+	 */
+	public void cleanup() {
+		LOG.trace( "Cleaning QueryPlan Cache" );
+		planCache.clear();
+		sqlParamMetadataCache.clear();
+	}
+
+	private void planCacheHit() {
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			factory.getStatisticsImplementor().queryPlanCacheHit();
+		}
+	}
+
+	private void planCacheMiss() {
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			factory.getStatisticsImplementor().queryPlanCacheMiss();
+		}
+	}
+
 	@SuppressWarnings({ "UnnecessaryUnboxing" })
 	private ParameterMetadata buildNativeSQLParameterMetadata(String sqlString) {
 		ParamLocationRecognizer recognizer = ParamLocationRecognizer.parseLocations( sqlString );
@@ -353,4 +401,19 @@ public class QueryPlanCache implements Serializable {
 			return hashCode;
 		}
 	}
+
+	private static class PlanEvictionListener implements BoundedConcurrentCache.EvictionListener<Object,Object> {
+		private final transient SessionFactoryImplementor factory;
+
+		private PlanEvictionListener(SessionFactoryImplementor factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public void onEviction(Object key, Object plan) {
+			if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatisticsImplementor().queryPlanCacheEviction();
+			}
+		}
+	}
 }
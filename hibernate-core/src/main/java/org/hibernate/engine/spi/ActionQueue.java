@@ -44,8 +44,10 @@ import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.EntityAction;
+import org.hibernate.action.internal.EntityActionBatchOrdering;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
+import org.hibernate.action.internal.EntityIdentityInsertBatch;
 import org.hibernate.action.internal.EntityInsertAction;
 import org.hibernate.action.internal.EntityUpdateAction;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
@@ -261,13 +263,67 @@ public class ActionQueue {
 
 	private void executeActions(List list) throws HibernateException {
 		int size = list.size();
-		for ( int i = 0; i < size; i++ ) {
-			execute( (Executable) list.get( i ) );
+		final int maxOpenBatches = session.getFactory().getSettings().getJdbcMaxOpenBatches();
+		EntityIdentityInsertBatch identityInsertBatch = null;
+		EntityActionBatchOrdering batchOrdering = null;
+		try {
+			for ( int i = 0; i < size; i++ ) {
+				final Executable executable = (Executable) list.get( i );
+				if ( executable instanceof EntityIdentityInsertAction
+						&& ( (EntityIdentityInsertAction) executable ).isBatchable() ) {
+					final EntityIdentityInsertAction insert = (EntityIdentityInsertAction) executable;
+					if ( identityInsertBatch != null && !identityInsertBatch.accepts( insert ) ) {
+						execute( identityInsertBatch );
+						identityInsertBatch = null;
+					}
+					if ( identityInsertBatch == null ) {
+						identityInsertBatch = new EntityIdentityInsertBatch( session );
+					}
+					identityInsertBatch.add( insert );
+					continue;
+				}
+				if ( identityInsertBatch != null ) {
+					// the generated ids must be known before anything else executes
+					execute( identityInsertBatch );
+					identityInsertBatch = null;
+				}
+				if ( maxOpenBatches > 1 && EntityActionBatchOrdering.isOrdered( executable ) ) {
+					if ( batchOrdering == null ) {
+						batchOrdering = new EntityActionBatchOrdering( session, maxOpenBatches );
+					}
+					final EntityAction action = (EntityAction) executable;
+					batchOrdering.beforeExecution( action );
+					execute( executable );
+					batchOrdering.afterExecution( action );
+				}
+				else {
+					execute( executable );
+				}
+			}
+			if ( identityInsertBatch != null ) {
+				execute( identityInsertBatch );
+			}
+		}
+		finally {
+			if ( batchOrdering != null ) {
+				session.getTransactionCoordinator().getJdbcCoordinator().setMaxOpenBatches( 1 );
+			}
 		}
 		list.clear();
 		session.getTransactionCoordinator().getJdbcCoordinator().executeBatch();
 	}
 
+	private void execute(EntityIdentityInsertBatch identityInsertBatch) {
+		try {
+			identityInsertBatch.execute();
+		}
+		finally {
+			for ( EntityIdentityInsertAction insert : identityInsertBatch.getActions() ) {
+				registerCleanupActions( insert );
+			}
+		}
+	}
+
 	public void execute(Executable executable) {
 		try {
 			executable.execute();
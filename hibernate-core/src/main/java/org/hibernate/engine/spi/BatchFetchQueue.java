@@ -24,23 +24,31 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.EntityMode;
 import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
+import org.hibernate.cache.spi.access.RegionAccessStrategyHelper;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.internal.util.MarkerObject;
-import org.hibernate.internal.util.collections.IdentityMap;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
 
 /**
  * Tracks entity and collection keys that are available for batch
  * fetching, and the queries which were used to load entities, which
  * can be re-used as a subquery for loading owned collections.
+ * <p/>
+ * Batch-loadable keys are kept in registration order per entity name
+ * (respectively per collection role), so that building a batch only
+ * visits keys of the type being loaded; the cost of a batch no longer
+ * grows with the number of other entities and collections held by the
+ * persistence context.
  *
  * @author Gavin King
  */
@@ -50,15 +58,15 @@ public class BatchFetchQueue {
 
 	/**
 	 * Defines a sequence of {@link EntityKey} elements that are currently
-	 * elegible for batch-fetching.
-	 * <p/>
-	 * Even though this is a map, we only use the keys.  A map was chosen in
-	 * order to utilize a {@link LinkedHashMap} to maintain sequencing
-	 * as well as uniqueness.
-	 * <p/>
-	 * TODO : this would be better as a SequencedReferenceSet, but no such beast exists!
+	 * elegible for batch-fetching, bucketed by entity name.
+	 */
+	private final BucketedSequence<EntityKey,EntityKey> batchLoadableEntityKeys = new BucketedSequence<EntityKey,EntityKey>();
+
+	/**
+	 * Defines a sequence of uninitialized, batch-loadable collections, keyed
+	 * by their {@link CollectionKey} and bucketed by collection role.
 	 */
-	private final Map batchLoadableEntityKeys = new LinkedHashMap(8);
+	private final BucketedSequence<CollectionKey,PersistentCollection> batchLoadableCollections = new BucketedSequence<CollectionKey,PersistentCollection>();
 
 	/**
 	 * A map of {@link SubselectFetch subselect-fetch descriptors} keyed by the
@@ -66,6 +74,13 @@ public class BatchFetchQueue {
 	 */
 	private final Map subselectsByEntityKey = new HashMap(8);
 
+	/**
+	 * Second-level cache entries read ahead of resolving the entities they
+	 * belong to, keyed by their {@link CacheKey}.  A <tt>null</tt> value
+	 * records that nothing was cached for the key.
+	 */
+	private final Map<CacheKey,Object> prefetchedCacheEntries = new HashMap<CacheKey,Object>(8);
+
 	/**
 	 * The owning persistence context.
 	 */
@@ -85,7 +100,71 @@ public class BatchFetchQueue {
 	 */
 	public void clear() {
 		batchLoadableEntityKeys.clear();
+		batchLoadableCollections.clear();
 		subselectsByEntityKey.clear();
+		prefetchedCacheEntries.clear();
+	}
+
+	/**
+	 * Read the second-level cache entries of the given entities with a single
+	 * bulk read, so that resolving the entities afterwards does not have to go
+	 * to the cache for each of them.  Nothing is read unless the cache access
+	 * strategy supports bulk reads.  The entries are held until
+	 * {@link #clearPrefetchedCacheEntries()} is called.
+	 *
+	 * @param persister The persister of the entities.
+	 * @param ids The identifiers of the entities.
+	 */
+	public void prefetchCacheEntries(EntityPersister persister, List<Serializable> ids) {
+		if ( !persister.hasCache() || ids.isEmpty()
+				|| !RegionAccessStrategyHelper.isBulkReadSupported( persister.getCacheAccessStrategy() ) ) {
+			return;
+		}
+		final List<CacheKey> cacheKeys = new ArrayList<CacheKey>( ids.size() );
+		for ( Serializable id : ids ) {
+			cacheKeys.add(
+					context.getSession().generateCacheKey(
+							id,
+							persister.getIdentifierType(),
+							persister.getRootEntityName()
+					)
+			);
+		}
+		final Map cached = RegionAccessStrategyHelper.getAll(
+				persister.getCacheAccessStrategy(),
+				cacheKeys,
+				context.getSession().getTimestamp()
+		);
+		for ( CacheKey cacheKey : cacheKeys ) {
+			prefetchedCacheEntries.put( cacheKey, cached.get( cacheKey ) );
+		}
+	}
+
+	/**
+	 * Has the second-level cache entry for the given key been read ahead?
+	 *
+	 * @param key The cache key.
+	 * @return true if {@link #removePrefetchedCacheEntry} knows the entry.
+	 */
+	public boolean hasPrefetchedCacheEntry(CacheKey key) {
+		return !prefetchedCacheEntries.isEmpty() && prefetchedCacheEntries.containsKey( key );
+	}
+
+	/**
+	 * Take the second-level cache entry for the given key which was read ahead.
+	 *
+	 * @param key The cache key.
+	 * @return The cached entry, or null if nothing was cached for the key.
+	 */
+	public Object removePrefetchedCacheEntry(CacheKey key) {
+		return prefetchedCacheEntries.remove( key );
+	}
+
+	/**
+	 * Clears all second-level cache entries which were read ahead but not used.
+	 */
+	public void clearPrefetchedCacheEntries() {
+		prefetchedCacheEntries.clear();
 	}
 
 	/**
@@ -140,7 +219,7 @@ public class BatchFetchQueue {
 	 */
 	public void addBatchLoadableEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable() ) {
-			batchLoadableEntityKeys.put( key, MARKER );
+			batchLoadableEntityKeys.add( key.getEntityName(), key, key );
 		}
 	}
 
@@ -153,6 +232,44 @@ public class BatchFetchQueue {
 		if ( key.isBatchLoadable() ) batchLoadableEntityKeys.remove(key);
 	}
 
+	/**
+	 * If the given collection is uninitialized and its role is batch
+	 * loadable, add it to the queue.
+	 *
+	 * @param collection The collection.
+	 * @param ce The collection's entry in the persistence context.
+	 */
+	public void addBatchLoadableCollection(PersistentCollection collection, CollectionEntry ce) {
+		final CollectionPersister persister = ce.getLoadedPersister();
+		if ( persister != null && persister.isBatchLoadable() && ce.getLoadedKey() != null && !collection.wasInitialized() ) {
+			batchLoadableCollections.add(
+					persister.getRole(),
+					new CollectionKey( persister, ce.getLoadedKey() ),
+					collection
+			);
+		}
+	}
+
+	/**
+	 * After initializing or evicting a collection, we don't
+	 * need to batch fetch it anymore, remove it from the queue
+	 * if necessary
+	 *
+	 * @param collection The collection.
+	 * @param ce The collection's entry in the persistence context.
+	 */
+	public void removeBatchLoadableCollection(PersistentCollection collection, CollectionEntry ce) {
+		final CollectionPersister persister = ce.getLoadedPersister();
+		if ( persister != null && persister.isBatchLoadable() && ce.getLoadedKey() != null ) {
+			final CollectionKey key = new CollectionKey( persister, ce.getLoadedKey() );
+			final Node<CollectionKey,PersistentCollection> node = batchLoadableCollections.get( key );
+			// another instance may have taken over the key in the meantime
+			if ( node != null && node.value == collection ) {
+				batchLoadableCollections.remove( node );
+			}
+		}
+	}
+
 	/**
 	 * Get a batch of uninitialized collection keys for a given role
 	 *
@@ -168,57 +285,72 @@ public class BatchFetchQueue {
 		Serializable[] keys = new Serializable[batchSize];
 		keys[0] = id;
 		int i = 1;
-		//int count = 0;
-		int end = -1;
-		boolean checkForEnd = false;
-		// this only works because collection entries are kept in a sequenced
-		// map by persistence context (maybe we should do like entities and
-		// keep a separate sequences set...)
-
-		for ( Map.Entry<PersistentCollection,CollectionEntry> me :
-			IdentityMap.concurrentEntries( (Map<PersistentCollection,CollectionEntry>) context.getCollectionEntries() )) {
-
-			CollectionEntry ce = me.getValue();
-			PersistentCollection collection = me.getKey();
-			if ( !collection.wasInitialized() && ce.getLoadedPersister() == collectionPersister ) {
-
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
 
-				//if ( end == -1 && count > batchSize*10 ) return keys; //try out ten batches, max
-
-				final boolean isEqual = collectionPersister.getKeyType().isEqual(
-						id,
-						ce.getLoadedKey(),
-						collectionPersister.getFactory()
-				);
+		final Bucket<CollectionKey,PersistentCollection> bucket = batchLoadableCollections.getBucket( collectionPersister.getRole() );
+		if ( bucket != null ) {
+			final Node<CollectionKey,PersistentCollection> start = batchLoadableCollections.get(
+					new CollectionKey( collectionPersister, id )
+			);
+			// first the keys registered after the given key, then wrap around to the ones before it
+			i = addCollectionKeys( keys, i, start == null ? bucket.head : start.next, null, collectionPersister );
+			if ( start != null ) {
+				i = addCollectionKeys( keys, i, bucket.head, start, collectionPersister );
+			}
+		}
+		return keys;
+	}
 
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
+	private int addCollectionKeys(
+			Serializable[] keys,
+			int i,
+			Node<CollectionKey,PersistentCollection> node,
+			Node<CollectionKey,PersistentCollection> stop,
+			CollectionPersister collectionPersister) {
+		final RegionAccessStrategy cacheAccessStrategy = collectionPersister.hasCache()
+				? collectionPersister.getCacheAccessStrategy()
+				: null;
+		final List<Serializable> candidates = new ArrayList<Serializable>( keys.length - i );
+		while ( node != null && node != stop && i < keys.length ) {
+			// gather as many candidates as there is room left, then check them against the cache in one go
+			while ( node != null && node != stop && candidates.size() < keys.length - i ) {
+				final Node<CollectionKey,PersistentCollection> next = node.next;
+				final PersistentCollection collection = node.value;
+				final CollectionEntry ce = context.getCollectionEntry( collection );
+				if ( collection.wasInitialized()
+						|| ce == null
+						|| ce.getLoadedPersister() != collectionPersister
+						|| ce.getLoadedKey() == null
+						|| !collectionPersister.getKeyType().isEqual(
+								ce.getLoadedKey(),
+								node.key.getKey(),
+								collectionPersister.getFactory()
+						) ) {
+					// initialized, evicted or replaced by a path which did not tell us
+					batchLoadableCollections.remove( node );
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
-				}
-
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
+				else {
+					candidates.add( ce.getLoadedKey() );
 				}
+				node = next;
 			}
-
+			i = addUncachedKeys(
+					keys,
+					i,
+					candidates,
+					collectionPersister.getKeyType(),
+					collectionPersister.getRole(),
+					cacheAccessStrategy
+			);
+			candidates.clear();
 		}
-		return keys; //we ran out of keys to try
+		return i;
 	}
 
 	/**
 	 * Get a batch of unloaded identifiers for this class, using a slightly
 	 * complex algorithm that tries to grab keys registered immediately after
-	 * the given key.
+	 * the given key.  Keys of subclass entities are used to fill up the batch
+	 * if there are not enough keys of the class itself.
 	 *
 	 * @param persister The persister for the entities being loaded.
 	 * @param id The identifier of the entity currently demanding load.
@@ -233,55 +365,201 @@ public class BatchFetchQueue {
 		Serializable[] ids = new Serializable[batchSize];
 		ids[0] = id; //first element of array is reserved for the actual instance we are loading!
 		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		Iterator iter = batchLoadableEntityKeys.keySet().iterator();
-		while ( iter.hasNext() ) {
-			EntityKey key = (EntityKey) iter.next();
-			if ( key.getEntityName().equals( persister.getEntityName() ) ) { //TODO: this needn't exclude subclasses...
-				if ( checkForEnd && i == end ) {
-					//the first id found after the given id
-					return ids;
-				}
-				if ( persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
-					end = i;
+
+		final Bucket<EntityKey,EntityKey> bucket = batchLoadableEntityKeys.getBucket( persister.getEntityName() );
+		if ( bucket != null ) {
+			Node<EntityKey,EntityKey> start = batchLoadableEntityKeys.get(
+					context.getSession().generateEntityKey( id, persister )
+			);
+			if ( start != null && start.bucket != bucket ) {
+				// registered under a subclass name
+				start = null;
+			}
+			// first the keys registered after the given key, then wrap around to the ones before it
+			i = addEntityIds( ids, i, start == null ? bucket.head : start.next, null, persister, id );
+			if ( start != null ) {
+				i = addEntityIds( ids, i, bucket.head, start, persister, id );
+			}
+		}
+
+		if ( i < batchSize ) {
+			for ( Object subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+				if ( i == batchSize ) {
+					break;
 				}
-				else {
-					if ( !isCached( key, persister ) ) {
-						ids[i++] = key.getIdentifier();
+				if ( !subclassEntityName.equals( persister.getEntityName() ) ) {
+					final Bucket<EntityKey,EntityKey> subclassBucket = batchLoadableEntityKeys.getBucket( (String) subclassEntityName );
+					if ( subclassBucket != null ) {
+						i = addEntityIds( ids, i, subclassBucket.head, null, persister, id );
 					}
 				}
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if (end!=-1) checkForEnd = true;
-				}
 			}
 		}
-		return ids; //we ran out of ids to try
+		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		if ( persister.hasCache() ) {
-			CacheKey key = context.getSession().generateCacheKey(
-					entityKey.getIdentifier(),
+	private int addEntityIds(
+			Serializable[] ids,
+			int i,
+			Node<EntityKey,EntityKey> node,
+			Node<EntityKey,EntityKey> stop,
+			EntityPersister persister,
+			Serializable id) {
+		final RegionAccessStrategy cacheAccessStrategy = persister.hasCache()
+				? persister.getCacheAccessStrategy()
+				: null;
+		final List<Serializable> candidates = new ArrayList<Serializable>( ids.length - i );
+		while ( node != null && node != stop && i < ids.length ) {
+			// gather as many candidates as there is room left, then check them against the cache in one go
+			while ( node != null && node != stop && candidates.size() < ids.length - i ) {
+				if ( !persister.getIdentifierType().isEqual( id, node.key.getIdentifier() ) ) {
+					candidates.add( node.key.getIdentifier() );
+				}
+				node = node.next;
+			}
+			i = addUncachedKeys(
+					ids,
+					i,
+					candidates,
 					persister.getIdentifierType(),
-					entityKey.getEntityName()
+					persister.getRootEntityName(),
+					cacheAccessStrategy
 			);
-			return persister.getCacheAccessStrategy().get( key, context.getSession().getTimestamp() ) != null;
+			candidates.clear();
 		}
-		return false;
+		return i;
 	}
 
-	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
-		if ( persister.hasCache() ) {
-			CacheKey cacheKey = context.getSession().generateCacheKey(
-					collectionKey,
-			        persister.getKeyType(),
-			        persister.getRole()
-			);
-			return persister.getCacheAccessStrategy().get( cacheKey, context.getSession().getTimestamp() ) != null;
+	/**
+	 * Add those of the candidate keys which are not in the second-level cache to the batch, reading the
+	 * cache entries of all of them at once.
+	 */
+	private int addUncachedKeys(
+			Serializable[] keys,
+			int i,
+			List<Serializable> candidates,
+			Type keyType,
+			String entityOrRoleName,
+			RegionAccessStrategy cacheAccessStrategy) {
+		if ( cacheAccessStrategy == null ) {
+			for ( Serializable candidate : candidates ) {
+				keys[i++] = candidate;
+			}
+			return i;
+		}
+		final List<CacheKey> cacheKeys = new ArrayList<CacheKey>( candidates.size() );
+		for ( Serializable candidate : candidates ) {
+			cacheKeys.add( context.getSession().generateCacheKey( candidate, keyType, entityOrRoleName ) );
+		}
+		final Map cached = RegionAccessStrategyHelper.getAll(
+				cacheAccessStrategy,
+				cacheKeys,
+				context.getSession().getTimestamp()
+		);
+		for ( int j = 0; j < candidates.size(); j++ ) {
+			if ( cached.get( cacheKeys.get( j ) ) == null ) {
+				keys[i++] = candidates.get( j );
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * A set of keys kept in insertion order within named buckets.  A single hash index over all
+	 * buckets gives constant time lookup and removal, while each bucket is a doubly-linked list which
+	 * can be walked from any of its nodes.
+	 */
+	private static final class BucketedSequence<K,V> {
+		private final Map<K,Node<K,V>> nodes = new HashMap<K,Node<K,V>>( 8 );
+		private final Map<String,Bucket<K,V>> buckets = new HashMap<String,Bucket<K,V>>( 8 );
+
+		private void add(String bucketName, K key, V value) {
+			Node<K,V> node = nodes.get( key );
+			if ( node != null ) {
+				// keep the original position, like LinkedHashMap
+				node.value = value;
+				return;
+			}
+			Bucket<K,V> bucket = buckets.get( bucketName );
+			if ( bucket == null ) {
+				bucket = new Bucket<K,V>();
+				buckets.put( bucketName, bucket );
+			}
+			node = new Node<K,V>( key, value, bucket );
+			bucket.append( node );
+			nodes.put( key, node );
+		}
+
+		private Node<K,V> get(K key) {
+			return nodes.get( key );
+		}
+
+		private Bucket<K,V> getBucket(String bucketName) {
+			return buckets.get( bucketName );
+		}
+
+		private void remove(K key) {
+			final Node<K,V> node = nodes.remove( key );
+			if ( node != null ) {
+				node.bucket.unlink( node );
+			}
+		}
+
+		private void remove(Node<K,V> node) {
+			nodes.remove( node.key );
+			node.bucket.unlink( node );
+		}
+
+		private void clear() {
+			nodes.clear();
+			buckets.clear();
+		}
+	}
+
+	private static final class Bucket<K,V> {
+		private Node<K,V> head;
+		private Node<K,V> tail;
+
+		private void append(Node<K,V> node) {
+			if ( tail == null ) {
+				head = node;
+			}
+			else {
+				tail.next = node;
+				node.previous = tail;
+			}
+			tail = node;
+		}
+
+		private void unlink(Node<K,V> node) {
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+	}
+
+	private static final class Node<K,V> {
+		private final K key;
+		private final Bucket<K,V> bucket;
+		private V value;
+		private Node<K,V> previous;
+		private Node<K,V> next;
+
+		private Node(K key, V value, Bucket<K,V> bucket) {
+			this.key = key;
+			this.value = value;
+			this.bucket = bucket;
 		}
-		return false;
 	}
 }
@@ -28,7 +28,6 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
-import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.bytecode.instrumentation.internal.FieldInterceptionHelper;
@@ -43,22 +42,30 @@ import org.hibernate.service.instrumentation.spi.InstrumentationService;
  * @author Gavin King
  */
 public final class EntityEntry implements Serializable {
-	private LockMode lockMode;
-	private Status status;
-	private Status previousStatus;
+	// the lock mode, status, previous status and flags are packed into compressedState, as there
+	// is an entry per entity in the persistence context
+	private static final LockMode[] LOCK_MODES = LockMode.values();
+	private static final Status[] STATUSES = Status.values();
+
+	// the lock mode and previous status are stored as ordinal + 1, so that 0 means null
+	private static final int LOCK_MODE_MASK = 0x0F;
+	private static final int STATUS_SHIFT = 4;
+	private static final int STATUS_MASK = 0x07;
+	private static final int PREVIOUS_STATUS_SHIFT = 7;
+	private static final int EXISTS_IN_DATABASE = 1 << 10;
+	private static final int BEING_REPLICATED = 1 << 11;
+	private static final int LOADED_WITH_LAZY_PROPERTIES_UNFETCHED = 1 << 12;
+
 	private final Serializable id;
 	private Object[] loadedState;
 	private Object[] deletedState;
-	private boolean existsInDatabase;
 	private Object version;
 	private transient EntityPersister persister; // for convenience to save some lookups
-	private final EntityMode entityMode;
 	private final String tenantId;
 	private final String entityName;
 	private transient EntityKey cachedEntityKey; // cached EntityKey (lazy-initialized)
-	private boolean isBeingReplicated;
-	private boolean loadedWithLazyPropertiesUnfetched; //NOTE: this is not updated when properties are fetched lazily!
 	private final transient Object rowId;
+	private int compressedState;
 
 	public EntityEntry(
 			final Status status,
@@ -69,23 +76,19 @@ public final class EntityEntry implements Serializable {
 			final LockMode lockMode,
 			final boolean existsInDatabase,
 			final EntityPersister persister,
-			final EntityMode entityMode,
 			final String tenantId,
 			final boolean disableVersionIncrement,
 			final boolean lazyPropertiesAreUnfetched) {
-		this.status=status;
-		this.previousStatus = null;
+		setCompressedValue( status, null, lockMode );
+		setFlag( EXISTS_IN_DATABASE, existsInDatabase );
+		setFlag( BEING_REPLICATED, disableVersionIncrement );
+		setFlag( LOADED_WITH_LAZY_PROPERTIES_UNFETCHED, lazyPropertiesAreUnfetched );
 		// only retain loaded state if the status is not Status.READ_ONLY
 		if ( status != Status.READ_ONLY ) { this.loadedState = loadedState; }
 		this.id=id;
 		this.rowId=rowId;
-		this.existsInDatabase=existsInDatabase;
 		this.version=version;
-		this.lockMode=lockMode;
-		this.isBeingReplicated=disableVersionIncrement;
-		this.loadedWithLazyPropertiesUnfetched = lazyPropertiesAreUnfetched;
 		this.persister=persister;
-		this.entityMode = entityMode;
 		this.tenantId = tenantId;
 		this.entityName = persister == null ? null : persister.getEntityName();
 	}
@@ -94,7 +97,6 @@ public final class EntityEntry implements Serializable {
 			final SessionFactoryImplementor factory,
 			final String entityName,
 			final Serializable id,
-			final EntityMode entityMode,
 			final String tenantId,
 			final Status status,
 			final Status previousStatus,
@@ -109,39 +111,57 @@ public final class EntityEntry implements Serializable {
 		this.entityName = entityName;
 		this.persister = ( factory == null ? null : factory.getEntityPersister( entityName ) );
 		this.id = id;
-		this.entityMode = entityMode;
 		this.tenantId = tenantId;
-		this.status = status;
-		this.previousStatus = previousStatus;
+		setCompressedValue( status, previousStatus, lockMode );
+		setFlag( EXISTS_IN_DATABASE, existsInDatabase );
+		setFlag( BEING_REPLICATED, isBeingReplicated );
+		setFlag( LOADED_WITH_LAZY_PROPERTIES_UNFETCHED, loadedWithLazyPropertiesUnfetched );
 		this.loadedState = loadedState;
 		this.deletedState = deletedState;
 		this.version = version;
-		this.lockMode = lockMode;
-		this.existsInDatabase = existsInDatabase;
-		this.isBeingReplicated = isBeingReplicated;
-		this.loadedWithLazyPropertiesUnfetched = loadedWithLazyPropertiesUnfetched;
 		this.rowId = null; // this is equivalent to the old behavior...
 	}
 
+	private void setCompressedValue(Status status, Status previousStatus, LockMode lockMode) {
+		compressedState = ( compressedState & ~( EXISTS_IN_DATABASE - 1 ) )
+				| ( lockMode == null ? 0 : lockMode.ordinal() + 1 )
+				| status.ordinal() << STATUS_SHIFT
+				| ( previousStatus == null ? 0 : previousStatus.ordinal() + 1 ) << PREVIOUS_STATUS_SHIFT;
+	}
+
+	private void setFlag(int flag, boolean value) {
+		compressedState = value ? compressedState | flag : compressedState & ~flag;
+	}
+
+	private boolean getFlag(int flag) {
+		return ( compressedState & flag ) != 0;
+	}
+
+	private Status getPreviousStatus() {
+		final int previousStatus = ( compressedState >> PREVIOUS_STATUS_SHIFT ) & STATUS_MASK;
+		return previousStatus == 0 ? null : STATUSES[previousStatus - 1];
+	}
+
 	public LockMode getLockMode() {
-		return lockMode;
+		final int lockMode = compressedState & LOCK_MODE_MASK;
+		return lockMode == 0 ? null : LOCK_MODES[lockMode - 1];
 	}
 
 	public void setLockMode(LockMode lockMode) {
-		this.lockMode = lockMode;
+		setCompressedValue( getStatus(), getPreviousStatus(), lockMode );
 	}
 
 	public Status getStatus() {
-		return status;
+		return STATUSES[( compressedState >> STATUS_SHIFT ) & STATUS_MASK];
 	}
 
 	public void setStatus(Status status) {
 		if (status==Status.READ_ONLY) {
 			loadedState = null; //memory optimization
 		}
-		if ( this.status != status ) {
-			this.previousStatus = this.status;
-			this.status = status;
+		final Status currentStatus = getStatus();
+		if ( currentStatus != status ) {
+			setCompressedValue( status, currentStatus, getLockMode() );
 		}
 	}
 
@@ -162,7 +182,7 @@ public final class EntityEntry implements Serializable {
 	}
 
 	public boolean isExistsInDatabase() {
-		return existsInDatabase;
+		return getFlag( EXISTS_IN_DATABASE );
 	}
 
 	public Object getVersion() {
@@ -193,7 +213,7 @@ public final class EntityEntry implements Serializable {
 	}
 
 	public boolean isBeingReplicated() {
-		return isBeingReplicated;
+		return getFlag( BEING_REPLICATED );
 	}
 	
 	public Object getRowId() {
@@ -228,9 +248,8 @@ public final class EntityEntry implements Serializable {
 	 * exists in the database
 	 */
 	public void postDelete() {
-		previousStatus = status;
-		status = Status.GONE;
-		existsInDatabase = false;
+		setCompressedValue( Status.GONE, getStatus(), getLockMode() );
+		setFlag( EXISTS_IN_DATABASE, false );
 	}
 	
 	/**
@@ -238,7 +257,7 @@ public final class EntityEntry implements Serializable {
 	 * database (needed for identity-column key generation)
 	 */
 	public void postInsert() {
-		existsInDatabase = true;
+		setFlag( EXISTS_IN_DATABASE, true );
 	}
 	
 	public boolean isNullifiable(boolean earlyInsert, SessionImplementor session) {
@@ -275,8 +294,9 @@ public final class EntityEntry implements Serializable {
 	 * @return true, if the entity is modifiable; false, otherwise,
 	 */
 	public boolean isModifiableEntity() {
+		final Status status = getStatus();
 		return ( status != Status.READ_ONLY ) &&
-				! ( status == Status.DELETED && previousStatus == Status.READ_ONLY ) &&
+				! ( status == Status.DELETED && getPreviousStatus() == Status.READ_ONLY ) &&
 				getPersister().isMutable();
 	}
 
@@ -289,6 +309,7 @@ public final class EntityEntry implements Serializable {
 	}
 
 	public boolean isReadOnly() {
+		final Status status = getStatus();
 		if (status != Status.MANAGED && status != Status.READ_ONLY) {
 			throw new HibernateException("instance was not in a valid state");
 		}
@@ -316,11 +337,11 @@ public final class EntityEntry implements Serializable {
 	public String toString() {
 		return "EntityEntry" + 
 				MessageHelper.infoString(entityName, id) + 
-				'(' + status + ')';
+				'(' + getStatus() + ')';
 	}
 
 	public boolean isLoadedWithLazyPropertiesUnfetched() {
-		return loadedWithLazyPropertiesUnfetched;
+		return getFlag( LOADED_WITH_LAZY_PROPERTIES_UNFETCHED );
 	}
 
 	/**
@@ -334,18 +355,18 @@ public final class EntityEntry implements Serializable {
 	public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeObject( entityName );
 		oos.writeObject( id );
-		oos.writeObject( entityMode.toString() );
 		oos.writeObject( tenantId );
-		oos.writeObject( status.name() );
+		oos.writeObject( getStatus().name() );
+		final Status previousStatus = getPreviousStatus();
 		oos.writeObject( (previousStatus == null ? "" : previousStatus.name()) );
 		// todo : potentially look at optimizing these two arrays
 		oos.writeObject( loadedState );
 		oos.writeObject( deletedState );
 		oos.writeObject( version );
-		oos.writeObject( lockMode.toString() );
-		oos.writeBoolean( existsInDatabase );
-		oos.writeBoolean( isBeingReplicated );
-		oos.writeBoolean( loadedWithLazyPropertiesUnfetched );
+		oos.writeObject( getLockMode().toString() );
+		oos.writeBoolean( isExistsInDatabase() );
+		oos.writeBoolean( isBeingReplicated() );
+		oos.writeBoolean( isLoadedWithLazyPropertiesUnfetched() );
 	}
 
 	/**
@@ -369,7 +390,6 @@ public final class EntityEntry implements Serializable {
 				( session == null ? null : session.getFactory() ),
 		        (String) ois.readObject(),
 				( Serializable ) ois.readObject(),
-	            EntityMode.parse( (String) ois.readObject() ),
 				(String) ois.readObject(),
 				Status.valueOf( (String) ois.readObject() ),
 				( ( previousStatusString = ( String ) ois.readObject() ).length() == 0 ?
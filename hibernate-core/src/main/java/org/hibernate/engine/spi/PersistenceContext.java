@@ -26,6 +26,7 @@ package org.hibernate.engine.spi;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -113,6 +114,35 @@ public interface PersistenceContext {
 	public Object[] getNaturalIdSnapshot(Serializable id, EntityPersister persister)
 	throws HibernateException;
 
+	/**
+	 * Get the identifier to which the given natural-id values were resolved
+	 * within this persistence context.
+	 *
+	 * @param persister The entity persister
+	 * @param naturalIdValues The natural-id values, in the order of the
+	 * {@link EntityPersister#getNaturalIdentifierProperties() natural-id properties}
+	 * @return The identifier, or null if these values were not resolved here
+	 */
+	public Serializable findNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues);
+
+	/**
+	 * Remember the resolution of the given natural-id values to an identifier.
+	 * The resolution is forgotten when the entity is removed from this context.
+	 *
+	 * @param persister The entity persister
+	 * @param naturalIdValues The natural-id values
+	 * @param id The identifier of the entity with these natural-id values
+	 */
+	public void addNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues, Serializable id);
+
+	/**
+	 * Forget a (stale) resolution of the given natural-id values.
+	 *
+	 * @param persister The entity persister
+	 * @param naturalIdValues The natural-id values
+	 */
+	public void removeNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues);
+
 	/**
 	 * Add a canonical mapping from entity key to entity instance
 	 */
@@ -405,6 +435,18 @@ public interface PersistenceContext {
 	 */
 	public Map getCollectionEntries();
 
+	/**
+	 * Get the persisters of the entities added to this persistence context since it was last cleared, including
+	 * entities since evicted or removed.
+	 */
+	public Set<EntityPersister> getManagedEntityPersisters();
+
+	/**
+	 * Get the persisters of the collections added to this persistence context since it was last cleared, including
+	 * collections since evicted or removed.
+	 */
+	public Set<CollectionPersister> getManagedCollectionPersisters();
+
 	/**
 	 * Get the mapping from collection key to collection instance
 	 */
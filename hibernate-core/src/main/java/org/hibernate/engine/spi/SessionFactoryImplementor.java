@@ -26,6 +26,7 @@ package org.hibernate.engine.spi;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
@@ -36,6 +37,7 @@ import org.hibernate.SessionFactoryObserver;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cfg.Settings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.function.SQLFunctionRegistry;
@@ -190,6 +192,15 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory {
 	 */
 	public Map getAllSecondLevelCacheRegions();
 
+	/**
+	 * Get the access strategy of the natural-id cross-reference cache of the named entity.
+	 *
+	 * @param entityName The entity name
+	 * @return The access strategy, or null if the natural-id cross-references of the
+	 * entity are not cached
+	 */
+	public NaturalIdRegionAccessStrategy getNaturalIdCacheAccessStrategy(String entityName);
+
 	/**
 	 * Retrieves the SQLExceptionConverter in effect for this SessionFactory.
 	 *
@@ -238,4 +249,12 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory {
 	public ServiceRegistryImplementor getServiceRegistry();
 
 	public void addObserver(SessionFactoryObserver observer);
+
+	/**
+	 * Get the executor dirty checking the entities of a flush on several threads, built on first use and shut
+	 * down when this factory is closed.
+	 *
+	 * @return The executor, or null if parallel dirty checking is disabled or this factory is closed
+	 */
+	public ExecutorService getParallelDirtyCheckExecutor();
 }
@@ -29,6 +29,7 @@ import java.sql.SQLException;
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.engine.transaction.spi.TransactionCoordinator;
@@ -47,17 +48,35 @@ public class JdbcIsolationDelegate implements IsolationDelegate {
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, JdbcIsolationDelegate.class.getName());
 
 	private final TransactionCoordinator transactionCoordinator;
+	private final JdbcServices jdbcServices;
 
 	public JdbcIsolationDelegate(TransactionCoordinator transactionCoordinator) {
 		this.transactionCoordinator = transactionCoordinator;
+		this.jdbcServices = null;
+	}
+
+	/**
+	 * Builds a delegate for work performed outside of any session, such as from a background thread.
+	 *
+	 * @param jdbcServices The JDBC services providing the connections.
+	 */
+	public JdbcIsolationDelegate(JdbcServices jdbcServices) {
+		this.transactionCoordinator = null;
+		this.jdbcServices = jdbcServices;
+	}
+
+	private JdbcServices jdbcServices() {
+		return jdbcServices != null
+				? jdbcServices
+				: transactionCoordinator.getJdbcCoordinator().getLogicalConnection().getJdbcServices();
 	}
 
 	protected ConnectionProvider connectionProvider() {
-		return transactionCoordinator.getJdbcCoordinator().getLogicalConnection().getJdbcServices().getConnectionProvider();
+		return jdbcServices().getConnectionProvider();
 	}
 
 	protected SqlExceptionHelper sqlExceptionHelper() {
-		return transactionCoordinator.getJdbcCoordinator().getLogicalConnection().getJdbcServices().getSqlExceptionHelper();
+		return jdbcServices().getSqlExceptionHelper();
 	}
 
 	@Override
@@ -115,4 +115,11 @@ public interface TransactionContext extends Serializable {
 	public String onPrepareStatement(String sql); 
 
 	public JdbcConnectionAccess getJdbcConnectionAccess();
+
+	/**
+	 * The number of prepared statements to cache per JDBC connection.
+	 *
+	 * @return The cache size; 0 to not cache prepared statements.
+	 */
+	public int getStatementCacheSize();
 }
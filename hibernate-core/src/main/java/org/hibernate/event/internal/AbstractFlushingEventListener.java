@@ -25,9 +25,11 @@ package org.hibernate.event.internal;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.jboss.logging.Logger;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
@@ -198,12 +200,7 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 		LOG.trace( "Flushing entities and processing referenced collections" );
 
 		final EventSource source = event.getSession();
-		final Iterable<FlushEntityEventListener> flushListeners = source
-				.getFactory()
-				.getServiceRegistry()
-				.getService( EventListenerRegistry.class )
-				.getEventListenerGroup( EventType.FLUSH_ENTITY )
-				.listeners();
+		final Iterable<FlushEntityEventListener> flushListeners = getFlushEntityListeners( source );
 
 		// Among other things, updateReachables() will recursively load all
 		// collections that are moving roles. This might cause entities to
@@ -212,7 +209,16 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 		// So this needs to be safe from concurrent modification problems.
 		// It is safe because of how IdentityMap implements entrySet()
 
-		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
+		final Map.Entry[] entries = IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() );
+		final ExecutorService dirtyCheckExecutor = isParallelDirtyCheckApplicable( source, entries )
+				? source.getFactory().getParallelDirtyCheckExecutor()
+				: null;
+		final ParallelDirtyCheck parallelDirtyCheck = dirtyCheckExecutor != null
+				? ParallelDirtyCheck.perform( entries, source, dirtyCheckExecutor )
+				: null;
+
+		for ( int i = 0; i < entries.length; i++ ) {
+			final Map.Entry me = entries[i];
 
 			// Update the status of the object and if necessary, schedule an update
 
@@ -221,6 +227,12 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+				if ( parallelDirtyCheck != null && parallelDirtyCheck.isPerformed( i ) && status == Status.MANAGED ) {
+					entityEvent.setPrecomputedDirtyCheck(
+							parallelDirtyCheck.getValues( i ),
+							parallelDirtyCheck.getDirtyProperties( i )
+					);
+				}
 				for ( FlushEntityEventListener listener : flushListeners ) {
 					listener.onFlushEntity( entityEvent );
 				}
@@ -230,6 +242,44 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 		source.getActionQueue().sortActions();
 	}
 
+	private static Iterable<FlushEntityEventListener> getFlushEntityListeners(EventSource source) {
+		return source.getFactory()
+				.getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.FLUSH_ENTITY )
+				.listeners();
+	}
+
+	/**
+	 * Are flush entity events handled by the default listener only?  Other listeners might have side effects
+	 * beyond dirty checking the entity and scheduling its update.
+	 *
+	 * @param source The session being flushed
+	 *
+	 * @return True if all flush entity listeners are a {@link DefaultFlushEntityEventListener}
+	 */
+	protected boolean hasDefaultFlushEntityListenersOnly(EventSource source) {
+		for ( FlushEntityEventListener listener : getFlushEntityListeners( source ) ) {
+			if ( !( listener instanceof DefaultFlushEntityEventListener ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The dirty check of the entities can only be done ahead of their flush entity events when the events are
+	 * handled by the default listener, which knows to use the results.  Nor can it when the session has an
+	 * interceptor, which may modify the entities yet to be flushed from its callbacks for the earlier ones.
+	 */
+	private boolean isParallelDirtyCheckApplicable(EventSource source, Map.Entry[] entries) {
+		final int threshold = source.getFactory().getSettings().getParallelDirtyCheckThreshold();
+		return threshold > 0
+				&& entries.length >= threshold
+				&& source.getInterceptor() == EmptyInterceptor.INSTANCE
+				&& hasDefaultFlushEntityListenersOnly( source );
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -49,6 +49,7 @@ import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.IdentityInsertBatchable;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.service.instrumentation.spi.InstrumentationService;
 import org.hibernate.type.Type;
@@ -244,7 +245,9 @@ public abstract class AbstractSaveEventListener extends AbstractReassociateEvent
 		Serializable id = key == null ? null : key.getIdentifier();
 
 		boolean inTxn = source.getTransactionCoordinator().isTransactionInProgress();
-		boolean shouldDelayIdentityInserts = !inTxn && !requiresImmediateIdAccess;
+		// when identity inserts can be batched they are delayed until flush time even within a transaction
+		boolean shouldDelayIdentityInserts = !requiresImmediateIdAccess
+				&& ( !inTxn || ( useIdentityColumn && isIdentityInsertBatchable( persister ) ) );
 
 		// Put a placeholder in entries, so we don't recurse back and try to save() the
 		// same object again. QUESTION: should this be done before onSave() is called?
@@ -307,7 +310,7 @@ public abstract class AbstractSaveEventListener extends AbstractReassociateEvent
 				source.getPersistenceContext().checkUniqueness( key, entity );
 			}
 			else {
-				LOG.debug( "Delaying identity-insert due to no transaction in progress" );
+				LOG.debug( inTxn ? "Delaying identity-insert for batching" : "Delaying identity-insert due to no transaction in progress" );
 				source.getActionQueue().addAction( insert );
 				key = insert.getDelayedEntityKey();
 			}
@@ -341,6 +344,11 @@ public abstract class AbstractSaveEventListener extends AbstractReassociateEvent
 		return id;
 	}
 
+	private static boolean isIdentityInsertBatchable(EntityPersister persister) {
+		return persister instanceof IdentityInsertBatchable
+				&& ( (IdentityInsertBatchable) persister ).isIdentityInsertBatchable();
+	}
+
 	private void markInterceptorDirty(Object entity, EntityPersister persister, EventSource source) {
 		InstrumentationService instrumentationService = persister.getFactory()
 				.getServiceRegistry()
@@ -27,6 +27,7 @@ import org.jboss.logging.Logger;
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventSource;
@@ -42,6 +43,9 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	// the tables each entity type may cause a flush to write to, computed as needed
+	private transient volatile FlushableSpaces flushableSpaces;
+
 	/**
 	 * Handle the given auto-flush event.
 	 * 
@@ -52,6 +56,11 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 	public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 		final EventSource source = event.getSession();
 		if ( flushMightBeNeeded(source) ) {
+			if ( !flushMightAffect( event, source ) ) {
+				LOG.trace( "Don't need to flush, as no change can affect the queried tables" );
+				event.setFlushRequired( false );
+				return;
+			}
 			flushEverythingToExecutions(event);
 			if ( flushIsReallyNeeded(event, source) ) {
 				LOG.trace( "Need to execute flush" );
@@ -81,6 +90,30 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 						source.getFlushMode()==FlushMode.ALWAYS;
 	}
 
+	/**
+	 * A flush can only write to the tables of the actions already queued, of the entities and collections in the
+	 * persistence context, and of the entities these cascade to.  When none of these tables are queried, there is
+	 * no need for the (costly) evaluation of the flush.
+	 */
+	private boolean flushMightAffect(AutoFlushEvent event, EventSource source) {
+		if ( source.getFlushMode() == FlushMode.ALWAYS
+				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() )
+				|| !hasDefaultFlushEntityListenersOnly( source ) ) {
+			return true;
+		}
+		FlushableSpaces spaces = flushableSpaces;
+		if ( spaces == null ) {
+			spaces = new FlushableSpaces();
+			flushableSpaces = spaces;
+		}
+		final PersistenceContext persistenceContext = source.getPersistenceContext();
+		return spaces.mightAffect(
+				persistenceContext.getManagedEntityPersisters(),
+				persistenceContext.getManagedCollectionPersisters(),
+				event.getQuerySpaces()
+		);
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		return !source.getFlushMode().lessThan(FlushMode.AUTO) &&
 				source.getDontFlushFromFind() == 0 &&
@@ -24,6 +24,7 @@
 package org.hibernate.event.internal;
 
 import java.io.Serializable;
+import java.util.Set;
 
 import org.jboss.logging.Logger;
 
@@ -33,6 +34,8 @@ import org.hibernate.StaleObjectStateException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
 import org.hibernate.bytecode.instrumentation.internal.FieldInterceptionHelper;
+import org.hibernate.bytecode.instrumentation.spi.FieldInterceptor;
+import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
@@ -47,6 +50,7 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.service.instrumentation.spi.InstrumentationService;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
 
 /**
@@ -136,9 +140,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		final Status status = entry.getStatus();
 		final Type[] types = persister.getPropertyTypes();
 
-		final boolean mightBeDirty = entry.requiresDirtyCheck(entity);
+		final boolean mightBeDirty = entry.requiresDirtyCheck(entity)
+				&& !isUnmodifiedInstrumentedEntity( entity, entry, session );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues(values);
 
@@ -162,7 +167,83 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	/**
+	 * The field interceptor of an instrumented entity records the fields written since the entity was
+	 * loaded or last flushed.  Only those properties, plus the properties of a mutable type (which may
+	 * be changed in place), need comparing with the loaded state; if none of them changed we can skip
+	 * reading the full state of the entity and dirty checking it.
+	 */
+	private boolean isUnmodifiedInstrumentedEntity(Object entity, EntityEntry entry, SessionImplementor session) {
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED || loadedState == null ) {
+			return false;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final InstrumentationService instrumentationService = session.getFactory()
+				.getServiceRegistry()
+				.getService( InstrumentationService.class );
+		if ( !instrumentationService.isInstrumented( entity ) ) {
+			return false;
+		}
+		final FieldInterceptor interceptor = FieldInterceptionHelper.extractFieldInterceptor( entity );
+		final Set<String> dirtyFields = interceptor == null ? null : interceptor.getDirtyFields();
+		if ( dirtyFields == null ) {
+			// forcefully marked dirty, so the modified fields are not known
+			return false;
+		}
+
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] types = persister.getPropertyTypes();
+		int writtenProperties = 0;
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			final boolean written = dirtyFields.contains( propertyNames[i] );
+			if ( written ) {
+				writtenProperties++;
+			}
+			else if ( !types[i].isMutable() ) {
+				continue;
+			}
+			if ( !interceptor.isInitialized( propertyNames[i] ) ) {
+				// an unfetched lazy property cannot have been modified
+				continue;
+			}
+			if ( loadedState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY || containsCollection( types[i] ) ) {
+				// a new collection needs wrapping, which happens on the full state only
+				return false;
+			}
+			if ( types[i].isDirty( loadedState[i], persister.getPropertyValue( entity, i ), session ) ) {
+				return false;
+			}
+		}
+		if ( writtenProperties != dirtyFields.size() ) {
+			// a written field does not map to a property of the same name, so we cannot tell
+			return false;
+		}
+
+		if ( writtenProperties > 0 ) {
+			FieldInterceptionHelper.clearDirty( entity );
+		}
+		return true;
+	}
+
+	private static boolean containsCollection(Type type) {
+		if ( type.isCollectionType() ) {
+			return true;
+		}
+		if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( containsCollection( subtype ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final SessionImplementor session = event.getSession();
 		final Object[] loadedState = entry.getLoadedState();
 		final Status status = entry.getStatus();
 		final EntityPersister persister = entry.getPersister();
@@ -178,8 +259,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			checkId( entity, persister, entry.getId(), session );
 
-			// grab its current state
-			values = persister.getPropertyValues( entity );
+			// grab its current state, unless read ahead of the event
+			values = event.isDirtyCheckPrecomputed() ? event.getPropertyValues() : persister.getPropertyValues( entity );
 
 			checkNaturalId( persister, entry, values, loadedState, session );
 		}
@@ -482,8 +563,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 			cannotDirtyCheck = loadedState==null; // object loaded by update()
 			if ( !cannotDirtyCheck ) {
-				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				// dirty check against the usual snapshot of the entity, unless done ahead of the event
+				dirtyProperties = event.isDirtyCheckPrecomputed()
+						? event.getPrecomputedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 			}
 			else if ( entry.getStatus() == Status.DELETED && ! event.getEntityEntry().isModifiableEntity() ) {
 				// A non-modifiable (e.g., read-only or immutable) entity needs to be have
@@ -37,6 +37,7 @@ import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -524,7 +525,10 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 					persister.getIdentifierType(),
 					persister.getRootEntityName()
 			);
-			Object ce = persister.getCacheAccessStrategy().get( ck, source.getTimestamp() );
+			final BatchFetchQueue batchFetchQueue = source.getPersistenceContext().getBatchFetchQueue();
+			Object ce = batchFetchQueue.hasPrefetchedCacheEntry( ck )
+					? batchFetchQueue.removePrefetchedCacheEntry( ck )
+					: persister.getCacheAccessStrategy().get( ck, source.getTimestamp() );
 			if ( factory.getStatistics().isStatisticsEnabled() ) {
 				if ( ce == null ) {
 					factory.getStatisticsImplementor().secondLevelCacheMiss(
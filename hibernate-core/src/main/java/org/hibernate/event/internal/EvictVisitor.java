@@ -82,6 +82,7 @@ public class EvictVisitor extends AbstractVisitor {
 							ce.getLoadedKey(),
 							getSession().getFactory() ) );
 		}
+		getSession().getPersistenceContext().getBatchFetchQueue().removeBatchLoadableCollection( collection, ce );
 		if ( ce.getLoadedPersister() != null && ce.getLoadedKey() != null ) {
 			//TODO: is this 100% correct?
 			getSession().getPersistenceContext().getCollectionsByKey().remove(
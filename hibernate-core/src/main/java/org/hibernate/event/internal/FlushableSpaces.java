@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.event.internal;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Determines the tables a flush could write to because of the entities of a given type being in the persistence
+ * context: their own tables, the tables of their collections, and the tables of the entities they cascade to, as a
+ * flush cascades to newly referenced instances, recursively.
+ * <p/>
+ * The tables are determined from the mapping only, once per entity type.
+ */
+final class FlushableSpaces {
+	// stands for any table, for entities cascading to an <any> association
+	private static final Set<Serializable> ANY_SPACE = Collections.unmodifiableSet( new HashSet<Serializable>() );
+
+	private final ConcurrentMap<EntityPersister, Set<Serializable>> spacesByEntityPersister =
+			new ConcurrentHashMap<EntityPersister, Set<Serializable>>();
+	private final ConcurrentMap<CollectionPersister, Set<Serializable>> spacesByCollectionPersister =
+			new ConcurrentHashMap<CollectionPersister, Set<Serializable>>();
+
+	/**
+	 * Could flushing entities and collections of the given types write to any of the given tables?
+	 *
+	 * @param entityPersisters The types of the entities in the persistence context
+	 * @param collectionPersisters The types of the collections in the persistence context
+	 * @param querySpaces The tables
+	 *
+	 * @return False if no such write is possible
+	 */
+	boolean mightAffect(
+			Set<EntityPersister> entityPersisters,
+			Set<CollectionPersister> collectionPersisters,
+			Set querySpaces) {
+		for ( EntityPersister persister : entityPersisters ) {
+			Set<Serializable> spaces = spacesByEntityPersister.get( persister );
+			if ( spaces == null ) {
+				spaces = new Collector( persister.getFactory() ).visitEntity( persister ).getSpaces();
+				spacesByEntityPersister.put( persister, spaces );
+			}
+			if ( intersects( spaces, querySpaces ) ) {
+				return true;
+			}
+		}
+		for ( CollectionPersister persister : collectionPersisters ) {
+			Set<Serializable> spaces = spacesByCollectionPersister.get( persister );
+			if ( spaces == null ) {
+				spaces = new Collector( persister.getFactory() ).visitCollection( persister, true ).getSpaces();
+				spacesByCollectionPersister.put( persister, spaces );
+			}
+			if ( intersects( spaces, querySpaces ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean intersects(Set<Serializable> spaces, Set querySpaces) {
+		if ( spaces == ANY_SPACE ) {
+			return true;
+		}
+		for ( Object querySpace : querySpaces ) {
+			if ( spaces.contains( querySpace ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class Collector {
+		private final SessionFactoryImplementor factory;
+		private final Set<String> visitedEntityNames = new HashSet<String>();
+		private final Set<Serializable> spaces = new HashSet<Serializable>();
+		private boolean anySpace;
+
+		private Collector(SessionFactoryImplementor factory) {
+			this.factory = factory;
+		}
+
+		private Set<Serializable> getSpaces() {
+			return anySpace ? ANY_SPACE : spaces;
+		}
+
+		private Collector visitEntity(EntityPersister persister) {
+			visitEntity( persister.getEntityName() );
+			return this;
+		}
+
+		private void visitEntity(String entityName) {
+			if ( !visitedEntityNames.add( entityName ) ) {
+				return;
+			}
+			final EntityPersister persister = factory.getEntityPersister( entityName );
+			for ( Serializable space : persister.getQuerySpaces() ) {
+				spaces.add( space );
+			}
+			final Type[] types = persister.getPropertyTypes();
+			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+			for ( int i = 0; i < types.length; i++ ) {
+				visitType( types[i], cascadeStyles[i] != CascadeStyle.NONE );
+			}
+			// a new instance cascaded to may be of any subclass
+			for ( Object subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+				visitEntity( (String) subclassEntityName );
+			}
+		}
+
+		private Collector visitCollection(CollectionPersister persister, boolean cascades) {
+			for ( Serializable space : persister.getCollectionSpaces() ) {
+				spaces.add( space );
+			}
+			visitType( persister.getElementType(), cascades );
+			return this;
+		}
+
+		private void visitType(Type type, boolean cascades) {
+			if ( type.isCollectionType() ) {
+				final String role = ( (CollectionType) type ).getRole();
+				visitCollection( factory.getCollectionPersister( role ), cascades );
+			}
+			else if ( type.isEntityType() ) {
+				if ( cascades ) {
+					visitEntity( ( (EntityType) type ).getAssociatedEntityName() );
+				}
+			}
+			else if ( type.isAnyType() ) {
+				if ( cascades ) {
+					anySpace = true;
+				}
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType componentType = (CompositeType) type;
+				final Type[] subtypes = componentType.getSubtypes();
+				for ( int i = 0; i < subtypes.length; i++ ) {
+					visitType( subtypes[i], componentType.getCascadeStyle( i ) != CascadeStyle.NONE );
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.event.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.instrumentation.spi.InstrumentationService;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Reads the current property values of the managed entities of a persistence context, and finds their dirty
+ * properties with respect to the loaded state, on several threads ahead of the flush entity events.  The events
+ * then only apply the results, scheduling updates on the session thread in the usual order.
+ * <p/>
+ * Only the side effect free part of the dirty check happens here.  An entity is left to the regular dirty check
+ * when it is instrumented, or when one of its associations (or of the components containing one) no longer
+ * references the instance it was loaded with, as comparing those might need the session.  An entity is also left
+ * to the regular dirty check when reading or comparing its values fails, so that the failure is reported as usual.
+ */
+final class ParallelDirtyCheck {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, ParallelDirtyCheck.class.getName() );
+
+	// fewer entities than this are not worth handing to another thread
+	private static final int MIN_PARTITION_SIZE = 500;
+
+	private final Map.Entry[] entries;
+	private final SessionImplementor session;
+	private final InstrumentationService instrumentationService;
+	private final Object[][] values;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(Map.Entry[] entries, SessionImplementor session) {
+		this.entries = entries;
+		this.session = session;
+		this.instrumentationService = session.getFactory()
+				.getServiceRegistry()
+				.getService( InstrumentationService.class );
+		this.values = new Object[entries.length][];
+		this.dirtyProperties = new int[entries.length][];
+	}
+
+	/**
+	 * Dirty checks the given entries of the persistence context, on the dirty checking threads of the session
+	 * factory and the calling thread.
+	 *
+	 * @param entries The entries of the persistence context, entities mapped to their {@link EntityEntry}
+	 * @param session The session being flushed
+	 * @param executor The dirty checking threads of the session factory
+	 *
+	 * @return The results, by position of the entries
+	 */
+	static ParallelDirtyCheck perform(Map.Entry[] entries, SessionImplementor session, ExecutorService executor) {
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entries, session );
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final int partitions = Math.max( 1, Math.min( processors, entries.length / MIN_PARTITION_SIZE ) );
+		final int partitionSize = ( entries.length + partitions - 1 ) / partitions;
+		LOG.tracev( "Dirty checking {0} entities in {1} partitions", entries.length, partitions );
+
+		final List<Future<?>> futures = new ArrayList<Future<?>>( partitions - 1 );
+		for ( int start = partitionSize; start < entries.length; start += partitionSize ) {
+			final Runnable partition = dirtyCheck.partition( start, Math.min( start + partitionSize, entries.length ) );
+			try {
+				futures.add( executor.submit( partition ) );
+			}
+			catch ( RejectedExecutionException e ) {
+				// the session factory is being closed
+				partition.run();
+			}
+		}
+		// the calling thread takes the first partition
+		dirtyCheck.partition( 0, Math.min( partitionSize, entries.length ) ).run();
+
+		boolean interrupted = false;
+		for ( Future<?> future : futures ) {
+			while ( true ) {
+				try {
+					future.get();
+					break;
+				}
+				catch ( InterruptedException e ) {
+					// the results are needed, so wait for the partition regardless
+					interrupted = true;
+				}
+				catch ( ExecutionException e ) {
+					// failures are caught per entity, leaving them to the regular dirty check
+					LOG.debugf( e.getCause(), "Unable to dirty check entities in parallel" );
+					break;
+				}
+			}
+		}
+		if ( interrupted ) {
+			Thread.currentThread().interrupt();
+		}
+		return dirtyCheck;
+	}
+
+	private Runnable partition(final int start, final int end) {
+		return new Runnable() {
+			public void run() {
+				final Map<EntityPersister, boolean[]> associationsByPersister = new IdentityHashMap<EntityPersister, boolean[]>();
+				for ( int i = start; i < end; i++ ) {
+					dirtyCheck( i, associationsByPersister );
+				}
+			}
+		};
+	}
+
+	private void dirtyCheck(int position, Map<EntityPersister, boolean[]> associationsByPersister) {
+		final Object entity = entries[position].getKey();
+		final EntityEntry entry = (EntityEntry) entries[position].getValue();
+		final Object[] loadedState = entry.getLoadedState();
+		final EntityPersister persister = entry.getPersister();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| !persister.isMutable()
+				|| instrumentationService.isInstrumented( entity ) ) {
+			return;
+		}
+
+		boolean[] associations = associationsByPersister.get( persister );
+		if ( associations == null ) {
+			associations = findAssociations( persister.getPropertyTypes() );
+			associationsByPersister.put( persister, associations );
+		}
+
+		try {
+			final Object[] currentState = persister.getPropertyValues( entity );
+			for ( int i = 0; i < associations.length; i++ ) {
+				if ( associations[i] && currentState[i] != loadedState[i] ) {
+					return;
+				}
+			}
+			dirtyProperties[position] = persister.findDirty( currentState, loadedState, entity, session );
+			values[position] = currentState;
+		}
+		catch ( RuntimeException e ) {
+			LOG.tracev( "Leaving entity {0} to the regular dirty check: {1}", entry, e );
+		}
+	}
+
+	private static boolean[] findAssociations(Type[] types) {
+		final boolean[] associations = new boolean[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			associations[i] = containsAssociation( types[i] );
+		}
+		return associations;
+	}
+
+	private static boolean containsAssociation(Type type) {
+		if ( type.isAssociationType() ) {
+			return true;
+		}
+		if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( containsAssociation( subtype ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param position The position of the entry
+	 *
+	 * @return Whether the entry was dirty checked, as opposed to left to the regular dirty check
+	 */
+	boolean isPerformed(int position) {
+		return values[position] != null;
+	}
+
+	Object[] getValues(int position) {
+		return values[position];
+	}
+
+	int[] getDirtyProperties(int position) {
+		return dirtyProperties[position];
+	}
+}
@@ -36,6 +36,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	private boolean dirtyCheckPrecomputed;
+	private int[] precomputedDirtyProperties;
 	private EntityEntry entityEntry;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
@@ -89,4 +91,27 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+
+	/**
+	 * Were the current property values of the entity, and its dirty properties with respect to its loaded
+	 * state, determined before this event was fired?
+	 *
+	 * @return True if {@link #getPropertyValues()} and {@link #getPrecomputedDirtyProperties()} are to be used
+	 */
+	public boolean isDirtyCheckPrecomputed() {
+		return dirtyCheckPrecomputed;
+	}
+
+	/**
+	 * @return The properties found dirty with respect to the loaded state ahead of this event, or null if none
+	 */
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.propertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+		this.dirtyCheckPrecomputed = true;
+	}
 }
@@ -46,7 +46,10 @@ import org.hibernate.type.Type;
  * Generates <tt>long</tt> values using an oracle-style sequence. A higher
  * performance algorithm is <tt>SequenceHiLoGenerator</tt>.<br>
  * <br>
- * Mapping parameters supported: sequence, parameters.
+ * Mapping parameters supported: sequence, parameters.<br>
+ * <br>
+ * When JDBC batching is enabled, values are fetched a batch at a time while a session
+ * inserts a batch of entities (see {@link SequenceValueBuffer}).
  *
  * @see SequenceHiLoGenerator
  * @see TableHiLoGenerator
@@ -71,6 +74,7 @@ public class SequenceGenerator implements PersistentIdentifierGenerator, Configu
 	private String parameters;
 	private Type identifierType;
 	private String sql;
+	private SequenceValueBuffer valueBuffer;
 
 	protected Type getIdentifierType() {
 		return identifierType;
@@ -99,10 +103,12 @@ public class SequenceGenerator implements PersistentIdentifierGenerator, Configu
 
 		this.identifierType = type;
 		sql = dialect.getSequenceNextValString( sequenceName );
+		valueBuffer = new SequenceValueBuffer( sequenceName, type.getReturnedClass() );
 	}
 
 	public Serializable generate(SessionImplementor session, Object obj) {
-		return generateHolder( session ).makeValue();
+		final IntegralDataTypeHolder buffered = valueBuffer.getNextValue( session );
+		return ( buffered != null ? buffered : generateHolder( session ) ).makeValue();
 	}
 
 	protected IntegralDataTypeHolder generateHolder(SessionImplementor session) {
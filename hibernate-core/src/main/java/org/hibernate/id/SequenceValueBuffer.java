@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Buffers values of a sequence fetched ahead of need, so that a session inserting a batch of entities does not
+ * pay a database round trip per identifier.
+ * <p/>
+ * Values are only fetched ahead once the session already has insertions pending and JDBC batching is enabled;
+ * the number of values fetched at once is then the JDBC batch size.  Fetching relies on the dialect
+ * {@link Dialect#supportsSequenceNextValues() supporting} retrieving several sequence values in one statement.
+ * Buffered values are shared by all sessions of the same tenant; values left unused when the session factory is
+ * closed are lost, leaving a gap in the sequence.
+ * <p/>
+ * With multi-tenancy, each tenant may have a sequence of its own (in its own schema or database), so values are
+ * buffered per {@link SessionImplementor#getTenantIdentifier() tenant identifier}.
+ */
+public class SequenceValueBuffer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, SequenceValueBuffer.class.getName() );
+
+	private final String sequenceName;
+	private final Class numberType;
+
+	private final Queue<IntegralDataTypeHolder> values = new ConcurrentLinkedQueue<IntegralDataTypeHolder>();
+	private final ConcurrentMap<String, Queue<IntegralDataTypeHolder>> valuesByTenant = new ConcurrentHashMap<String, Queue<IntegralDataTypeHolder>>();
+	private final AtomicInteger fetchCount = new AtomicInteger();
+	private volatile boolean resolved;
+	private volatile String sql;
+
+	public SequenceValueBuffer(String sequenceName, Class numberType) {
+		this.sequenceName = sequenceName;
+		this.numberType = numberType;
+	}
+
+	/**
+	 * Get the next value of the sequence from the buffer, fetching a batch of values into it if it is empty and
+	 * the session is inserting a batch of entities.
+	 *
+	 * @param session The session
+	 * @return The next value, or {@code null} if the caller should retrieve a single value itself.
+	 */
+	public IntegralDataTypeHolder getNextValue(SessionImplementor session) {
+		final Queue<IntegralDataTypeHolder> values = locateValues( session );
+		final IntegralDataTypeHolder buffered = values.poll();
+		if ( buffered != null ) {
+			return buffered;
+		}
+		if ( !isInsertingBatch( session ) ) {
+			return null;
+		}
+		final String sql = resolveSql( session );
+		return sql == null ? null : fetch( session, sql, values );
+	}
+
+	private Queue<IntegralDataTypeHolder> locateValues(SessionImplementor session) {
+		final String tenantIdentifier = session.getTenantIdentifier();
+		if ( tenantIdentifier == null ) {
+			return values;
+		}
+		Queue<IntegralDataTypeHolder> tenantValues = valuesByTenant.get( tenantIdentifier );
+		if ( tenantValues == null ) {
+			tenantValues = new ConcurrentLinkedQueue<IntegralDataTypeHolder>();
+			final Queue<IntegralDataTypeHolder> existing = valuesByTenant.putIfAbsent( tenantIdentifier, tenantValues );
+			if ( existing != null ) {
+				tenantValues = existing;
+			}
+		}
+		return tenantValues;
+	}
+
+	private static boolean isInsertingBatch(SessionImplementor session) {
+		return session instanceof EventSource
+				&& ( (EventSource) session ).getActionQueue().numberOfInsertions() > 0;
+	}
+
+	private String resolveSql(SessionImplementor session) {
+		if ( !resolved ) {
+			final Dialect dialect = session.getFactory().getDialect();
+			final int batchSize = session.getFactory().getSettings().getJdbcBatchSize();
+			if ( batchSize > 1 && dialect.supportsSequenceNextValues() ) {
+				sql = dialect.getSequenceNextValuesString( sequenceName, batchSize );
+			}
+			resolved = true;
+		}
+		return sql;
+	}
+
+	private IntegralDataTypeHolder fetch(SessionImplementor session, String sql, Queue<IntegralDataTypeHolder> values) {
+		try {
+			PreparedStatement st = session.getTransactionCoordinator().getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+			try {
+				ResultSet rs = st.executeQuery();
+				try {
+					fetchCount.incrementAndGet();
+					IntegralDataTypeHolder first = null;
+					while ( rs.next() ) {
+						IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+						value.initialize( rs, 1 );
+						if ( first == null ) {
+							first = value;
+						}
+						else {
+							values.add( value );
+						}
+					}
+					if ( first == null ) {
+						throw new IdentifierGenerationException( "No values returned for sequence " + sequenceName );
+					}
+					if ( LOG.isDebugEnabled() ) {
+						LOG.debugf( "Sequence values fetched: %s, %s buffered", first, values.size() );
+					}
+					return first;
+				}
+				finally {
+					rs.close();
+				}
+			}
+			finally {
+				st.close();
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw session.getFactory().getSQLExceptionHelper().convert(
+					sqle,
+					"could not get next sequence values",
+					sql
+			);
+		}
+	}
+
+	/**
+	 * @return The number of times a batch of values was fetched.
+	 */
+	public int getFetchCount() {
+		return fetchCount.get();
+	}
+}
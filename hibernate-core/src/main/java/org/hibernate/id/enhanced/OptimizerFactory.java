@@ -25,6 +25,7 @@ package org.hibernate.id.enhanced;
 
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
 
@@ -68,6 +69,19 @@ public class OptimizerFactory {
 		public void injectInitialValue(long initialValue);
 	}
 
+	/**
+	 * Contract for optimizers handing out values from a block obtained through a single access
+	 * to the underlying database structure.
+	 */
+	public static interface BlockOptimizer {
+		/**
+		 * How many values are left in the current block?
+		 *
+		 * @return The number of values left, or <tt>0</tt> if no block was obtained yet.
+		 */
+		public long getRemainingValueCount();
+	}
+
 	/**
 	 * Builds an optimizer
 	 *
@@ -247,10 +261,8 @@ public class OptimizerFactory {
 	 * <p/>
 	 * Note, 'value' always (after init) holds the next value to return
 	 */
-	public static class HiLoOptimizer extends OptimizerSupport {
-		private IntegralDataTypeHolder lastSourceValue;
-		private IntegralDataTypeHolder upperLimit;
-		private IntegralDataTypeHolder value;
+	public static class HiLoOptimizer extends OptimizerSupport implements BlockOptimizer {
+		private volatile ValueBlock block;
 
 		public HiLoOptimizer(Class returnClass, int incrementSize) {
 			super( returnClass, incrementSize );
@@ -264,32 +276,40 @@ public class OptimizerFactory {
 		/**
 		 * {@inheritDoc}
 		 */
-		public synchronized Serializable generate(AccessCallback callback) {
-			if ( lastSourceValue == null ) {
-				// first call, so initialize ourselves.  we need to read the database
-				// value and set up the 'bucket' boundaries
-				lastSourceValue = callback.getNextValue();
+		public Serializable generate(AccessCallback callback) {
+			ValueBlock current = block;
+			Number value;
+			while ( current == null || ( value = current.nextValue() ) == null ) {
+				current = nextBlock( callback, current );
+			}
+			return value;
+		}
+
+		private synchronized ValueBlock nextBlock(AccessCallback callback, ValueBlock exhausted) {
+			if ( block != exhausted ) {
+				// another thread already moved on to the next bucket
+				return block;
+			}
+			IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+			if ( exhausted == null ) {
+				// first call, so we need to make sure we start from a positive database value
 				while ( lastSourceValue.lt( 1 ) ) {
 					lastSourceValue = callback.getNextValue();
 				}
-				// upperLimit defines the upper end of the bucket values
-				upperLimit = lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-				// initialize value to the low end of the bucket
-				value = upperLimit.copy().subtract( incrementSize );
 			}
-			else if ( ! upperLimit.gt( value ) ) {
-				lastSourceValue = callback.getNextValue();
-				upperLimit = lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-			}
-			return value.makeValueThenIncrement();
+			// upperLimit defines the upper end of the bucket values
+			final IntegralDataTypeHolder upperLimit = lastSourceValue.copy().multiplyBy( incrementSize ).increment();
+			// the bucket starts at its low end
+			block = new ValueBlock( lastSourceValue, upperLimit.copy().subtract( incrementSize ), upperLimit );
+			return block;
 		}
 
-
 		/**
 		 * {@inheritDoc}
 		 */
 		public IntegralDataTypeHolder getLastSourceValue() {
-			return lastSourceValue;
+			final ValueBlock current = block;
+			return current == null ? null : current.sourceValue;
 		}
 
 		/**
@@ -299,6 +319,13 @@ public class OptimizerFactory {
 			return false;
 		}
 
+		/**
+		 * {@inheritDoc}
+		 */
+		public long getRemainingValueCount() {
+			return ValueBlock.remaining( block );
+		}
+
 		/**
 		 * Getter for property 'lastValue'.
 		 * <p/>
@@ -307,7 +334,7 @@ public class OptimizerFactory {
 		 * @return Value for property 'lastValue'.
 		 */
 		public IntegralDataTypeHolder getLastValue() {
-			return value.copy().decrement();
+			return block.getLastValue();
 		}
 
 		/**
@@ -318,7 +345,7 @@ public class OptimizerFactory {
 		 * @return Value for property 'upperLimit'.
 		 */
 		public IntegralDataTypeHolder getHiValue() {
-			return upperLimit;
+			return block.limit;
 		}
 	}
 
@@ -392,9 +419,8 @@ public class OptimizerFactory {
 	 * Note if you prefer that the database value be interpreted as the bottom end of our current range,
 	 * then use the {@link PooledLoOptimizer} strategy
 	 */
-	public static class PooledOptimizer extends OptimizerSupport implements InitialValueAwareOptimizer {
-		private IntegralDataTypeHolder hiValue;
-		private IntegralDataTypeHolder value;
+	public static class PooledOptimizer extends OptimizerSupport implements InitialValueAwareOptimizer, BlockOptimizer {
+		private volatile ValueBlock block;
 		private long initialValue = -1;
 
 		public PooledOptimizer(Class returnClass, int incrementSize) {
@@ -410,33 +436,51 @@ public class OptimizerFactory {
 		/**
 		 * {@inheritDoc}
 		 */
-		public synchronized Serializable generate(AccessCallback callback) {
-			if ( hiValue == null ) {
-				value = callback.getNextValue();
-                // unfortunately not really safe to normalize this
-                // to 1 as an initial value like we do the others
-                // because we would not be able to control this if
-                // we are using a sequence...
-                if (value.lt(1)) LOG.pooledOptimizerReportedInitialValue(value);
-                // the call to obtain next-value just gave us the initialValue
-                if ((initialValue == -1 && value.lt(incrementSize)) || value.eq(initialValue)) hiValue = callback.getNextValue();
+		public Serializable generate(AccessCallback callback) {
+			ValueBlock current = block;
+			Number value;
+			while ( current == null || ( value = current.nextValue() ) == null ) {
+				current = nextBlock( callback, current );
+			}
+			return value;
+		}
+
+		private synchronized ValueBlock nextBlock(AccessCallback callback, ValueBlock exhausted) {
+			if ( block != exhausted ) {
+				// another thread already obtained the next pool of values
+				return block;
+			}
+			if ( exhausted == null ) {
+				final IntegralDataTypeHolder value = callback.getNextValue();
+				// unfortunately not really safe to normalize this
+				// to 1 as an initial value like we do the others
+				// because we would not be able to control this if
+				// we are using a sequence...
+				if ( value.lt( 1 ) ) {
+					LOG.pooledOptimizerReportedInitialValue( value );
+				}
+				// the call to obtain next-value just gave us the initialValue
+				if ( ( initialValue == -1 && value.lt( incrementSize ) ) || value.eq( initialValue ) ) {
+					final IntegralDataTypeHolder hiValue = callback.getNextValue();
+					block = new ValueBlock( hiValue, value, hiValue );
+				}
 				else {
-					hiValue = value;
-					value = hiValue.copy().subtract( incrementSize );
+					block = new ValueBlock( value, value.copy().subtract( incrementSize ), value );
 				}
 			}
-			else if ( ! hiValue.gt( value ) ) {
-				hiValue = callback.getNextValue();
-				value = hiValue.copy().subtract( incrementSize );
+			else {
+				final IntegralDataTypeHolder hiValue = callback.getNextValue();
+				block = new ValueBlock( hiValue, hiValue.copy().subtract( incrementSize ), hiValue );
 			}
-			return value.makeValueThenIncrement();
+			return block;
 		}
 
 		/**
 		 * {@inheritDoc}
 		 */
 		public IntegralDataTypeHolder getLastSourceValue() {
-			return hiValue;
+			final ValueBlock current = block;
+			return current == null ? null : current.sourceValue;
 		}
 
 		/**
@@ -446,6 +490,13 @@ public class OptimizerFactory {
 			return true;
 		}
 
+		/**
+		 * {@inheritDoc}
+		 */
+		public long getRemainingValueCount() {
+			return ValueBlock.remaining( block );
+		}
+
 		/**
 		 * Getter for property 'lastValue'.
 		 * <p/>
@@ -454,7 +505,7 @@ public class OptimizerFactory {
 		 * @return Value for property 'lastValue'.
 		 */
 		public IntegralDataTypeHolder getLastValue() {
-			return value.copy().decrement();
+			return block.getLastValue();
 		}
 
 		/**
@@ -465,9 +516,8 @@ public class OptimizerFactory {
 		}
 	}
 
-	public static class PooledLoOptimizer extends OptimizerSupport {
-		private IntegralDataTypeHolder lastSourceValue; // last value read from db source
-		private IntegralDataTypeHolder value; // the current generator value
+	public static class PooledLoOptimizer extends OptimizerSupport implements BlockOptimizer {
+		private volatile ValueBlock block;
 
 		public PooledLoOptimizer(Class returnClass, int incrementSize) {
 			super( returnClass, incrementSize );
@@ -480,23 +530,83 @@ public class OptimizerFactory {
 		}
 
 		public Serializable generate(AccessCallback callback) {
-			if ( lastSourceValue == null || ! value.lt( lastSourceValue.copy().add( incrementSize ) ) ) {
-				lastSourceValue = callback.getNextValue();
-				value = lastSourceValue.copy();
-				// handle cases where initial-value is less that one (hsqldb for instance).
-				while ( value.lt( 1 ) ) {
-					value.increment();
-				}
+			ValueBlock current = block;
+			Number value;
+			while ( current == null || ( value = current.nextValue() ) == null ) {
+				current = nextBlock( callback, current );
+			}
+			return value;
+		}
+
+		private synchronized ValueBlock nextBlock(AccessCallback callback, ValueBlock exhausted) {
+			if ( block != exhausted ) {
+				// another thread already obtained the next pool of values
+				return block;
+			}
+			// the database value is the low end of the pool
+			final IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+			final IntegralDataTypeHolder value = lastSourceValue.copy();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			while ( value.lt( 1 ) ) {
+				value.increment();
 			}
-			return value.makeValueThenIncrement();
+			block = new ValueBlock( lastSourceValue, value, lastSourceValue.copy().add( incrementSize ) );
+			return block;
 		}
 
 		public IntegralDataTypeHolder getLastSourceValue() {
-			return lastSourceValue;
+			final ValueBlock current = block;
+			return current == null ? null : current.sourceValue;
 		}
 
 		public boolean applyIncrementSizeToSourceValues() {
 			return true;
 		}
+
+		public long getRemainingValueCount() {
+			return ValueBlock.remaining( block );
+		}
+	}
+
+	/**
+	 * A range of values obtained from a single database access.  Values are handed out by atomically claiming
+	 * the next offset into the range, so that generating a value does not require locking; only replacing an
+	 * exhausted range (which means accessing the database) is serialized by the optimizers.
+	 */
+	private static final class ValueBlock {
+		private final IntegralDataTypeHolder sourceValue;
+		private final IntegralDataTypeHolder first;
+		private final IntegralDataTypeHolder limit;
+		private final long size;
+		private final AtomicLong nextOffset = new AtomicLong();
+
+		/**
+		 * @param sourceValue The database value the range was derived from
+		 * @param first The first value of the range
+		 * @param limit The end of the range (exclusive)
+		 */
+		private ValueBlock(IntegralDataTypeHolder sourceValue, IntegralDataTypeHolder first, IntegralDataTypeHolder limit) {
+			this.sourceValue = sourceValue;
+			this.first = first;
+			this.limit = limit;
+			this.size = limit.makeValue().longValue() - first.makeValue().longValue();
+		}
+
+		private static long remaining(ValueBlock block) {
+			return block == null ? 0 : Math.max( 0, block.size - block.nextOffset.get() );
+		}
+
+		/**
+		 * @return The next value of the range, or {@code null} if the range is exhausted.
+		 */
+		private Number nextValue() {
+			final IntegralDataTypeHolder value = first.copy().add( nextOffset.getAndIncrement() );
+			return value.lt( limit ) ? value.makeValue() : null;
+		}
+
+		private IntegralDataTypeHolder getLastValue() {
+			final IntegralDataTypeHolder next = first.copy().add( nextOffset.get() );
+			return next.lt( limit ) ? next.decrement() : limit.copy().decrement();
+		}
 	}
 }
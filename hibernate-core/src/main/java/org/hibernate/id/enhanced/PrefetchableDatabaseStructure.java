@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * A {@link DatabaseStructure} whose next value can also be obtained outside of any session, which allows
+ * {@link SourceValuePrefetcher} to obtain values ahead of need.  Structures not implementing it are simply not
+ * prefetched.
+ */
+public interface PrefetchableDatabaseStructure extends DatabaseStructure {
+	/**
+	 * A callback to be able to get the next value from the underlying
+	 * structure outside of any session, using a connection of its own.
+	 * Used to obtain values ahead of need from a background thread.
+	 *
+	 * @param factory The session factory.
+	 * @return The next value.
+	 */
+	public AccessCallback buildDetachedCallback(SessionFactoryImplementor factory);
+}
@@ -23,25 +23,32 @@
  *
  */
 package org.hibernate.id.enhanced;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.internal.jdbc.JdbcIsolationDelegate;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.SequenceValueBuffer;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
 
 /**
  * Describes a sequence.
  *
  * @author Steve Ebersole
  */
-public class SequenceStructure implements DatabaseStructure {
+public class SequenceStructure implements PrefetchableDatabaseStructure {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, SequenceStructure.class.getName());
 
@@ -51,7 +58,8 @@ public class SequenceStructure implements DatabaseStructure {
 	private final Class numberType;
 	private final String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private SequenceValueBuffer valueBuffer;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public SequenceStructure(
 			Dialect dialect,
@@ -84,7 +92,7 @@ public class SequenceStructure implements DatabaseStructure {
 	 * {@inheritDoc}
 	 */
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get() + ( valueBuffer == null ? 0 : valueBuffer.getFetchCount() );
 	}
 
 	/**
@@ -100,28 +108,16 @@ public class SequenceStructure implements DatabaseStructure {
 	public AccessCallback buildCallback(final SessionImplementor session) {
 		return new AccessCallback() {
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				if ( valueBuffer != null ) {
+					final IntegralDataTypeHolder buffered = valueBuffer.getNextValue( session );
+					if ( buffered != null ) {
+						return buffered;
+					}
+				}
 				try {
 					PreparedStatement st = session.getTransactionCoordinator().getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
-						ResultSet rs = st.executeQuery();
-						try {
-							rs.next();
-							IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
-							value.initialize( rs, 1 );
-							if ( LOG.isDebugEnabled() ) {
-								LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
-							}
-							return value;
-						}
-						finally {
-							try {
-								rs.close();
-							}
-							catch( Throwable ignore ) {
-								// intentionally empty
-							}
-						}
+						return readNextValue( st );
 					}
 					finally {
 						st.close();
@@ -139,11 +135,64 @@ public class SequenceStructure implements DatabaseStructure {
 		};
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public AccessCallback buildDetachedCallback(final SessionFactoryImplementor factory) {
+		return new AccessCallback() {
+			public IntegralDataTypeHolder getNextValue() {
+				final JdbcServices jdbcServices = factory.getJdbcServices();
+				return new JdbcIsolationDelegate( jdbcServices ).delegateWork(
+						new AbstractReturningWork<IntegralDataTypeHolder>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								jdbcServices.getSqlStatementLogger().logStatement( sql );
+								PreparedStatement st = connection.prepareStatement( sql );
+								try {
+									return readNextValue( st );
+								}
+								finally {
+									st.close();
+								}
+							}
+						},
+						true
+				);
+			}
+		};
+	}
+
+	private IntegralDataTypeHolder readNextValue(PreparedStatement st) throws SQLException {
+		accessCounter.incrementAndGet();
+		ResultSet rs = st.executeQuery();
+		try {
+			rs.next();
+			IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+			value.initialize( rs, 1 );
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+			}
+			return value;
+		}
+		finally {
+			try {
+				rs.close();
+			}
+			catch( Throwable ignore ) {
+				// intentionally empty
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public void prepare(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
+		// without an optimizer every value costs a round trip, so fetch batches of values when inserting batches
+		valueBuffer = optimizer instanceof OptimizerFactory.NoopOptimizer
+				? new SequenceValueBuffer( sequenceName, numberType )
+				: null;
 	}
 
 	/**
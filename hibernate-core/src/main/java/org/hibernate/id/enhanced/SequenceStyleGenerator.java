@@ -77,6 +77,13 @@ import org.hibernate.type.Type;
  *     <td><b><i>false<i/></b></td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@link #PREFETCH_PARAM}</td>
+ *     <td><b><i>0<i/></b></td>
+ *     <td>When positive, the number of values left in the optimizer's current block at which the next block is
+ *     obtained in the background (see {@link SourceValuePrefetcher}); only applies to the hilo, pooled and
+ *     pooled-lo optimizers, and to structures implementing {@link PrefetchableDatabaseStructure}</td>
+ *   </tr>
  * </table>
  * <p/>
  * Configuration parameters used specifically when the underlying structure is a table:
@@ -114,6 +121,8 @@ public class SequenceStyleGenerator implements PersistentIdentifierGenerator, Co
 
 	public static final String FORCE_TBL_PARAM = "force_table_use";
 
+	public static final String PREFETCH_PARAM = "prefetch_low_water_mark";
+
 
 	// table-specific parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	public static final String VALUE_COLUMN_PARAM = "value_column";
@@ -123,6 +132,7 @@ public class SequenceStyleGenerator implements PersistentIdentifierGenerator, Co
 	// state ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	private DatabaseStructure databaseStructure;
 	private Optimizer optimizer;
+	private SourceValuePrefetcher prefetcher;
 	private Type identifierType;
 
 	/**
@@ -143,6 +153,15 @@ public class SequenceStyleGenerator implements PersistentIdentifierGenerator, Co
 		return optimizer;
 	}
 
+	/**
+	 * Getter for property 'prefetcher'.
+	 *
+	 * @return Value for property 'prefetcher', or {@code null} if prefetching is not enabled.
+	 */
+	public SourceValuePrefetcher getPrefetcher() {
+		return prefetcher;
+	}
+
 	/**
 	 * Getter for property 'identifierType'.
 	 *
@@ -193,6 +212,7 @@ public class SequenceStyleGenerator implements PersistentIdentifierGenerator, Co
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
 		this.databaseStructure.prepare( optimizer );
+		this.prefetcher = buildPrefetcher( params, incrementSize );
 	}
 
 	/**
@@ -336,12 +356,53 @@ public class SequenceStyleGenerator implements PersistentIdentifierGenerator, Co
 	}
 
 
+	/**
+	 * Build the prefetcher for the next source value, if one was requested and the optimizer works on blocks of
+	 * values.
+	 *
+	 * @param params The params supplied in the generator config (plus some standard useful extras).
+	 * @param incrementSize The (adjusted) increment size
+	 * @return The prefetcher, or {@code null}
+	 * @throws MappingException If the low-water mark is not smaller than the increment size
+	 */
+	protected SourceValuePrefetcher buildPrefetcher(Properties params, int incrementSize) throws MappingException {
+		final int lowWaterMark = ConfigurationHelper.getInt( PREFETCH_PARAM, params, 0 );
+		if ( lowWaterMark <= 0 ) {
+			return null;
+		}
+		if ( !OptimizerFactory.BlockOptimizer.class.isInstance( optimizer ) ) {
+			LOG.debugf( "Optimizer [%s] does not hand out blocks of values; ignoring %s", optimizer.getClass().getName(), PREFETCH_PARAM );
+			return null;
+		}
+		if ( !PrefetchableDatabaseStructure.class.isInstance( databaseStructure ) ) {
+			LOG.debugf( "Database structure [%s] cannot be accessed outside of a session; ignoring %s", databaseStructure.getClass().getName(), PREFETCH_PARAM );
+			return null;
+		}
+		if ( lowWaterMark >= incrementSize ) {
+			throw new MappingException( PREFETCH_PARAM + " [" + lowWaterMark + "] must be less than the increment size [" + incrementSize + "]" );
+		}
+		return new SourceValuePrefetcher( (PrefetchableDatabaseStructure) databaseStructure, optimizer, lowWaterMark );
+	}
+
+	/**
+	 * Release the resources held by this generator.  Called when the session factory is closed.
+	 */
+	public void stop() {
+		if ( prefetcher != null ) {
+			prefetcher.stop();
+		}
+	}
+
+
 	// IdentifierGenerator implementation ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public Serializable generate(SessionImplementor session, Object object) throws HibernateException {
+		if ( prefetcher != null ) {
+			return prefetcher.generate( session );
+		}
 		return optimizer.generate( databaseStructure.buildCallback( session ) );
 	}
 
@@ -0,0 +1,263 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Obtains the next source value of a {@link DatabaseStructure} in the background once the block of values held
+ * by the optimizer runs low, so that the session exhausting the block does not have to wait for the database.
+ * <p/>
+ * Prefetching happens outside of any session, on a connection of its own (see
+ * {@link PrefetchableDatabaseStructure#buildDetachedCallback}), and on a thread of its own which is discarded
+ * once idle and shut down by {@link #stop}.  When no prefetched value is available, or obtaining it failed, the
+ * value is obtained synchronously through the session as usual.
+ */
+public class SourceValuePrefetcher {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, SourceValuePrefetcher.class.getName() );
+
+	private static final long IDLE_SECONDS = 60;
+
+	private final PrefetchableDatabaseStructure databaseStructure;
+	private final Optimizer optimizer;
+	private final long lowWaterMark;
+
+	private final AtomicReference<Future<IntegralDataTypeHolder>> prefetched = new AtomicReference<Future<IntegralDataTypeHolder>>();
+	private volatile boolean disabled;
+	private ThreadPoolExecutor executor;
+
+	private final AtomicLong refillCount = new AtomicLong();
+	private final AtomicLong refillTime = new AtomicLong();
+	private final AtomicLong refillTimeMax = new AtomicLong();
+	private final AtomicLong stallCount = new AtomicLong();
+	private final AtomicLong stallTime = new AtomicLong();
+
+	/**
+	 * @param databaseStructure The structure the values are obtained from
+	 * @param optimizer The optimizer, which must be a {@link OptimizerFactory.BlockOptimizer}
+	 * @param lowWaterMark The number of values left in the current block at which the next source value is prefetched
+	 */
+	public SourceValuePrefetcher(PrefetchableDatabaseStructure databaseStructure, Optimizer optimizer, long lowWaterMark) {
+		this.databaseStructure = databaseStructure;
+		this.optimizer = optimizer;
+		this.lowWaterMark = lowWaterMark;
+	}
+
+	public Serializable generate(final SessionImplementor session) {
+		final Serializable value = optimizer.generate(
+				new AccessCallback() {
+					public IntegralDataTypeHolder getNextValue() {
+						return nextSourceValue( session );
+					}
+				}
+		);
+		if ( !disabled && ( (OptimizerFactory.BlockOptimizer) optimizer ).getRemainingValueCount() <= lowWaterMark ) {
+			startPrefetch( session.getFactory() );
+		}
+		return value;
+	}
+
+	private IntegralDataTypeHolder nextSourceValue(SessionImplementor session) {
+		final Future<IntegralDataTypeHolder> future = prefetched.getAndSet( null );
+		if ( future != null ) {
+			final long start = System.nanoTime();
+			final boolean stalled = !future.isDone();
+			try {
+				final IntegralDataTypeHolder value = future.get();
+				if ( stalled ) {
+					stalled( System.nanoTime() - start );
+				}
+				return value;
+			}
+			catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+			}
+			catch ( CancellationException e ) {
+				// stopped meanwhile
+			}
+			catch ( ExecutionException e ) {
+				LOG.debugf( e.getCause(), "Unable to prefetch next value of %s", databaseStructure.getName() );
+			}
+		}
+
+		final long start = System.nanoTime();
+		final IntegralDataTypeHolder value = databaseStructure.buildCallback( session ).getNextValue();
+		final long elapsed = System.nanoTime() - start;
+		refilled( elapsed );
+		stalled( elapsed );
+		return value;
+	}
+
+	private void startPrefetch(final SessionFactoryImplementor factory) {
+		if ( prefetched.get() != null ) {
+			return;
+		}
+		if ( factory.getJdbcServices().getConnectionProvider() == null ) {
+			// multi-tenant; there is no connection to use outside of a session
+			LOG.debugf( "No connection provider available, disabling prefetching for %s", databaseStructure.getName() );
+			disabled = true;
+			return;
+		}
+		final FutureTask<IntegralDataTypeHolder> task = new FutureTask<IntegralDataTypeHolder>(
+				new Callable<IntegralDataTypeHolder>() {
+					public IntegralDataTypeHolder call() {
+						final long start = System.nanoTime();
+						final IntegralDataTypeHolder value = databaseStructure.buildDetachedCallback( factory ).getNextValue();
+						refilled( System.nanoTime() - start );
+						return value;
+					}
+				}
+		);
+		if ( prefetched.compareAndSet( null, task ) ) {
+			try {
+				executor().execute( task );
+			}
+			catch ( RejectedExecutionException e ) {
+				// stopped
+				prefetched.compareAndSet( task, null );
+			}
+		}
+	}
+
+	private synchronized ThreadPoolExecutor executor() {
+		if ( disabled ) {
+			throw new RejectedExecutionException( "Prefetching stopped" );
+		}
+		if ( executor == null ) {
+			executor = new ThreadPoolExecutor(
+					1,
+					1,
+					IDLE_SECONDS,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(),
+					new ThreadFactory() {
+						public Thread newThread(Runnable runnable) {
+							final Thread thread = new Thread( runnable, "Hibernate identifier prefetch: " + databaseStructure.getName() );
+							thread.setDaemon( true );
+							return thread;
+						}
+					}
+			);
+			executor.allowCoreThreadTimeOut( true );
+		}
+		return executor;
+	}
+
+	/**
+	 * Stop prefetching, releasing the background thread.  Values are obtained synchronously afterwards.  Called
+	 * when the session factory is closed.
+	 */
+	public synchronized void stop() {
+		disabled = true;
+		final Future<IntegralDataTypeHolder> future = prefetched.getAndSet( null );
+		if ( future != null ) {
+			future.cancel( false );
+		}
+		if ( executor != null ) {
+			// let a running fetch complete and release its connection
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	/**
+	 * Is a prefetched value ready to be used?  For testing.
+	 */
+	boolean isPrefetchedValueReady() {
+		final Future<IntegralDataTypeHolder> future = prefetched.get();
+		return future != null && future.isDone();
+	}
+
+	private void refilled(long nanos) {
+		refillCount.incrementAndGet();
+		refillTime.addAndGet( nanos );
+		long max = refillTimeMax.get();
+		while ( nanos > max && !refillTimeMax.compareAndSet( max, nanos ) ) {
+			max = refillTimeMax.get();
+		}
+	}
+
+	private void stalled(long nanos) {
+		stallCount.incrementAndGet();
+		stallTime.addAndGet( nanos );
+	}
+
+	public long getLowWaterMark() {
+		return lowWaterMark;
+	}
+
+	/**
+	 * @return The number of source values obtained, in the background or not
+	 */
+	public long getRefillCount() {
+		return refillCount.get();
+	}
+
+	/**
+	 * @return The total time spent obtaining source values, in milliseconds
+	 */
+	public long getRefillTime() {
+		return TimeUnit.NANOSECONDS.toMillis( refillTime.get() );
+	}
+
+	/**
+	 * @return The longest time spent obtaining a source value, in milliseconds
+	 */
+	public long getRefillTimeMax() {
+		return TimeUnit.NANOSECONDS.toMillis( refillTimeMax.get() );
+	}
+
+	/**
+	 * @return The number of times a session had to wait for a source value
+	 */
+	public long getStallCount() {
+		return stallCount.get();
+	}
+
+	/**
+	 * @return The total time sessions spent waiting for source values, in milliseconds
+	 */
+	public long getStallTime() {
+		return TimeUnit.NANOSECONDS.toMillis( stallTime.get() );
+	}
+}
@@ -28,6 +28,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
 
@@ -37,7 +38,9 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.internal.jdbc.JdbcIsolationDelegate;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -49,7 +52,7 @@ import org.hibernate.jdbc.AbstractReturningWork;
  *
  * @author Steve Ebersole
  */
-public class TableStructure implements DatabaseStructure {
+public class TableStructure implements PrefetchableDatabaseStructure {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, TableStructure.class.getName());
 
@@ -62,7 +65,7 @@ public class TableStructure implements DatabaseStructure {
 	private final String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public TableStructure(
 			Dialect dialect,
@@ -103,7 +106,7 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -116,67 +119,85 @@ public class TableStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
+				final SqlStatementLogger statementLogger = session
+						.getFactory()
+						.getServiceRegistry()
+						.getService( JdbcServices.class )
+						.getSqlStatementLogger();
 				return session.getTransactionCoordinator().getTransaction().createIsolationDelegate().delegateWork(
-						new AbstractReturningWork<IntegralDataTypeHolder>() {
-							@Override
-							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final SqlStatementLogger statementLogger = session
-										.getFactory()
-										.getServiceRegistry()
-										.getService( JdbcServices.class )
-										.getSqlStatementLogger();
-								IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
-								int rows;
-								do {
-									statementLogger.logStatement( selectQuery, FormatStyle.BASIC.getFormatter() );
-									PreparedStatement selectStatement = connection.prepareStatement( selectQuery );
-									try {
-										ResultSet selectRS = selectStatement.executeQuery();
-										if ( !selectRS.next() ) {
-											String err = "could not read a hi value - you need to populate the table: " + tableName;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch ( SQLException sqle ) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-									finally {
-										selectStatement.close();
-									}
-
-									statementLogger.logStatement( updateQuery, FormatStyle.BASIC.getFormatter() );
-									PreparedStatement updatePS = connection.prepareStatement( updateQuery );
-									try {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = updatePS.executeUpdate();
-									}
-									catch ( SQLException e ) {
-									    LOG.unableToUpdateQueryHiValue(tableName, e);
-										throw e;
-									}
-									finally {
-										updatePS.close();
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
-							}
-						},
+						buildWork( statementLogger ),
 						true
 				);
 			}
 		};
 	}
 
+	@Override
+	public AccessCallback buildDetachedCallback(final SessionFactoryImplementor factory) {
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				final JdbcServices jdbcServices = factory.getJdbcServices();
+				return new JdbcIsolationDelegate( jdbcServices ).delegateWork(
+						buildWork( jdbcServices.getSqlStatementLogger() ),
+						true
+				);
+			}
+		};
+	}
+
+	private AbstractReturningWork<IntegralDataTypeHolder> buildWork(final SqlStatementLogger statementLogger) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+				int rows;
+				do {
+					statementLogger.logStatement( selectQuery, FormatStyle.BASIC.getFormatter() );
+					PreparedStatement selectStatement = connection.prepareStatement( selectQuery );
+					try {
+						ResultSet selectRS = selectStatement.executeQuery();
+						if ( !selectRS.next() ) {
+							String err = "could not read a hi value - you need to populate the table: " + tableName;
+							LOG.error( err );
+							throw new IdentifierGenerationException( err );
+						}
+						value.initialize( selectRS, 1 );
+						selectRS.close();
+					}
+					catch ( SQLException sqle ) {
+						LOG.error( "could not read a hi value", sqle );
+						throw sqle;
+					}
+					finally {
+						selectStatement.close();
+					}
+
+					statementLogger.logStatement( updateQuery, FormatStyle.BASIC.getFormatter() );
+					PreparedStatement updatePS = connection.prepareStatement( updateQuery );
+					try {
+						final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+						final IntegralDataTypeHolder updateValue = value.copy().add( increment );
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						rows = updatePS.executeUpdate();
+					}
+					catch ( SQLException e ) {
+					    LOG.unableToUpdateQueryHiValue(tableName, e);
+						throw e;
+					}
+					finally {
+						updatePS.close();
+					}
+				} while ( rows == 0 );
+
+				accessCounter.incrementAndGet();
+
+				return value;
+			}
+		};
+	}
+
 	@Override
 	public String[] sqlCreateStrings(Dialect dialect) throws HibernateException {
 		return new String[] {
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.insert;
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * An {@link InsertGeneratedIdentifierDelegate} able to execute several inserts as a single
+ * JDBC batch, and to determine the identifier value generated by each of them.
+ */
+public interface BatchedInsertGeneratedIdentifierDelegate extends InsertGeneratedIdentifierDelegate {
+
+	/**
+	 * Perform the indicated insert SQL statement once per binder, as a single JDBC batch,
+	 * and determine the identifier values generated.
+	 *
+	 * @param insertSQL The INSERT statement string
+	 * @param session The session in which we are operating
+	 * @param binders The param binders, one per row to insert
+	 * @return The generated identifier values, in the order of the binders.
+	 */
+	public Serializable[] performBatchInsert(String insertSQL, SessionImplementor session, Binder[] binders);
+
+}
@@ -33,8 +33,8 @@ import org.hibernate.internal.util.BytesHelper;
  * different layout.  The strategy is very similar to the legacy {@link org.hibernate.id.UUIDHexGenerator} id generator
  * but uses a RFC 4122 compliant layout (variant 2).
  * <p/>
- * NOTE : Can be a bottle neck due to the need to synchronize in order to increment an
- * internal count as part of the algorithm.
+ * NOTE : The generated values do not sort by time when compared as binary; see {@link TimeOrderedStrategy}
+ * for a layout which does.
  *
  * @author Steve Ebersole
  */
@@ -25,6 +25,7 @@ package org.hibernate.id.uuid;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.internal.util.BytesHelper;
 
@@ -94,19 +95,15 @@ public class Helper {
 
 	// counter ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-	private static short counter = (short) 0;
+	private static final AtomicInteger counter = new AtomicInteger();
 
 	/**
 	 * Unique in a millisecond for this JVM instance (unless there are > Short.MAX_VALUE instances created in a
 	 * millisecond)
 	 */
 	public static short getCountShort() {
-		synchronized ( Helper.class ) {
-			if ( counter < 0 ) {
-				counter = 0;
-			}
-			return counter++;
-		}
+		// wraps from Short.MAX_VALUE back to 0
+		return (short) ( counter.getAndIncrement() & Short.MAX_VALUE );
 	}
 
 	public static byte[] getCountBytes() {
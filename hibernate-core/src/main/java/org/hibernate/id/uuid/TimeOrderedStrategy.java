@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.uuid;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.UUIDGenerationStrategy;
+
+/**
+ * Generates UUIDs prefixed by the time of their generation, laid out like the version 7 UUIDs of RFC 9562:
+ * the 48 most significant bits hold the milliseconds since the epoch, followed by the version, a 12 bit counter,
+ * the variant and 62 random bits.  Values generated around the same time are therefore close to each other when
+ * compared as binary or as (hex) strings, which keeps the inserts into an index on a UUID column localized
+ * instead of spreading them randomly over the whole index as {@link StandardRandomStrategy} does.
+ * <p/>
+ * Each thread keeps its own timestamp, counter and random source, so no locking is involved.  The values generated
+ * by a single thread are strictly increasing, even when the clock moves back or more than 4096 values are generated
+ * within a millisecond; values generated by different threads are ordered by their millisecond only, and kept
+ * unique by their random bits.
+ */
+public class TimeOrderedStrategy implements UUIDGenerationStrategy {
+	public static final TimeOrderedStrategy INSTANCE = new TimeOrderedStrategy();
+
+	private static final SecureRandom SEEDS = new SecureRandom();
+
+	private static final ThreadLocal<State> STATE = new ThreadLocal<State>() {
+		@Override
+		protected State initialValue() {
+			return new State( new Random( SEEDS.nextLong() ) );
+		}
+	};
+
+	/**
+	 * A version 7 (time ordered) strategy
+	 */
+	public int getGeneratedVersion() {
+		return 7;
+	}
+
+	public UUID generateUUID(SessionImplementor session) {
+		return STATE.get().next( System.currentTimeMillis() );
+	}
+
+	static final class State {
+		private final Random random;
+		private long timestamp = -1;
+		private int counter;
+
+		State(Random random) {
+			this.random = random;
+		}
+
+		UUID next(long now) {
+			if ( now > timestamp ) {
+				timestamp = now;
+				// start at a random point of the lower half, leaving room to count up
+				counter = random.nextInt( 0x800 );
+			}
+			else if ( ++counter > 0xfff ) {
+				// the counter is exhausted (or the clock moved back while it was high); borrow the next millisecond
+				timestamp++;
+				counter = 0;
+			}
+			final long mostSignificantBits = ( timestamp << 16 ) | 0x7000L | counter;
+			final long leastSignificantBits = ( random.nextLong() & 0x3fffffffffffffffL ) | 0x8000000000000000L;
+			return new UUID( mostSignificantBits, leastSignificantBits );
+		}
+	}
+}
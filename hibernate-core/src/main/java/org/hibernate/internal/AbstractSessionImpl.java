@@ -28,6 +28,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.MultiTenancyStrategy;
@@ -37,7 +38,9 @@ import org.hibernate.ScrollableResults;
 import org.hibernate.SessionException;
 import org.hibernate.SharedSessionContract;
 import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cfg.Environment;
 import org.hibernate.engine.jdbc.LobCreationContext;
+import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.spi.JdbcConnectionAccess;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.NativeSQLQueryPlan;
@@ -56,6 +59,8 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.service.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
 /**
  * Functionality common to stateless and stateful sessions
@@ -63,7 +68,7 @@ import org.hibernate.type.Type;
  * @author Gavin King
  */
 public abstract class AbstractSessionImpl implements Serializable, SharedSessionContract,
-													 SessionImplementor, TransactionContext {
+													 SessionImplementor, TransactionContext, WrapperOptions {
 	protected transient SessionFactoryImpl factory;
 	private final String tenantIdentifier;
 	private boolean closed = false;
@@ -264,6 +269,29 @@ public abstract class AbstractSessionImpl implements Serializable, SharedSession
 		return jdbcConnectionAccess;
 	}
 
+	@Override
+	public boolean useStreamForLobBinding() {
+		return Environment.useStreamsForBinary();
+	}
+
+	@Override
+	public LobCreator getLobCreator() {
+		return Hibernate.getLobCreator( this );
+	}
+
+	@Override
+	public SqlTypeDescriptor remapSqlTypeDescriptor(SqlTypeDescriptor sqlTypeDescriptor) {
+		final SqlTypeDescriptor remapped = sqlTypeDescriptor.canBeRemapped()
+				? factory.getDialect().remapSqlTypeDescriptor( sqlTypeDescriptor )
+				: sqlTypeDescriptor;
+		return remapped == null ? sqlTypeDescriptor : remapped;
+	}
+
+	@Override
+	public int getStatementCacheSize() {
+		return factory.getSettings().getJdbcStatementCacheSize();
+	}
+
 	private static class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
 		private final ConnectionProvider connectionProvider;
 
@@ -56,4 +56,14 @@ public class ConnectionObserverStatsBridge implements ConnectionObserver, Serial
 	public void statementPrepared() {
 		sessionFactory.getStatisticsImplementor().prepareStatement();
 	}
+
+	@Override
+	public void preparedStatementCacheHit() {
+		sessionFactory.getStatisticsImplementor().preparedStatementCacheHit();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		sessionFactory.getStatisticsImplementor().preparedStatementCacheMiss();
+	}
 }
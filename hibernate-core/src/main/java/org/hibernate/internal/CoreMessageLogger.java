@@ -1547,4 +1547,16 @@ public interface CoreMessageLogger extends BasicLogger {
 	@Message(value = "update timestamps cache misses: %s", id = 435)
 	void timestampCacheMisses(long updateTimestampsCachePutCount);
 
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache hits: %s", id = 436)
+	void queryPlanCacheHits(long queryPlanCacheHitCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache misses: %s", id = 437)
+	void queryPlanCacheMisses(long queryPlanCacheMissCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 438)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
+
 }
@@ -40,6 +40,11 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
 
@@ -66,12 +71,15 @@ import org.hibernate.cache.internal.CacheDataDescriptionImpl;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.NaturalIdRegionFactory;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.access.RegionAccessStrategy;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.cfg.Environment;
@@ -102,6 +110,7 @@ import org.hibernate.engine.transaction.spi.TransactionEnvironment;
 import org.hibernate.exception.spi.SQLExceptionConverter;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.UUIDGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.hibernate.id.factory.IdentifierGeneratorFactory;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.integrator.spi.IntegratorService;
@@ -196,6 +205,7 @@ public final class SessionFactoryImpl
 	private final transient UpdateTimestampsCache updateTimestampsCache;
 	private final transient ConcurrentMap<String,QueryCache> queryCaches;
 	private final transient ConcurrentMap<String,Region> allCacheRegions = new ConcurrentHashMap<String, Region>();
+	private final transient Map<String,NaturalIdRegionAccessStrategy> naturalIdCacheAccessStrategies = new HashMap<String, NaturalIdRegionAccessStrategy>();
 	private final transient CurrentSessionContext currentSessionContext;
 	private final transient SQLFunctionRegistry sqlFunctionRegistry;
 	private final transient SessionFactoryObserverChain observer = new SessionFactoryObserverChain();
@@ -207,6 +217,7 @@ public final class SessionFactoryImpl
 	private final transient TypeHelper typeHelper;
 	private final transient TransactionEnvironment transactionEnvironment;
 	private final transient SessionFactoryOptions sessionFactoryOptions;
+	private transient ThreadPoolExecutor parallelDirtyCheckExecutor;
 
 	@SuppressWarnings( {"unchecked"} )
 	public SessionFactoryImpl(
@@ -350,6 +361,15 @@ public final class SessionFactoryImpl
 					mapping
 			);
 			entityPersisters.put( model.getEntityName(), cp );
+			if ( accessStrategy != null && settings.isNaturalIdCacheEnabled() && cp.hasNaturalIdentifier() ) {
+				buildNaturalIdCacheAccessStrategy(
+						cp,
+						cacheRegionName,
+						AccessType.fromExternalName( model.getCacheConcurrencyStrategy() ),
+						entityAccessStrategies,
+						properties
+				);
+			}
 			classMeta.put( model.getEntityName(), cp.getClassMetadata() );
 		}
 		this.classMetadata = Collections.unmodifiableMap(classMeta);
@@ -662,6 +682,15 @@ public final class SessionFactoryImpl
 					model, accessStrategy, this, metadata
 			);
 			entityPersisters.put( model.getEntity().getName(), cp );
+			if ( accessStrategy != null && settings.isNaturalIdCacheEnabled() && cp.hasNaturalIdentifier() ) {
+				buildNaturalIdCacheAccessStrategy(
+						cp,
+						accessStrategy.getRegion().getName(),
+						model.getHierarchyDetails().getCaching().getAccessType(),
+						entityAccessStrategies,
+						properties
+				);
+			}
 			classMeta.put( model.getEntity().getName(), cp.getClassMetadata() );
 		}
 		this.classMetadata = Collections.unmodifiableMap(classMeta);
@@ -1051,6 +1080,35 @@ public final class SessionFactoryImpl
 		return jdbcServices;
 	}
 
+	public synchronized ExecutorService getParallelDirtyCheckExecutor() {
+		if ( isClosed || settings.getParallelDirtyCheckThreshold() <= 0 ) {
+			return null;
+		}
+		if ( parallelDirtyCheckExecutor == null ) {
+			// the flushing thread takes a share of the entities too
+			final int threads = Math.max( 1, Runtime.getRuntime().availableProcessors() - 1 );
+			parallelDirtyCheckExecutor = new ThreadPoolExecutor(
+					threads,
+					threads,
+					60,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(),
+					new ThreadFactory() {
+						public Thread newThread(Runnable runnable) {
+							final Thread thread = new Thread(
+									runnable,
+									name == null ? "Hibernate dirty check" : "Hibernate dirty check: " + name
+							);
+							thread.setDaemon( true );
+							return thread;
+						}
+					}
+			);
+			parallelDirtyCheckExecutor.allowCoreThreadTimeOut( true );
+		}
+		return parallelDirtyCheckExecutor;
+	}
+
 	public Dialect getDialect() {
 		if ( serviceRegistry == null ) {
 			throw new IllegalStateException( "Cannot determine dialect because serviceRegistry is null." );
@@ -1280,6 +1338,10 @@ public final class SessionFactoryImpl
 			}
 		}
 
+		for ( NaturalIdRegionAccessStrategy naturalIdAccessStrategy : naturalIdCacheAccessStrategies.values() ) {
+			naturalIdAccessStrategy.getRegion().destroy();
+		}
+
 		iter = collectionPersisters.values().iterator();
 		while ( iter.hasNext() ) {
 			CollectionPersister p = (CollectionPersister) iter.next();
@@ -1301,6 +1363,21 @@ public final class SessionFactoryImpl
 
 		settings.getRegionFactory().stop();
 
+		for ( IdentifierGenerator generator : identifierGenerators.values() ) {
+			if ( generator instanceof SequenceStyleGenerator ) {
+				( (SequenceStyleGenerator) generator ).stop();
+			}
+		}
+
+		synchronized ( this ) {
+			if ( parallelDirtyCheckExecutor != null ) {
+				parallelDirtyCheckExecutor.shutdown();
+				parallelDirtyCheckExecutor = null;
+			}
+		}
+
+		queryPlanCache.cleanup();
+
 		if ( settings.isAutoDropSchema() ) {
 			schemaExport.drop( false, true );
 		}
@@ -1361,6 +1438,10 @@ public final class SessionFactoryImpl
 				}
 				p.getCacheAccessStrategy().evictAll();
 			}
+			NaturalIdRegionAccessStrategy naturalIdAccessStrategy = getNaturalIdCacheAccessStrategy( entityName );
+			if ( naturalIdAccessStrategy != null ) {
+				naturalIdAccessStrategy.evictAll();
+			}
 		}
 
 		public void evictEntityRegions() {
@@ -1525,6 +1606,46 @@ public final class SessionFactoryImpl
 		return new HashMap( allCacheRegions );
 	}
 
+	/**
+	 * The natural-id cross-references of an entity live in their own region, next to the entity data of the
+	 * hierarchy and sharing its access type.  They are not cached when the region factory is not a
+	 * {@link NaturalIdRegionFactory}.
+	 */
+	@SuppressWarnings({ "unchecked" })
+	private void buildNaturalIdCacheAccessStrategy(
+			EntityPersister persister,
+			String cacheRegionName,
+			AccessType accessType,
+			Map entityAccessStrategies,
+			Properties properties) {
+		if ( !( settings.getRegionFactory() instanceof NaturalIdRegionFactory ) ) {
+			LOG.debugf(
+					"Region factory [%s] cannot cache natural-ids; not caching those of [%s]",
+					settings.getRegionFactory().getClass().getName(),
+					persister.getEntityName()
+			);
+			return;
+		}
+		final String naturalIdCacheRegionName = cacheRegionName + "##NaturalId";
+		NaturalIdRegionAccessStrategy naturalIdAccessStrategy = ( NaturalIdRegionAccessStrategy ) entityAccessStrategies.get( naturalIdCacheRegionName );
+		if ( naturalIdAccessStrategy == null ) {
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracev( "Building cache for natural-id data [{0}]", persister.getEntityName() );
+			}
+			NaturalIdRegion naturalIdRegion = ( (NaturalIdRegionFactory) settings.getRegionFactory() ).buildNaturalIdRegion(
+					naturalIdCacheRegionName, properties, CacheDataDescriptionImpl.decodeNaturalId( persister )
+			);
+			naturalIdAccessStrategy = naturalIdRegion.buildAccessStrategy( accessType );
+			entityAccessStrategies.put( naturalIdCacheRegionName, naturalIdAccessStrategy );
+			allCacheRegions.put( naturalIdCacheRegionName, naturalIdRegion );
+		}
+		naturalIdCacheAccessStrategies.put( persister.getEntityName(), naturalIdAccessStrategy );
+	}
+
+	public NaturalIdRegionAccessStrategy getNaturalIdCacheAccessStrategy(String entityName) {
+		return naturalIdCacheAccessStrategies.get( entityName );
+	}
+
 	public boolean isClosed() {
 		return isClosed;
 	}
@@ -1678,6 +1799,8 @@ public final class SessionFactoryImpl
 		private boolean autoJoinTransactions = true;
 		private boolean flushBeforeCompletion;
 		private String tenantIdentifier;
+		private int managedEntityLimit;
+		private Class[] workingSetTypes = new Class[0];
 
 		SessionBuilderImpl(SessionFactoryImpl sessionFactory) {
 			this.sessionFactory = sessionFactory;
@@ -1706,7 +1829,9 @@ public final class SessionFactoryImpl
 					flushBeforeCompletion,
 					autoClose,
 					connectionReleaseMode,
-					tenantIdentifier
+					tenantIdentifier,
+					managedEntityLimit,
+					workingSetTypes
 			);
 		}
 
@@ -1757,6 +1882,16 @@ public final class SessionFactoryImpl
 			this.tenantIdentifier = tenantIdentifier;
 			return this;
 		}
+
+		@Override
+		public SessionBuilder managedEntityLimit(int maxManagedEntities, Class... workingSetTypes) {
+			if ( maxManagedEntities < 0 ) {
+				throw new IllegalArgumentException( "Managed entity limit cannot be negative : " + maxManagedEntities );
+			}
+			this.managedEntityLimit = maxManagedEntities;
+			this.workingSetTypes = workingSetTypes == null ? new Class[0] : workingSetTypes.clone();
+			return this;
+		}
 	}
 
 	public static class StatelessSessionBuilderImpl implements StatelessSessionBuilder {
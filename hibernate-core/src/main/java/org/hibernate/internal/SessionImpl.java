@@ -36,8 +36,11 @@ import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +62,7 @@ import org.hibernate.LobHelper;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
+import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.Query;
 import org.hibernate.QueryException;
@@ -75,7 +79,12 @@ import org.hibernate.TransientObjectException;
 import org.hibernate.TypeHelper;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.UnresolvableObjectException;
+import org.hibernate.cache.spi.NaturalIdCacheKey;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.criterion.NaturalIdentifier;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.query.spi.FilterQueryPlan;
@@ -83,6 +92,8 @@ import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.NativeSQLQueryPlan;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -142,6 +153,8 @@ import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.stat.SessionStatistics;
 import org.hibernate.stat.internal.SessionStatisticsImpl;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.SerializationException;
 import org.hibernate.type.Type;
 
@@ -184,6 +197,9 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private transient int dontFlushFromFind = 0;
 
+	private transient int managedEntityLimit;
+	private transient Class[] workingSetTypes;
+
 	private transient LoadQueryInfluencers loadQueryInfluencers;
 
 	/**
@@ -201,6 +217,8 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	 * @param autoCloseSessionEnabled Should we auto close after completion of transaction
 	 * @param connectionReleaseMode The mode by which we should release JDBC connections.
 	 * @param tenantIdentifier The tenant identifier to use.  May be null
+	 * @param managedEntityLimit The number of managed entities triggering a flush and clear, or 0 for no limit
+	 * @param workingSetTypes The types whose instances stay managed across such a clear
 	 */
 	SessionImpl(
 			final Connection connection,
@@ -212,7 +230,9 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 			final boolean flushBeforeCompletionEnabled,
 			final boolean autoCloseSessionEnabled,
 			final ConnectionReleaseMode connectionReleaseMode,
-			final String tenantIdentifier) {
+			final String tenantIdentifier,
+			final int managedEntityLimit,
+			final Class[] workingSetTypes) {
 		super( factory, tenantIdentifier );
 		this.timestamp = timestamp;
 		this.interceptor = interceptor == null ? EmptyInterceptor.INSTANCE : interceptor;
@@ -222,6 +242,8 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		this.autoCloseSessionEnabled = autoCloseSessionEnabled;
 		this.connectionReleaseMode = connectionReleaseMode;
 		this.autoJoinTransactions = autoJoinTransactions;
+		this.managedEntityLimit = managedEntityLimit;
+		this.workingSetTypes = workingSetTypes;
 
 		if ( transactionCoordinator == null ) {
 			this.transactionCoordinator = new TransactionCoordinatorImpl( connection, this );
@@ -611,11 +633,164 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	private void fireSaveOrUpdate(SaveOrUpdateEvent event) {
 		errorIfClosed();
 		checkTransactionSynchStatus();
+		enforceManagedEntityLimit( event.getEntityName(), event.getObject(), false );
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE_UPDATE ) ) {
 			listener.onSaveOrUpdate( event );
 		}
 	}
 
+	/**
+	 * For sessions opened with a managed entity limit, flush and clear once the limit has been reached, then
+	 * re-associate the instances of the working set types.  Only applied between top level operations, never
+	 * while cascading, loading or flushing.
+	 * <p/>
+	 * The entity the operation applies to stays managed if it was, and so do the managed entities a persist
+	 * cascades to, as persisting a detached instance fails.  Should the entities kept fill the limit on their
+	 * own, the operation fails rather than letting the session grow unbounded.
+	 *
+	 * @param entityName The entity name of the operation, may be null
+	 * @param object The entity, or proxy, the operation applies to
+	 * @param persist Whether the operation is a persist
+	 */
+	private void enforceManagedEntityLimit(String entityName, Object object, boolean persist) {
+		if ( managedEntityLimit <= 0
+				|| persistenceContext.getEntityEntries().size() < managedEntityLimit
+				|| persistenceContext.isFlushing()
+				|| persistenceContext.getCascadeLevel() > 0
+				|| !persistenceContext.isLoadFinished() ) {
+			return;
+		}
+
+		LOG.debugf( "Managed entity limit [%s] reached; flushing and clearing session", managedEntityLimit );
+		flush();
+
+		final List<Object> retained = new ArrayList<Object>();
+		if ( workingSetTypes.length > 0 ) {
+			for ( Object o : persistenceContext.getEntityEntries().entrySet() ) {
+				final Map.Entry me = (Map.Entry) o;
+				if ( ( (EntityEntry) me.getValue() ).getStatus() == Status.MANAGED && isWorkingSetInstance( me.getKey() ) ) {
+					retained.add( me.getKey() );
+				}
+			}
+		}
+		if ( object != null ) {
+			collectManagedEntities( entityName, object, persist, retained, new IdentityHashMap<Object, Object>() );
+		}
+
+		clear();
+
+		for ( Object entity : retained ) {
+			// the flush just synchronized their state, so they can be re-associated as they are
+			if ( !persistenceContext.reassociateIfUninitializedProxy( entity ) ) {
+				fireLock( entity, LockOptions.NONE );
+			}
+		}
+
+		if ( persistenceContext.getEntityEntries().size() >= managedEntityLimit ) {
+			// clearing again would not free anything, so memory could no longer be bounded
+			throw new HibernateException(
+					"The " + persistenceContext.getEntityEntries().size() + " entities kept managed across a clear " +
+							"fill the managed entity limit [" + managedEntityLimit + "] of the session; raise the limit or " +
+							"narrow the working set types"
+			);
+		}
+	}
+
+	/**
+	 * Adds the given entity to the entities to keep managed if it is managed.  For a persist, also adds the managed
+	 * entities it reaches through the associations persist cascades to.
+	 */
+	private void collectManagedEntities(
+			String entityName,
+			Object object,
+			boolean persist,
+			List<Object> managed,
+			Map<Object, Object> visited) {
+		if ( visited.put( object, object ) != null ) {
+			return;
+		}
+		if ( object instanceof HibernateProxy ) {
+			final LazyInitializer li = ( (HibernateProxy) object ).getHibernateLazyInitializer();
+			if ( li.isUninitialized() ) {
+				if ( persistenceContext.containsProxy( object ) ) {
+					managed.add( object );
+				}
+			}
+			else {
+				collectManagedEntities( entityName, li.getImplementation(), persist, managed, visited );
+			}
+			return;
+		}
+		final EntityEntry entry = persistenceContext.getEntry( object );
+		if ( entry != null ) {
+			if ( entry.getStatus() != Status.MANAGED ) {
+				return;
+			}
+			managed.add( object );
+		}
+		if ( persist ) {
+			final EntityPersister persister = entry != null ? entry.getPersister() : getEntityPersister( entityName, object );
+			collectManagedEntities(
+					persister.getPropertyTypes(),
+					persister.getPropertyCascadeStyles(),
+					persister.getPropertyValues( object ),
+					managed,
+					visited
+			);
+		}
+	}
+
+	private void collectManagedEntities(
+			Type[] types,
+			CascadeStyle[] cascadeStyles,
+			Object[] values,
+			List<Object> managed,
+			Map<Object, Object> visited) {
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( cascadeStyles[i].doCascade( CascadingAction.PERSIST ) ) {
+				collectManagedEntities( types[i], values[i], managed, visited );
+			}
+		}
+	}
+
+	private void collectManagedEntities(Type type, Object value, List<Object> managed, Map<Object, Object> visited) {
+		if ( value == null ) {
+			return;
+		}
+		if ( type.isEntityType() ) {
+			collectManagedEntities( null, value, true, managed, visited );
+		}
+		else if ( type.isCollectionType() ) {
+			if ( value instanceof PersistentCollection && !( (PersistentCollection) value ).wasInitialized() ) {
+				return;
+			}
+			final CollectionType collectionType = (CollectionType) type;
+			final Type elementType = collectionType.getElementType( factory );
+			final Iterator elements = collectionType.getElementsIterator( value, this );
+			while ( elements.hasNext() ) {
+				collectManagedEntities( elementType, elements.next(), managed, visited );
+			}
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType componentType = (CompositeType) type;
+			final Type[] types = componentType.getSubtypes();
+			final CascadeStyle[] cascadeStyles = new CascadeStyle[types.length];
+			for ( int i = 0; i < types.length; i++ ) {
+				cascadeStyles[i] = componentType.getCascadeStyle( i );
+			}
+			collectManagedEntities( types, cascadeStyles, componentType.getPropertyValues( value, this ), managed, visited );
+		}
+	}
+
+	private boolean isWorkingSetInstance(Object entity) {
+		for ( Class workingSetType : workingSetTypes ) {
+			if ( workingSetType.isInstance( entity ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private <T> Iterable<T> listeners(EventType<T> type) {
 		return eventListenerGroup( type ).listeners();
 	}
@@ -638,6 +813,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	private Serializable fireSave(SaveOrUpdateEvent event) {
 		errorIfClosed();
 		checkTransactionSynchStatus();
+		enforceManagedEntityLimit( event.getEntityName(), event.getObject(), false );
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE ) ) {
 			listener.onSaveOrUpdate( event );
 		}
@@ -658,6 +834,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	private void fireUpdate(SaveOrUpdateEvent event) {
 		errorIfClosed();
 		checkTransactionSynchStatus();
+		enforceManagedEntityLimit( event.getEntityName(), event.getObject(), false );
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.UPDATE ) ) {
 			listener.onSaveOrUpdate( event );
 		}
@@ -721,6 +898,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	private void firePersist(PersistEvent event) {
 		errorIfClosed();
 		checkTransactionSynchStatus();
+		enforceManagedEntityLimit( event.getEntityName(), event.getObject(), true );
 		for ( PersistEventListener listener : listeners( EventType.PERSIST ) ) {
 			listener.onPersist( event );
 		}
@@ -777,6 +955,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	private Object fireMerge(MergeEvent event) {
 		errorIfClosed();
 		checkTransactionSynchStatus();
+		enforceManagedEntityLimit( event.getEntityName(), event.getOriginal(), false );
 		for ( MergeEventListener listener : listeners( EventType.MERGE ) ) {
 			listener.onMerge( event );
 		}
@@ -947,6 +1126,15 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		return event.getResult();
 	}
 
+	public NaturalIdLoadAccess byNaturalId(Class entityClass) throws HibernateException {
+		return byNaturalId( entityClass.getName() );
+	}
+
+	public NaturalIdLoadAccess byNaturalId(String entityName) throws HibernateException {
+		errorIfClosed();
+		return new NaturalIdLoadAccessImpl( factory.getEntityPersister( entityName ) );
+	}
+
 	private void fireLoad(LoadEvent event, LoadType loadType) {
 		errorIfClosed();
 		checkTransactionSynchStatus();
@@ -1014,6 +1202,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	private void fireReplicate(ReplicateEvent event) {
 		errorIfClosed();
 		checkTransactionSynchStatus();
+		enforceManagedEntityLimit( event.getEntityName(), event.getObject(), false );
 		for ( ReplicateEventListener listener : listeners( EventType.REPLICATE ) ) {
 			listener.onReplicate( event );
 		}
@@ -1888,6 +2077,8 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		cacheMode = CacheMode.valueOf( ( String ) ois.readObject() );
 		flushBeforeCompletionEnabled = ois.readBoolean();
 		autoCloseSessionEnabled = ois.readBoolean();
+		managedEntityLimit = ois.readInt();
+		workingSetTypes = ( Class[] ) ois.readObject();
 		interceptor = ( Interceptor ) ois.readObject();
 
 		factory = SessionFactoryImpl.deserialize( ois );
@@ -1929,6 +2120,8 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		oos.writeObject( cacheMode.name() );
 		oos.writeBoolean( flushBeforeCompletionEnabled );
 		oos.writeBoolean( autoCloseSessionEnabled );
+		oos.writeInt( managedEntityLimit );
+		oos.writeObject( workingSetTypes );
 		// we need to writeObject() on this since interceptor is user defined
 		oos.writeObject( interceptor );
 
@@ -2098,6 +2291,11 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		public SharedSessionBuilder flushBeforeCompletion(boolean flushBeforeCompletion) {
 			return (SharedSessionBuilder) super.flushBeforeCompletion( flushBeforeCompletion );
 		}
+
+		@Override
+		public SharedSessionBuilder managedEntityLimit(int maxManagedEntities, Class... workingSetTypes) {
+			return (SharedSessionBuilder) super.managedEntityLimit( maxManagedEntities, workingSetTypes );
+		}
 	}
 
 	private class CoordinatingEntityNameResolver implements EntityNameResolver {
@@ -2123,6 +2321,180 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		}
 	}
 
+	private class NaturalIdLoadAccessImpl implements NaturalIdLoadAccess {
+		private final EntityPersister persister;
+		private final Map<String, Object> naturalIdParameters = new HashMap<String, Object>();
+		private LockOptions lockOptions;
+
+		private NaturalIdLoadAccessImpl(EntityPersister persister) {
+			if ( !persister.hasNaturalIdentifier() ) {
+				throw new HibernateException( "Entity [" + persister.getEntityName() + "] does not define a natural-id" );
+			}
+			this.persister = persister;
+		}
+
+		public NaturalIdLoadAccess with(LockOptions lockOptions) {
+			this.lockOptions = lockOptions;
+			return this;
+		}
+
+		public NaturalIdLoadAccess using(String propertyName, Object value) {
+			naturalIdParameters.put( propertyName, value );
+			return this;
+		}
+
+		public Object getReference() throws HibernateException {
+			final Object[] naturalIdValues = getNaturalIdValues();
+			Serializable id = resolveNaturalId( naturalIdValues );
+			if ( id == null ) {
+				return null;
+			}
+			// an instance already held by this session must still have these values; a proxy is not
+			// initialized to check it
+			final Object managed = persistenceContext.getEntity( generateEntityKey( id, persister ) );
+			if ( managed != null && !isNaturalIdOf( managed, naturalIdValues ) ) {
+				id = resolveStaleNaturalId( naturalIdValues );
+				if ( id == null ) {
+					return null;
+				}
+			}
+			return lockOptions == null
+					? SessionImpl.this.load( persister.getEntityName(), id )
+					: SessionImpl.this.load( persister.getEntityName(), id, lockOptions );
+		}
+
+		public Object load() throws HibernateException {
+			final Object[] naturalIdValues = getNaturalIdValues();
+			final Serializable id = resolveNaturalId( naturalIdValues );
+			if ( id == null ) {
+				return null;
+			}
+			final Object entity = get( id );
+			if ( entity != null && isNaturalIdOf( entity, naturalIdValues ) ) {
+				return entity;
+			}
+			final Serializable resolvedId = resolveStaleNaturalId( naturalIdValues );
+			return resolvedId == null ? null : get( resolvedId );
+		}
+
+		/**
+		 * The resolution was stale: the entity has since been deleted, or its (mutable) natural-id changed.
+		 * Forget it and ask the database.
+		 */
+		private Serializable resolveStaleNaturalId(Object[] naturalIdValues) {
+			persistenceContext.removeNaturalIdResolution( persister, naturalIdValues );
+			final NaturalIdRegionAccessStrategy cacheAccess = factory.getNaturalIdCacheAccessStrategy( persister.getEntityName() );
+			if ( cacheAccess != null ) {
+				cacheAccess.evict( new NaturalIdCacheKey( naturalIdValues, persister, SessionImpl.this ) );
+			}
+			return resolveNaturalIdFromDatabase( naturalIdValues, cacheAccess );
+		}
+
+		private Object get(Serializable id) {
+			return lockOptions == null
+					? SessionImpl.this.get( persister.getEntityName(), id )
+					: SessionImpl.this.get( persister.getEntityName(), id, lockOptions );
+		}
+
+		private Object[] getNaturalIdValues() {
+			final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+			final String[] propertyNames = persister.getPropertyNames();
+			final Object[] naturalIdValues = new Object[ naturalIdProperties.length ];
+			for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+				final String propertyName = propertyNames[ naturalIdProperties[i] ];
+				if ( !naturalIdParameters.containsKey( propertyName ) ) {
+					throw new HibernateException(
+							"No value specified for natural-id property [" + persister.getEntityName() + "." + propertyName + "]"
+					);
+				}
+				naturalIdValues[i] = naturalIdParameters.get( propertyName );
+			}
+			if ( naturalIdParameters.size() != naturalIdProperties.length ) {
+				throw new HibernateException(
+						"Values specified for properties which are not part of the natural-id of [" + persister.getEntityName() + "]"
+				);
+			}
+			return naturalIdValues;
+		}
+
+		private Serializable resolveNaturalId(Object[] naturalIdValues) {
+			errorIfClosed();
+			checkTransactionSynchStatus();
+
+			Serializable id = persistenceContext.findNaturalIdResolution( persister, naturalIdValues );
+			if ( id != null ) {
+				return id;
+			}
+
+			final NaturalIdRegionAccessStrategy cacheAccess = factory.getNaturalIdCacheAccessStrategy( persister.getEntityName() );
+			if ( cacheAccess != null && getCacheMode().isGetEnabled() ) {
+				final NaturalIdCacheKey cacheKey = new NaturalIdCacheKey( naturalIdValues, persister, SessionImpl.this );
+				id = (Serializable) cacheAccess.get( cacheKey, getTimestamp() );
+				if ( factory.getStatistics().isStatisticsEnabled() ) {
+					if ( id == null ) {
+						factory.getStatisticsImplementor().secondLevelCacheMiss( cacheAccess.getRegion().getName() );
+					}
+					else {
+						factory.getStatisticsImplementor().secondLevelCacheHit( cacheAccess.getRegion().getName() );
+					}
+				}
+				if ( id != null ) {
+					persistenceContext.addNaturalIdResolution( persister, naturalIdValues, id );
+					return id;
+				}
+			}
+
+			return resolveNaturalIdFromDatabase( naturalIdValues, cacheAccess );
+		}
+
+		private Serializable resolveNaturalIdFromDatabase(Object[] naturalIdValues, NaturalIdRegionAccessStrategy cacheAccess) {
+			final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+			final String[] propertyNames = persister.getPropertyNames();
+			final NaturalIdentifier naturalIdentifier = Restrictions.naturalId();
+			for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+				naturalIdentifier.set( propertyNames[ naturalIdProperties[i] ], naturalIdValues[i] );
+			}
+			// criteria queries auto-flush, so pending inserts and natural-id changes are seen
+			final Serializable id = (Serializable) createCriteria( persister.getEntityName() )
+					.add( naturalIdentifier )
+					.setProjection( Projections.id() )
+					.uniqueResult();
+			if ( id == null ) {
+				return null;
+			}
+
+			persistenceContext.addNaturalIdResolution( persister, naturalIdValues, id );
+			// a cross-reference to an entity inserted by this transaction must not be visible to others yet
+			if ( cacheAccess != null && getCacheMode().isPutEnabled()
+					&& !persistenceContext.wasInsertedDuringTransaction( persister, id ) ) {
+				final NaturalIdCacheKey cacheKey = new NaturalIdCacheKey( naturalIdValues, persister, SessionImpl.this );
+				final boolean put = cacheAccess.putFromLoad( cacheKey, id, getTimestamp(), null );
+				if ( put && factory.getStatistics().isStatisticsEnabled() ) {
+					factory.getStatisticsImplementor().secondLevelCachePut( cacheAccess.getRegion().getName() );
+				}
+			}
+			return id;
+		}
+
+		private boolean isNaturalIdOf(Object entity, Object[] naturalIdValues) {
+			if ( persister.getEntityMetamodel().hasImmutableNaturalId() ) {
+				return true;
+			}
+			if ( entity instanceof HibernateProxy ) {
+				entity = ( (HibernateProxy) entity ).getHibernateLazyInitializer().getImplementation();
+			}
+			final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+				final Object currentValue = persister.getPropertyValue( entity, naturalIdProperties[i] );
+				if ( !propertyTypes[ naturalIdProperties[i] ].isEqual( currentValue, naturalIdValues[i], factory ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	private class LockRequestImpl implements LockRequest {
 		private final LockOptions lockOptions;
 		private LockRequestImpl(LockOptions lo) {
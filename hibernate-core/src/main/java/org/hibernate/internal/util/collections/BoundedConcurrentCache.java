@@ -0,0 +1,340 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.internal.util.collections;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded cache safe for concurrent use, intended as a replacement for {@link SoftLimitMRUCache} and
+ * {@link SimpleMRUCache} where many threads read the same small set of entries.
+ * <p/>
+ * Reads never lock: they are a {@link ConcurrentHashMap} lookup, a bump of an approximate access-frequency
+ * counter and (at most) the setting of a "referenced" flag on the entry.  Entries are held strongly; there
+ * are no soft references involved.
+ * <p/>
+ * Once the cache is full, eviction follows a CLOCK (second-chance) sweep over the entries in insertion order.
+ * A new entry is only <i>admitted</i> if it has been requested more often than the entry chosen for eviction,
+ * the access frequencies being tracked in a small count-min sketch which is periodically aged.  This keeps a
+ * burst of one-off keys (ad-hoc queries, IN-lists of varying size, etc) from flushing the frequently used
+ * entries out of the cache.
+ * <p/>
+ * The frequency counters are deliberately updated without synchronization; a lost increment only makes the
+ * admission decision marginally less accurate.
+ * <p/>
+ * <strong>Note:</strong> This class is serializable, however all entries are discarded on serialization.
+ */
+public class BoundedConcurrentCache<K,V> implements Serializable {
+	/**
+	 * The default maximum number of entries.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 2048;
+
+	private final int maxSize;
+	private final EvictionListener<K,V> evictionListener;
+
+	private transient ConcurrentHashMap<K,Node<K,V>> map;
+	private transient ConcurrentLinkedQueue<Node<K,V>> clock;
+	private transient AtomicInteger size;
+	private transient FrequencySketch sketch;
+
+	/**
+	 * Constructs a cache with the default maximum size.
+	 *
+	 * @see #DEFAULT_MAX_SIZE
+	 */
+	public BoundedConcurrentCache() {
+		this( DEFAULT_MAX_SIZE );
+	}
+
+	/**
+	 * Constructs a cache with the specified maximum size.
+	 *
+	 * @param maxSize The maximum number of entries to keep.
+	 */
+	public BoundedConcurrentCache(int maxSize) {
+		this( maxSize, null );
+	}
+
+	/**
+	 * Constructs a cache with the specified maximum size, notifying the given listener of evictions.
+	 *
+	 * @param maxSize The maximum number of entries to keep.
+	 * @param evictionListener Listener notified whenever an entry is evicted to make room for another; may be null.
+	 *
+	 * @throws IllegalArgumentException if the maximum size is less than one.
+	 */
+	public BoundedConcurrentCache(int maxSize, EvictionListener<K,V> evictionListener) {
+		if ( maxSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be greater than zero" );
+		}
+		this.maxSize = maxSize;
+		this.evictionListener = evictionListener;
+		init();
+	}
+
+	/**
+	 * Gets an object from the cache.
+	 *
+	 * @param key the cache key.
+	 *
+	 * @return the stored value, or <code>null</code> if no entry exists.
+	 */
+	public V get(K key) {
+		if ( key == null ) {
+			throw new NullPointerException( "Key to get cannot be null" );
+		}
+
+		sketch.increment( key );
+		final Node<K,V> node = map.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		if ( !node.referenced ) {
+			// only write when needed, to avoid bouncing the cache line of a hot entry between cores
+			node.referenced = true;
+		}
+		return node.value;
+	}
+
+	/**
+	 * Puts a value in the cache, unless another value is already cached under that key.  When the cache is full
+	 * the value may also be rejected in favor of a more frequently used entry.
+	 *
+	 * @param key the key.
+	 * @param value the value.
+	 *
+	 * @return the value now cached under that key (which is either the given value or a previously cached one),
+	 * or <code>null</code> if the value was not admitted into the cache.
+	 */
+	public V putIfAbsent(K key, V value) {
+		if ( key == null || value == null ) {
+			throw new NullPointerException(
+					getClass().getName() + " does not support null key [" + key + "] or value [" + value + "]"
+			);
+		}
+
+		Node<K,V> existing = map.get( key );
+		if ( existing != null ) {
+			return existing.value;
+		}
+
+		if ( size.get() >= maxSize && !makeRoomFor( key ) ) {
+			return null;
+		}
+
+		final Node<K,V> node = new Node<K,V>( key, value );
+		existing = map.putIfAbsent( key, node );
+		if ( existing != null ) {
+			return existing.value;
+		}
+		size.incrementAndGet();
+		clock.offer( node );
+		return value;
+	}
+
+	/**
+	 * Sweeps the clock looking for an entry to evict in favor of the candidate key.
+	 *
+	 * @param candidateKey The key about to be added
+	 *
+	 * @return true if room was made (or is no longer needed); false if the candidate should not be admitted.
+	 */
+	private boolean makeRoomFor(K candidateKey) {
+		// bound the sweep; after one full revolution every "referenced" flag has been cleared anyway
+		int remainingSteps = 2 * maxSize + 1;
+		while ( size.get() >= maxSize && remainingSteps-- > 0 ) {
+			final Node<K,V> victim = clock.poll();
+			if ( victim == null ) {
+				// concurrently emptied
+				return true;
+			}
+			if ( map.get( victim.key ) != victim ) {
+				// stale node (cache was cleared); simply drop it
+				continue;
+			}
+			if ( victim.referenced ) {
+				victim.referenced = false;
+				clock.offer( victim );
+				continue;
+			}
+			if ( sketch.frequency( candidateKey ) <= sketch.frequency( victim.key ) ) {
+				// the victim is at least as popular as the candidate: keep it and reject the candidate
+				clock.offer( victim );
+				return false;
+			}
+			if ( map.remove( victim.key, victim ) ) {
+				size.decrementAndGet();
+				if ( evictionListener != null ) {
+					evictionListener.onEviction( victim.key, victim.value );
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the number of entries currently cached.
+	 *
+	 * @return the cache size.
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Gets the maximum number of entries this cache will hold.
+	 *
+	 * @return the maximum cache size.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Clears the cache.
+	 */
+	public void clear() {
+		map.clear();
+		clock.clear();
+		size.set( 0 );
+		sketch.clear();
+	}
+
+	private void init() {
+		this.map = new ConcurrentHashMap<K,Node<K,V>>( Math.min( maxSize, 1024 ) );
+		this.clock = new ConcurrentLinkedQueue<Node<K,V>>();
+		this.size = new AtomicInteger();
+		this.sketch = new FrequencySketch( maxSize );
+	}
+
+	private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		init();
+	}
+
+	/**
+	 * Contract for being notified of entries evicted from a {@link BoundedConcurrentCache}.
+	 */
+	public static interface EvictionListener<K,V> extends Serializable {
+		/**
+		 * Called after an entry was evicted from the cache.
+		 *
+		 * @param key The evicted key
+		 * @param value The evicted value
+		 */
+		public void onEviction(K key, V value);
+	}
+
+	private static final class Node<K,V> {
+		private final K key;
+		private final V value;
+		private volatile boolean referenced;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Approximate frequency counts (count-min sketch of saturating 4-bit counters, packed 8 to an int).  All
+	 * counters are halved once a sample of 10 times the cache size has been recorded, so that the counts reflect
+	 * recent history.
+	 */
+	private static final class FrequencySketch {
+		private static final int DEPTH = 4;
+		private static final int MAX_COUNT = 15;
+		private static final int[] SEEDS = { 0x97cb3127, 0xb3a7c1d9, 0x7fb1c3a5, 0x3c6ef372 };
+
+		private final int[] table;
+		private final int indexShift;
+		private final int sampleSize;
+		private int additions;
+
+		private FrequencySketch(int maxSize) {
+			int counters = 1024;
+			while ( counters < maxSize * 16L && counters < ( 1 << 26 ) ) {
+				counters <<= 1;
+			}
+			this.table = new int[counters >>> 3];
+			this.indexShift = Integer.numberOfLeadingZeros( counters ) + 1;
+			this.sampleSize = maxSize * 10 > 0 ? maxSize * 10 : Integer.MAX_VALUE;
+		}
+
+		private void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			boolean added = false;
+			for ( int i = 0; i < DEPTH; i++ ) {
+				final int index = indexOf( hash, i );
+				final int shift = ( index & 7 ) << 2;
+				final int word = table[index >>> 3];
+				if ( ( ( word >>> shift ) & MAX_COUNT ) < MAX_COUNT ) {
+					table[index >>> 3] = word + ( 1 << shift );
+					added = true;
+				}
+			}
+			if ( added && ++additions >= sampleSize ) {
+				age();
+			}
+		}
+
+		private int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			int frequency = MAX_COUNT;
+			for ( int i = 0; i < DEPTH; i++ ) {
+				final int index = indexOf( hash, i );
+				frequency = Math.min( frequency, ( table[index >>> 3] >>> ( ( index & 7 ) << 2 ) ) & MAX_COUNT );
+			}
+			return frequency;
+		}
+
+		private void age() {
+			additions = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = ( table[i] >>> 1 ) & 0x77777777;
+			}
+		}
+
+		private void clear() {
+			additions = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = 0;
+			}
+		}
+
+		private int indexOf(int hash, int depth) {
+			// the high bits of the product depend on all bits of the hash
+			return ( hash * SEEDS[depth] ) >>> indexShift;
+		}
+
+		private static int spread(int hash) {
+			hash ^= ( hash >>> 20 ) ^ ( hash >>> 12 );
+			return hash ^ ( hash >>> 7 ) ^ ( hash >>> 4 );
+		}
+	}
+}
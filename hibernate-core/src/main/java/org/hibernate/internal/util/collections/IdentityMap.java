@@ -24,23 +24,38 @@
  */
 package org.hibernate.internal.util.collections;
 
-import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * A <tt>Map</tt> where keys are compared by object identity,
  * rather than <tt>equals()</tt>.
+ * <p/>
+ * The keys and values are held in insertion order in two arrays, indexed by an open addressing
+ * hash table of positions, so that no object is allocated per entry.  Removed entries leave a
+ * hole in the arrays until they are compacted, when growing.
  */
 public final class IdentityMap<K,V> implements Map<K,V> {
+	private static final int MIN_CAPACITY = 8;
+	// stands for the null key, a null key in the arrays marking a removed entry
+	private static final Object NULL_KEY = new Object();
+
+	private Object[] keys;
+	private Object[] values;
+	// number of positions of the arrays used, including the holes
+	private int used;
+	private int size;
+	// position + 1 of the entries, by hash of their key; twice as long as the arrays
+	private int[] index;
 
-	private final Map<IdentityKey<K>,V> map;
 	@SuppressWarnings( {"unchecked"})
-	private transient Entry<IdentityKey<K>,V>[] entryArray = new Entry[0];
+	private transient Entry<K,V>[] entryArray = new Entry[0];
 	private transient boolean dirty = false;
 
 	/**
@@ -51,16 +66,17 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 * @return The map
 	 */
 	public static <K,V> IdentityMap<K,V> instantiateSequenced(int size) {
-		return new IdentityMap<K,V>( new LinkedHashMap<IdentityKey<K>,V>( size ) );
+		return new IdentityMap<K,V>( size );
 	}
 
-	/**
-	 * Private ctor used in serialization.
-	 *
-	 * @param underlyingMap The delegate map.
-	 */
-	private IdentityMap(Map<IdentityKey<K>,V> underlyingMap) {
-		map = underlyingMap;
+	private IdentityMap(int size) {
+		int capacity = MIN_CAPACITY;
+		while ( capacity < size ) {
+			capacity <<= 1;
+		}
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		index = new int[capacity * 2];
 		dirty = true;
 	}
 
@@ -77,47 +93,103 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	public Iterator<K> keyIterator() {
-		return new KeyIterator<K>( map.keySet().iterator() );
+		return new KeyIterator();
 	}
 
 	@Override
 	public int size() {
-		return map.size();
+		return size;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return map.isEmpty();
+		return size == 0;
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	public boolean containsKey(Object key) {
-		return map.containsKey( new IdentityKey( key ) );
+		return index[ slotOf( maskNull( key ) ) ] != 0;
 	}
 
 	@Override
 	public boolean containsValue(Object val) {
-		return map.containsValue(val);
+		for ( int position = 0; position < used; position++ ) {
+			if ( keys[position] != null
+					&& ( val == null ? values[position] == null : val.equals( values[position] ) ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public V get(Object key) {
-		return map.get( new IdentityKey(key) );
+		final int entry = index[ slotOf( maskNull( key ) ) ];
+		return entry == 0 ? null : (V) values[entry - 1];
 	}
 
 	@Override
+	@SuppressWarnings( {"unchecked"})
 	public V put(K key, V value) {
 		dirty = true;
-		return map.put( new IdentityKey<K>(key), value );
+		final Object maskedKey = maskNull( key );
+		int slot = slotOf( maskedKey );
+		if ( index[slot] != 0 ) {
+			final int position = index[slot] - 1;
+			final V old = (V) values[position];
+			values[position] = value;
+			return old;
+		}
+
+		if ( used == keys.length ) {
+			ensureCapacity();
+			slot = slotOf( maskedKey );
+		}
+		keys[used] = maskedKey;
+		values[used] = value;
+		index[slot] = ++used;
+		size++;
+		return null;
 	}
 
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public V remove(Object key) {
 		dirty = true;
-		return map.remove( new IdentityKey(key) );
+		int slot = slotOf( maskNull( key ) );
+		if ( index[slot] == 0 ) {
+			return null;
+		}
+
+		final int position = index[slot] - 1;
+		final V old = (V) values[position];
+		keys[position] = null;
+		values[position] = null;
+		size--;
+		while ( used > 0 && keys[used - 1] == null ) {
+			used--;
+		}
+
+		// shift back the following entries of the probe sequence, which would no longer be found otherwise
+		final int mask = index.length - 1;
+		int next = slot;
+		while ( true ) {
+			next = ( next + 1 ) & mask;
+			if ( index[next] == 0 ) {
+				break;
+			}
+			final int home = hash( keys[index[next] - 1], mask );
+			final boolean between = slot <= next
+					? slot < home && home <= next
+					: slot < home || home <= next;
+			if ( !between ) {
+				index[slot] = index[next];
+				slot = next;
+			}
+		}
+		index[slot] = 0;
+		return old;
 	}
 
 	@Override
@@ -131,7 +203,11 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	public void clear() {
 		dirty = true;
 		entryArray = null;
-		map.clear();
+		Arrays.fill( keys, 0, used, null );
+		Arrays.fill( values, 0, used, null );
+		Arrays.fill( index, 0 );
+		used = 0;
+		size = 0;
 	}
 
 	@Override
@@ -142,14 +218,27 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 
 	@Override
 	public Collection<V> values() {
-		return map.values();
+		return new AbstractCollection<V>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new ValueIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
 	}
 
 	@Override
+	@SuppressWarnings( {"unchecked"})
 	public Set<Entry<K,V>> entrySet() {
-		Set<Entry<K,V>> set = new HashSet<Entry<K,V>>( map.size() );
-		for ( Entry<IdentityKey<K>, V> entry : map.entrySet() ) {
-			set.add( new IdentityMapEntry<K,V>( entry.getKey().getRealKey(), entry.getValue() ) );
+		Set<Entry<K,V>> set = new LinkedHashSet<Entry<K,V>>( size * 2 );
+		for ( int position = 0; position < used; position++ ) {
+			if ( keys[position] != null ) {
+				set.add( new IdentityMapEntry<K,V>( (K) unmaskNull( keys[position] ), (V) values[position] ) );
+			}
 		}
 		return set;
 	}
@@ -157,12 +246,12 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	@SuppressWarnings( {"unchecked"})
 	public Map.Entry[] entryArray() {
 		if (dirty) {
-			entryArray = new Map.Entry[ map.size() ];
-			Iterator itr = map.entrySet().iterator();
+			entryArray = new Map.Entry[ size ];
 			int i=0;
-			while ( itr.hasNext() ) {
-				Map.Entry me = (Map.Entry) itr.next();
-				entryArray[i++] = new IdentityMapEntry( ( (IdentityKey) me.getKey() ).key, me.getValue() );
+			for ( int position = 0; position < used; position++ ) {
+				if ( keys[position] != null ) {
+					entryArray[i++] = new IdentityMapEntry( unmaskNull( keys[position] ), values[position] );
+				}
 			}
 			dirty = false;
 		}
@@ -170,31 +259,115 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	@Override
-    public String toString() {
-		return map.toString();
+	public String toString() {
+		StringBuilder buffer = new StringBuilder( "{" );
+		for ( int position = 0; position < used; position++ ) {
+			if ( keys[position] != null ) {
+				if ( buffer.length() > 1 ) {
+					buffer.append( ", " );
+				}
+				buffer.append( unmaskNull( keys[position] ) ).append( '=' ).append( values[position] );
+			}
+		}
+		return buffer.append( '}' ).toString();
 	}
 
-	static final class KeyIterator<K> implements Iterator<K> {
-		private final Iterator<IdentityKey<K>> identityKeyIterator;
+	private static Object maskNull(Object key) {
+		return key == null ? NULL_KEY : key;
+	}
 
-		private KeyIterator(Iterator<IdentityKey<K>> iterator) {
-			identityKeyIterator = iterator;
+	private static Object unmaskNull(Object key) {
+		return key == NULL_KEY ? null : key;
+	}
+
+	private static int hash(Object key, int mask) {
+		final int hash = System.identityHashCode( key );
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	/**
+	 * The slot of the index holding the given key, or the free slot where it would go.
+	 */
+	private int slotOf(Object key) {
+		final int mask = index.length - 1;
+		int slot = hash( key, mask );
+		while ( index[slot] != 0 && keys[index[slot] - 1] != key ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Called when the arrays are full: compacts them, doubling their length unless at least half
+	 * of it were holes, and rebuilds the index.
+	 */
+	private void ensureCapacity() {
+		final int capacity = size * 2 > keys.length ? keys.length * 2 : keys.length;
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		index = new int[capacity * 2];
+		final int mask = index.length - 1;
+		int position = 0;
+		for ( int i = 0; i < used; i++ ) {
+			if ( oldKeys[i] != null ) {
+				keys[position] = oldKeys[i];
+				values[position] = oldValues[i];
+				int slot = hash( oldKeys[i], mask );
+				while ( index[slot] != 0 ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				index[slot] = ++position;
+			}
+		}
+		used = position;
+	}
+
+	private abstract class PositionIterator {
+		private int next = advance( 0 );
+
+		private int advance(int from) {
+			int position = from;
+			while ( position < used && keys[position] == null ) {
+				position++;
+			}
+			return position;
 		}
 
 		public boolean hasNext() {
-			return identityKeyIterator.hasNext();
+			return next < used;
 		}
 
-		public K next() {
-			return identityKeyIterator.next().getRealKey();
+		int nextPosition() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final int position = next;
+			next = advance( next + 1 );
+			return position;
 		}
 
 		public void remove() {
 			throw new UnsupportedOperationException();
 		}
+	}
+
+	private final class KeyIterator extends PositionIterator implements Iterator<K> {
+		@SuppressWarnings( {"unchecked"})
+		public K next() {
+			return (K) unmaskNull( keys[nextPosition()] );
+		}
+	}
 
+	private final class ValueIterator extends PositionIterator implements Iterator<V> {
+		@SuppressWarnings( {"unchecked"})
+		public V next() {
+			return (V) values[nextPosition()];
+		}
 	}
-		public static final class IdentityMapEntry<K,V> implements java.util.Map.Entry<K,V> {
+
+	public static final class IdentityMapEntry<K,V> implements java.util.Map.Entry<K,V> {
 		private K key;
 		private V value;
 
@@ -217,33 +390,4 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 			return result;
 		}
 	}
-
-	public static final class IdentityKey<K> implements Serializable {
-		private K key;
-
-		IdentityKey(K key) {
-			this.key=key;
-		}
-
-		@SuppressWarnings( {"EqualsWhichDoesntCheckParameterClass"})
-		@Override
-        public boolean equals(Object other) {
-			return key == ( (IdentityKey) other ).key;
-		}
-
-		@Override
-        public int hashCode() {
-			return System.identityHashCode(key);
-		}
-
-		@Override
-        public String toString() {
-			return key.toString();
-		}
-
-		public K getRealKey() {
-			return key;
-		}
-	}
-
-}
\ No newline at end of file
+}
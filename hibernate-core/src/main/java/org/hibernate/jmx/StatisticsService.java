@@ -11,6 +11,7 @@ import org.hibernate.SessionFactory;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.SessionFactoryRegistry;
 import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.ConnectionPoolStatistics;
 import org.hibernate.stat.EntityStatistics;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.SecondLevelCacheStatistics;
@@ -130,6 +131,12 @@ public class StatisticsService implements StatisticsServiceMBean {
 	public SecondLevelCacheStatistics getSecondLevelCacheStatistics(String regionName) {
 		return stats.getSecondLevelCacheStatistics(regionName);
 	}
+	/**
+	 * @see StatisticsServiceMBean#getConnectionPoolStatistics()
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return stats.getConnectionPoolStatistics();
+	}
 	/**
 	 * @see StatisticsServiceMBean#getQueryStatistics(java.lang.String)
 	 */
@@ -197,6 +204,18 @@ public class StatisticsService implements StatisticsServiceMBean {
 		return stats.getUpdateTimestampsCachePutCount();
 	}
 
+	public long getQueryPlanCacheHitCount() {
+		return stats.getQueryPlanCacheHitCount();
+	}
+
+	public long getQueryPlanCacheMissCount() {
+		return stats.getQueryPlanCacheMissCount();
+	}
+
+	public long getQueryPlanCacheEvictionCount() {
+		return stats.getQueryPlanCacheEvictionCount();
+	}
+
 	/**
 	 * @see StatisticsServiceMBean#getFlushCount()
 	 */
@@ -323,6 +342,12 @@ public class StatisticsService implements StatisticsServiceMBean {
 	public long getPrepareStatementCount() {
 		return stats.getPrepareStatementCount();
 	}
+	public long getPreparedStatementCacheHitCount() {
+		return stats.getPreparedStatementCacheHitCount();
+	}
+	public long getPreparedStatementCacheMissCount() {
+		return stats.getPreparedStatementCacheMissCount();
+	}
 
 	public long getOptimisticFailureCount() {
 		return stats.getOptimisticFailureCount();
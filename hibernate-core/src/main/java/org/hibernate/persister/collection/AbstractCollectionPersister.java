@@ -1051,6 +1051,10 @@ public abstract class AbstractCollectionPersister
 		return isLazy;
 	}
 
+	public boolean isBatchLoadable() {
+		return batchSize > 1;
+	}
+
 	public boolean isInverse() {
 		return isInverse;
 	}
@@ -155,6 +155,10 @@ public interface CollectionPersister {
 	 * Is this collection lazyily initialized?
 	 */
 	public boolean isLazy();
+	/**
+	 * Is batch loading enabled?
+	 */
+	public boolean isBatchLoadable();
 	/**
 	 * Is this collection "inverse", so state changes are not
 	 * propogated to the database.
@@ -29,6 +29,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -56,12 +57,15 @@ import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.PackedCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowBatch;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.EntityEntry;
@@ -76,12 +80,14 @@ import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.PostInsertIdentifierGenerator;
 import org.hibernate.id.PostInsertIdentityPersister;
+import org.hibernate.id.insert.BatchedInsertGeneratedIdentifierDelegate;
 import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
@@ -132,19 +138,24 @@ import org.hibernate.type.VersionType;
  */
 public abstract class AbstractEntityPersister
 		implements OuterJoinLoadable, Queryable, ClassMetadata, UniqueKeyLoadable,
-				   SQLLoadable, LazyPropertyInitializer, PostInsertIdentityPersister, Lockable {
+				   SQLLoadable, LazyPropertyInitializer, PostInsertIdentityPersister, Lockable,
+				   IdentityInsertBatchable {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class,
                                                                        AbstractEntityPersister.class.getName());
 
 	public static final String ENTITY_CLASS = "class";
 
+	// the distinct dirty-property patterns of an entity are usually few
+	private static final int DYNAMIC_SQL_CACHE_SIZE = 128;
+
 	// moved up from AbstractEntityPersister ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	private final SessionFactoryImplementor factory;
 	private final EntityRegionAccessStrategy cacheAccessStrategy;
 	private final boolean isLazyPropertiesCacheable;
 	private final CacheEntryStructure cacheEntryStructure;
 	private final EntityMetamodel entityMetamodel;
+	private final BoundedConcurrentCache<DynamicSqlKey,String> dynamicSqlCache;
 	private final EntityTuplizer entityTuplizer;
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -250,6 +261,7 @@ public abstract class AbstractEntityPersister
 	protected ExecuteUpdateResultCheckStyle[] deleteResultCheckStyles;
 
 	private InsertGeneratedIdentifierDelegate identityDelegate;
+	private boolean identityInsertBatchable;
 
 	private boolean[] tableHasColumns;
 
@@ -491,12 +503,11 @@ public abstract class AbstractEntityPersister
 		this.factory = factory;
 		this.cacheAccessStrategy = cacheAccessStrategy;
 		isLazyPropertiesCacheable = persistentClass.isLazyPropertiesCacheable();
-		this.cacheEntryStructure = factory.getSettings().isStructuredCacheEntriesEnabled() ?
-				(CacheEntryStructure) new StructuredCacheEntry(this) :
-				(CacheEntryStructure) new UnstructuredCacheEntry();
+		this.cacheEntryStructure = buildCacheEntryStructure();
 
 		this.entityMetamodel = new EntityMetamodel( persistentClass, factory );
 		this.entityTuplizer = this.entityMetamodel.getTuplizer();
+		this.dynamicSqlCache = buildDynamicSqlCache();
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 		int batch = persistentClass.getBatchSize();
@@ -777,12 +788,10 @@ public abstract class AbstractEntityPersister
 				entityBinding.getHierarchyDetails().getCaching() == null ?
 						false :
 						entityBinding.getHierarchyDetails().getCaching().isCacheLazyProperties();
-		this.cacheEntryStructure =
-				factory.getSettings().isStructuredCacheEntriesEnabled() ?
-						new StructuredCacheEntry(this) :
-						new UnstructuredCacheEntry();
+		this.cacheEntryStructure = buildCacheEntryStructure();
 		this.entityMetamodel = new EntityMetamodel( entityBinding, factory );
 		this.entityTuplizer = this.entityMetamodel.getTuplizer();
+		this.dynamicSqlCache = buildDynamicSqlCache();
 		int batch = entityBinding.getBatchSize();
 		if ( batch == -1 ) {
 			batch = factory.getSettings().getDefaultBatchFetchSize();
@@ -1087,6 +1096,16 @@ public abstract class AbstractEntityPersister
 		temporaryIdTableDDL = null;
 	}
 
+	private CacheEntryStructure buildCacheEntryStructure() {
+		if ( cacheAccessStrategy != null
+				&& factory.getSettings().isPackedCacheEntriesEnabled( cacheAccessStrategy.getRegion().getName() ) ) {
+			return new PackedCacheEntry( this );
+		}
+		return factory.getSettings().isStructuredCacheEntriesEnabled() ?
+				new StructuredCacheEntry( this ) :
+				new UnstructuredCacheEntry();
+	}
+
 	protected static String getTemplateFromString(String string, SessionFactoryImplementor factory) {
 		return string == null ?
 				null :
@@ -2372,6 +2391,93 @@ public abstract class AbstractEntityPersister
 		return true;
 	}
 
+	private BoundedConcurrentCache<DynamicSqlKey,String> buildDynamicSqlCache() {
+		return entityMetamodel.isDynamicInsert() || entityMetamodel.isDynamicUpdate()
+				? new BoundedConcurrentCache<DynamicSqlKey,String>( DYNAMIC_SQL_CACHE_SIZE )
+				: null;
+	}
+
+	/**
+	 * Get the SQL that updates a row by id (and version), reusing the statement generated for an earlier update
+	 * of the same properties.
+	 */
+	private String getDynamicUpdateString(boolean[] includeProperty, int j, Object[] oldFields, boolean useRowId) {
+		if ( dynamicSqlCache == null ) {
+			return generateUpdateString( includeProperty, j, oldFields, useRowId );
+		}
+		final BitSet flags = DynamicSqlKey.toFlags( includeProperty );
+		if ( !( j == 0 && isVersioned() && entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.VERSION )
+				&& isAllOrDirtyOptLocking() && oldFields != null ) {
+			// the where clause depends on which of the old values are null
+			addOptimisticLockNullness( flags, includeProperty, j, oldFields );
+		}
+		final DynamicSqlKey key = new DynamicSqlKey( DynamicSqlKey.UPDATE, j, useRowId, flags );
+		String sql = getCachedDynamicSql( key );
+		if ( sql == null ) {
+			sql = cacheDynamicSql( key, generateUpdateString( includeProperty, j, oldFields, useRowId ) );
+		}
+		return sql;
+	}
+
+	private void addOptimisticLockNullness(BitSet flags, boolean[] includeProperty, int j, Object[] oldFields) {
+		// keep in sync with the where clause rendered by generateUpdateString()
+		final boolean[] includeInWhere = entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.ALL
+				? getPropertyUpdateability()
+				: includeProperty;
+		final boolean[] versionability = getPropertyVersionability();
+		final Type[] types = getPropertyTypes();
+		int index = includeProperty.length;
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( includeInWhere[i] && isPropertyOfTable( i, j ) && versionability[i] ) {
+				for ( boolean notNull : types[i].toColumnNullness( oldFields[i], getFactory() ) ) {
+					if ( notNull ) {
+						flags.set( index );
+					}
+					index++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the SQL that inserts a row, reusing the statement generated for an earlier insert of the same properties.
+	 */
+	private String getDynamicInsertString(boolean identityInsert, boolean[] includeProperty, int j) {
+		if ( dynamicSqlCache == null ) {
+			return generateInsertString( identityInsert, includeProperty, j );
+		}
+		final DynamicSqlKey key = new DynamicSqlKey(
+				identityInsert ? DynamicSqlKey.IDENTITY_INSERT : DynamicSqlKey.INSERT,
+				j,
+				false,
+				DynamicSqlKey.toFlags( includeProperty )
+		);
+		String sql = getCachedDynamicSql( key );
+		if ( sql == null ) {
+			sql = cacheDynamicSql( key, generateInsertString( identityInsert, includeProperty, j ) );
+		}
+		return sql;
+	}
+
+	private String getCachedDynamicSql(DynamicSqlKey key) {
+		final String sql = dynamicSqlCache.get( key );
+		if ( sql != null && getFactory().getStatistics().isStatisticsEnabled() ) {
+			getFactory().getStatisticsImplementor().dynamicSqlCacheHit( getEntityName() );
+		}
+		return sql;
+	}
+
+	private String cacheDynamicSql(DynamicSqlKey key, String sql) {
+		if ( sql != null ) {
+			// the cache may decline to admit a rarely used statement, which is then simply not reused
+			dynamicSqlCache.putIfAbsent( key, sql );
+		}
+		if ( getFactory().getStatistics().isStatisticsEnabled() ) {
+			getFactory().getStatisticsImplementor().dynamicSqlCacheMiss( getEntityName(), dynamicSqlCache.size() );
+		}
+		return sql;
+	}
+
 	protected String generateUpdateString(boolean[] includeProperty, int j, boolean useRowId) {
 		return generateUpdateString( includeProperty, j, null, useRowId );
 	}
@@ -2757,6 +2863,37 @@ public abstract class AbstractEntityPersister
 		return identityDelegate.performInsert( sql, session, binder );
 	}
 
+	public boolean isIdentityInsertBatchable() {
+		return identityInsertBatchable;
+	}
+
+	public Serializable[] insert(Object[][] fields, Object[] objects, final SessionImplementor session)
+			throws HibernateException {
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Inserting {0} instances of entity: {1} (native id, batched)", objects.length, getEntityName() );
+		}
+
+		final Binder[] binders = new Binder[objects.length];
+		for ( int i = 0; i < binders.length; i++ ) {
+			final Object[] rowFields = fields[i];
+			final Object object = objects[i];
+			binders[i] = new Binder() {
+				public void bindValues(PreparedStatement ps) throws SQLException {
+					dehydrate( null, rowFields, getPropertyInsertability(), propertyColumnInsertable, 0, ps, session );
+				}
+				public Object getEntity() {
+					return object;
+				}
+			};
+		}
+		return ( (BatchedInsertGeneratedIdentifierDelegate) identityDelegate ).performBatchInsert(
+				getSQLIdentityInsertString(),
+				session,
+				binders
+		);
+	}
+
 	public String getIdentitySelectString() {
 		//TODO: cache this in an instvar
 		return getFactory().getDialect().getIdentitySelectString(
@@ -2775,6 +2912,8 @@ public abstract class AbstractEntityPersister
 	}
 
 	private BasicBatchKey inserBatchKey;
+	private MultiRowInsertBatchKey multiRowInsertBatchKey;
+	private boolean multiRowInsertBatchKeyResolved;
 
 	/**
 	 * Perform an SQL INSERT.
@@ -2818,6 +2957,13 @@ public abstract class AbstractEntityPersister
 					expectation
 			);
 		}
+		if ( useBatch ) {
+			final MultiRowInsertBatchKey multiRowKey = resolveMultiRowInsertBatchKey( expectation );
+			if ( multiRowKey != null ) {
+				insertRow( multiRowKey, id, fields, notNull, session );
+				return;
+			}
+		}
 		final boolean callable = isInsertCallable( j );
 
 		try {
@@ -2875,6 +3021,67 @@ public abstract class AbstractEntityPersister
 
 	}
 
+	private MultiRowInsertBatchKey resolveMultiRowInsertBatchKey(Expectation expectation) {
+		if ( !multiRowInsertBatchKeyResolved ) {
+			// the rows are bound only once the batch executes, so only the static SQL without
+			// any value generated by the insert itself can be used
+			if ( getFactory().getSettings().isMultiRowInsertEnabled()
+					&& !entityMetamodel.isDynamicInsert()
+					&& customSQLInsert[0] == null
+					&& !hasInsertGeneratedProperties() ) {
+				multiRowInsertBatchKey = MultiRowInsertBatchKey.build(
+						this,
+						getSQLInsertStrings()[0],
+						expectation,
+						getFactory().getSettings().getJdbcBatchSize(),
+						getFactory().getDialect().getMaxParametersPerStatement(),
+						getFactory().getDialect().getMaxRowsPerInsert()
+				);
+			}
+			multiRowInsertBatchKeyResolved = true;
+		}
+		return multiRowInsertBatchKey;
+	}
+
+	/**
+	 * Add the row to the multi-row insert batch.  We MUST use the state at the time the insert was
+	 * issued, which the batch keeps until the row is bound.
+	 */
+	private void insertRow(
+			final MultiRowInsertBatchKey key,
+			final Serializable id,
+			final Object[] fields,
+			final boolean[] notNull,
+			final SessionImplementor session) throws HibernateException {
+		final Batch batch = session.getTransactionCoordinator().getJdbcCoordinator().getBatch( key );
+		final MultiRowInsertBatchKey.Row row = new MultiRowInsertBatchKey.Row( id, fields, notNull, session );
+		if ( batch instanceof MultiRowBatch ) {
+			( (MultiRowBatch) batch ).addRow( row );
+			return;
+		}
+
+		// the batch builder does not know about multi-row statements, so batch a row per parameter set
+		final String sql = key.getSql( 1 );
+		try {
+			final PreparedStatement insert = batch.getBatchStatement( sql, false );
+			try {
+				key.bindRow( row, insert, 1 );
+				batch.addToBatch();
+			}
+			catch ( SQLException e ) {
+				session.getTransactionCoordinator().getJdbcCoordinator().abortBatch();
+				throw e;
+			}
+		}
+		catch ( SQLException e ) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					"could not insert: " + MessageHelper.infoString( this ),
+					sql
+			);
+		}
+	}
+
 	/**
 	 * Perform an SQL UPDATE or SQL INSERT
 	 */
@@ -3198,7 +3405,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3218,7 +3425,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3258,9 +3465,9 @@ public abstract class AbstractEntityPersister
 		if ( entityMetamodel.isDynamicInsert() ) {
 			// For the case of dynamic-insert="true", we need to generate the INSERT SQL
 			boolean[] notNull = getPropertiesToInsert( fields );
-			id = insert( fields, notNull, generateInsertString( true, notNull ), object, session );
+			id = insert( fields, notNull, getDynamicInsertString( true, notNull, 0 ), object, session );
 			for ( int j = 1; j < span; j++ ) {
-				insert( id, fields, notNull, j, generateInsertString( notNull, j ), object, session );
+				insert( id, fields, notNull, j, getDynamicInsertString( false, notNull, j ), object, session );
 			}
 		}
 		else {
@@ -3281,7 +3488,7 @@ public abstract class AbstractEntityPersister
 			// For the case of dynamic-insert="true", we need to generate the INSERT SQL
 			boolean[] notNull = getPropertiesToInsert( fields );
 			for ( int j = 0; j < span; j++ ) {
-				insert( id, fields, notNull, j, generateInsertString( notNull, j ), object, session );
+				insert( id, fields, notNull, j, getDynamicInsertString( false, notNull, j ), object, session );
 			}
 		}
 		else {
@@ -3584,6 +3791,12 @@ public abstract class AbstractEntityPersister
 			sqlIdentityInsertString = customSQLInsert[0] == null
 					? generateIdentityInsertString( getPropertyInsertability() )
 					: customSQLInsert[0];
+			// every row of the batch must use the same (static) SQL against the single table
+			identityInsertBatchable = getFactory().getSettings().isIdentityInsertBatchingEnabled()
+					&& identityDelegate instanceof BatchedInsertGeneratedIdentifierDelegate
+					&& getTableSpan() == 1
+					&& !entityMetamodel.isDynamicInsert()
+					&& customSQLInsert[0] == null;
 		}
 		else {
 			sqlIdentityInsertString = null;
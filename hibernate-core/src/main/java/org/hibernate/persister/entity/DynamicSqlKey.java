@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.persister.entity;
+
+import java.util.BitSet;
+
+/**
+ * Identifies a dynamic-insert or dynamic-update statement of an {@link AbstractEntityPersister}: the kind of
+ * statement, the table, whether the row is located by rowid and the flags determining the rendered SQL (the
+ * properties included followed, for property based optimistic locking, by the nullness of the restricted columns).
+ */
+final class DynamicSqlKey {
+	static final int INSERT = 0;
+	static final int IDENTITY_INSERT = 1;
+	static final int UPDATE = 2;
+
+	private final int kind;
+	private final int table;
+	private final boolean useRowId;
+	private final BitSet flags;
+	private final int hashCode;
+
+	DynamicSqlKey(int kind, int table, boolean useRowId, BitSet flags) {
+		this.kind = kind;
+		this.table = table;
+		this.useRowId = useRowId;
+		this.flags = flags;
+		int result = kind;
+		result = 31 * result + table;
+		result = 31 * result + ( useRowId ? 1 : 0 );
+		result = 31 * result + flags.hashCode();
+		this.hashCode = result;
+	}
+
+	static BitSet toFlags(boolean[] includeProperty) {
+		BitSet flags = new BitSet( includeProperty.length );
+		for ( int i = 0; i < includeProperty.length; i++ ) {
+			if ( includeProperty[i] ) {
+				flags.set( i );
+			}
+		}
+		return flags;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof DynamicSqlKey ) ) {
+			return false;
+		}
+		DynamicSqlKey that = (DynamicSqlKey) o;
+		return hashCode == that.hashCode
+				&& kind == that.kind
+				&& table == that.table
+				&& useRowId == that.useRowId
+				&& flags.equals( that.flags );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.persister.entity;
+import java.io.Serializable;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Contract for persisters able to insert several instances of an entity with an IDENTITY
+ * generated identifier as a single JDBC batch.
+ */
+public interface IdentityInsertBatchable extends EntityPersister {
+	/**
+	 * Can the inserts of this entity currently be batched?  This depends on the settings, on
+	 * the way the generated identifier is read back, and on the mapping of the entity.
+	 *
+	 * @return True if {@link #insert(Object[][], Object[], SessionImplementor)} may be used.
+	 */
+	public boolean isIdentityInsertBatchable();
+
+	/**
+	 * Persist the given instances as a single JDBC batch, returning the generated identifiers.
+	 *
+	 * @param fields The state to insert, one array per instance.
+	 * @param objects The instances.
+	 * @param session The originating session.
+	 * @return The generated identifiers, in the order of the instances.
+	 * @throws HibernateException Problem inserting.
+	 */
+	public Serializable[] insert(Object[][] fields, Object[] objects, SessionImplementor session)
+			throws HibernateException;
+}
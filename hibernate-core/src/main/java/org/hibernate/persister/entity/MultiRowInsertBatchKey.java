@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.persister.entity;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.batch.spi.MultiRowBatchKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * Batches the inserts into the first table of an entity as multi-row <tt>INSERT ... VALUES (...), (...)</tt>
+ * statements.
+ */
+class MultiRowInsertBatchKey implements MultiRowBatchKey {
+	private static final String VALUES = ") values ";
+
+	private final AbstractEntityPersister persister;
+	private final String comparison;
+	private final Expectation expectation;
+	private final String insertPrefix;
+	private final String valuesGroup;
+	private final String[] sqlByRowCount;
+
+	private MultiRowInsertBatchKey(
+			AbstractEntityPersister persister,
+			Expectation expectation,
+			String insertPrefix,
+			String valuesGroup,
+			int maxRowCount) {
+		this.persister = persister;
+		this.comparison = persister.getEntityName() + "#MULTI_ROW_INSERT";
+		this.expectation = expectation;
+		this.insertPrefix = insertPrefix;
+		this.valuesGroup = valuesGroup;
+		this.sqlByRowCount = new String[maxRowCount + 1];
+	}
+
+	/**
+	 * Build the batch key for the given single-row insert.
+	 *
+	 * @param persister The persister of the inserted entity
+	 * @param sql The single-row insert
+	 * @param expectation The expectation of the single-row insert
+	 * @param batchSize The JDBC batch size
+	 * @param maxParameters The maximum number of parameters per statement
+	 * @param maxRows The maximum number of rows per statement
+	 *
+	 * @return The batch key, or <tt>null</tt> if the insert cannot be rendered for several rows
+	 */
+	static MultiRowInsertBatchKey build(
+			AbstractEntityPersister persister,
+			String sql,
+			Expectation expectation,
+			int batchSize,
+			int maxParameters,
+			int maxRows) {
+		final int valuesIndex = locateValues( sql );
+		if ( valuesIndex < 0 ) {
+			// e.g. "insert into t default values"
+			return null;
+		}
+		final String insertPrefix = sql.substring( 0, valuesIndex + VALUES.length() );
+		final String valuesGroup = sql.substring( valuesIndex + VALUES.length() );
+		if ( !isSingleGroup( valuesGroup ) ) {
+			return null;
+		}
+
+		int parametersPerRow = 0;
+		for ( int i = 0; i < valuesGroup.length(); i++ ) {
+			if ( valuesGroup.charAt( i ) == '?' ) {
+				parametersPerRow++;
+			}
+		}
+		int maxRowCount = Math.min( batchSize, maxRows );
+		if ( parametersPerRow > 0 ) {
+			maxRowCount = Math.min( maxRowCount, maxParameters / parametersPerRow );
+		}
+		if ( maxRowCount < 2 ) {
+			return null;
+		}
+		return new MultiRowInsertBatchKey( persister, expectation, insertPrefix, valuesGroup, maxRowCount );
+	}
+
+	/**
+	 * Locate the <tt>") values "</tt> separating the column list from the values, ignoring any occurrence
+	 * inside a quoted identifier or a string literal.
+	 *
+	 * @param sql The single-row insert
+	 *
+	 * @return The index of the separator, or <tt>-1</tt> if there is none
+	 */
+	private static int locateValues(String sql) {
+		char quote = 0;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( quote != 0 ) {
+				if ( c == quote ) {
+					quote = 0;
+				}
+			}
+			else if ( c == '\'' || c == '"' || c == '`' ) {
+				quote = c;
+			}
+			else if ( c == '[' ) {
+				quote = ']';
+			}
+			else if ( c == ')' && sql.startsWith( VALUES, i ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Is the values part a single parenthesized group, which can be repeated for several rows?
+	 */
+	private static boolean isSingleGroup(String valuesGroup) {
+		if ( valuesGroup.length() < 2 || valuesGroup.charAt( 0 ) != '(' ) {
+			return false;
+		}
+		char quote = 0;
+		int depth = 0;
+		for ( int i = 0; i < valuesGroup.length(); i++ ) {
+			final char c = valuesGroup.charAt( i );
+			if ( quote != 0 ) {
+				if ( c == quote ) {
+					quote = 0;
+				}
+			}
+			else if ( c == '\'' || c == '"' || c == '`' ) {
+				quote = c;
+			}
+			else if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+				if ( depth == 0 ) {
+					return i == valuesGroup.length() - 1;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public int getBatchedStatementCount() {
+		return 1;
+	}
+
+	@Override
+	public Expectation getExpectation() {
+		return expectation;
+	}
+
+	@Override
+	public int getMaxRowCount() {
+		return sqlByRowCount.length - 1;
+	}
+
+	@Override
+	public String getSql(int rowCount) {
+		String sql = sqlByRowCount[rowCount];
+		if ( sql == null ) {
+			final StringBuilder buf = new StringBuilder( insertPrefix.length() + rowCount * ( valuesGroup.length() + 2 ) )
+					.append( insertPrefix )
+					.append( valuesGroup );
+			for ( int i = 1; i < rowCount; i++ ) {
+				buf.append( ", " ).append( valuesGroup );
+			}
+			sql = buf.toString();
+			sqlByRowCount[rowCount] = sql;
+		}
+		return sql;
+	}
+
+	@Override
+	public int bindRow(Object row, PreparedStatement statement, int index) throws SQLException {
+		final Row insert = (Row) row;
+		return persister.dehydrate(
+				insert.id,
+				insert.fields,
+				null,
+				insert.includeProperty,
+				persister.getPropertyColumnInsertable(),
+				0,
+				statement,
+				insert.session,
+				index
+		);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		return comparison.equals( ( (MultiRowInsertBatchKey) o ).comparison );
+	}
+
+	@Override
+	public int hashCode() {
+		return comparison.hashCode();
+	}
+
+	/**
+	 * The state of an entity, waiting to be bound into a multi-row insert.
+	 */
+	static class Row {
+		private final Serializable id;
+		private final Object[] fields;
+		private final boolean[] includeProperty;
+		private final SessionImplementor session;
+
+		Row(Serializable id, Object[] fields, boolean[] includeProperty, SessionImplementor session) {
+			this.id = id;
+			this.fields = fields;
+			this.includeProperty = includeProperty;
+			this.session = session;
+		}
+	}
+}
@@ -133,7 +133,7 @@ public class ConnectionProviderInitiator implements BasicServiceInitiator<Connec
 
 		if ( connectionProvider == null ) {
 			if ( configurationValues.get( Environment.URL ) != null ) {
-				connectionProvider = new DriverManagerConnectionProviderImpl();
+				connectionProvider = new PooledConnectionProviderImpl();
 			}
 		}
 
@@ -276,6 +276,11 @@ public class ConnectionProviderInitiator implements BasicServiceInitiator<Connec
 		SPECIAL_PROPERTIES.add( Environment.URL );
 		SPECIAL_PROPERTIES.add( Environment.CONNECTION_PROVIDER );
 		SPECIAL_PROPERTIES.add( Environment.POOL_SIZE );
+		SPECIAL_PROPERTIES.add( Environment.POOL_MIN_SIZE );
+		SPECIAL_PROPERTIES.add( Environment.POOL_MAX_WAIT );
+		SPECIAL_PROPERTIES.add( Environment.POOL_IDLE_TIMEOUT );
+		SPECIAL_PROPERTIES.add( Environment.POOL_VALIDATION_INTERVAL );
+		SPECIAL_PROPERTIES.add( Environment.POOL_LEAK_THRESHOLD );
 		SPECIAL_PROPERTIES.add( Environment.ISOLATION );
 		SPECIAL_PROPERTIES.add( Environment.DRIVER );
 		SPECIAL_PROPERTIES.add( Environment.USER );
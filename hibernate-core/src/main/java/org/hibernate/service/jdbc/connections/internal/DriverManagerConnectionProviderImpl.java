@@ -47,7 +47,7 @@ import org.hibernate.service.spi.Stoppable;
  * A connection provider that uses the {@link java.sql.DriverManager} directly to open connections and provides
  * a very rudimentary connection pool.
  * <p/>
- * IMPL NOTE : not intended for production use!
+ * IMPL NOTE : not intended for production use!  See {@link PooledConnectionProviderImpl} for the pool used by default.
  *
  * @author Gavin King
  * @author Steve Ebersole
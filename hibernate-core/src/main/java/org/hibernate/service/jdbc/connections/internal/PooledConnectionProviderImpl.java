@@ -0,0 +1,611 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.service.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Manageable;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.ConnectionPoolStatistics;
+
+/**
+ * A connection provider that uses the {@link java.sql.DriverManager} to open connections and keeps them in a
+ * bounded pool.  This is the connection provider used when a JDBC url is configured but no other pool.
+ * <p/>
+ * Borrowing and returning a connection do not lock: a {@link Semaphore} bounds the number of connections in
+ * use, and available connections are kept in a non-blocking queue.  Only once all connections are in use does a
+ * borrow wait, for at most {@link AvailableSettings#POOL_MAX_WAIT}.  A background task closes connections unused
+ * for longer than {@link AvailableSettings#POOL_IDLE_TIMEOUT}, validates the others, keeps
+ * {@link AvailableSettings#POOL_MIN_SIZE} connections open and reports connections checked out for longer than
+ * {@link AvailableSettings#POOL_LEAK_THRESHOLD}.
+ * <p/>
+ * The pool statistics are available by unwrapping the provider as {@link ConnectionPoolStatistics}, from
+ * {@link org.hibernate.stat.Statistics#getConnectionPoolStatistics()} and as the JMX management bean of the
+ * provider.
+ */
+public class PooledConnectionProviderImpl
+		implements ConnectionProvider, Configurable, Stoppable, Manageable {
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, PooledConnectionProviderImpl.class.getName() );
+
+	private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+	private static final long MIN_HOUSEKEEPING_PERIOD = 1000;
+	private static final long MAX_HOUSEKEEPING_PERIOD = 30000;
+
+	private String url;
+	private Properties connectionProps;
+	private Integer isolation;
+	private boolean autocommit;
+
+	private int maxSize;
+	private int minSize;
+	private long maxWait;
+	private long idleTimeout;
+	private volatile long validationInterval;
+	private long leakThreshold;
+
+	private Semaphore permits;
+	private final ConcurrentLinkedQueue<PooledConnection> available = new ConcurrentLinkedQueue<PooledConnection>();
+	private final ConcurrentHashMap<Connection, PooledConnection> checkedOut = new ConcurrentHashMap<Connection, PooledConnection>();
+	private final AtomicInteger openCount = new AtomicInteger();
+	private final StatisticsImpl statistics = new StatisticsImpl();
+
+	private ScheduledExecutorService housekeeper;
+	private volatile boolean stopped;
+
+	@Override
+	public boolean isUnwrappableAs(Class unwrapType) {
+		return ConnectionProvider.class.equals( unwrapType ) ||
+				PooledConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ||
+				ConnectionPoolStatistics.class.equals( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( ConnectionProvider.class.equals( unwrapType ) ||
+				PooledConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ) {
+			return (T) this;
+		}
+		else if ( ConnectionPoolStatistics.class.equals( unwrapType ) ) {
+			return (T) statistics;
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	public void configure(Map configurationValues) {
+		LOG.usingHibernateBuiltInConnectionPool();
+
+		String driverClassName = (String) configurationValues.get( AvailableSettings.DRIVER );
+		if ( driverClassName == null ) {
+			LOG.jdbcDriverNotSpecified( AvailableSettings.DRIVER );
+		}
+		else {
+			try {
+				// trying via forName() first to be as close to DriverManager's semantics
+				Class.forName( driverClassName );
+			}
+			catch ( ClassNotFoundException cnfe ) {
+				try {
+					ReflectHelper.classForName( driverClassName );
+				}
+				catch ( ClassNotFoundException e ) {
+					throw new HibernateException( "Specified JDBC Driver " + driverClassName + " class not found", e );
+				}
+			}
+		}
+
+		maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
+		if ( maxSize < 1 ) {
+			throw new HibernateException( "Connection pool size must be at least 1, was " + maxSize );
+		}
+		LOG.hibernateConnectionPoolSize( maxSize );
+		minSize = Math.min( ConfigurationHelper.getInt( AvailableSettings.POOL_MIN_SIZE, configurationValues, 0 ), maxSize );
+		maxWait = ConfigurationHelper.getInt( AvailableSettings.POOL_MAX_WAIT, configurationValues, 30000 );
+		idleTimeout = ConfigurationHelper.getInt( AvailableSettings.POOL_IDLE_TIMEOUT, configurationValues, 600000 );
+		validationInterval = ConfigurationHelper.getInt( AvailableSettings.POOL_VALIDATION_INTERVAL, configurationValues, 30000 );
+		leakThreshold = ConfigurationHelper.getInt( AvailableSettings.POOL_LEAK_THRESHOLD, configurationValues, 0 );
+		LOG.debugf(
+				"Connection pool settings: min size %s, max wait %sms, idle timeout %sms, validation interval %sms, leak threshold %sms",
+				minSize, maxWait, idleTimeout, validationInterval, leakThreshold
+		);
+
+		autocommit = ConfigurationHelper.getBoolean( AvailableSettings.AUTOCOMMIT, configurationValues );
+		LOG.autoCommitMode( autocommit );
+
+		isolation = ConfigurationHelper.getInteger( AvailableSettings.ISOLATION, configurationValues );
+		if ( isolation != null ) {
+			LOG.jdbcIsolationLevel( Environment.isolationLevelToString( isolation ) );
+		}
+
+		url = (String) configurationValues.get( AvailableSettings.URL );
+		if ( url == null ) {
+			String msg = LOG.jdbcUrlNotSpecified( AvailableSettings.URL );
+			LOG.error( msg );
+			throw new HibernateException( msg );
+		}
+
+		connectionProps = ConnectionProviderInitiator.getConnectionProperties( configurationValues );
+
+		LOG.usingDriver( driverClassName, url );
+		// if debug level is enabled, then log the password, otherwise mask it
+		if ( LOG.isDebugEnabled() ) {
+			LOG.connectionProperties( connectionProps );
+		}
+		else {
+			LOG.connectionProperties( ConfigurationHelper.maskOut( connectionProps, "password" ) );
+		}
+
+		permits = new Semaphore( maxSize );
+		startHousekeeping();
+	}
+
+	private void startHousekeeping() {
+		long period = MAX_HOUSEKEEPING_PERIOD;
+		for ( long interval : new long[] { idleTimeout, validationInterval, leakThreshold } ) {
+			if ( interval > 0 ) {
+				period = Math.min( period, interval / 2 );
+			}
+		}
+		// a validation interval of 0 validates the idle connections on every run, only a negative one disables it
+		if ( minSize == 0 && idleTimeout <= 0 && validationInterval < 0 && leakThreshold <= 0 ) {
+			return;
+		}
+		period = Math.max( period, MIN_HOUSEKEEPING_PERIOD );
+
+		housekeeper = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactory() {
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread( runnable, "Hibernate connection pool housekeeper [" + url + "]" );
+						thread.setDaemon( true );
+						return thread;
+					}
+				}
+		);
+		housekeeper.scheduleWithFixedDelay(
+				new Runnable() {
+					public void run() {
+						try {
+							houseKeep();
+						}
+						catch ( RuntimeException e ) {
+							LOG.debug( "Unexpected failure during connection pool housekeeping", e );
+						}
+					}
+				},
+				minSize > 0 ? 0 : period,
+				period,
+				TimeUnit.MILLISECONDS
+		);
+	}
+
+	public void stop() {
+		LOG.cleaningUpConnectionPool( url );
+		stopped = true;
+		if ( housekeeper != null ) {
+			housekeeper.shutdownNow();
+		}
+		closeAvailableConnections();
+	}
+
+	private void closeAvailableConnections() {
+		PooledConnection pooled;
+		while ( ( pooled = available.poll() ) != null ) {
+			destroy( pooled );
+		}
+	}
+
+	public Connection getConnection() throws SQLException {
+		if ( stopped ) {
+			throw new SQLException( "Connection pool [" + url + "] has been stopped" );
+		}
+		acquirePermit();
+		boolean success = false;
+		try {
+			PooledConnection pooled = pollValidConnection();
+			if ( pooled == null ) {
+				pooled = open();
+			}
+			pooled.borrowed( leakThreshold > 0 );
+			checkedOut.put( pooled.connection, pooled );
+			statistics.borrowCount.getAndIncrement();
+			success = true;
+			return pooled.connection;
+		}
+		finally {
+			if ( !success ) {
+				permits.release();
+			}
+		}
+	}
+
+	private void acquirePermit() throws SQLException {
+		if ( permits.tryAcquire() ) {
+			return;
+		}
+		LOG.tracev( "All {0} pooled JDBC connections in use, waiting", maxSize );
+		statistics.waitCount.getAndIncrement();
+		final long start = System.nanoTime();
+		try {
+			if ( !permits.tryAcquire( maxWait, TimeUnit.MILLISECONDS ) ) {
+				statistics.timeoutCount.getAndIncrement();
+				throw new SQLException(
+						"Unable to obtain a JDBC connection from the pool within " + maxWait + "ms; all "
+								+ maxSize + " connections are in use"
+				);
+			}
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new SQLException( "Interrupted while waiting for a JDBC connection from the pool", e );
+		}
+		finally {
+			statistics.recordWait( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) );
+		}
+	}
+
+	private PooledConnection pollValidConnection() throws SQLException {
+		PooledConnection pooled;
+		while ( ( pooled = available.poll() ) != null ) {
+			final long interval = validationInterval;
+			if ( interval >= 0 && pooled.idleTime( System.currentTimeMillis() ) >= interval && !isValid( pooled ) ) {
+				destroy( pooled );
+				continue;
+			}
+			LOG.tracev( "Using pooled JDBC connection, available: {0}", available.size() );
+			try {
+				if ( isolation != null ) {
+					pooled.connection.setTransactionIsolation( isolation );
+				}
+				if ( pooled.connection.getAutoCommit() != autocommit ) {
+					pooled.connection.setAutoCommit( autocommit );
+				}
+			}
+			catch ( SQLException e ) {
+				destroy( pooled );
+				throw e;
+			}
+			return pooled;
+		}
+		return null;
+	}
+
+	private PooledConnection open() throws SQLException {
+		LOG.debug( "Opening new JDBC connection" );
+		Connection conn = DriverManager.getConnection( url, connectionProps );
+		try {
+			if ( isolation != null ) {
+				conn.setTransactionIsolation( isolation );
+			}
+			if ( conn.getAutoCommit() != autocommit ) {
+				conn.setAutoCommit( autocommit );
+			}
+		}
+		catch ( SQLException e ) {
+			conn.close();
+			throw e;
+		}
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "Created connection to: %s, Isolation Level: %s", url, conn.getTransactionIsolation() );
+		}
+
+		openCount.getAndIncrement();
+		statistics.createCount.getAndIncrement();
+		return new PooledConnection( conn );
+	}
+
+	private boolean isValid(PooledConnection pooled) {
+		try {
+			if ( pooled.connection.isValid( VALIDATION_TIMEOUT_SECONDS ) ) {
+				pooled.validated();
+				return true;
+			}
+		}
+		catch ( SQLException e ) {
+			LOG.debug( "Unable to validate pooled JDBC connection", e );
+		}
+		catch ( AbstractMethodError e ) {
+			// a pre JDBC 4 driver
+			LOG.debug( "JDBC driver does not support Connection#isValid, disabling connection validation" );
+			validationInterval = -1;
+			return true;
+		}
+		statistics.validationFailureCount.getAndIncrement();
+		return false;
+	}
+
+	private void destroy(PooledConnection pooled) {
+		openCount.getAndDecrement();
+		statistics.destroyCount.getAndIncrement();
+		try {
+			pooled.connection.close();
+		}
+		catch ( SQLException sqle ) {
+			LOG.unableToClosePooledConnection( sqle );
+		}
+	}
+
+	public void closeConnection(Connection conn) throws SQLException {
+		final PooledConnection pooled = checkedOut.remove( conn );
+		if ( pooled == null ) {
+			// not one of ours
+			LOG.debug( "Closing JDBC connection not obtained from the pool" );
+			conn.close();
+			return;
+		}
+
+		try {
+			if ( stopped || conn.isClosed() ) {
+				destroy( pooled );
+			}
+			else {
+				LOG.trace( "Returning connection to pool" );
+				pooled.returned();
+				available.offer( pooled );
+				if ( stopped ) {
+					// the pool was stopped concurrently
+					closeAvailableConnections();
+				}
+			}
+		}
+		finally {
+			permits.release();
+		}
+	}
+
+	private void houseKeep() {
+		final long now = System.currentTimeMillis();
+
+		for ( PooledConnection pooled : available ) {
+			// holding a permit for the connection being checked keeps the pool within its bounds
+			if ( !permits.tryAcquire() ) {
+				break;
+			}
+			try {
+				if ( !available.remove( pooled ) ) {
+					continue;
+				}
+				if ( idleTimeout > 0 && pooled.idleTime( now ) >= idleTimeout && openCount.get() > minSize ) {
+					LOG.tracev( "Closing JDBC connection idle for {0}ms", pooled.idleTime( now ) );
+					destroy( pooled );
+				}
+				else if ( validationInterval >= 0 && pooled.sinceValidation( now ) >= validationInterval && !isValid( pooled ) ) {
+					destroy( pooled );
+				}
+				else {
+					available.offer( pooled );
+				}
+			}
+			finally {
+				permits.release();
+			}
+		}
+
+		while ( !stopped && openCount.get() < minSize && permits.tryAcquire() ) {
+			try {
+				available.offer( open() );
+			}
+			catch ( SQLException e ) {
+				LOG.debug( "Unable to open JDBC connection to fill the pool to its minimum size", e );
+				break;
+			}
+			finally {
+				permits.release();
+			}
+		}
+		if ( stopped ) {
+			closeAvailableConnections();
+		}
+
+		if ( leakThreshold > 0 ) {
+			for ( PooledConnection pooled : checkedOut.values() ) {
+				if ( pooled.reportLeak( now, leakThreshold ) ) {
+					statistics.leakCount.getAndIncrement();
+					LOG.warnf(
+							pooled.borrowSite,
+							"JDBC connection checked out of the pool for more than %sms, it might have been leaked; obtained at",
+							leakThreshold
+					);
+				}
+			}
+		}
+	}
+
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	public String getManagementDomain() {
+		return null; // use Hibernate default domain
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		return null;  // use Hibernate default scheme
+	}
+
+	@Override
+	public Object getManagementBean() {
+		try {
+			return new StandardMBean( statistics, ConnectionPoolStatistics.class );
+		}
+		catch ( NotCompliantMBeanException e ) {
+			throw new HibernateException( "Unable to build connection pool management bean", e );
+		}
+	}
+
+	private static class PooledConnection {
+		private final Connection connection;
+		private volatile long lastUsed;
+		private volatile long lastValidated;
+		private volatile long borrowedAt;
+		private volatile Throwable borrowSite;
+		private volatile boolean leakReported;
+
+		private PooledConnection(Connection connection) {
+			this.connection = connection;
+			this.lastUsed = System.currentTimeMillis();
+			this.lastValidated = lastUsed;
+		}
+
+		private void borrowed(boolean traceBorrowSite) {
+			borrowedAt = System.currentTimeMillis();
+			borrowSite = traceBorrowSite ? new Throwable( "JDBC connection borrow site" ) : null;
+			leakReported = false;
+		}
+
+		private void returned() {
+			lastUsed = System.currentTimeMillis();
+			borrowSite = null;
+		}
+
+		private void validated() {
+			lastValidated = System.currentTimeMillis();
+		}
+
+		private long idleTime(long now) {
+			return now - lastUsed;
+		}
+
+		private long sinceValidation(long now) {
+			return now - Math.max( lastUsed, lastValidated );
+		}
+
+		private boolean reportLeak(long now, long threshold) {
+			if ( leakReported || borrowSite == null || now - borrowedAt < threshold ) {
+				return false;
+			}
+			leakReported = true;
+			return true;
+		}
+	}
+
+	private class StatisticsImpl implements ConnectionPoolStatistics {
+		private final AtomicLong borrowCount = new AtomicLong();
+		private final AtomicLong createCount = new AtomicLong();
+		private final AtomicLong destroyCount = new AtomicLong();
+		private final AtomicLong waitCount = new AtomicLong();
+		private final AtomicLong maxWaitTime = new AtomicLong();
+		private final AtomicLong timeoutCount = new AtomicLong();
+		private final AtomicLong validationFailureCount = new AtomicLong();
+		private final AtomicLong leakCount = new AtomicLong();
+
+		private void recordWait(long time) {
+			long max;
+			while ( time > ( max = maxWaitTime.get() ) ) {
+				if ( maxWaitTime.compareAndSet( max, time ) ) {
+					break;
+				}
+			}
+		}
+
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		public int getOpenCount() {
+			return openCount.get();
+		}
+
+		public int getIdleCount() {
+			return available.size();
+		}
+
+		public int getCheckedOutCount() {
+			return checkedOut.size();
+		}
+
+		public long getBorrowCount() {
+			return borrowCount.get();
+		}
+
+		public long getCreateCount() {
+			return createCount.get();
+		}
+
+		public long getDestroyCount() {
+			return destroyCount.get();
+		}
+
+		public long getWaitCount() {
+			return waitCount.get();
+		}
+
+		public long getMaxWaitTime() {
+			return maxWaitTime.get();
+		}
+
+		public long getTimeoutCount() {
+			return timeoutCount.get();
+		}
+
+		public long getValidationFailureCount() {
+			return validationFailureCount.get();
+		}
+
+		public long getLeakCount() {
+			return leakCount.get();
+		}
+
+		@Override
+		public String toString() {
+			return "ConnectionPoolStatistics[maxSize=" + getMaxSize() + ",open=" + getOpenCount()
+					+ ",idle=" + getIdleCount() + ",checkedOut=" + getCheckedOutCount()
+					+ ",borrows=" + getBorrowCount() + ",creates=" + getCreateCount()
+					+ ",destroys=" + getDestroyCount() + ",waits=" + getWaitCount()
+					+ ",maxWaitTime=" + getMaxWaitTime() + ",timeouts=" + getTimeoutCount()
+					+ ",validationFailures=" + getValidationFailureCount() + ",leaks=" + getLeakCount() + ']';
+		}
+	}
+}
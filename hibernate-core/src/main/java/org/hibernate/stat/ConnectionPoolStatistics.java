@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.stat;
+
+/**
+ * Statistics of the built-in connection pool.  Gauges reflect the current state of the pool, counters
+ * accumulate since the pool was started.
+ */
+public interface ConnectionPoolStatistics {
+
+	/**
+	 * The maximum number of connections the pool opens
+	 */
+	int getMaxSize();
+
+	/**
+	 * The number of physical connections currently open
+	 */
+	int getOpenCount();
+
+	/**
+	 * The number of open connections currently available for use
+	 */
+	int getIdleCount();
+
+	/**
+	 * The number of connections currently in use
+	 */
+	int getCheckedOutCount();
+
+	/**
+	 * The number of connections handed out by the pool
+	 */
+	long getBorrowCount();
+
+	/**
+	 * The number of physical connections opened
+	 */
+	long getCreateCount();
+
+	/**
+	 * The number of physical connections closed
+	 */
+	long getDestroyCount();
+
+	/**
+	 * The number of borrows which had to wait for a connection to be returned
+	 */
+	long getWaitCount();
+
+	/**
+	 * The longest time, in milliseconds, a borrow had to wait for a connection
+	 */
+	long getMaxWaitTime();
+
+	/**
+	 * The number of borrows which failed as no connection was returned in time
+	 */
+	long getTimeoutCount();
+
+	/**
+	 * The number of pooled connections found to be invalid
+	 */
+	long getValidationFailureCount();
+
+	/**
+	 * The number of connections reported as possibly leaked
+	 */
+	long getLeakCount();
+}
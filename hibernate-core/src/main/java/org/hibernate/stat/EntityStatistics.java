@@ -43,4 +43,19 @@ public interface EntityStatistics extends Serializable {
 
 	long getOptimisticFailureCount();
 
+	/**
+	 * The number of times a dynamic-insert or dynamic-update statement was found in the SQL cache of the persister
+	 */
+	long getDynamicSqlCacheHitCount();
+
+	/**
+	 * The number of times a dynamic-insert or dynamic-update statement had to be generated
+	 */
+	long getDynamicSqlCacheMissCount();
+
+	/**
+	 * The number of dynamic-insert and dynamic-update statements cached by the persister
+	 */
+	long getDynamicSqlCacheSize();
+
 }
@@ -59,6 +59,13 @@ public interface Statistics {
 	 */
 	public SecondLevelCacheStatistics getSecondLevelCacheStatistics(String regionName);
 
+	/**
+	 * Statistics of the built-in connection pool
+	 *
+	 * @return ConnectionPoolStatistics, or null if connections are not obtained from the built-in pool
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics();
+
     /**
 	 * Query statistics from query string (HQL or SQL)
 	 * 
@@ -136,6 +143,18 @@ public interface Statistics {
      */
 	public long getUpdateTimestampsCachePutCount();
 	/**
+	 * Get the global number of query plans successfully retrieved from the query plan cache
+	 */
+	public long getQueryPlanCacheHitCount();
+	/**
+	 * Get the global number of query plans *not* found in the query plan cache (and thus compiled)
+	 */
+	public long getQueryPlanCacheMissCount();
+	/**
+	 * Get the global number of query plans evicted from the query plan cache to make room for others
+	 */
+	public long getQueryPlanCacheEvictionCount();
+	/**
      * Get the global number of flush executed by sessions (either implicit or explicit)
      */
 	public long getFlushCount();
@@ -235,6 +254,15 @@ public interface Statistics {
 	 * The number of prepared statements that were released
 	 */
 	public long getCloseStatementCount();
+	/**
+	 * The number of prepared statements taken from the prepared statement cache of a connection
+	 */
+	public long getPreparedStatementCacheHitCount();
+	/**
+	 * The number of prepared statements that could not be taken from the prepared statement cache
+	 * of a connection, and were prepared
+	 */
+	public long getPreparedStatementCacheMissCount();
 	/**
 	 * The number of <tt>StaleObjectStateException</tt>s 
 	 * that occurred
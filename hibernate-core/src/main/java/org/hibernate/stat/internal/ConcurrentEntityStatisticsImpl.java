@@ -44,6 +44,9 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 	private	AtomicLong deleteCount			  =	new	AtomicLong();
 	private	AtomicLong fetchCount			  =	new	AtomicLong();
 	private	AtomicLong optimisticFailureCount =	new	AtomicLong();
+	private	AtomicLong dynamicSqlCacheHitCount =	new	AtomicLong();
+	private	AtomicLong dynamicSqlCacheMissCount =	new	AtomicLong();
+	private	volatile long dynamicSqlCacheSize;
 
 	public long getDeleteCount() {
 		return deleteCount.get();
@@ -69,6 +72,18 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 		return optimisticFailureCount.get();
 	}
 
+	public long getDynamicSqlCacheHitCount() {
+		return dynamicSqlCacheHitCount.get();
+	}
+
+	public long getDynamicSqlCacheMissCount() {
+		return dynamicSqlCacheMissCount.get();
+	}
+
+	public long getDynamicSqlCacheSize() {
+		return dynamicSqlCacheSize;
+	}
+
 	public String toString() {
 		return new StringBuilder()
 				.append("EntityStatistics")
@@ -78,6 +93,9 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 				.append(",deleteCount=").append(this.deleteCount)
 				.append(",fetchCount=").append(this.fetchCount)
 				.append(",optimisticLockFailureCount=").append(this.optimisticFailureCount)
+				.append(",dynamicSqlCacheHitCount=").append(this.dynamicSqlCacheHitCount)
+				.append(",dynamicSqlCacheMissCount=").append(this.dynamicSqlCacheMissCount)
+				.append(",dynamicSqlCacheSize=").append(this.dynamicSqlCacheSize)
 				.append(']')
 				.toString();
 	}
@@ -105,4 +123,13 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 	void incrementOptimisticFailureCount() {
 		optimisticFailureCount.getAndIncrement();
 	}
+
+	void incrementDynamicSqlCacheHitCount() {
+		dynamicSqlCacheHitCount.getAndIncrement();
+	}
+
+	void incrementDynamicSqlCacheMissCount(int cacheSize) {
+		dynamicSqlCacheMissCount.getAndIncrement();
+		dynamicSqlCacheSize = cacheSize;
+	}
 }
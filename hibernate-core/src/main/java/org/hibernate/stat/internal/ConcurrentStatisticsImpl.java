@@ -34,7 +34,9 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.service.Service;
+import org.hibernate.service.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.ConnectionPoolStatistics;
 import org.hibernate.stat.EntityStatistics;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.SecondLevelCacheStatistics;
@@ -61,6 +63,8 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 
 	private AtomicLong prepareStatementCount = new AtomicLong();
 	private AtomicLong closeStatementCount = new AtomicLong();
+	private AtomicLong preparedStatementCacheHitCount = new AtomicLong();
+	private AtomicLong preparedStatementCacheMissCount = new AtomicLong();
 
 	private AtomicLong entityLoadCount = new AtomicLong();
 	private AtomicLong entityUpdateCount = new AtomicLong();
@@ -88,6 +92,10 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 	private AtomicLong updateTimestampsCacheMissCount = new AtomicLong();
 	private AtomicLong updateTimestampsCachePutCount = new AtomicLong();
 
+	private AtomicLong queryPlanCacheHitCount = new AtomicLong();
+	private AtomicLong queryPlanCacheMissCount = new AtomicLong();
+	private AtomicLong queryPlanCacheEvictionCount = new AtomicLong();
+
 	private AtomicLong committedTransactionCount = new AtomicLong();
 	private AtomicLong transactionCount = new AtomicLong();
 
@@ -135,6 +143,8 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 
 		prepareStatementCount.set( 0 );
 		closeStatementCount.set( 0 );
+		preparedStatementCacheHitCount.set( 0 );
+		preparedStatementCacheMissCount.set( 0 );
 
 		entityDeleteCount.set( 0 );
 		entityInsertCount.set( 0 );
@@ -159,6 +169,10 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		updateTimestampsCacheHitCount.set( 0 );
 		updateTimestampsCachePutCount.set( 0 );
 
+		queryPlanCacheHitCount.set( 0 );
+		queryPlanCacheMissCount.set( 0 );
+		queryPlanCacheEvictionCount.set( 0 );
+
 		transactionCount.set( 0 );
 		committedTransactionCount.set( 0 );
 
@@ -312,6 +326,17 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return slcs;
 	}
 
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		if ( sessionFactory == null ) {
+			return null;
+		}
+		ConnectionProvider connectionProvider = sessionFactory.getJdbcServices().getConnectionProvider();
+		if ( connectionProvider == null || !connectionProvider.isUnwrappableAs( ConnectionPoolStatistics.class ) ) {
+			return null;
+		}
+		return connectionProvider.unwrap( ConnectionPoolStatistics.class );
+	}
+
 	public void secondLevelCachePut(String regionName) {
 		secondLevelCachePutCount.getAndIncrement();
 		( (ConcurrentSecondLevelCacheStatisticsImpl) getSecondLevelCacheStatistics( regionName ) ).incrementPutCount();
@@ -397,6 +422,31 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		updateTimestampsCachePutCount.getAndIncrement();
 	}
 
+	@Override
+	public void queryPlanCacheHit() {
+		queryPlanCacheHitCount.getAndIncrement();
+	}
+
+	@Override
+	public void queryPlanCacheMiss() {
+		queryPlanCacheMissCount.getAndIncrement();
+	}
+
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.getAndIncrement();
+	}
+
+	@Override
+	public void dynamicSqlCacheHit(String entityName) {
+		( (ConcurrentEntityStatisticsImpl) getEntityStatistics( entityName ) ).incrementDynamicSqlCacheHitCount();
+	}
+
+	@Override
+	public void dynamicSqlCacheMiss(String entityName, int cacheSize) {
+		( (ConcurrentEntityStatisticsImpl) getEntityStatistics( entityName ) ).incrementDynamicSqlCacheMissCount( cacheSize );
+	}
+
 	/**
 	 * Query statistics from query string (HQL or SQL)
 	 *
@@ -481,6 +531,18 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return updateTimestampsCachePutCount.get();
 	}
 
+	public long getQueryPlanCacheHitCount() {
+		return queryPlanCacheHitCount.get();
+	}
+
+	public long getQueryPlanCacheMissCount() {
+		return queryPlanCacheMissCount.get();
+	}
+
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.get();
+	}
+
 	/**
 	 * @return flush
 	 */
@@ -608,6 +670,9 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		LOG.timestampCacheMisses( updateTimestampsCacheMissCount.get() );
 		LOG.queryCacheHits( queryCacheHitCount.get() );
 		LOG.queryCacheMisses( queryCacheMissCount.get() );
+		LOG.queryPlanCacheHits( queryPlanCacheHitCount.get() );
+		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.get() );
+		LOG.queryPlanCacheEvictions( queryPlanCacheEvictionCount.get() );
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
 	}
 
@@ -707,6 +772,22 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return prepareStatementCount.get();
 	}
 
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.getAndIncrement();
+	}
+
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.getAndIncrement();
+	}
+
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.get();
+	}
+
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.get();
+	}
+
 	public void optimisticFailure(String entityName) {
 		optimisticFailureCount.getAndIncrement();
 		( (ConcurrentEntityStatisticsImpl) getEntityStatistics( entityName ) ).incrementOptimisticFailureCount();
@@ -730,6 +811,8 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 				.append( ",connections obtained=" ).append( connectCount )
 				.append( ",statements prepared=" ).append( prepareStatementCount )
 				.append( ",statements closed=" ).append( closeStatementCount )
+				.append( ",statement cache hits=" ).append( preparedStatementCacheHitCount )
+				.append( ",statement cache misses=" ).append( preparedStatementCacheMissCount )
 				.append( ",second level cache puts=" ).append( secondLevelCachePutCount )
 				.append( ",second level cache hits=" ).append( secondLevelCacheHitCount )
 				.append( ",second level cache misses=" ).append( secondLevelCacheMissCount )
@@ -750,6 +833,9 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 				.append(",update timestamps cache puts=").append(updateTimestampsCachePutCount)
 				.append(",update timestamps cache hits=").append(updateTimestampsCacheHitCount)
 				.append(",update timestamps cache misses=").append(updateTimestampsCacheMissCount)
+				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
+				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ']' )
 				.toString();
@@ -63,6 +63,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void closeStatement();
 
+	/**
+	 * Callback about a statement being taken from the prepared statement cache.
+	 */
+	public void preparedStatementCacheHit();
+
+	/**
+	 * Callback about a statement missing from the prepared statement cache.
+	 */
+	public void preparedStatementCacheMiss();
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -220,4 +230,34 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 * Callback indicating a put to the timestamp cache
 	 */
 	public void updateTimestampsCachePut();
+
+	/**
+	 * Callback indicating a hit to the query plan cache
+	 */
+	public void queryPlanCacheHit();
+
+	/**
+	 * Callback indicating a miss to the query plan cache
+	 */
+	public void queryPlanCacheMiss();
+
+	/**
+	 * Callback indicating an eviction from the query plan cache
+	 */
+	public void queryPlanCacheEviction();
+
+	/**
+	 * Callback indicating a dynamic-insert or dynamic-update statement was found in the SQL cache of a persister
+	 *
+	 * @param entityName The name of the entity.
+	 */
+	public void dynamicSqlCacheHit(String entityName);
+
+	/**
+	 * Callback indicating a dynamic-insert or dynamic-update statement had to be generated
+	 *
+	 * @param entityName The name of the entity.
+	 * @param cacheSize The number of statements now cached by the persister
+	 */
+	public void dynamicSqlCacheMiss(String entityName, int cacheSize);
 }
\ No newline at end of file
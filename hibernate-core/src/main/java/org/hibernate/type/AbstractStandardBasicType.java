@@ -42,6 +42,8 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.relational.Size;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
@@ -61,6 +63,10 @@ public abstract class AbstractStandardBasicType<T>
 	private final SqlTypeDescriptor sqlTypeDescriptor;
 	private final JavaTypeDescriptor<T> javaTypeDescriptor;
 
+	// built on first use, the extractors and binders not being serializable
+	private transient ValueExtractor<T> extractor;
+	private transient ValueBinder<T> binder;
+
 	public AbstractStandardBasicType(SqlTypeDescriptor sqlTypeDescriptor, JavaTypeDescriptor<T> javaTypeDescriptor) {
 		this.sqlTypeDescriptor = sqlTypeDescriptor;
 		this.javaTypeDescriptor = javaTypeDescriptor;
@@ -244,29 +250,22 @@ public abstract class AbstractStandardBasicType<T>
 	}
 
 	public final T nullSafeGet(ResultSet rs, String name, final SessionImplementor session) throws SQLException {
-		// todo : have SessionImplementor extend WrapperOptions
-		final WrapperOptions options = new WrapperOptions() {
-			public boolean useStreamForLobBinding() {
-				return Environment.useStreamsForBinary();
-			}
-
-			public LobCreator getLobCreator() {
-				return Hibernate.getLobCreator( session );
-			}
-
-			public SqlTypeDescriptor remapSqlTypeDescriptor(SqlTypeDescriptor sqlTypeDescriptor) {
-				final SqlTypeDescriptor remapped = sqlTypeDescriptor.canBeRemapped()
-						? session.getFactory().getDialect().remapSqlTypeDescriptor( sqlTypeDescriptor )
-						: sqlTypeDescriptor;
-				return remapped == null ? sqlTypeDescriptor : remapped;
-			}
-		};
-
-		return nullSafeGet( rs, name, options );
+		return nullSafeGet( rs, name, getOptions( session ) );
 	}
 
 	protected final T nullSafeGet(ResultSet rs, String name, WrapperOptions options) throws SQLException {
-		return remapSqlTypeDescriptor( options ).getExtractor( javaTypeDescriptor ).extract( rs, name, options );
+		return getExtractor( options ).extract( rs, name, options );
+	}
+
+	private ValueExtractor<T> getExtractor(WrapperOptions options) {
+		final SqlTypeDescriptor remapped = remapSqlTypeDescriptor( options );
+		if ( remapped != sqlTypeDescriptor ) {
+			return remapped.getExtractor( javaTypeDescriptor );
+		}
+		if ( extractor == null ) {
+			extractor = sqlTypeDescriptor.getExtractor( javaTypeDescriptor );
+		}
+		return extractor;
 	}
 
 	public Object get(ResultSet rs, String name, SessionImplementor session) throws HibernateException, SQLException {
@@ -279,8 +278,31 @@ public abstract class AbstractStandardBasicType<T>
 			Object value,
 			int index,
 			final SessionImplementor session) throws SQLException {
-		// todo : have SessionImplementor extend WrapperOptions
-		final WrapperOptions options = new WrapperOptions() {
+		nullSafeSet( st, value, index, getOptions( session ) );
+	}
+
+	@SuppressWarnings({ "unchecked" })
+	protected final void nullSafeSet(PreparedStatement st, Object value, int index, WrapperOptions options) throws SQLException {
+		getBinder( options ).bind( st, ( T ) value, index, options );
+	}
+
+	private ValueBinder<T> getBinder(WrapperOptions options) {
+		final SqlTypeDescriptor remapped = remapSqlTypeDescriptor( options );
+		if ( remapped != sqlTypeDescriptor ) {
+			return remapped.getBinder( javaTypeDescriptor );
+		}
+		if ( binder == null ) {
+			binder = sqlTypeDescriptor.getBinder( javaTypeDescriptor );
+		}
+		return binder;
+	}
+
+	private static WrapperOptions getOptions(final SessionImplementor session) {
+		if ( session instanceof WrapperOptions ) {
+			// saves allocating the options for each value read or bound
+			return (WrapperOptions) session;
+		}
+		return new WrapperOptions() {
 			public boolean useStreamForLobBinding() {
 				return Environment.useStreamsForBinary();
 			}
@@ -296,13 +318,6 @@ public abstract class AbstractStandardBasicType<T>
 				return remapped == null ? sqlTypeDescriptor : remapped;
 			}
 		};
-
-		nullSafeSet( st, value, index, options );
-	}
-
-	@SuppressWarnings({ "unchecked" })
-	protected final void nullSafeSet(PreparedStatement st, Object value, int index, WrapperOptions options) throws SQLException {
-		remapSqlTypeDescriptor( options ).getBinder( javaTypeDescriptor ).bind( st, ( T ) value, index, options );
 	}
 
 	protected SqlTypeDescriptor remapSqlTypeDescriptor(WrapperOptions options) {
@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2006-2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.batch;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests flushing interleaved actions of several entities with several JDBC batches open at once
+ * (<tt>hibernate.jdbc.max_open_batches</tt>); the foreign keys must hold whatever the order the batches
+ * execute in.
+ */
+public class OpenBatchesTest extends BaseCoreFunctionalTestCase {
+	private static final int COUNT = 10;
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "20" );
+		cfg.setProperty( Environment.MAX_OPEN_BATCHES, "3" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Department.class, Employee.class };
+	}
+
+	@Test
+	public void testInterleavedInserts() {
+		sessionFactory().getStatistics().clear();
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= COUNT; i++ ) {
+			Department department = new Department( i, "department " + i );
+			s.persist( department );
+			s.persist( new Employee( i, "employee " + i, department ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+		// one batch of each entity, instead of one statement per row
+		assertEquals( 2, sessionFactory().getStatistics().getPrepareStatementCount() );
+
+		assertRowCounts( COUNT, COUNT );
+		cleanup();
+	}
+
+	@Test
+	public void testInsertReferencingInsertOfLaterBatch() {
+		Session s = openSession();
+		s.beginTransaction();
+		Department existing = new Department( 0L, "existing" );
+		s.persist( existing );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		existing = (Department) s.get( Department.class, 0L );
+		// the employee batch is opened before the department batch...
+		s.persist( new Employee( 0L, "employee 0", existing ) );
+		for ( long i = 1; i <= COUNT; i++ ) {
+			Department department = new Department( i, "department " + i );
+			s.persist( department );
+			// ...so these must not join it while their department is pending in the later batch
+			s.persist( new Employee( i, "employee " + i, department ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		assertRowCounts( COUNT + 1, COUNT + 1 );
+		s = openSession();
+		s.beginTransaction();
+		for ( long i = 0; i <= COUNT; i++ ) {
+			assertEquals( Long.valueOf( i ), ( (Employee) s.get( Employee.class, i ) ).getDepartment().getId() );
+		}
+		s.getTransaction().commit();
+		s.close();
+		cleanup();
+	}
+
+	@Test
+	public void testReassignmentToDepartmentInsertedInLaterBatch() {
+		Session s = openSession();
+		s.beginTransaction();
+		Department first = new Department( 0L, "first" );
+		s.persist( first );
+		for ( long i = 1; i <= COUNT; i++ ) {
+			s.persist( new Employee( i, "employee " + i, first ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		// an employee insert opens the first batch, then departments and employees interleave
+		s.persist( new Employee( 0L, "employee 0", (Department) s.load( Department.class, 0L ) ) );
+		for ( long i = 1; i <= COUNT; i++ ) {
+			Department department = new Department( i, "department " + i );
+			s.persist( department );
+			s.persist( new Employee( COUNT + i, "new employee " + i, department ) );
+			// and existing employees move to the new departments
+			( (Employee) s.get( Employee.class, i ) ).setDepartment( department );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		assertRowCounts( COUNT + 1, 2 * COUNT + 1 );
+		s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= COUNT; i++ ) {
+			assertEquals( Long.valueOf( i ), ( (Employee) s.get( Employee.class, i ) ).getDepartment().getId() );
+			assertEquals( Long.valueOf( i ), ( (Employee) s.get( Employee.class, COUNT + i ) ).getDepartment().getId() );
+		}
+		s.getTransaction().commit();
+		s.close();
+		cleanup();
+	}
+
+	@Test
+	public void testInterleavedDeletes() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= COUNT; i++ ) {
+			Department department = new Department( i, "department " + i );
+			s.persist( department );
+			s.persist( new Employee( i, "employee " + i, department ) );
+			s.persist( new Employee( COUNT + i, "other employee " + i, department ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= COUNT; i++ ) {
+			s.delete( s.get( Employee.class, i ) );
+			if ( i % 2 == 0 ) {
+				// the department can only go once the other employee is gone too
+				s.delete( s.get( Employee.class, COUNT + i ) );
+				s.delete( s.get( Department.class, i ) );
+			}
+			else {
+				// the other employee moves to a department which stays
+				Employee other = (Employee) s.get( Employee.class, COUNT + i );
+				other.setName( "moved employee " + i );
+				other.setDepartment( (Department) s.get( Department.class, 1L ) );
+			}
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		assertRowCounts( COUNT / 2, COUNT / 2 );
+		cleanup();
+	}
+
+	private void assertRowCounts(long departments, long employees) {
+		Session s = openSession();
+		s.beginTransaction();
+		assertEquals( departments, s.createQuery( "select count(*) from Department" ).uniqueResult() );
+		assertEquals( employees, s.createQuery( "select count(*) from Employee" ).uniqueResult() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private void cleanup() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Employee" ).executeUpdate();
+		s.createQuery( "delete Department" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+}
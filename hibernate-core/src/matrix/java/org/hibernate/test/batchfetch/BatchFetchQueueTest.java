@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2006-2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.batchfetch;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.EntityMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that building a batch only visits about as many keys as the batch holds, however many
+ * batch-loadable keys the persistence context holds.  Every key visited is compared to the requested
+ * one, so the comparisons counted by {@link CountingStringType} stand for the visits.
+ */
+public class BatchFetchQueueTest extends BaseCoreFunctionalTestCase {
+	private static final int BATCH_SIZE = 16;
+	private static final int[] CONTEXT_SIZES = { 64, 512, 4096 };
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "batchfetch/Folder.hbm.xml" };
+	}
+
+	@Test
+	public void testEntityBatchVisitsAreIndependentOfContextSize() {
+		int[] visits = new int[CONTEXT_SIZES.length];
+		for ( int c = 0; c < CONTEXT_SIZES.length; c++ ) {
+			Session s = openSession();
+			s.beginTransaction();
+			BatchFetchQueue queue = ( (SessionImplementor) s ).getPersistenceContext().getBatchFetchQueue();
+			EntityPersister persister = sessionFactory().getEntityPersister( Folder.class.getName() );
+			for ( int i = 0; i < CONTEXT_SIZES[c]; i++ ) {
+				s.load( Folder.class, "folder" + i );
+			}
+			// a scan in registration order would visit every key registered before this one
+			Serializable id = "folder" + ( CONTEXT_SIZES[c] / 2 );
+
+			CountingStringType.resetComparisons();
+			Serializable[] ids = queue.getEntityBatch( persister, id, BATCH_SIZE, EntityMode.POJO );
+			visits[c] = CountingStringType.getComparisons();
+			assertNotNull( ids[BATCH_SIZE - 1] );
+
+			s.getTransaction().rollback();
+			s.close();
+		}
+		assertVisits( visits );
+	}
+
+	@Test
+	@SuppressWarnings( {"unchecked"})
+	public void testCollectionBatchVisitsAreIndependentOfContextSize() {
+		final int maxContextSize = CONTEXT_SIZES[CONTEXT_SIZES.length - 1];
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < maxContextSize; i++ ) {
+			s.save( new Folder( "folder" + i ) );
+			if ( i % 100 == 0 ) {
+				s.flush();
+				s.clear();
+			}
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		int[] visits = new int[CONTEXT_SIZES.length];
+		for ( int c = 0; c < CONTEXT_SIZES.length; c++ ) {
+			s = openSession();
+			s.beginTransaction();
+			BatchFetchQueue queue = ( (SessionImplementor) s ).getPersistenceContext().getBatchFetchQueue();
+			CollectionPersister persister = sessionFactory().getCollectionPersister( Folder.class.getName() + ".tags" );
+			// registers an uninitialized tags collection per folder
+			List<Folder> folders = s.createQuery( "from Folder" ).setMaxResults( CONTEXT_SIZES[c] ).list();
+			assertEquals( CONTEXT_SIZES[c], folders.size() );
+			Serializable id = folders.get( CONTEXT_SIZES[c] / 2 ).getId();
+
+			CountingStringType.resetComparisons();
+			Serializable[] keys = queue.getCollectionBatch( persister, id, BATCH_SIZE );
+			visits[c] = CountingStringType.getComparisons();
+			assertNotNull( keys[BATCH_SIZE - 1] );
+
+			s.getTransaction().commit();
+			s.close();
+		}
+		assertVisits( visits );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Folder" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static void assertVisits(int[] visits) {
+		// the requested key is looked up once, and each of the other keys of the batch is visited once
+		assertTrue( "visits: " + visits[0], visits[0] <= BATCH_SIZE );
+		for ( int c = 1; c < visits.length; c++ ) {
+			assertEquals( "visits for a context of " + CONTEXT_SIZES[c] + " keys", visits[0], visits[c] );
+		}
+	}
+}
@@ -22,19 +22,28 @@
  * Boston, MA  02110-1301  USA
  */
 package org.hibernate.test.batchfetch;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
 import org.junit.Test;
 
+import org.hibernate.EntityMode;
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -136,5 +145,91 @@ public class BatchFetchTest extends BaseCoreFunctionalTestCase {
 		s.close();
 	}
 
-}
+	@SuppressWarnings( {"unchecked"})
+	@Test
+	public void testBatchFetchQueue() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 5; i++ ) {
+			ProductLine productLine = new ProductLine();
+			productLine.setDescription( "Line " + i );
+			Model model = new Model( productLine );
+			model.setName( "Model " + i );
+			model.setDescription( "Model " + i );
+			s.save( productLine );
+		}
+		t.commit();
+		s.close();
+
+		s.getSessionFactory().getCache().evictEntityRegion( Model.class );
+		s.getSessionFactory().getCache().evictEntityRegion( ProductLine.class );
+		s.getSessionFactory().getCache().evictCollectionRegions();
+
+		s = openSession();
+		t = s.beginTransaction();
+		BatchFetchQueue queue = ( ( SessionImplementor ) s ).getPersistenceContext().getBatchFetchQueue();
+		CollectionPersister modelsPersister = sessionFactory().getCollectionPersister( ProductLine.class.getName() + ".models" );
+		List<ProductLine> lines = s.createQuery( "from ProductLine pl order by pl.description" ).list();
+		assertEquals( 5, lines.size() );
+
+		// keys registered after the requested one come first, then the queue wraps around
+		Serializable[] keys = queue.getCollectionBatch( modelsPersister, lines.get( 2 ).getId(), 8 );
+		assertEquals(
+				Arrays.asList(
+						lines.get( 2 ).getId(),
+						lines.get( 3 ).getId(),
+						lines.get( 4 ).getId(),
+						lines.get( 0 ).getId(),
+						lines.get( 1 ).getId(),
+						null, null, null
+				),
+				Arrays.asList( keys )
+		);
+
+		// evicted collections drop out of the queue
+		s.evict( lines.get( 3 ) );
+		keys = queue.getCollectionBatch( modelsPersister, lines.get( 2 ).getId(), 8 );
+		assertEquals(
+				new HashSet( Arrays.asList( lines.get( 2 ).getId(), lines.get( 4 ).getId(), lines.get( 0 ).getId(), lines.get( 1 ).getId() ) ),
+				new HashSet( Arrays.asList( keys ).subList( 0, 4 ) )
+		);
+		assertNull( keys[4] );
+
+		// as do initialized ones
+		lines.get( 0 ).getModels().size();
+		assertTrue( Hibernate.isInitialized( lines.get( 4 ).getModels() ) );
+		keys = queue.getCollectionBatch( modelsPersister, lines.get( 3 ).getId(), 8 );
+		assertEquals( lines.get( 3 ).getId(), keys[0] );
+		assertNull( keys[1] );
+
+		s.clear();
+
+		EntityPersister modelPersister = sessionFactory().getEntityPersister( Model.class.getName() );
+		List<Model> models = new ArrayList<Model>();
+		Iterator iter = s.createQuery( "from Model m order by m.name" ).iterate();
+		while ( iter.hasNext() ) {
+			models.add( ( Model ) iter.next() );
+		}
+		assertEquals( 5, models.size() );
+		Serializable[] ids = queue.getEntityBatch( modelPersister, models.get( 4 ).getId(), 8, EntityMode.POJO );
+		assertEquals( models.get( 4 ).getId(), ids[0] );
+		assertEquals( 5, new HashSet( Arrays.asList( ids ).subList( 0, 5 ) ).size() );
+		assertNull( ids[5] );
+
+		// loading the batch removes all of its keys from the queue
+		models.get( 4 ).getDescription();
+		ids = queue.getEntityBatch( modelPersister, models.get( 4 ).getId(), 8, EntityMode.POJO );
+		assertNull( ids[1] );
+
+		t.commit();
+		s.close();
 
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object line : s.createQuery( "from ProductLine" ).list() ) {
+			s.delete( line );
+		}
+		t.commit();
+		s.close();
+	}
+}
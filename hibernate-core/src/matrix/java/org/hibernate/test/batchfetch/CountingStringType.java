@@ -0,0 +1,61 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2006-2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.batchfetch;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.java.StringTypeDescriptor;
+import org.hibernate.type.descriptor.sql.VarcharTypeDescriptor;
+
+/**
+ * A string type counting the comparisons of its values.
+ */
+public class CountingStringType extends AbstractSingleColumnStandardBasicType<String> {
+	private static int comparisons;
+
+	public CountingStringType() {
+		super(
+				VarcharTypeDescriptor.INSTANCE,
+				new StringTypeDescriptor() {
+					@Override
+					public boolean areEqual(String one, String another) {
+						comparisons++;
+						return super.areEqual( one, another );
+					}
+				}
+		);
+	}
+
+	@Override
+	public String getName() {
+		return "counting_string";
+	}
+
+	public static int getComparisons() {
+		return comparisons;
+	}
+
+	public static void resetComparisons() {
+		comparisons = 0;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.flush;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that an auto flush is only evaluated when the entities in the session, or those they cascade to, are
+ * mapped to the queried tables.
+ */
+public class AutoFlushQuerySpacesTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Author.class, Book.class, Publisher.class, Magazine.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testAutoFlush() {
+		Session s = openSession();
+		s.beginTransaction();
+		Author author = new Author( "author" );
+		author.getBooks().add( new Book( "book", author ) );
+		s.persist( author );
+		s.persist( new Magazine( "magazine" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		PreFlushCountingInterceptor interceptor = new PreFlushCountingInterceptor();
+		s = sessionFactory().withOptions().interceptor( interceptor ).openSession();
+		s.beginTransaction();
+		Book book = (Book) s.createQuery( "from Book" ).uniqueResult();
+		book.setTitle( "changed" );
+		sessionFactory().getStatistics().clear();
+		interceptor.preFlushCount = 0;
+
+		// neither books nor what they cascade to are magazines
+		s.createQuery( "from Magazine" ).list();
+		assertEquals( 0, interceptor.preFlushCount );
+		assertEquals( 0, sessionFactory().getStatistics().getEntityUpdateCount() );
+
+		s.createQuery( "from Book" ).list();
+		assertEquals( 1, interceptor.preFlushCount );
+		assertEquals( 1, sessionFactory().getStatistics().getEntityUpdateCount() );
+
+		// a new book reached from a managed author is inserted
+		Author loadedAuthor = book.getAuthor();
+		loadedAuthor.getBooks().add( new Book( "another book", loadedAuthor ) );
+		assertEquals( 2L, s.createQuery( "select count(b) from Book b" ).uniqueResult() );
+
+		Magazine magazine = (Magazine) s.createQuery( "from Magazine" ).uniqueResult();
+		magazine.setTitle( "changed" );
+		assertEquals( "changed", s.createQuery( "select m.title from Magazine m" ).uniqueResult() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Book" ).executeUpdate();
+		s.createQuery( "delete from Author" ).executeUpdate();
+		s.createQuery( "delete from Magazine" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static class PreFlushCountingInterceptor extends EmptyInterceptor {
+		private int preFlushCount;
+
+		@Override
+		public void preFlush(Iterator entities) {
+			preFlushCount++;
+		}
+	}
+}
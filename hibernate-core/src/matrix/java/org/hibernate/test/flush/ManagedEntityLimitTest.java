@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.SessionBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests sessions opened with {@link SessionBuilder#managedEntityLimit}.
+ */
+public class ManagedEntityLimitTest extends BaseCoreFunctionalTestCase {
+	private static final int LIMIT = 20;
+	private static final int BOOKS = 250;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Author.class, Book.class, Publisher.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testManagedEntitiesAreBounded() {
+		sessionFactory().getStatistics().clear();
+		Session s = sessionFactory().withOptions().managedEntityLimit( LIMIT, Author.class ).openSession();
+		s.beginTransaction();
+		Author author = new Author( "author" );
+		s.persist( author );
+		List<Book> books = new ArrayList<Book>();
+		for ( int i = 0; i < BOOKS; i++ ) {
+			Book book = new Book( "book " + i, author );
+			// the cascade to the author only works as long as it stays managed
+			s.persist( book );
+			books.add( book );
+			assertTrue( s.getStatistics().getEntityCount() <= LIMIT );
+		}
+		assertTrue( s.contains( author ) );
+		assertFalse( s.contains( books.get( 0 ) ) );
+		assertTrue( s.contains( books.get( BOOKS - 1 ) ) );
+		s.getTransaction().commit();
+		s.close();
+		assertTrue( sessionFactory().getStatistics().getFlushCount() >= BOOKS / LIMIT );
+		assertEquals( BOOKS + 1, sessionFactory().getStatistics().getEntityInsertCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( (long) BOOKS, s.createQuery( "select count(b) from Book b where b.author.id = :id" )
+				.setParameter( "id", author.getId() )
+				.uniqueResult() );
+		s.createQuery( "delete from Book" ).executeUpdate();
+		s.createQuery( "delete from Author" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testPersistCascadingToEntityManagedBeforeClear() {
+		sessionFactory().getStatistics().clear();
+		Session s = sessionFactory().withOptions().managedEntityLimit( LIMIT ).openSession();
+		s.beginTransaction();
+		Author author = new Author( "author" );
+		s.persist( author );
+		for ( int i = 0; i < BOOKS; i++ ) {
+			// the author is not part of a working set, but stays managed for the cascade of the persist
+			s.persist( new Book( "book " + i, author ) );
+			assertTrue( s.getStatistics().getEntityCount() <= LIMIT );
+		}
+		assertTrue( s.contains( author ) );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( BOOKS + 1, sessionFactory().getStatistics().getEntityInsertCount() );
+
+		cleanup();
+	}
+
+	@Test
+	public void testOperationsOnManagedEntityAtLimit() {
+		sessionFactory().getStatistics().clear();
+		Session s = sessionFactory().withOptions().managedEntityLimit( LIMIT ).openSession();
+		s.beginTransaction();
+		Author author = new Author( "author" );
+		s.persist( author );
+		List<Book> books = new ArrayList<Book>();
+		for ( int i = 0; i < LIMIT - 1; i++ ) {
+			Book book = new Book( "book " + i, author );
+			s.persist( book );
+			books.add( book );
+		}
+		assertEquals( LIMIT, s.getStatistics().getEntityCount() );
+
+		Book book = books.get( 0 );
+		// the book stays managed across the clear, rather than being detached and failing the persist
+		s.persist( book );
+		assertTrue( s.contains( book ) );
+		assertTrue( s.contains( author ) );
+		assertFalse( s.contains( books.get( 1 ) ) );
+
+		for ( int i = 0; i < LIMIT - 2; i++ ) {
+			s.persist( new Book( "other book " + i, author ) );
+		}
+		assertEquals( LIMIT, s.getStatistics().getEntityCount() );
+		assertSame( book, s.merge( book ) );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 1 + ( LIMIT - 1 ) + ( LIMIT - 2 ), sessionFactory().getStatistics().getEntityInsertCount() );
+
+		cleanup();
+	}
+
+	@Test
+	public void testWorkingSetFillingLimit() {
+		Session s = sessionFactory().withOptions().managedEntityLimit( LIMIT, Book.class ).openSession();
+		s.beginTransaction();
+		Author author = new Author( "author" );
+		s.persist( author );
+		for ( int i = 0; i < LIMIT - 1; i++ ) {
+			s.persist( new Book( "book " + i, author ) );
+		}
+		try {
+			// the books of the working set and their author cannot be cleared
+			s.persist( new Book( "book", author ) );
+			fail( "Expecting the managed entity limit to be reported as filled by the working set" );
+		}
+		catch ( HibernateException expected ) {
+		}
+		assertTrue( s.getStatistics().getEntityCount() >= LIMIT );
+		s.getTransaction().rollback();
+		s.close();
+
+		cleanup();
+	}
+
+	@Test
+	public void testNoLimitByDefault() {
+		Session s = openSession();
+		s.beginTransaction();
+		Author author = new Author( "author" );
+		s.persist( author );
+		for ( int i = 0; i < LIMIT * 2; i++ ) {
+			s.persist( new Book( "book " + i, author ) );
+		}
+		assertEquals( LIMIT * 2 + 1, s.getStatistics().getEntityCount() );
+		s.getTransaction().commit();
+		s.close();
+
+		cleanup();
+	}
+
+	private void cleanup() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Book" ).executeUpdate();
+		s.createQuery( "delete from Author" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.flush;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.internal.DefaultFlushEntityEventListener;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.metamodel.source.MetadataImplementor;
+import org.hibernate.service.BootstrapServiceRegistryBuilder;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.hibernate.type.Type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests flushing with {@link Environment#PARALLEL_DIRTY_CHECK_THRESHOLD} enabled, with enough entities for the
+ * dirty check to be spread over several threads where the host has several processors.
+ */
+public class ParallelDirtyCheckTest extends BaseCoreFunctionalTestCase {
+	private static final int AUTHORS = 10;
+	private static final int BOOKS_PER_AUTHOR = 150;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Author.class, Book.class, Publisher.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( Environment.PARALLEL_DIRTY_CHECK_THRESHOLD, "1" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder builder) {
+		super.prepareBootstrapRegistryBuilder( builder );
+		builder.with(
+				new Integrator() {
+
+					@Override
+					public void integrate(
+							Configuration configuration,
+							SessionFactoryImplementor sessionFactory,
+							SessionFactoryServiceRegistry serviceRegistry) {
+						integrate( serviceRegistry );
+					}
+
+					@Override
+					public void integrate(
+							MetadataImplementor metadata,
+							SessionFactoryImplementor sessionFactory,
+							SessionFactoryServiceRegistry serviceRegistry) {
+						integrate( serviceRegistry );
+					}
+
+					private void integrate(SessionFactoryServiceRegistry serviceRegistry) {
+						serviceRegistry.getService( EventListenerRegistry.class )
+								.setListeners( EventType.FLUSH_ENTITY, new PrecomputedDirtyCheckCountingListener() );
+					}
+
+					@Override
+					public void disintegrate(
+							SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+					}
+				}
+		);
+	}
+
+	@Test
+	@SuppressWarnings( {"unchecked"})
+	public void testDirtyCheck() {
+		createBooks();
+
+		sessionFactory().getStatistics().clear();
+		Session s = openSession();
+		s.beginTransaction();
+		List<Book> books = s.createQuery( "from Book b order by b.id" ).list();
+		List<Author> authors = s.createQuery( "from Author a order by a.id" ).list();
+		int expectedUpdates = 0;
+		for ( int i = 0; i < books.size(); i += 7 ) {
+			books.get( i ).setTitle( "changed " + i );
+			expectedUpdates++;
+		}
+		// an association no longer referencing the loaded instance is left to the regular dirty check
+		Author newAuthor = books.get( 1 ).getAuthor() == authors.get( 0 ) ? authors.get( 1 ) : authors.get( 0 );
+		books.get( 1 ).setAuthor( newAuthor );
+		expectedUpdates++;
+		authors.get( 2 ).setName( "changed" );
+		expectedUpdates++;
+		PrecomputedDirtyCheckCountingListener.COUNT.set( 0 );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( expectedUpdates, sessionFactory().getStatistics().getEntityUpdateCount() );
+		// every loaded entity (the books, their authors and the publisher) but the book given a new author
+		assertEquals( AUTHORS * BOOKS_PER_AUTHOR + AUTHORS, PrecomputedDirtyCheckCountingListener.COUNT.get() );
+
+		s = openSession();
+		s.beginTransaction();
+		books = s.createQuery( "from Book b order by b.id" ).list();
+		assertEquals( AUTHORS * BOOKS_PER_AUTHOR, books.size() );
+		for ( int i = 0; i < books.size(); i += 7 ) {
+			assertEquals( "changed " + i, books.get( i ).getTitle() );
+		}
+		assertEquals( newAuthor.getId(), books.get( 1 ).getAuthor().getId() );
+		assertEquals( "changed", ( (Author) s.get( Author.class, authors.get( 2 ).getId() ) ).getName() );
+		s.getTransaction().commit();
+		s.close();
+
+		deleteBooks();
+	}
+
+	@Test
+	@SuppressWarnings( {"unchecked"})
+	public void testInterceptorModifyingLaterEntity() {
+		createBooks();
+
+		sessionFactory().getStatistics().clear();
+		final ModifyingInterceptor interceptor = new ModifyingInterceptor();
+		Session s = sessionFactory().withOptions().interceptor( interceptor ).openSession();
+		s.beginTransaction();
+		List<Book> books = s.createQuery( "from Book b order by b.id" ).list();
+		interceptor.modifiedBy = books.get( 0 );
+		interceptor.modified = books.get( books.size() - 1 );
+		books.get( 0 ).setTitle( "changed" );
+		PrecomputedDirtyCheckCountingListener.COUNT.set( 0 );
+		s.getTransaction().commit();
+		s.close();
+		// the dirty check of the last book happens after the interceptor modified it
+		assertEquals( 2, sessionFactory().getStatistics().getEntityUpdateCount() );
+		assertEquals( 0, PrecomputedDirtyCheckCountingListener.COUNT.get() );
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( "modified", ( (Book) s.get( Book.class, interceptor.modified.getId() ) ).getTitle() );
+		s.getTransaction().commit();
+		s.close();
+
+		deleteBooks();
+	}
+
+	@Test
+	public void testExecutorOwnedBySessionFactory() {
+		ExecutorService executor = sessionFactory().getParallelDirtyCheckExecutor();
+		assertSame( executor, sessionFactory().getParallelDirtyCheckExecutor() );
+
+		SessionFactoryImplementor closed = sessionFactory();
+		rebuildSessionFactory();
+		assertTrue( executor.isShutdown() );
+		assertNull( closed.getParallelDirtyCheckExecutor() );
+		assertNotSame( executor, sessionFactory().getParallelDirtyCheckExecutor() );
+	}
+
+	private void createBooks() {
+		Session s = openSession();
+		s.beginTransaction();
+		Publisher publisher = new Publisher( "publisher" );
+		for ( int i = 0; i < AUTHORS; i++ ) {
+			Author author = new Author( "author " + i );
+			author.setPublisher( publisher );
+			publisher.getAuthors().add( author );
+			for ( int j = 0; j < BOOKS_PER_AUTHOR; j++ ) {
+				author.getBooks().add( new Book( "book " + j, author ) );
+			}
+		}
+		s.persist( publisher );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private void deleteBooks() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Book" ).executeUpdate();
+		s.createQuery( "delete from Author" ).executeUpdate();
+		s.createQuery( "delete from Publisher" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	/**
+	 * Counts the flush entity events handed the results of the parallel dirty check.
+	 */
+	public static class PrecomputedDirtyCheckCountingListener extends DefaultFlushEntityEventListener {
+		private static final AtomicInteger COUNT = new AtomicInteger();
+
+		@Override
+		public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
+			if ( event.isDirtyCheckPrecomputed() ) {
+				COUNT.incrementAndGet();
+			}
+			super.onFlushEntity( event );
+		}
+	}
+
+	private static class ModifyingInterceptor extends EmptyInterceptor {
+		private Book modifiedBy;
+		private Book modified;
+
+		@Override
+		public boolean onFlushDirty(
+				Object entity,
+				Serializable id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			if ( entity == modifiedBy ) {
+				modified.setTitle( "modified" );
+			}
+			return false;
+		}
+	}
+}
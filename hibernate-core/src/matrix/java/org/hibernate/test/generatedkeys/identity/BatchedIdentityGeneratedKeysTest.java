@@ -0,0 +1,95 @@
+package org.hibernate.test.generatedkeys.identity;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests batching of identity inserts, reading the generated keys back for the whole batch.
+ */
+@RequiresDialectFeature( DialectChecks.SupportsGetGeneratedKeysForBatch.class )
+public class BatchedIdentityGeneratedKeysTest extends BaseCoreFunctionalTestCase {
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( Environment.USE_GET_GENERATED_KEYS, "true" );
+		cfg.setProperty( Environment.BATCH_IDENTITY_INSERTS, "true" );
+	}
+
+	public String[] getMappings() {
+		return new String[] { "generatedkeys/identity/MyEntity.hbm.xml" };
+	}
+
+	@Test
+	public void testPersistDelayedAndBatchedWithinTransaction() {
+		long initialInsertCount = sessionFactory().getStatistics().getEntityInsertCount();
+		int count = 25;
+		MyEntity[] entities = new MyEntity[count];
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < count; i++ ) {
+			entities[i] = new MyEntity( "test-persist-" + i );
+			s.persist( entities[i] );
+			assertNull( "persist on batchable identity column not delayed", entities[i].getId() );
+		}
+		s.flush();
+		assertEquals( initialInsertCount + count, sessionFactory().getStatistics().getEntityInsertCount() );
+		Set<Long> ids = new HashSet<Long>();
+		for ( MyEntity entity : entities ) {
+			assertNotNull( entity.getId() );
+			ids.add( entity.getId() );
+			assertSame( entity, s.get( MyEntity.class, entity.getId() ) );
+		}
+		assertEquals( count, ids.size() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		for ( MyEntity entity : entities ) {
+			assertEquals( entity.getName(), ( (MyEntity) s.get( MyEntity.class, entity.getId() ) ).getName() );
+		}
+		s.createQuery( "delete MyEntity" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testBatchExecutedBeforeDependentInsert() {
+		Session s = openSession();
+		s.beginTransaction();
+		MyEntity first = new MyEntity( "first" );
+		s.persist( first );
+		MySibling sibling = new MySibling( "sibling" );
+		sibling.setEntity( first );
+		s.persist( sibling );
+		MyEntity second = new MyEntity( "second" );
+		s.persist( second );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		sibling = (MySibling) s.get( MySibling.class, sibling.getId() );
+		assertEquals( first.getId(), sibling.getEntity().getId() );
+		assertNotNull( s.get( MyEntity.class, second.getId() ) );
+		s.delete( sibling );
+		s.createQuery( "delete MyEntity" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+}
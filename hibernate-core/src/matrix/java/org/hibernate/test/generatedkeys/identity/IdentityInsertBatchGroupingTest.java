@@ -0,0 +1,94 @@
+package org.hibernate.test.generatedkeys.identity;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests how the action queue groups batchable identity insertions, independently of the dialect: the
+ * {@link RecordingIdentityInsertPersister} executes each batch as single-row inserts.
+ */
+@RequiresDialectFeature( DialectChecks.SupportsIdentityColumns.class )
+public class IdentityInsertBatchGroupingTest extends BaseCoreFunctionalTestCase {
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	public String[] getMappings() {
+		return new String[] { "generatedkeys/identity/Node.hbm.xml" };
+	}
+
+	@Test
+	public void testInsertsGroupedUpToBatchSize() {
+		RecordingIdentityInsertPersister.BATCH_SIZES.clear();
+		int count = 25;
+		Node[] nodes = new Node[count];
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < count; i++ ) {
+			nodes[i] = new Node( "node-" + i );
+			s.persist( nodes[i] );
+			assertNull( nodes[i].getId() );
+		}
+		s.flush();
+		assertEquals( Arrays.asList( 10, 10, 5 ), RecordingIdentityInsertPersister.BATCH_SIZES );
+		Set<Long> ids = new HashSet<Long>();
+		for ( Node node : nodes ) {
+			assertNotNull( node.getId() );
+			ids.add( node.getId() );
+		}
+		assertEquals( count, ids.size() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( Long.valueOf( count ), s.createQuery( "select count(*) from Node" ).uniqueResult() );
+		s.createQuery( "delete Node" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testBatchExecutedBeforeReferenceToPendingInstance() {
+		RecordingIdentityInsertPersister.BATCH_SIZES.clear();
+		Session s = openSession();
+		s.beginTransaction();
+		Node root = new Node( "root" );
+		s.persist( root );
+		// references an instance of the same entity still pending in the batch
+		Node child = new Node( "child", root );
+		s.persist( child );
+		Node sibling = new Node( "sibling", root );
+		s.persist( sibling );
+		Node other = new Node( "other" );
+		s.persist( other );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( Arrays.asList( 1, 3 ), RecordingIdentityInsertPersister.BATCH_SIZES );
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( root.getId(), ( (Node) s.get( Node.class, child.getId() ) ).getParent().getId() );
+		assertEquals( root.getId(), ( (Node) s.get( Node.class, sibling.getId() ) ).getParent().getId() );
+		assertNull( ( (Node) s.get( Node.class, other.getId() ) ).getParent() );
+		s.createQuery( "update Node set parent = null" ).executeUpdate();
+		s.createQuery( "delete Node" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -0,0 +1,47 @@
+package org.hibernate.test.generatedkeys.identity;
+
+
+/**
+ * An entity with an identity id, whose insertions are recorded by {@link RecordingIdentityInsertPersister}.
+ */
+public class Node {
+	private Long id;
+	private String name;
+	private Node parent;
+
+	public Node() {
+	}
+
+	public Node(String name) {
+		this.name = name;
+	}
+
+	public Node(String name, Node parent) {
+		this.name = name;
+		this.parent = parent;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Node getParent() {
+		return parent;
+	}
+
+	public void setParent(Node parent) {
+		this.parent = parent;
+	}
+}
@@ -0,0 +1,42 @@
+package org.hibernate.test.generatedkeys.identity;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+
+/**
+ * Batches identity inserts whatever the dialect, executing each batch as single-row inserts and recording
+ * the size of the batches.
+ */
+public class RecordingIdentityInsertPersister extends SingleTableEntityPersister {
+	public static final List<Integer> BATCH_SIZES = new ArrayList<Integer>();
+
+	public RecordingIdentityInsertPersister(PersistentClass persistentClass, EntityRegionAccessStrategy cache,
+											SessionFactoryImplementor factory, Mapping cfg) throws HibernateException {
+		super( persistentClass, cache, factory, cfg );
+	}
+
+	@Override
+	public boolean isIdentityInsertBatchable() {
+		return true;
+	}
+
+	@Override
+	public Serializable[] insert(Object[][] fields, Object[] objects, SessionImplementor session)
+			throws HibernateException {
+		BATCH_SIZES.add( objects.length );
+		final Serializable[] ids = new Serializable[objects.length];
+		for ( int i = 0; i < objects.length; i++ ) {
+			ids[i] = insert( fields[i], objects[i], session );
+		}
+		return ids;
+	}
+}
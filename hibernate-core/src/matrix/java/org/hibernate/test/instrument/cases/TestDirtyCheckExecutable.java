@@ -6,6 +6,8 @@ import junit.framework.Assert;
 
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.bytecode.instrumentation.internal.FieldInterceptionHelper;
+import org.hibernate.bytecode.instrumentation.spi.FieldInterceptor;
 import org.hibernate.test.instrument.domain.Folder;
 
 /**
@@ -39,6 +41,29 @@ public class TestDirtyCheckExecutable extends AbstractExecutable {
 			Assert.assertFalse( f.nameWasread );
 		}
 
+		s = getFactory().openSession();
+		t = s.beginTransaction();
+		Folder folder = (Folder) s.get( Folder.class, pics.getId() );
+		FieldInterceptor interceptor = FieldInterceptionHelper.extractFieldInterceptor( folder );
+		Assert.assertFalse( interceptor.isDirty() );
+		// writing the same value does not modify the entity
+		folder.setName( "pics" );
+		Assert.assertTrue( interceptor.getDirtyFields().contains( "name" ) );
+		Assert.assertFalse( s.isDirty() );
+		Assert.assertFalse( interceptor.isDirty() );
+		folder.setName( "pictures" );
+		Assert.assertEquals( 1, interceptor.getDirtyFields().size() );
+		Assert.assertTrue( s.isDirty() );
+		t.commit();
+		s.close();
+
+		s = getFactory().openSession();
+		t = s.beginTransaction();
+		folder = (Folder) s.get( Folder.class, pics.getId() );
+		Assert.assertEquals( "pictures", folder.getName() );
+		t.commit();
+		s.close();
+
 		s = getFactory().openSession();
 		t = s.beginTransaction();
 		s.createQuery("delete from Folder").executeUpdate();
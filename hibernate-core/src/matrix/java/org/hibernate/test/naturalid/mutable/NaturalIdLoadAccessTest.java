@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.naturalid.mutable;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link Session#byNaturalId} and the natural-id cache region.
+ */
+public class NaturalIdLoadAccessTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "naturalid/mutable/User.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		cfg.setProperty( Environment.USE_NATURAL_ID_CACHE, "true" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected String getCacheConcurrencyStrategy() {
+		return "nonstrict-read-write";
+	}
+
+	private SecondLevelCacheStatistics naturalIdCacheStatistics() {
+		String regionName = sessionFactory().getNaturalIdCacheAccessStrategy( User.class.getName() )
+				.getRegion()
+				.getName();
+		return sessionFactory().getStatistics().getSecondLevelCacheStatistics( regionName );
+	}
+
+	private User loadByNaturalId(Session s, String name, String org) {
+		return (User) s.byNaturalId( User.class ).using( "name", name ).using( "org", org ).load();
+	}
+
+	@Test
+	public void testLoadByNaturalId() {
+		Session s = openSession();
+		s.beginTransaction();
+		User u = new User( "gavin", "hb", "secret" );
+		s.persist( u );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		User loaded = loadByNaturalId( s, "gavin", "hb" );
+		assertNotNull( loaded );
+		assertEquals( u.getName(), loaded.getName() );
+		assertEquals( 1, naturalIdCacheStatistics().getMissCount() );
+		assertEquals( 1, naturalIdCacheStatistics().getPutCount() );
+		// resolved from the persistence context
+		assertSame( loaded, loadByNaturalId( s, "gavin", "hb" ) );
+		assertEquals( 0, naturalIdCacheStatistics().getHitCount() );
+		assertEquals( 1, naturalIdCacheStatistics().getMissCount() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertNotNull( loadByNaturalId( s, "gavin", "hb" ) );
+		assertEquals( 1, naturalIdCacheStatistics().getHitCount() );
+		assertNull( loadByNaturalId( s, "steve", "hb" ) );
+		assertNull( s.byNaturalId( User.class ).using( "name", "steve" ).using( "org", "hb" ).getReference() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		s.delete( loadByNaturalId( s, "gavin", "hb" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertNull( loadByNaturalId( s, "gavin", "hb" ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMutableNaturalIdChange() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new User( "gavin", "hb", "secret" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		User u = loadByNaturalId( s, "gavin", "hb" );
+		Field name = User.class.getDeclaredField( "name" );
+		name.setAccessible( true );
+		name.set( u, "Gavin" );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertNull( loadByNaturalId( s, "gavin", "hb" ) );
+		u = loadByNaturalId( s, "Gavin", "hb" );
+		assertNotNull( u );
+		s.delete( u );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testDetachedUpdateOfNaturalId() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new User( "gavin", "hb", "secret" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		// caches the cross-reference
+		s = openSession();
+		s.beginTransaction();
+		User u = loadByNaturalId( s, "gavin", "hb" );
+		s.getTransaction().commit();
+		s.close();
+
+		Field name = User.class.getDeclaredField( "name" );
+		name.setAccessible( true );
+		name.set( u, "Gavin" );
+		s = openSession();
+		s.beginTransaction();
+		s.update( u );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+		s = openSession();
+		s.beginTransaction();
+		// the cross-reference of the previous natural-id was evicted
+		assertNull( s.byNaturalId( User.class ).using( "name", "gavin" ).using( "org", "hb" ).getReference() );
+		assertEquals( 0, naturalIdCacheStatistics().getHitCount() );
+		assertEquals( 1, naturalIdCacheStatistics().getMissCount() );
+		u = loadByNaturalId( s, "Gavin", "hb" );
+		assertNotNull( u );
+		s.delete( u );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testGetReferenceChecksManagedInstance() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new User( "gavin", "hb", "secret" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		User u = loadByNaturalId( s, "gavin", "hb" );
+		Field name = User.class.getDeclaredField( "name" );
+		name.setAccessible( true );
+		name.set( u, "Gavin" );
+		// the resolution of the previous natural-id held by the session is stale
+		assertNull( s.byNaturalId( User.class ).using( "name", "gavin" ).using( "org", "hb" ).getReference() );
+		assertSame( u, s.byNaturalId( User.class ).using( "name", "Gavin" ).using( "org", "hb" ).getReference() );
+		s.delete( u );
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -28,7 +28,10 @@ import org.hibernate.JDBCException;
 import org.hibernate.Session;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.StaleStateException;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.stat.EntityStatistics;
 
 import org.junit.Test;
 
@@ -36,6 +39,7 @@ import org.hibernate.testing.DialectChecks;
 import org.hibernate.testing.RequiresDialectFeature;
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 /**
@@ -53,6 +57,49 @@ public class OptimisticLockTest extends BaseCoreFunctionalTestCase {
 	public String[] getMappings() {
 		return new String[] { "optlock/Document.hbm.xml" };
 	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testDynamicUpdateSqlIsReused() {
+		Session s = openSession();
+		s.beginTransaction();
+		Document doc = new Document();
+		doc.setTitle( "Hibernate in Action" );
+		doc.setSummary( "Very boring book about persistence" );
+		doc.setPubDate( new PublicationDate( 2004 ) );
+		s.save( "LockDirty", doc );
+		s.flush();
+		sessionFactory().getStatistics().clear();
+		EntityStatistics statistics = sessionFactory().getStatistics().getEntityStatistics( "LockDirty" );
+
+		doc.setSummary( "A modern classic" );
+		s.flush();
+		assertEquals( 1, statistics.getDynamicSqlCacheMissCount() );
+		assertEquals( 0, statistics.getDynamicSqlCacheHitCount() );
+
+		// same property, same nullness of the old value
+		doc.setSummary( "A machiavellian achievement of epic proportions" );
+		s.flush();
+		doc.setSummary( null );
+		s.flush();
+		assertEquals( 1, statistics.getDynamicSqlCacheMissCount() );
+		assertEquals( 2, statistics.getDynamicSqlCacheHitCount() );
+
+		// the old value is now null, so the optimistic lock restriction differs
+		doc.setSummary( "Back in print" );
+		s.flush();
+		assertEquals( 2, statistics.getDynamicSqlCacheMissCount() );
+		assertEquals( 2, statistics.getDynamicSqlCacheSize() );
+
+		s.delete( "LockDirty", doc );
+		s.getTransaction().commit();
+		s.close();
+	}
 	
 	@Test
 	public void testOptimisticLockDirty() {
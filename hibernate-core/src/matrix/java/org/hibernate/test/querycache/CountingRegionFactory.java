@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2006-2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.querycache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.EntityRegion;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+/**
+ * A {@link CachingRegionFactory} counting the reads made through the access strategies of its entity regions.
+ */
+public class CountingRegionFactory extends CachingRegionFactory {
+	private final AtomicInteger getCount = new AtomicInteger();
+	private final AtomicInteger bulkGetCount = new AtomicInteger();
+
+	public CountingRegionFactory() {
+	}
+
+	public CountingRegionFactory(Properties properties) {
+		super( properties );
+	}
+
+	/**
+	 * @return The number of single item reads from entity regions
+	 */
+	public int getGetCount() {
+		return getCount.get();
+	}
+
+	/**
+	 * @return The number of bulk reads from entity regions
+	 */
+	public int getBulkGetCount() {
+		return bulkGetCount.get();
+	}
+
+	@Override
+	public EntityRegion buildEntityRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		final EntityRegion region = super.buildEntityRegion( regionName, properties, metadata );
+		return wrap(
+				region,
+				new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						final Object result = invokeOn( region, method, args );
+						return "buildAccessStrategy".equals( method.getName() ) ? countingAccess( result ) : result;
+					}
+				}
+		);
+	}
+
+	private Object countingAccess(final Object accessStrategy) {
+		return wrap(
+				accessStrategy,
+				new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ( "get".equals( method.getName() ) ) {
+							getCount.incrementAndGet();
+						}
+						else if ( "getAll".equals( method.getName() ) ) {
+							bulkGetCount.incrementAndGet();
+						}
+						return invokeOn( accessStrategy, method, args );
+					}
+				}
+		);
+	}
+
+	@SuppressWarnings({ "unchecked" })
+	private static <T> T wrap(T target, InvocationHandler handler) {
+		final Set<Class> interfaces = new LinkedHashSet<Class>();
+		for ( Class type = target.getClass(); type != null; type = type.getSuperclass() ) {
+			collectInterfaces( type, interfaces );
+		}
+		return (T) Proxy.newProxyInstance(
+				CountingRegionFactory.class.getClassLoader(),
+				interfaces.toArray( new Class[interfaces.size()] ),
+				handler
+		);
+	}
+
+	private static void collectInterfaces(Class type, Set<Class> interfaces) {
+		for ( Class implemented : type.getInterfaces() ) {
+			if ( interfaces.add( implemented ) ) {
+				collectInterfaces( implemented, interfaces );
+			}
+		}
+	}
+
+	private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke( target, args );
+		}
+		catch ( InvocationTargetException e ) {
+			throw e.getCause();
+		}
+	}
+}
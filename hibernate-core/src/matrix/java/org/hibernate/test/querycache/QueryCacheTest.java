@@ -23,17 +23,24 @@
  */
 package org.hibernate.test.querycache;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.cfg.Environment;
 import org.hibernate.stat.EntityStatistics;
 import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.SecondLevelCacheStatistics;
 import org.hibernate.transform.Transformers;
 
 import org.junit.Test;
@@ -44,6 +51,7 @@ import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -62,6 +70,7 @@ public class QueryCacheTest extends BaseCoreFunctionalTestCase {
 		cfg.setProperty( Environment.CACHE_REGION_PREFIX, "foo" );
 		cfg.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
 		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( Environment.CACHE_REGION_FACTORY, CountingRegionFactory.class.getName() );
 	}
 
 	@Override
@@ -157,6 +166,60 @@ public class QueryCacheTest extends BaseCoreFunctionalTestCase {
 
 	}
 
+	@Test
+	public void testCachedQueryResolvesEntitiesFromSecondLevelCache() {
+		sessionFactory().evictQueries();
+		sessionFactory().getCache().evictEntityRegion( Item.class );
+		sessionFactory().getStatistics().clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 3; i++ ) {
+			Item a = new Item();
+			a.setName( "a" + i );
+			a.setDescription( "a" + i );
+			s.persist( a );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		String queryString = "from Item";
+		// loads the items from the database, caching both them and the query results
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 3, s.createQuery( queryString ).setCacheable( true ).list().size() );
+		s.getTransaction().commit();
+		s.close();
+
+		EntityStatistics es = s.getSessionFactory().getStatistics().getEntityStatistics( Item.class.getName() );
+		SecondLevelCacheStatistics slcs = s.getSessionFactory().getStatistics().getSecondLevelCacheStatistics(
+				"foo." + Item.class.getName()
+		);
+		CountingRegionFactory regionFactory = (CountingRegionFactory) sessionFactory().getSettings().getRegionFactory();
+		long loadCount = es.getLoadCount();
+		long hitCount = slcs.getHitCount();
+		int getCount = regionFactory.getGetCount();
+		int bulkGetCount = regionFactory.getBulkGetCount();
+
+		// the items are read from the second-level cache, all at once
+		s = openSession();
+		s.beginTransaction();
+		List result = s.createQuery( queryString ).setCacheable( true ).list();
+		assertEquals( 3, result.size() );
+		for ( Object item : result ) {
+			assertTrue( Hibernate.isInitialized( item ) );
+		}
+		assertEquals( loadCount, es.getLoadCount() );
+		assertEquals( hitCount + 3, slcs.getHitCount() );
+		assertEquals( bulkGetCount + 1, regionFactory.getBulkGetCount() );
+		assertEquals( getCount, regionFactory.getGetCount() );
+		for ( Object item : result ) {
+			s.delete( item );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
 	private static final String queryString = "from Item i where i.name='widget'";
 
 	@Test
@@ -433,5 +496,35 @@ public class QueryCacheTest extends BaseCoreFunctionalTestCase {
 		assertEquals( es.getFetchCount(), 0 ); //check that it was being cached
 	}
 
+	@Test
+	public void testUpdateTimestampsCache() {
+		UpdateTimestampsCache cache = sessionFactory().getUpdateTimestampsCache();
+		cache.clear();
+		Serializable[] spaces = new Serializable[] { "Item" };
+		Set<Serializable> spaceSet = new HashSet<Serializable>( Arrays.asList( spaces ) );
+		Set<Serializable> otherSpaces = Collections.<Serializable>singleton( "Other" );
+
+		Long before = cache.getRegion().nextTimestamp();
+		assertTrue( cache.isUpToDate( spaceSet, before ) );
+
+		// while the transaction is in flight no result is up to date
+		cache.preinvalidate( spaces );
+		assertFalse( cache.isUpToDate( spaceSet, before ) );
+		assertFalse( cache.isUpToDate( spaceSet, cache.getRegion().nextTimestamp() ) );
+		assertTrue( cache.isUpToDate( otherSpaces, before ) );
+
+		cache.invalidate( spaces );
+		assertFalse( cache.isUpToDate( spaceSet, before ) );
+		assertTrue( cache.isUpToDate( spaceSet, cache.getRegion().nextTimestamp() + 1 ) );
+
+		// an update made elsewhere (e.g. on another node) is only visible in the region
+		Long after = cache.getRegion().nextTimestamp() + 1;
+		cache.getRegion().put( "Item", after );
+		assertFalse( cache.isUpToDate( spaceSet, after ) );
+
+		cache.clear();
+		assertTrue( cache.isUpToDate( spaceSet, before ) );
+	}
+
 }
 
@@ -28,11 +28,13 @@ import org.hibernate.Session;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
 
 import org.junit.Test;
 
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -80,6 +82,27 @@ public class GetHqlQueryPlanTest extends BaseCoreFunctionalTestCase {
 		s.close();
 	}
 
+	@Test
+	public void testHqlQueryPlanStatistics() {
+		Statistics statistics = sessionFactory().getStatistics();
+		statistics.setStatisticsEnabled( true );
+		statistics.clear();
+
+		Session s = openSession();
+		QueryPlanCache cache = ( ( SessionImplementor ) s ).getFactory().getQueryPlanCache();
+		HQLQueryPlan plan = cache.getHQLQueryPlan( "from Person where name like :name", false, getEnabledFilters( s ) );
+		assertEquals( 0, statistics.getQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+
+		assertSame( plan, cache.getHQLQueryPlan( "from Person where name like :name", false, getEnabledFilters( s ) ) );
+		assertEquals( 1, statistics.getQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 0, statistics.getQueryPlanCacheEvictionCount() );
+		s.close();
+
+		statistics.setStatisticsEnabled( false );
+	}
+
 	@Test
 	@SuppressWarnings( {"UnnecessaryBoxing"})
 	public void testHqlQueryPlanWithEnabledFilter() {
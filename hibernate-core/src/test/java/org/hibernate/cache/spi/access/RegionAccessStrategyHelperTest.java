@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi.access;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests relating to {@link RegionAccessStrategyHelper}.
+ */
+public class RegionAccessStrategyHelperTest extends BaseUnitTestCase {
+
+	@Test
+	public void testFallsBackToGetPerKey() {
+		CountingHandler handler = new CountingHandler();
+		RegionAccessStrategy strategy = (RegionAccessStrategy) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { RegionAccessStrategy.class },
+				handler
+		);
+		assertFalse( RegionAccessStrategyHelper.isBulkReadSupported( strategy ) );
+
+		Map cached = RegionAccessStrategyHelper.getAll( strategy, Arrays.asList( "a", "b", "missing" ), 0 );
+		assertEquals( 3, handler.gets );
+		assertEquals( 0, handler.bulkGets );
+		assertEquals( "cached a", cached.get( "a" ) );
+		assertEquals( "cached b", cached.get( "b" ) );
+		assertNull( cached.get( "missing" ) );
+	}
+
+	@Test
+	public void testUsesBulkReadWhenSupported() {
+		CountingHandler handler = new CountingHandler();
+		RegionAccessStrategy strategy = (RegionAccessStrategy) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { BulkReadRegionAccessStrategy.class },
+				handler
+		);
+		assertTrue( RegionAccessStrategyHelper.isBulkReadSupported( strategy ) );
+
+		Map cached = RegionAccessStrategyHelper.getAll( strategy, Arrays.asList( "a", "b" ), 0 );
+		assertEquals( 0, handler.gets );
+		assertEquals( 1, handler.bulkGets );
+		assertEquals( "cached a", cached.get( "a" ) );
+	}
+
+	private static class CountingHandler implements InvocationHandler {
+		private int gets;
+		private int bulkGets;
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if ( "get".equals( method.getName() ) ) {
+				gets++;
+				return cached( args[0] );
+			}
+			if ( "getAll".equals( method.getName() ) ) {
+				bulkGets++;
+				return Collections.singletonMap( "a", cached( "a" ) );
+			}
+			throw new UnsupportedOperationException( method.getName() );
+		}
+
+		private static Object cached(Object key) {
+			return "missing".equals( key ) ? null : "cached " + key;
+		}
+	}
+}
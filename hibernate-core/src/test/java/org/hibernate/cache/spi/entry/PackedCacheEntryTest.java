@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.BackrefPropertyAccessor;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests relating to {@link PackedCacheEntry}.
+ */
+public class PackedCacheEntryTest extends BaseUnitTestCase {
+
+	static Serializable[] sampleState() {
+		Timestamp timestamp = new Timestamp( 1234567890123L );
+		timestamp.setNanos( 123456789 );
+		return new Serializable[] {
+				null,
+				Boolean.TRUE,
+				Boolean.FALSE,
+				(byte) 7,
+				(short) -300,
+				42,
+				Long.MAX_VALUE,
+				1.5f,
+				-2.25d,
+				'x',
+				"a string with \u00e9 and \u4e2d",
+				new byte[] { 1, 2, 3 },
+				new Date( 1000L ),
+				new java.sql.Date( 2000L ),
+				new Time( 3000L ),
+				timestamp,
+				new BigDecimal( "-12345.6789" ),
+				new BigInteger( "123456789012345678901234567890" ),
+				new Object[] { "component", 1, null },
+				LazyPropertyInitializer.UNFETCHED_PROPERTY,
+				BackrefPropertyAccessor.UNKNOWN,
+				Locale.CANADA_FRENCH
+		};
+	}
+
+	@Test
+	public void testRoundTrip() {
+		Serializable[] state = sampleState();
+		CacheEntry entry = new CacheEntry( state, "org.hibernate.Entity", true, 3 );
+
+		PackedCacheEntry structure = new PackedCacheEntry( null );
+		Object packed = structure.structure( entry );
+		assertTrue( packed instanceof byte[] );
+
+		CacheEntry unpacked = (CacheEntry) structure.destructure( packed, null );
+		assertEquals( "org.hibernate.Entity", unpacked.getSubclass() );
+		assertTrue( unpacked.areLazyPropertiesUnfetched() );
+		assertEquals( 3, unpacked.getVersion() );
+
+		Serializable[] unpackedState = unpacked.getDisassembledState();
+		assertEquals( state.length, unpackedState.length );
+		for ( int i = 0; i < state.length; i++ ) {
+			if ( state[i] == null ) {
+				assertEquals( null, unpackedState[i] );
+			}
+			else {
+				assertEquals( state[i].getClass(), unpackedState[i].getClass() );
+			}
+		}
+		assertArrayEquals( (byte[]) state[11], (byte[]) unpackedState[11] );
+		assertArrayEquals( (Object[]) state[18], (Object[]) unpackedState[18] );
+		// markers must keep their identity
+		assertSame( LazyPropertyInitializer.UNFETCHED_PROPERTY, unpackedState[19] );
+		assertSame( BackrefPropertyAccessor.UNKNOWN, unpackedState[20] );
+		for ( int i : new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 13, 14, 15, 16, 17, 21 } ) {
+			assertEquals( state[i], unpackedState[i] );
+		}
+	}
+
+	@Test
+	public void testNullVersionAndEmptyState() {
+		CacheEntry entry = new CacheEntry( new Serializable[0], "org.hibernate.Entity", false, null );
+		PackedCacheEntry structure = new PackedCacheEntry( null );
+		CacheEntry unpacked = (CacheEntry) structure.destructure( structure.structure( entry ), null );
+		assertFalse( unpacked.areLazyPropertiesUnfetched() );
+		assertEquals( null, unpacked.getVersion() );
+		assertEquals( 0, unpacked.getDisassembledState().length );
+	}
+
+	@Test
+	public void testPackedIsSmallerThanUnstructured() {
+		// only the basic values, as would be typical for most entities
+		Serializable[] state = Arrays.copyOf( sampleState(), 18 );
+		CacheEntry entry = new CacheEntry( state, "org.hibernate.Entity", false, 1L );
+
+		// what a replicating or overflowing cache would write out for each format
+		byte[] packed = SerializationHelper.serialize( (Serializable) new PackedCacheEntry( null ).structure( entry ) );
+		byte[] unstructured = SerializationHelper.serialize(
+				(Serializable) new UnstructuredCacheEntry().structure( entry )
+		);
+		assertTrue(
+				"packed: " + packed.length + " bytes, unstructured: " + unstructured.length + " bytes",
+				packed.length < unstructured.length
+		);
+
+		CacheEntry unpacked = (CacheEntry) new PackedCacheEntry( null ).destructure(
+				SerializationHelper.deserialize( packed ),
+				null
+		);
+		assertEquals( state.length, unpacked.getDisassembledState().length );
+	}
+}
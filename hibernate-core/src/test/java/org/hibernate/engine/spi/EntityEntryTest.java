@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.junit.Test;
+
+import org.hibernate.LockMode;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests relating to the state {@link EntityEntry} packs into a single field.
+ */
+public class EntityEntryTest extends BaseUnitTestCase {
+
+	private static EntityEntry entry(Status status, LockMode lockMode, boolean flags) {
+		return new EntityEntry( status, new Object[0], null, 1L, 2, lockMode, flags, null, null, !flags, flags );
+	}
+
+	@Test
+	public void testPackedValues() {
+		for ( Status status : Status.values() ) {
+			for ( LockMode lockMode : LockMode.values() ) {
+				EntityEntry entry = entry( status, lockMode, true );
+				assertSame( status, entry.getStatus() );
+				assertSame( lockMode, entry.getLockMode() );
+				assertTrue( entry.isExistsInDatabase() );
+				assertFalse( entry.isBeingReplicated() );
+				assertTrue( entry.isLoadedWithLazyPropertiesUnfetched() );
+
+				entry = entry( status, lockMode, false );
+				assertFalse( entry.isExistsInDatabase() );
+				assertTrue( entry.isBeingReplicated() );
+				assertFalse( entry.isLoadedWithLazyPropertiesUnfetched() );
+			}
+		}
+		assertNull( entry( Status.MANAGED, null, true ).getLockMode() );
+	}
+
+	@Test
+	public void testEntrySize() {
+		// an entry is held per entity of a persistence context, so any field added to it should be deliberate
+		int fields = 0;
+		for ( Field field : EntityEntry.class.getDeclaredFields() ) {
+			if ( Modifier.isStatic( field.getModifiers() ) ) {
+				continue;
+			}
+			fields++;
+			final Class type = field.getType();
+			assertFalse(
+					"Not packed: " + field.getName(),
+					type == boolean.class || type == Status.class || type == LockMode.class
+			);
+		}
+		assertEquals( 10, fields );
+	}
+
+	@Test
+	public void testStateChanges() {
+		EntityEntry entry = entry( Status.SAVING, LockMode.WRITE, false );
+		entry.postInsert();
+		assertTrue( entry.isExistsInDatabase() );
+		entry.setStatus( Status.READ_ONLY );
+		assertNull( entry.getLoadedState() );
+		entry.setLockMode( LockMode.PESSIMISTIC_FORCE_INCREMENT );
+		assertSame( Status.READ_ONLY, entry.getStatus() );
+		assertSame( LockMode.PESSIMISTIC_FORCE_INCREMENT, entry.getLockMode() );
+		assertTrue( entry.isBeingReplicated() );
+		entry.postDelete();
+		assertSame( Status.GONE, entry.getStatus() );
+		assertFalse( entry.isExistsInDatabase() );
+		assertSame( LockMode.PESSIMISTIC_FORCE_INCREMENT, entry.getLockMode() );
+	}
+
+	@Test
+	public void testSerialization() throws IOException, ClassNotFoundException {
+		EntityEntry entry = entry( Status.MANAGED, LockMode.READ, true );
+		entry.setStatus( Status.DELETED );
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream( bytes );
+		entry.serialize( oos );
+		oos.close();
+		ObjectInputStream ois = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+		EntityEntry copy = EntityEntry.deserialize( ois, null );
+
+		assertSame( Status.DELETED, copy.getStatus() );
+		assertSame( LockMode.READ, copy.getLockMode() );
+		assertEquals( 1L, copy.getId() );
+		assertEquals( 2, copy.getVersion() );
+		assertTrue( copy.isExistsInDatabase() );
+		assertFalse( copy.isBeingReplicated() );
+		assertTrue( copy.isLoadedWithLazyPropertiesUnfetched() );
+		// the previous status is kept too
+		ByteArrayOutputStream copyBytes = new ByteArrayOutputStream();
+		oos = new ObjectOutputStream( copyBytes );
+		copy.serialize( oos );
+		oos.close();
+		assertEquals( bytes.size(), copyBytes.size() );
+	}
+}
@@ -23,6 +23,12 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Test;
 
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -30,6 +36,7 @@ import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -116,6 +123,23 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		assertEquals( 21, sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testRemainingValueCount() {
+		for ( String type : new String[] { OptimizerFactory.HILO, OptimizerFactory.POOL, OptimizerFactory.POOL_LO } ) {
+			SourceMock sequence = new SourceMock( 1, OptimizerFactory.HILO.equals( type ) ? 1 : 10 );
+			Optimizer optimizer = OptimizerFactory.buildOptimizer( type, Long.class, 10 );
+			OptimizerFactory.BlockOptimizer blockOptimizer = (OptimizerFactory.BlockOptimizer) optimizer;
+			assertEquals( 0, blockOptimizer.getRemainingValueCount() );
+			for ( int i = 1; i <= 10; i++ ) {
+				optimizer.generate( sequence );
+				assertEquals( type, 10 - i, blockOptimizer.getRemainingValueCount() );
+			}
+			// the next block
+			optimizer.generate( sequence );
+			assertEquals( type, 9, blockOptimizer.getRemainingValueCount() );
+		}
+	}
+
 	@Test
 	public void testSubsequentPooledOptimizerUsage() {
 		// test the pooled optimizer in situation where the sequence is already beyond its initial value on init.
@@ -254,6 +278,54 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		assertEquals( 4, sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testConcurrentOptimizerUsage() throws Exception {
+		assertConcurrentGenerationIsUnique( OptimizerFactory.HILO, new SourceMock( 1 ) );
+		assertConcurrentGenerationIsUnique( OptimizerFactory.POOL, new SourceMock( 1, 10 ) );
+		assertConcurrentGenerationIsUnique( OptimizerFactory.POOL_LO, new SourceMock( 1, 10 ) );
+	}
+
+	private void assertConcurrentGenerationIsUnique(String type, final SourceMock sequence) throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 1000;
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer( type, Long.class, 10 );
+		final Set<Long> values = Collections.newSetFromMap( new ConcurrentHashMap<Long, Boolean>() );
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final CountDownLatch done = new CountDownLatch( threads );
+		for ( int i = 0; i < threads; i++ ) {
+			new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for ( int j = 0; j < valuesPerThread; j++ ) {
+							if ( !values.add( (Long) optimizer.generate( sequence ) ) ) {
+								throw new IllegalStateException( "Duplicate value generated" );
+							}
+						}
+					}
+					catch ( Throwable t ) {
+						failure.compareAndSet( null, t );
+					}
+					finally {
+						done.countDown();
+					}
+				}
+			}.start();
+		}
+		start.countDown();
+		done.await();
+
+		assertEquals( null, failure.get() );
+		assertEquals( threads * valuesPerThread, values.size() );
+		// no values were skipped either
+		for ( long value = 1; value <= threads * valuesPerThread; value++ ) {
+			assertTrue( values.contains( value ) );
+		}
+		assertEquals( threads * valuesPerThread / 10 + ( OptimizerFactory.POOL.equals( type ) ? 1 : 0 ), sequence.getTimesCalled() );
+	}
+
 	private static class SourceMock implements AccessCallback {
 		private IdentifierGeneratorHelper.BasicHolder value = new IdentifierGeneratorHelper.BasicHolder( Long.class );
 		private long initialValue;
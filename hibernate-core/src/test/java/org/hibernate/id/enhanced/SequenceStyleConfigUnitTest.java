@@ -37,6 +37,8 @@ import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.hibernate.type.StandardBasicTypes;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 /**
@@ -221,6 +223,40 @@ public class SequenceStyleConfigUnitTest extends BaseUnitTestCase {
 		assertClassAssignability( OptimizerFactory.PooledLoOptimizer.class, generator.getOptimizer().getClass() );
 	}
 
+	@Test
+	public void testPrefetchSettingHonored() {
+		final Dialect dialect = new PooledSequenceDialect();
+
+		// not requested
+		Properties props = buildGeneratorPropertiesBase();
+		props.setProperty( SequenceStyleGenerator.INCREMENT_PARAM, "20" );
+		SequenceStyleGenerator generator = new SequenceStyleGenerator();
+		generator.configure( StandardBasicTypes.LONG, props, dialect );
+		assertNull( generator.getPrefetcher() );
+
+		props.setProperty( SequenceStyleGenerator.PREFETCH_PARAM, "5" );
+		generator = new SequenceStyleGenerator();
+		generator.configure( StandardBasicTypes.LONG, props, dialect );
+		assertNotNull( generator.getPrefetcher() );
+		assertEquals( 5, generator.getPrefetcher().getLowWaterMark() );
+
+		// no blocks of values to prefetch for
+		props = buildGeneratorPropertiesBase();
+		props.setProperty( SequenceStyleGenerator.PREFETCH_PARAM, "5" );
+		generator = new SequenceStyleGenerator();
+		generator.configure( StandardBasicTypes.LONG, props, dialect );
+		assertNull( generator.getPrefetcher() );
+
+		// the low-water mark must fall within a block
+		props.setProperty( SequenceStyleGenerator.INCREMENT_PARAM, "5" );
+		try {
+			new SequenceStyleGenerator().configure( StandardBasicTypes.LONG, props, dialect );
+			fail( "expecting a low-water mark not below the increment size to be rejected" );
+		}
+		catch ( MappingException expected ) {
+		}
+	}
+
 	private static class TableDialect extends Dialect {
 		public boolean supportsSequences() {
 			return false;
@@ -0,0 +1,277 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2010, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.service.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link SourceValuePrefetcher} against a stub {@link PrefetchableDatabaseStructure}.
+ */
+public class SourceValuePrefetcherTest extends BaseUnitTestCase {
+	private static final int INCREMENT = 10;
+	private static final int LOW_WATER_MARK = 2;
+
+	private StructureStub structure;
+	private SessionImplementor session;
+	private SourceValuePrefetcher prefetcher;
+
+	@Before
+	public void setUp() {
+		structure = new StructureStub();
+		session = stubSession();
+		prefetcher = new SourceValuePrefetcher(
+				structure,
+				OptimizerFactory.buildOptimizer( OptimizerFactory.HILO, Long.class, INCREMENT ),
+				LOW_WATER_MARK
+		);
+	}
+
+	@After
+	public void tearDown() {
+		prefetcher.stop();
+	}
+
+	@Test
+	public void testBackgroundRefill() throws Exception {
+		generateUpTo( INCREMENT - LOW_WATER_MARK );
+		// the low-water mark was reached, so the next block is being obtained in the background
+		assertTrue( structure.detachedStarted.await( 10, TimeUnit.SECONDS ) );
+		waitForPrefetchedValue();
+
+		generateUpTo( INCREMENT + 1 );
+		assertEquals( 1, structure.sessionCalls.get() );
+		assertEquals( 1, structure.detachedCalls.get() );
+
+		assertEquals( 2, prefetcher.getRefillCount() );
+		// only the first value, obtained through the session, was waited for
+		assertEquals( 1, prefetcher.getStallCount() );
+	}
+
+	@Test
+	public void testStallOnPendingRefill() throws Exception {
+		structure.detachedRelease = new CountDownLatch( 1 );
+		generateUpTo( INCREMENT );
+		assertTrue( structure.detachedStarted.await( 10, TimeUnit.SECONDS ) );
+
+		// release the background fetch only once this thread waits for it
+		final Thread waiting = Thread.currentThread();
+		final Thread releaser = new Thread() {
+			@Override
+			public void run() {
+				try {
+					while ( waiting.getState() != State.WAITING ) {
+						Thread.sleep( 5 );
+					}
+					Thread.sleep( 20 );
+				}
+				catch ( InterruptedException ignore ) {
+				}
+				structure.detachedRelease.countDown();
+			}
+		};
+		releaser.start();
+		assertEquals( Long.valueOf( INCREMENT + 1 ), prefetcher.generate( session ) );
+		releaser.join();
+
+		assertEquals( 1, structure.sessionCalls.get() );
+		assertEquals( 1, structure.detachedCalls.get() );
+		assertEquals( 2, prefetcher.getRefillCount() );
+		assertEquals( 2, prefetcher.getStallCount() );
+		assertTrue( prefetcher.getStallTime() >= 20 );
+		assertTrue( prefetcher.getRefillTimeMax() >= 20 );
+	}
+
+	@Test
+	public void testFallbackOnPrefetchFailure() throws Exception {
+		structure.failDetached = true;
+		generateUpTo( INCREMENT - LOW_WATER_MARK );
+		assertTrue( structure.detachedStarted.await( 10, TimeUnit.SECONDS ) );
+		waitForPrefetchedValue();
+
+		// the failed prefetch is replaced by a synchronous fetch through the session
+		generateUpTo( INCREMENT + 1 );
+		assertEquals( 2, structure.sessionCalls.get() );
+		assertEquals( 1, structure.detachedCalls.get() );
+		assertEquals( 2, prefetcher.getRefillCount() );
+		assertEquals( 2, prefetcher.getStallCount() );
+	}
+
+	@Test
+	public void testStop() throws Exception {
+		prefetcher.stop();
+		generateUpTo( 2 * INCREMENT + 1 );
+		assertEquals( 3, structure.sessionCalls.get() );
+		assertEquals( 0, structure.detachedCalls.get() );
+		assertFalse( prefetcher.isPrefetchedValueReady() );
+	}
+
+	private long generated;
+
+	private void generateUpTo(long last) {
+		while ( generated < last ) {
+			generated++;
+			assertEquals( Long.valueOf( generated ), prefetcher.generate( session ) );
+		}
+	}
+
+	private void waitForPrefetchedValue() throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10000;
+		while ( !prefetcher.isPrefetchedValueReady() ) {
+			assertTrue( "prefetch did not complete", System.currentTimeMillis() < deadline );
+			Thread.sleep( 5 );
+		}
+	}
+
+	private static SessionImplementor stubSession() {
+		final ConnectionProvider connectionProvider = stub( ConnectionProvider.class, null );
+		final JdbcServices jdbcServices = stub( JdbcServices.class, connectionProvider );
+		final SessionFactoryImplementor factory = stub( SessionFactoryImplementor.class, jdbcServices );
+		return stub( SessionImplementor.class, factory );
+	}
+
+	/**
+	 * Stubs the given interface, answering any getter returning a supertype of the given value with it.
+	 */
+	private static <T> T stub(Class<T> type, final Object value) {
+		return type.cast(
+				Proxy.newProxyInstance(
+						SourceValuePrefetcherTest.class.getClassLoader(),
+						new Class[] { type },
+						new InvocationHandler() {
+							@Override
+							public Object invoke(Object proxy, Method method, Object[] args) {
+								if ( value != null && method.getReturnType().isInstance( value ) ) {
+									return value;
+								}
+								throw new UnsupportedOperationException( method.getName() );
+							}
+						}
+				)
+		);
+	}
+
+	private static class StructureStub implements PrefetchableDatabaseStructure {
+		private final AtomicInteger value = new AtomicInteger();
+		private final AtomicInteger sessionCalls = new AtomicInteger();
+		private final AtomicInteger detachedCalls = new AtomicInteger();
+		private final CountDownLatch detachedStarted = new CountDownLatch( 1 );
+		private volatile CountDownLatch detachedRelease;
+		private volatile boolean failDetached;
+
+		private IntegralDataTypeHolder nextValue() {
+			return new IdentifierGeneratorHelper.BasicHolder( Long.class ).initialize( value.incrementAndGet() );
+		}
+
+		@Override
+		public AccessCallback buildCallback(SessionImplementor session) {
+			return new AccessCallback() {
+				@Override
+				public IntegralDataTypeHolder getNextValue() {
+					sessionCalls.incrementAndGet();
+					return nextValue();
+				}
+			};
+		}
+
+		@Override
+		public AccessCallback buildDetachedCallback(SessionFactoryImplementor factory) {
+			return new AccessCallback() {
+				@Override
+				public IntegralDataTypeHolder getNextValue() {
+					detachedCalls.incrementAndGet();
+					detachedStarted.countDown();
+					if ( detachedRelease != null ) {
+						try {
+							detachedRelease.await();
+						}
+						catch ( InterruptedException e ) {
+							throw new HibernateException( e );
+						}
+					}
+					if ( failDetached ) {
+						throw new HibernateException( "Prefetch failure" );
+					}
+					return nextValue();
+				}
+			};
+		}
+
+		@Override
+		public String getName() {
+			return "stub";
+		}
+
+		@Override
+		public int getTimesAccessed() {
+			return sessionCalls.get() + detachedCalls.get();
+		}
+
+		@Override
+		public int getInitialValue() {
+			return 1;
+		}
+
+		@Override
+		public int getIncrementSize() {
+			return INCREMENT;
+		}
+
+		@Override
+		public void prepare(Optimizer optimizer) {
+		}
+
+		@Override
+		public String[] sqlCreateStrings(Dialect dialect) {
+			return new String[0];
+		}
+
+		@Override
+		public String[] sqlDropStrings(Dialect dialect) {
+			return new String[0];
+		}
+	}
+}
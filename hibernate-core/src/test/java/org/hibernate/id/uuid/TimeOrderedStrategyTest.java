@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.uuid;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests relating to {@link TimeOrderedStrategy}.
+ */
+public class TimeOrderedStrategyTest extends BaseUnitTestCase {
+	@Test
+	public void testLayout() {
+		long now = System.currentTimeMillis();
+		UUID uuid = TimeOrderedStrategy.INSTANCE.generateUUID( null );
+		assertEquals( 2, uuid.variant() );
+		assertEquals( 7, uuid.version() );
+		long timestamp = uuid.getMostSignificantBits() >>> 16;
+		assertTrue( timestamp >= now && timestamp <= System.currentTimeMillis() );
+	}
+
+	@Test
+	public void testIncreasingWithinThread() {
+		UUID previous = TimeOrderedStrategy.INSTANCE.generateUUID( null );
+		for ( int i = 0; i < 10000; i++ ) {
+			UUID next = TimeOrderedStrategy.INSTANCE.generateUUID( null );
+			assertTrue( previous.compareTo( next ) < 0 );
+			assertTrue( previous.toString().compareTo( next.toString() ) < 0 );
+			previous = next;
+		}
+	}
+
+	@Test
+	public void testIncreasingWhenClockStallsOrMovesBack() {
+		TimeOrderedStrategy.State state = new TimeOrderedStrategy.State( new Random( 42 ) );
+		UUID previous = state.next( 1000 );
+		// more values than the counter holds within a single millisecond
+		for ( int i = 0; i < 5000; i++ ) {
+			UUID next = state.next( 1000 );
+			assertTrue( previous.compareTo( next ) < 0 );
+			previous = next;
+		}
+		UUID next = state.next( 500 );
+		assertTrue( previous.compareTo( next ) < 0 );
+		assertEquals( 7, next.version() );
+		assertEquals( 2, next.variant() );
+	}
+
+	@Test
+	public void testUniqueAcrossThreads() throws Exception {
+		final int threads = 4;
+		final int valuesPerThread = 10000;
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			List<Future<List<UUID>>> results = new ArrayList<Future<List<UUID>>>();
+			for ( int i = 0; i < threads; i++ ) {
+				results.add(
+						executor.submit(
+								new Callable<List<UUID>>() {
+									public List<UUID> call() {
+										List<UUID> values = new ArrayList<UUID>( valuesPerThread );
+										for ( int j = 0; j < valuesPerThread; j++ ) {
+											values.add( TimeOrderedStrategy.INSTANCE.generateUUID( null ) );
+										}
+										return values;
+									}
+								}
+						)
+				);
+			}
+			Set<UUID> values = new HashSet<UUID>();
+			for ( Future<List<UUID>> result : results ) {
+				values.addAll( result.get() );
+			}
+			assertEquals( threads * valuesPerThread, values.size() );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.persister.entity;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link MultiRowInsertBatchKey} on the insert rendered for a real mapping.
+ */
+public class MultiRowInsertBatchKeyTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( Environment.STATEMENT_BATCH_SIZE, "5" );
+		configuration.setProperty( Environment.MULTI_ROW_INSERT, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Reading.class };
+	}
+
+	private AbstractEntityPersister persister() {
+		return (AbstractEntityPersister) sessionFactory().getEntityPersister( Reading.class.getName() );
+	}
+
+	@Test
+	public void testBatchKeyOfQuotedMapping() {
+		final AbstractEntityPersister persister = persister();
+		final String sql = persister.getSQLInsertStrings()[0];
+		assertEquals( 1, count( sql, "upper(?)" ) );
+		final int parametersPerRow = count( sql, "?" );
+
+		final MultiRowInsertBatchKey key = MultiRowInsertBatchKey.build(
+				persister,
+				sql,
+				Expectations.BASIC,
+				5,
+				1000,
+				Integer.MAX_VALUE
+		);
+		assertNotNull( key );
+		assertEquals( 5, key.getMaxRowCount() );
+		assertEquals( sql, key.getSql( 1 ) );
+
+		final String values = sql.substring( sql.lastIndexOf( ") values " ) + ") values ".length() );
+		assertEquals( sql + ", " + values + ", " + values, key.getSql( 3 ) );
+		assertEquals( 3, count( key.getSql( 3 ), "upper(?)" ) );
+		assertEquals( 3 * parametersPerRow, count( key.getSql( 3 ), "?" ) );
+
+		// the rows per statement are capped by the parameter limit
+		final MultiRowInsertBatchKey limited = MultiRowInsertBatchKey.build(
+				persister,
+				sql,
+				Expectations.BASIC,
+				5,
+				2 * parametersPerRow + 1,
+				Integer.MAX_VALUE
+		);
+		assertEquals( 2, limited.getMaxRowCount() );
+		assertNull(
+				MultiRowInsertBatchKey.build( persister, sql, Expectations.BASIC, 5, parametersPerRow, Integer.MAX_VALUE )
+		);
+
+		// and by the row limit, whichever is lower
+		final MultiRowInsertBatchKey rowLimited = MultiRowInsertBatchKey.build(
+				persister,
+				sql,
+				Expectations.BASIC,
+				5,
+				1000,
+				3
+		);
+		assertEquals( 3, rowLimited.getMaxRowCount() );
+		assertEquals(
+				2,
+				MultiRowInsertBatchKey.build( persister, sql, Expectations.BASIC, 5, 2 * parametersPerRow, 3 ).getMaxRowCount()
+		);
+		assertNull( MultiRowInsertBatchKey.build( persister, sql, Expectations.BASIC, 5, 1000, 1 ) );
+	}
+
+	@Test
+	public void testValuesSeparatorInsideQuotes() {
+		final AbstractEntityPersister persister = persister();
+
+		final MultiRowInsertBatchKey key = MultiRowInsertBatchKey.build(
+				persister,
+				"insert into \"a) values (b\" (id, name) values (?, lower(?))",
+				Expectations.BASIC,
+				5,
+				1000,
+				Integer.MAX_VALUE
+		);
+		assertNotNull( key );
+		assertEquals(
+				"insert into \"a) values (b\" (id, name) values (?, lower(?)), (?, lower(?))",
+				key.getSql( 2 )
+		);
+
+		assertNull(
+				MultiRowInsertBatchKey.build(
+						persister,
+						"insert into t default values",
+						Expectations.BASIC,
+						5,
+						1000,
+						Integer.MAX_VALUE
+				)
+		);
+		assertNull(
+				MultiRowInsertBatchKey.build(
+						persister,
+						"insert into t (id) values (?) returning id",
+						Expectations.BASIC,
+						5,
+						1000,
+						Integer.MAX_VALUE
+				)
+		);
+	}
+
+	@Test
+	public void testMultiRowInsertOfQuotedMapping() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= 7; i++ ) {
+			s.persist( new Reading( i, "reading " + i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		List readings = s.createQuery( "from Reading r order by r.id" ).list();
+		assertEquals( 7, readings.size() );
+		for ( int i = 0; i < readings.size(); i++ ) {
+			Reading reading = (Reading) readings.get( i );
+			assertEquals( Long.valueOf( i + 1 ), reading.getId() );
+			// the write expression was applied to every row of the multi-row insert
+			assertEquals( "READING " + ( i + 1 ), reading.getLabel() );
+			s.delete( reading );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static int count(String sql, String fragment) {
+		int count = 0;
+		int index = sql.indexOf( fragment );
+		while ( index >= 0 ) {
+			count++;
+			index = sql.indexOf( fragment, index + fragment.length() );
+		}
+		return count;
+	}
+}
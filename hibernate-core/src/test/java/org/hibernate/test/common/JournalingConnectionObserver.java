@@ -35,6 +35,8 @@ public class JournalingConnectionObserver implements ConnectionObserver {
 	private int physicalConnectionReleasedCount = 0;
 	private int logicalConnectionClosedCount = 0;
 	private int statementPreparedCount = 0;
+	private int preparedStatementCacheHitCount = 0;
+	private int preparedStatementCacheMissCount = 0;
 
 	@Override
 	public void physicalConnectionObtained(Connection connection) {
@@ -56,6 +58,16 @@ public class JournalingConnectionObserver implements ConnectionObserver {
 		statementPreparedCount++;
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount++;
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount++;
+	}
+
 	public int getPhysicalConnectionObtainedCount() {
 		return physicalConnectionObtainedCount;
 	}
@@ -71,4 +83,12 @@ public class JournalingConnectionObserver implements ConnectionObserver {
 	public int getStatementPreparedCount() {
 		return statementPreparedCount;
 	}
+
+	public int getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount;
+	}
+
+	public int getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount;
+	}
 }
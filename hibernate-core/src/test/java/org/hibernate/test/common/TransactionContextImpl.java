@@ -65,6 +65,11 @@ public class TransactionContextImpl implements TransactionContext {
 		return jdbcConnectionAccess;
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return 0;
+	}
+
 	@Override
 	public boolean shouldAutoJoinTransaction() {
 		return true;
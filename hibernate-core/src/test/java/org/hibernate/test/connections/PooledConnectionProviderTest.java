@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.connections;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.cfg.Environment;
+import org.hibernate.service.jdbc.connections.internal.PooledConnectionProviderImpl;
+import org.hibernate.stat.ConnectionPoolStatistics;
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests relating to {@link PooledConnectionProviderImpl}.
+ */
+public class PooledConnectionProviderTest extends BaseUnitTestCase {
+	private PooledConnectionProviderImpl connectionProvider;
+	private ConnectionPoolStatistics statistics;
+
+	@Before
+	public void setUp() {
+		Properties props = ConnectionProviderBuilder.getConnectionProviderProperties();
+		props.put( Environment.POOL_SIZE, "2" );
+		props.put( Environment.POOL_MAX_WAIT, "100" );
+		props.put( Environment.POOL_VALIDATION_INTERVAL, "0" );
+		connectionProvider = new PooledConnectionProviderImpl();
+		connectionProvider.configure( props );
+		statistics = connectionProvider.unwrap( ConnectionPoolStatistics.class );
+	}
+
+	@After
+	public void tearDown() {
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testConnectionsAreReused() throws SQLException {
+		Connection connection = connectionProvider.getConnection();
+		assertEquals( 1, statistics.getCheckedOutCount() );
+		connectionProvider.closeConnection( connection );
+		assertEquals( 0, statistics.getCheckedOutCount() );
+		assertEquals( 1, statistics.getIdleCount() );
+
+		assertSame( connection, connectionProvider.getConnection() );
+		connectionProvider.closeConnection( connection );
+		assertEquals( 2, statistics.getBorrowCount() );
+		assertEquals( 1, statistics.getCreateCount() );
+		assertEquals( 1, statistics.getOpenCount() );
+	}
+
+	@Test
+	public void testBorrowTimesOutWhenExhausted() throws SQLException {
+		Connection first = connectionProvider.getConnection();
+		Connection second = connectionProvider.getConnection();
+		try {
+			connectionProvider.getConnection();
+			fail( "Expecting the pool to be exhausted" );
+		}
+		catch ( SQLException expected ) {
+		}
+		assertEquals( 1, statistics.getWaitCount() );
+		assertEquals( 1, statistics.getTimeoutCount() );
+		assertTrue( statistics.getMaxWaitTime() >= 100 );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( connectionProvider.getConnection() );
+		connectionProvider.closeConnection( second );
+		assertEquals( 2, statistics.getOpenCount() );
+		assertEquals( 2, statistics.getIdleCount() );
+	}
+
+	@Test
+	public void testInvalidConnectionIsReplaced() throws SQLException {
+		Connection connection = connectionProvider.getConnection();
+		connectionProvider.closeConnection( connection );
+		// closed behind the back of the pool, so it fails validation
+		connection.close();
+
+		Connection replacement = connectionProvider.getConnection();
+		assertTrue( replacement != connection );
+		assertEquals( 1, statistics.getValidationFailureCount() );
+		assertEquals( 1, statistics.getDestroyCount() );
+		connectionProvider.closeConnection( replacement );
+	}
+
+	@Test
+	public void testNegativeValidationIntervalDisablesValidation() throws SQLException {
+		Properties props = ConnectionProviderBuilder.getConnectionProviderProperties();
+		props.put( Environment.POOL_SIZE, "2" );
+		props.put( Environment.POOL_VALIDATION_INTERVAL, "-1" );
+		PooledConnectionProviderImpl unvalidated = new PooledConnectionProviderImpl();
+		unvalidated.configure( props );
+		try {
+			Connection connection = unvalidated.getConnection();
+			unvalidated.closeConnection( connection );
+			connection.close();
+
+			// not validated, the closed connection only fails once it is prepared for its next use
+			try {
+				unvalidated.getConnection();
+				fail( "Expecting the unvalidated closed connection to fail" );
+			}
+			catch ( SQLException expected ) {
+			}
+			ConnectionPoolStatistics unvalidatedStatistics = unvalidated.unwrap( ConnectionPoolStatistics.class );
+			assertEquals( 0, unvalidatedStatistics.getValidationFailureCount() );
+			assertEquals( 1, unvalidatedStatistics.getDestroyCount() );
+		}
+		finally {
+			unvalidated.stop();
+		}
+	}
+}
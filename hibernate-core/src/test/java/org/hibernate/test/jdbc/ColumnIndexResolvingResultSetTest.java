@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.engine.jdbc.ColumnIndexResolvingResultSet;
+import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.test.common.BasicTestingJdbcServiceImpl;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests relating to {@link ColumnIndexResolvingResultSet}.
+ */
+public class ColumnIndexResolvingResultSetTest extends BaseUnitTestCase {
+	private static final String ID = "ID";
+	private static final String NAME = "NAME";
+	private static final String AMOUNT = "AMOUNT";
+
+	private BasicTestingJdbcServiceImpl services = new BasicTestingJdbcServiceImpl();
+	private Connection connection;
+
+	@Before
+	public void setUp() throws SQLException {
+		services.prepare( false );
+		connection = services.getConnectionProvider().getConnection();
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table SANDBOX_JDBC_TST if exists" );
+		statement.execute( "create table SANDBOX_JDBC_TST ( ID integer, NAME varchar(100), AMOUNT integer )" );
+		for ( int i = 1; i <= 3; i++ ) {
+			statement.execute( "insert into SANDBOX_JDBC_TST values ( " + i + ", 'name " + i + "', " + i * 10 + " )" );
+		}
+		statement.close();
+	}
+
+	@After
+	public void tearDown() throws SQLException {
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table SANDBOX_JDBC_TST if exists" );
+		statement.close();
+		services.getConnectionProvider().closeConnection( connection );
+		services.release();
+	}
+
+	@Test
+	public void testColumnNamesResolvedFromFirstRow() throws SQLException {
+		CountingColumnNameCache cache = new CountingColumnNameCache();
+		Statement statement = connection.createStatement();
+		ResultSet resultSet = new ColumnIndexResolvingResultSet(
+				statement.executeQuery( "select AMOUNT, NAME, ID from SANDBOX_JDBC_TST order by ID" ),
+				cache
+		);
+
+		assertTrue( resultSet.next() );
+		assertEquals( 1, resultSet.getInt( ID ) );
+		assertEquals( "name 1", resultSet.getString( NAME ) );
+		assertEquals( 10, resultSet.getInt( AMOUNT ) );
+		assertEquals( 3, cache.lookups );
+
+		// same order, resolved without the cache
+		assertTrue( resultSet.next() );
+		assertEquals( 2, resultSet.getInt( ID ) );
+		assertEquals( "name 2", resultSet.getString( NAME ) );
+		assertEquals( 20, resultSet.getInt( AMOUNT ) );
+		assertEquals( 3, cache.lookups );
+
+		// skipping a column, then reading out of order
+		assertTrue( resultSet.next() );
+		assertEquals( 3, resultSet.getInt( ID ) );
+		assertEquals( 30, resultSet.getInt( AMOUNT ) );
+		assertEquals( 3, cache.lookups );
+		assertEquals( "name 3", resultSet.getString( NAME ) );
+		assertEquals( 4, cache.lookups );
+
+		assertFalse( resultSet.next() );
+		resultSet.close();
+		statement.close();
+	}
+
+	private static class CountingColumnNameCache extends ColumnNameCache {
+		private int lookups;
+
+		private CountingColumnNameCache() {
+			super( 3 );
+		}
+
+		@Override
+		public int getIndexForColumnName(String columnName, ResultSet rs) throws SQLException {
+			lookups++;
+			return super.getIndexForColumnName( columnName, rs );
+		}
+	}
+}
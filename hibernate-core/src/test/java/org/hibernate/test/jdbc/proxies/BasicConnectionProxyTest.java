@@ -37,11 +37,16 @@ import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.JDBCException;
 import org.hibernate.engine.jdbc.internal.LogicalConnectionImpl;
 import org.hibernate.engine.jdbc.internal.proxy.ProxyBuilder;
+import org.hibernate.engine.jdbc.spi.JdbcWrapper;
 import org.hibernate.test.common.BasicTestingJdbcServiceImpl;
 import org.hibernate.test.common.JdbcConnectionAccessImpl;
+import org.hibernate.test.common.JournalingConnectionObserver;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -152,4 +157,53 @@ public class BasicConnectionProxyTest extends BaseUnitTestCase {
 
 		assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
 	}
+
+	@Test
+	@SuppressWarnings( {"unchecked"})
+	public void testPreparedStatementCaching() throws Throwable {
+		LogicalConnectionImpl logicalConnection = new LogicalConnectionImpl(
+				null,
+				ConnectionReleaseMode.AFTER_TRANSACTION,
+				services,
+				new JdbcConnectionAccessImpl( services.getConnectionProvider() ),
+				2
+		);
+		JournalingConnectionObserver observer = new JournalingConnectionObserver();
+		logicalConnection.addObserver( observer );
+		Connection proxiedConnection = ProxyBuilder.buildConnection( logicalConnection );
+
+		try {
+			PreparedStatement ps = proxiedConnection.prepareStatement( "select 1" );
+			Object physical = ( (JdbcWrapper<PreparedStatement>) ps ).getWrappedObject();
+			ps.close();
+			assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+
+			ps = proxiedConnection.prepareStatement( "select 1" );
+			assertSame( physical, ( (JdbcWrapper<PreparedStatement>) ps ).getWrappedObject() );
+			assertEquals( 1, observer.getPreparedStatementCacheHitCount() );
+			assertEquals( 1, observer.getPreparedStatementCacheMissCount() );
+
+			// the cached statement is in use, so the same SQL needs another statement
+			PreparedStatement other = proxiedConnection.prepareStatement( "select 1" );
+			assertNotSame( physical, ( (JdbcWrapper<PreparedStatement>) other ).getWrappedObject() );
+			assertEquals( 2, observer.getPreparedStatementCacheMissCount() );
+			ps.close();
+			other.close();
+
+			// a different result set type is a different statement
+			proxiedConnection.prepareStatement(
+					"select 1", ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY
+			).close();
+			assertEquals( 3, observer.getPreparedStatementCacheMissCount() );
+
+			// both keys fit the cache, so the first statement is still there
+			ps = proxiedConnection.prepareStatement( "select 1" );
+			assertSame( physical, ( (JdbcWrapper<PreparedStatement>) ps ).getWrappedObject() );
+			assertEquals( 2, observer.getPreparedStatementCacheHitCount() );
+			ps.close();
+		}
+		finally {
+			logicalConnection.close();
+		}
+	}
 }
@@ -25,6 +25,8 @@ package org.hibernate.test.jdbc.proxies;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 
 import org.junit.After;
@@ -34,10 +36,14 @@ import org.junit.Test;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
 import org.hibernate.engine.jdbc.batch.internal.BatchingBatch;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowBatchingBatch;
 import org.hibernate.engine.jdbc.batch.internal.NonBatchingBatch;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowBatch;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowBatchKey;
+import org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.engine.transaction.internal.TransactionCoordinatorImpl;
@@ -217,4 +223,222 @@ public class BatchingTest extends BaseUnitTestCase implements BatchKey {
 		logicalConnection.close();
 	}
 
+	@Test
+	public void testMultiRowBatchingUsage() throws Exception {
+		final TransactionContext transactionContext = new TransactionContextImpl( new TransactionEnvironmentImpl( serviceRegistry ) );
+
+		TransactionCoordinatorImpl transactionCoordinator = new TransactionCoordinatorImpl( null, transactionContext );
+		final JdbcCoordinator jdbcCoordinator = transactionCoordinator.getJdbcCoordinator();
+		LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+		Connection connection = logicalConnection.getShareableConnectionProxy();
+
+		// set up some tables to use
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table SANDBOX_JDBC_TST if exists" );
+		statement.execute( "create table SANDBOX_JDBC_TST ( ID integer, NAME varchar(100) )" );
+		statement.close();
+
+		TransactionImplementor txn = transactionCoordinator.getTransaction();
+		txn.begin();
+
+		final BatchBuilder batchBuilder = new BatchBuilderImpl( 2 );
+		final Batch insertBatch = batchBuilder.buildBatch( new SandboxInsertBatchKey(), jdbcCoordinator );
+		assertTrue( "unexpected Batch impl", MultiRowBatchingBatch.class.isInstance( insertBatch ) );
+
+		final JournalingBatchObserver batchObserver = new JournalingBatchObserver();
+		insertBatch.addObserver( batchObserver );
+
+		MultiRowBatch multiRowBatch = (MultiRowBatch) insertBatch;
+		multiRowBatch.addRow( new Object[] { 1, "name" } );
+		assertEquals( 0, batchObserver.getImplicitExecutionCount() );
+		multiRowBatch.addRow( new Object[] { 2, "another name" } );
+		assertEquals( 0, batchObserver.getExplicitExecutionCount() );
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+
+		multiRowBatch.addRow( new Object[] { 3, "yet another name" } );
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+		insertBatch.execute();
+		assertEquals( 1, batchObserver.getExplicitExecutionCount() );
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+		assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+
+		insertBatch.release();
+
+		statement = connection.createStatement();
+		ResultSet resultSet = statement.executeQuery( "select count(*) from SANDBOX_JDBC_TST" );
+		assertTrue( resultSet.next() );
+		assertEquals( 3, resultSet.getInt( 1 ) );
+		resultSet.close();
+		statement.close();
+
+		txn.commit();
+		logicalConnection.close();
+	}
+
+	@Test
+	public void testMultiRowBatchingOfParameterSets() throws Exception {
+		final TransactionContext transactionContext = new TransactionContextImpl( new TransactionEnvironmentImpl( serviceRegistry ) );
+
+		TransactionCoordinatorImpl transactionCoordinator = new TransactionCoordinatorImpl( null, transactionContext );
+		final JdbcCoordinator jdbcCoordinator = transactionCoordinator.getJdbcCoordinator();
+		LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+		Connection connection = logicalConnection.getShareableConnectionProxy();
+
+		// set up some tables to use
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table SANDBOX_JDBC_TST if exists" );
+		statement.execute( "create table SANDBOX_JDBC_TST ( ID integer, NAME varchar(100) )" );
+		statement.close();
+
+		TransactionImplementor txn = transactionCoordinator.getTransaction();
+		txn.begin();
+
+		final String insertSql = "insert into SANDBOX_JDBC_TST( ID, NAME ) values ( ?, ? )";
+		final BatchBuilder batchBuilder = new BatchBuilderImpl( 2 );
+		final Batch insertBatch = batchBuilder.buildBatch( new SandboxInsertBatchKey(), jdbcCoordinator );
+		final JournalingBatchObserver batchObserver = new JournalingBatchObserver();
+		insertBatch.addObserver( batchObserver );
+
+		MultiRowBatch multiRowBatch = (MultiRowBatch) insertBatch;
+		multiRowBatch.addRow( new Object[] { 1, "name" } );
+		assertEquals( 0, countRows( connection ) );
+
+		// the buffered row goes first
+		addRow( insertBatch, insertSql, 2 );
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+		assertEquals( 1, countRows( connection ) );
+		addRow( insertBatch, insertSql, 3 );
+		assertEquals( 2, batchObserver.getImplicitExecutionCount() );
+		assertEquals( 3, countRows( connection ) );
+
+		addRow( insertBatch, insertSql, 4 );
+		// and so do the batched parameter sets
+		multiRowBatch.addRow( new Object[] { 5, "yet another name" } );
+		assertEquals( 3, batchObserver.getImplicitExecutionCount() );
+		assertEquals( 4, countRows( connection ) );
+
+		insertBatch.execute();
+		assertEquals( 1, batchObserver.getExplicitExecutionCount() );
+		assertEquals( 5, countRows( connection ) );
+		assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+
+		insertBatch.release();
+
+		txn.commit();
+		logicalConnection.close();
+	}
+
+	@Test
+	public void testInterleavedBatchingUsage() throws Exception {
+		final TransactionContext transactionContext = new TransactionContextImpl( new TransactionEnvironmentImpl( serviceRegistry ) );
+
+		TransactionCoordinatorImpl transactionCoordinator = new TransactionCoordinatorImpl( null, transactionContext );
+		final JdbcCoordinator jdbcCoordinator = new JdbcCoordinatorImpl( null, transactionCoordinator ) {
+			@Override
+			protected BatchBuilder batchBuilder() {
+				return new BatchBuilderImpl( 2 );
+			}
+		};
+		LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+		Connection connection = logicalConnection.getShareableConnectionProxy();
+
+		// set up some tables to use
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table SANDBOX_JDBC_TST if exists" );
+		statement.execute( "create table SANDBOX_JDBC_TST ( ID integer, NAME varchar(100) )" );
+		statement.close();
+
+		final String insertSql = "insert into SANDBOX_JDBC_TST( ID, NAME ) values ( ?, ? )";
+		final BatchKey firstKey = new BasicBatchKey( "first", Expectations.BASIC );
+		final BatchKey secondKey = new BasicBatchKey( "second", Expectations.BASIC );
+
+		jdbcCoordinator.setMaxOpenBatches( 2 );
+
+		final Batch firstBatch = jdbcCoordinator.getBatch( firstKey );
+		final JournalingBatchObserver firstObserver = new JournalingBatchObserver();
+		firstBatch.addObserver( firstObserver );
+		addRow( firstBatch, insertSql, 1 );
+
+		// asking for another key leaves the first batch open
+		final Batch secondBatch = jdbcCoordinator.getBatch( secondKey );
+		addRow( secondBatch, insertSql, 2 );
+		assertSame( firstBatch, jdbcCoordinator.getBatch( firstKey ) );
+		assertEquals( 0, jdbcCoordinator.getOpenBatchPosition( firstBatch ) );
+		assertEquals( 1, jdbcCoordinator.getOpenBatchPosition( secondBatch ) );
+		assertEquals( 0, firstObserver.getExplicitExecutionCount() );
+
+		// the second batch fills up, the first one has to execute before it
+		addRow( jdbcCoordinator.getBatch( secondKey ), insertSql, 3 );
+		assertEquals( 1, firstObserver.getExplicitExecutionCount() );
+		assertEquals( -1, jdbcCoordinator.getOpenBatchPosition( firstBatch ) );
+		assertEquals( 0, jdbcCoordinator.getOpenBatchPosition( secondBatch ) );
+		assertEquals( 3, countRows( connection ) );
+
+		addRow( jdbcCoordinator.getBatch( firstKey ), insertSql, 4 );
+		addRow( jdbcCoordinator.getBatch( secondKey ), insertSql, 5 );
+		// a third key makes room by executing the oldest batch
+		final Batch thirdBatch = jdbcCoordinator.getBatch( new BasicBatchKey( "third", Expectations.BASIC ) );
+		assertEquals( -1, jdbcCoordinator.getOpenBatchPosition( secondBatch ) );
+		assertEquals( 4, countRows( connection ) );
+		addRow( thirdBatch, insertSql, 6 );
+		assertSame( thirdBatch, jdbcCoordinator.getCurrentBatch() );
+
+		jdbcCoordinator.executeBatch();
+		assertEquals( -1, jdbcCoordinator.getOpenBatchPosition( thirdBatch ) );
+		assertEquals( null, jdbcCoordinator.getCurrentBatch() );
+		assertEquals( 6, countRows( connection ) );
+
+		logicalConnection.close();
+	}
+
+	private static void addRow(Batch batch, String insertSql, int id) throws SQLException {
+		PreparedStatement insert = batch.getBatchStatement( insertSql, false );
+		insert.setLong( 1, id );
+		insert.setString( 2, "name " + id );
+		batch.addToBatch();
+	}
+
+	private static int countRows(Connection connection) throws SQLException {
+		Statement statement = connection.createStatement();
+		ResultSet resultSet = statement.executeQuery( "select count(*) from SANDBOX_JDBC_TST" );
+		assertTrue( resultSet.next() );
+		int count = resultSet.getInt( 1 );
+		resultSet.close();
+		statement.close();
+		return count;
+	}
+
+	private static class SandboxInsertBatchKey implements MultiRowBatchKey {
+		@Override
+		public int getBatchedStatementCount() {
+			return 1;
+		}
+
+		@Override
+		public Expectation getExpectation() {
+			return Expectations.BASIC;
+		}
+
+		@Override
+		public int getMaxRowCount() {
+			return 2;
+		}
+
+		@Override
+		public String getSql(int rowCount) {
+			StringBuilder sql = new StringBuilder( "insert into SANDBOX_JDBC_TST( ID, NAME ) values ( ?, ? )" );
+			for ( int i = 1; i < rowCount; i++ ) {
+				sql.append( ", ( ?, ? )" );
+			}
+			return sql.toString();
+		}
+
+		@Override
+		public int bindRow(Object row, PreparedStatement statement, int index) throws SQLException {
+			Object[] values = (Object[]) row;
+			statement.setInt( index, (Integer) values[0] );
+			statement.setString( index + 1, (String) values[1] );
+			return index + 2;
+		}
+	}
 }
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.jdbc.proxies;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.jboss.logging.Logger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.ConnectionReleaseMode;
+import org.hibernate.engine.jdbc.internal.LogicalConnectionImpl;
+import org.hibernate.engine.jdbc.internal.proxy.ConnectionProxyHandler;
+import org.hibernate.engine.jdbc.internal.proxy.ImplicitResultSetProxyHandler;
+import org.hibernate.engine.jdbc.internal.proxy.ProxyBuilder;
+import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
+import org.hibernate.engine.jdbc.spi.JdbcWrapper;
+import org.hibernate.test.common.BasicTestingJdbcServiceImpl;
+import org.hibernate.test.common.JdbcConnectionAccessImpl;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares hydrating a 10k row result set through the delegating result set wrapper and through
+ * the reflective proxy it replaced, logging the best time of several rounds of each.  Fails should
+ * the wrapper be clearly slower than the proxy; the margin leaves room for timing noise.
+ */
+public class JdbcWrapperPerformanceTest extends BaseUnitTestCase {
+	private static final Logger log = Logger.getLogger( JdbcWrapperPerformanceTest.class );
+
+	private static final int ROWS = 10000;
+	private static final int ROUNDS = 5;
+	private static final int ITERATIONS = 20;
+	private static final String QUERY = "select ID, NAME, AMOUNT from SANDBOX_JDBC_TST";
+
+	private BasicTestingJdbcServiceImpl services = new BasicTestingJdbcServiceImpl();
+
+	@Before
+	public void setUp() {
+		services.prepare( false );
+	}
+
+	@After
+	public void tearDown() {
+		services.release();
+	}
+
+	@Test
+	public void testHydrate() throws SQLException {
+		LogicalConnectionImpl logicalConnection = new LogicalConnectionImpl(
+				null,
+				ConnectionReleaseMode.AFTER_TRANSACTION,
+				services,
+				new JdbcConnectionAccessImpl( services.getConnectionProvider() )
+		);
+		Connection connection = ProxyBuilder.buildConnection( logicalConnection );
+		try {
+			populate( connection );
+
+			// the first runs double as warm-up
+			measureHydrate( connection, true );
+			measureHydrate( connection, false );
+
+			long reflective = Long.MAX_VALUE;
+			long delegating = Long.MAX_VALUE;
+			for ( int i = 0; i < ROUNDS; i++ ) {
+				reflective = Math.min( reflective, measureHydrate( connection, true ) );
+				delegating = Math.min( delegating, measureHydrate( connection, false ) );
+			}
+			report( "reflective proxy", reflective );
+			report( "delegating wrapper", delegating );
+			assertTrue(
+					"Delegating wrapper took " + delegating + "ns against " + reflective + "ns for the proxy",
+					delegating < reflective * 3 / 2
+			);
+		}
+		finally {
+			logicalConnection.close();
+		}
+	}
+
+	private static void report(String name, long nanosPerHydrate) {
+		log.infof( "%s: %sus per %s rows", name, nanosPerHydrate / 1000, ROWS );
+	}
+
+	private static void populate(Connection connection) throws SQLException {
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table SANDBOX_JDBC_TST if exists" );
+		statement.execute( "create table SANDBOX_JDBC_TST ( ID bigint, NAME varchar(100), AMOUNT integer )" );
+		statement.close();
+
+		PreparedStatement insert = connection.prepareStatement(
+				"insert into SANDBOX_JDBC_TST( ID, NAME, AMOUNT ) values ( ?, ?, ? )"
+		);
+		for ( int i = 0; i < ROWS; i++ ) {
+			insert.setLong( 1, i );
+			insert.setString( 2, "name " + i );
+			insert.setInt( 3, i % 100 );
+			insert.addBatch();
+		}
+		insert.executeBatch();
+		insert.close();
+	}
+
+	private static long measureHydrate(Connection connection, boolean reflective) throws SQLException {
+		long checksum = 0;
+		long start = System.nanoTime();
+		for ( int i = 0; i < ITERATIONS; i++ ) {
+			PreparedStatement select = connection.prepareStatement( QUERY );
+			ResultSet resultSet = select.executeQuery();
+			if ( reflective ) {
+				resultSet = buildReflectiveProxy( connection, resultSet );
+			}
+			while ( resultSet.next() ) {
+				checksum += resultSet.getLong( 1 );
+				checksum += resultSet.wasNull() ? 0 : resultSet.getString( 2 ).length();
+				checksum += resultSet.getInt( 3 );
+			}
+			select.close();
+		}
+		long elapsed = System.nanoTime() - start;
+		if ( checksum == 0 ) {
+			throw new IllegalStateException( "Expecting rows" );
+		}
+		return elapsed / ITERATIONS;
+	}
+
+	@SuppressWarnings( {"unchecked"})
+	private static ResultSet buildReflectiveProxy(Connection connection, ResultSet resultSet) {
+		ImplicitResultSetProxyHandler handler = new ImplicitResultSetProxyHandler(
+				( (JdbcWrapper<ResultSet>) resultSet ).getWrappedObject(),
+				(ConnectionProxyHandler) Proxy.getInvocationHandler( connection ),
+				connection
+		);
+		return (ResultSet) Proxy.newProxyInstance(
+				JdbcWrapper.class.getClassLoader(),
+				new Class[] { ResultSet.class, JdbcWrapper.class, InvalidatableWrapper.class },
+				handler
+		);
+	}
+}
@@ -25,6 +25,9 @@ package org.hibernate.test.multitenancy.schema;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -87,7 +90,9 @@ public class SchemaBasedMultiTenancyTest extends BaseUnitTestCase {
 		cfg.getProperties().put( Environment.MULTI_TENANT, MultiTenancyStrategy.DATABASE );
 		cfg.setProperty( Environment.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
 		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "5" );
 		cfg.addAnnotatedClass( Customer.class );
+		cfg.addAnnotatedClass( Invoice.class );
 
 		cfg.buildMappings();
 		RootClass meta = (RootClass) cfg.getClassMapping( Customer.class.getName() );
@@ -285,4 +290,32 @@ public class SchemaBasedMultiTenancyTest extends BaseUnitTestCase {
 		session.close();
 	}
 
+	@Test
+	public void testSequenceValuesPerTenant() {
+		// the sequence values fetched ahead for a batch of acme invoices must not be used for jboss
+		Assert.assertEquals( Arrays.asList( 1L, 2L, 3L ), saveInvoices( "acme", 3 ) );
+		Assert.assertEquals( Arrays.asList( 1L, 2L, 3L ), saveInvoices( "jboss", 3 ) );
+		Assert.assertEquals( Arrays.asList( 4L, 5L, 6L ), saveInvoices( "acme", 3 ) );
+
+		for ( String tenantIdentifier : new String[] { "acme", "jboss" } ) {
+			Session session = sessionFactory.withOptions().tenantIdentifier( tenantIdentifier ).openSession();
+			session.beginTransaction();
+			session.createQuery( "delete Invoice" ).executeUpdate();
+			session.getTransaction().commit();
+			session.close();
+		}
+	}
+
+	private List<Long> saveInvoices(String tenantIdentifier, int count) {
+		List<Long> ids = new ArrayList<Long>();
+		Session session = sessionFactory.withOptions().tenantIdentifier( tenantIdentifier ).openSession();
+		session.beginTransaction();
+		for ( int i = 0; i < count; i++ ) {
+			ids.add( (Long) session.save( new Invoice( tenantIdentifier + "-" + i ) ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+		return ids;
+	}
+
 }
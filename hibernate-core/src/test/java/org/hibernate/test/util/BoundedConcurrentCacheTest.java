@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link BoundedConcurrentCache}
+ */
+public class BoundedConcurrentCacheTest extends BaseUnitTestCase {
+	@Test
+	public void testGetAndPut() {
+		BoundedConcurrentCache<String,String> cache = new BoundedConcurrentCache<String,String>( 10 );
+		assertNull( cache.get( "a" ) );
+		assertEquals( "1", cache.putIfAbsent( "a", "1" ) );
+		assertEquals( "1", cache.get( "a" ) );
+		// first one wins
+		assertEquals( "1", cache.putIfAbsent( "a", "2" ) );
+		assertEquals( "1", cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertNull( cache.get( "a" ) );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final AtomicInteger evictions = new AtomicInteger();
+		BoundedConcurrentCache<Integer,Integer> cache = new BoundedConcurrentCache<Integer,Integer>(
+				16,
+				new BoundedConcurrentCache.EvictionListener<Integer, Integer>() {
+					@Override
+					public void onEviction(Integer key, Integer value) {
+						evictions.incrementAndGet();
+					}
+				}
+		);
+		for ( int i = 0; i < 1000; i++ ) {
+			// request every key a few times so that newcomers get admitted
+			for ( int j = 0; j < 3; j++ ) {
+				cache.get( i );
+			}
+			cache.putIfAbsent( i, i );
+			assertTrue( cache.size() <= 16 );
+		}
+		assertEquals( 16, cache.size() );
+		assertTrue( evictions.get() > 0 );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		BoundedConcurrentCache<String,String> cache = new BoundedConcurrentCache<String,String>( 8 );
+		for ( int i = 0; i < 8; i++ ) {
+			cache.putIfAbsent( "hot" + i, "hot" + i );
+		}
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 8; i++ ) {
+				cache.get( "hot" + i );
+			}
+		}
+
+		// a stream of one-off keys, interleaved with regular use of the hot ones
+		for ( int i = 0; i < 500; i++ ) {
+			String key = "adhoc" + i;
+			if ( cache.get( key ) == null ) {
+				cache.putIfAbsent( key, key );
+			}
+			if ( i % 25 == 0 ) {
+				for ( int j = 0; j < 8; j++ ) {
+					cache.get( "hot" + j );
+				}
+			}
+		}
+
+		for ( int i = 0; i < 8; i++ ) {
+			assertEquals( "hot" + i, cache.get( "hot" + i ) );
+		}
+	}
+
+	@Test
+	public void testSerializationDiscardsEntries() {
+		BoundedConcurrentCache<String,String> cache = new BoundedConcurrentCache<String,String>( 10 );
+		cache.putIfAbsent( "a", "1" );
+		BoundedConcurrentCache<String,String> copy = ( BoundedConcurrentCache<String,String> ) SerializationHelper.clone( cache );
+		assertEquals( 10, copy.getMaxSize() );
+		assertEquals( 0, copy.size() );
+		assertNull( copy.get( "a" ) );
+		assertEquals( "1", copy.putIfAbsent( "a", "1" ) );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final BoundedConcurrentCache<Integer,Integer> cache = new BoundedConcurrentCache<Integer,Integer>( 64 );
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final List<Throwable> failures = new ArrayList<Throwable>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for ( int t = 0; t < 8; t++ ) {
+			final int offset = t;
+			Thread thread = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for ( int i = 0; i < 20000; i++ ) {
+							Integer key = ( i * 31 + offset ) % 256;
+							Integer value = cache.get( key );
+							if ( value == null ) {
+								value = cache.putIfAbsent( key, key );
+							}
+							if ( value != null && !value.equals( key ) ) {
+								throw new AssertionError( "Wrong value " + value + " for key " + key );
+							}
+						}
+					}
+					catch ( Throwable e ) {
+						synchronized ( failures ) {
+							failures.add( e );
+						}
+					}
+				}
+			};
+			threads.add( thread );
+			thread.start();
+		}
+		start.countDown();
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+		assertTrue( failures.toString(), failures.isEmpty() );
+		// the bound may be overshot transiently by concurrent puts, never by much
+		assertTrue( cache.size() <= 64 + 8 );
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2011, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests relating to {@link IdentityMap}.
+ */
+public class IdentityMapTest extends BaseUnitTestCase {
+
+	@Test
+	public void testIdentitySemantics() {
+		IdentityMap<String,Integer> map = IdentityMap.instantiateSequenced( 4 );
+		String key = new String( "key" );
+		String equalKey = new String( "key" );
+		map.put( key, 1 );
+		map.put( equalKey, 2 );
+		assertEquals( 2, map.size() );
+		assertEquals( Integer.valueOf( 1 ), map.get( key ) );
+		assertEquals( Integer.valueOf( 2 ), map.get( equalKey ) );
+		assertFalse( map.containsKey( new String( "key" ) ) );
+		assertEquals( Integer.valueOf( 1 ), map.put( key, 3 ) );
+		assertEquals( 2, map.size() );
+	}
+
+	@Test
+	public void testInsertionOrderAfterRemovesAndGrowth() {
+		IdentityMap<Object,Integer> map = IdentityMap.instantiateSequenced( 2 );
+		List<Object> expected = new ArrayList<Object>();
+		for ( int i = 0; i < 1000; i++ ) {
+			Object key = new Object();
+			map.put( key, i );
+			expected.add( key );
+			if ( i % 3 == 0 ) {
+				Object removed = expected.remove( expected.size() / 2 );
+				assertSame( map.get( removed ), map.remove( removed ) );
+				assertNull( map.remove( removed ) );
+			}
+		}
+		assertEquals( expected.size(), map.size() );
+		Iterator<Object> keys = map.keyIterator();
+		for ( Object key : expected ) {
+			assertSame( key, keys.next() );
+		}
+		assertFalse( keys.hasNext() );
+		Map.Entry[] entries = map.entryArray();
+		assertEquals( expected.size(), entries.length );
+		for ( int i = 0; i < entries.length; i++ ) {
+			assertSame( expected.get( i ), entries[i].getKey() );
+			assertSame( map.get( expected.get( i ) ), entries[i].getValue() );
+		}
+	}
+
+	@Test
+	public void testNullKey() {
+		IdentityMap<Object,String> map = IdentityMap.instantiateSequenced( 4 );
+		assertFalse( map.containsKey( null ) );
+		map.put( null, "null" );
+		map.put( "other", "other" );
+		assertTrue( map.containsKey( null ) );
+		assertEquals( "null", map.get( null ) );
+		assertNull( map.keyIterator().next() );
+		assertEquals( "null", map.remove( null ) );
+		assertFalse( map.containsKey( null ) );
+		assertEquals( 1, map.size() );
+	}
+
+	@Test
+	public void testConcurrentEntriesIsASnapshot() {
+		IdentityMap<Object,Integer> map = IdentityMap.instantiateSequenced( 4 );
+		Object first = new Object();
+		Object second = new Object();
+		map.put( first, 1 );
+		map.put( second, 2 );
+		Map.Entry<Object,Integer>[] entries = IdentityMap.concurrentEntries( map );
+		map.remove( first );
+		map.put( new Object(), 3 );
+		assertEquals( 2, entries.length );
+		assertSame( first, entries[0].getKey() );
+		assertSame( second, entries[1].getKey() );
+		assertEquals( 2, IdentityMap.concurrentEntries( map ).length );
+	}
+
+	@Test
+	public void testClear() {
+		IdentityMap<Object,Integer> map = IdentityMap.instantiateSequenced( 4 );
+		for ( int i = 0; i < 20; i++ ) {
+			map.put( new Object(), i );
+		}
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertEquals( 0, map.entryArray().length );
+		assertFalse( map.values().iterator().hasNext() );
+		Object key = new Object();
+		map.put( key, 1 );
+		assertEquals( Integer.valueOf( 1 ), map.get( key ) );
+	}
+
+	@Test
+	public void testFootprintPerEntry() throws Exception {
+		IdentityMap<Object,Integer> map = IdentityMap.instantiateSequenced( 4 );
+		for ( int i = 1; i <= 5000; i++ ) {
+			map.put( new Object(), i );
+			// the arrays of the map are its only per entry state: a key and a value slot, and two index
+			// slots, per position; the positions at most double the entries once above the minimum
+			long slots = 0;
+			for ( Field field : IdentityMap.class.getDeclaredFields() ) {
+				if ( Modifier.isStatic( field.getModifiers() ) || "entryArray".equals( field.getName() ) ) {
+					continue;
+				}
+				if ( field.getType().isArray() ) {
+					field.setAccessible( true );
+					slots += Array.getLength( field.get( map ) );
+				}
+				else if ( !field.getType().isPrimitive() ) {
+					fail( "unexpected object held by the map: " + field.getName() );
+				}
+			}
+			if ( i >= 8 ) {
+				// 32 bytes with 4 byte references, where the LinkedHashMap of identity wrapping keys held
+				// a 40 byte linked entry, a 16 byte wrapper and a table slot per entry
+				assertTrue( "slots for " + i + " entries: " + slots, slots <= 8L * i );
+			}
+		}
+		// the entry snapshot is only built on demand
+		assertEquals( 0, entryArrayLength( map ) );
+	}
+
+	private static int entryArrayLength(IdentityMap<?,?> map) throws Exception {
+		Field field = IdentityMap.class.getDeclaredField( "entryArray" );
+		field.setAccessible( true );
+		return Array.getLength( field.get( map ) );
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2010, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.type;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.jboss.logging.Logger;
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jdbc.Work;
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the heap allocated when reading values through the basic types, on top of what reading and boxing the
+ * same values straight from the result set allocates.  No options, extractor or binder should be allocated per
+ * value read.
+ * <p/>
+ * Measures allocation with the HotSpot specific {@code com.sun.management.ThreadMXBean}, and checks nothing on
+ * JVMs lacking it.
+ */
+@RequiresDialect( H2Dialect.class )
+public class BasicTypeAllocationTest extends BaseCoreFunctionalTestCase {
+	private static final Logger log = Logger.getLogger( BasicTypeAllocationTest.class );
+
+	private static final int ROWS = 10000;
+	private static final AbstractStandardBasicType[] TYPES = new AbstractStandardBasicType[] {
+			LongType.INSTANCE,
+			IntegerType.INSTANCE,
+			ShortType.INSTANCE,
+			DoubleType.INSTANCE,
+			FloatType.INSTANCE,
+			BooleanType.INSTANCE,
+			LongType.INSTANCE,
+			IntegerType.INSTANCE
+	};
+	private static final String[] COLUMNS = new String[] { "C0", "C1", "C2", "C3", "C4", "C5", "C6", "C7" };
+
+	@Test
+	public void testAllocationPerRow() {
+		if ( allocatedBytes() < 0 ) {
+			log.warn( "Thread allocation measurement not supported; skipping" );
+			return;
+		}
+		Session s = openSession();
+		final SessionImplementor session = (SessionImplementor) s;
+		s.doWork(
+				new Work() {
+					@Override
+					public void execute(Connection connection) throws SQLException {
+						populate( connection );
+
+						// the first runs double as warm-up
+						assertEquals( readDirectly( connection ), readThroughTypes( connection, session ) );
+
+						long allocated = allocatedBytes();
+						readDirectly( connection );
+						final long direct = allocatedBytes() - allocated;
+
+						allocated = allocatedBytes();
+						readThroughTypes( connection, session );
+						final long throughTypes = allocatedBytes() - allocated;
+
+						final long overheadPerRow = ( throughTypes - direct ) / ROWS;
+						log.debugf( "%s bytes allocated per row of %s columns by the types", overheadPerRow, COLUMNS.length );
+						// allocating any object per value read would take at least 16 bytes per column
+						assertTrue(
+								overheadPerRow + " bytes allocated per row",
+								overheadPerRow < COLUMNS.length * 16
+						);
+					}
+				}
+		);
+		s.close();
+	}
+
+	private static void populate(Connection connection) throws SQLException {
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table NUMERIC_ROWS if exists" );
+		statement.execute(
+				"create table NUMERIC_ROWS ( C0 bigint, C1 integer, C2 smallint, C3 double, C4 real, C5 boolean, " +
+						"C6 bigint, C7 integer )"
+		);
+		statement.close();
+
+		PreparedStatement insert = connection.prepareStatement(
+				"insert into NUMERIC_ROWS values ( ?, ?, ?, ?, ?, ?, ?, ? )"
+		);
+		for ( int i = 0; i < ROWS; i++ ) {
+			insert.setLong( 1, i * 1000L );
+			insert.setInt( 2, i * 1000 );
+			insert.setShort( 3, (short) i );
+			insert.setDouble( 4, i / 3d );
+			insert.setFloat( 5, i / 3f );
+			insert.setBoolean( 6, i % 2 == 0 );
+			insert.setLong( 7, i );
+			insert.setInt( 8, i );
+			insert.addBatch();
+		}
+		insert.executeBatch();
+		insert.close();
+	}
+
+	private static long readThroughTypes(Connection connection, SessionImplementor session) throws SQLException {
+		long values = 0;
+		PreparedStatement select = connection.prepareStatement( "select * from NUMERIC_ROWS" );
+		ResultSet resultSet = select.executeQuery();
+		while ( resultSet.next() ) {
+			for ( int i = 0; i < TYPES.length; i++ ) {
+				if ( TYPES[i].nullSafeGet( resultSet, COLUMNS[i], session ) != null ) {
+					values++;
+				}
+			}
+		}
+		select.close();
+		return values;
+	}
+
+	/**
+	 * Reads and boxes the same values as {@link #readThroughTypes}, as the types do.
+	 */
+	private static long readDirectly(Connection connection) throws SQLException {
+		long values = 0;
+		PreparedStatement select = connection.prepareStatement( "select * from NUMERIC_ROWS" );
+		ResultSet resultSet = select.executeQuery();
+		while ( resultSet.next() ) {
+			values += count( Long.valueOf( resultSet.getLong( COLUMNS[0] ) ), resultSet );
+			values += count( Integer.valueOf( resultSet.getInt( COLUMNS[1] ) ), resultSet );
+			values += count( Short.valueOf( resultSet.getShort( COLUMNS[2] ) ), resultSet );
+			values += count( Double.valueOf( resultSet.getDouble( COLUMNS[3] ) ), resultSet );
+			values += count( Float.valueOf( resultSet.getFloat( COLUMNS[4] ) ), resultSet );
+			values += count( Boolean.valueOf( resultSet.getBoolean( COLUMNS[5] ) ), resultSet );
+			values += count( Long.valueOf( resultSet.getLong( COLUMNS[6] ) ), resultSet );
+			values += count( Integer.valueOf( resultSet.getInt( COLUMNS[7] ) ), resultSet );
+		}
+		select.close();
+		return values;
+	}
+
+	private static int count(Object value, ResultSet resultSet) throws SQLException {
+		return value == null || resultSet.wasNull() ? 0 : 1;
+	}
+
+	/**
+	 * @return The bytes allocated by the current thread so far, or -1 if the JVM cannot tell
+	 */
+	private static long allocatedBytes() {
+		try {
+			Class threadBeanClass = Class.forName( "com.sun.management.ThreadMXBean" );
+			if ( !threadBeanClass.isInstance( ManagementFactory.getThreadMXBean() ) ) {
+				return -1;
+			}
+			return (Long) threadBeanClass.getMethod( "getThreadAllocatedBytes", long.class )
+					.invoke( ManagementFactory.getThreadMXBean(), Thread.currentThread().getId() );
+		}
+		catch ( Exception e ) {
+			return -1;
+		}
+	}
+}
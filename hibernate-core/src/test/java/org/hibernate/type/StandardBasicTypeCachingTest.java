@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2010, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.type;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.Test;
+
+import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.engine.jdbc.NonContextualLobCreator;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.LongTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BigIntTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that a standard basic type builds the extractor and binder of its own descriptor once, but asks a descriptor
+ * remapped by the dialect each time.
+ */
+public class StandardBasicTypeCachingTest extends BaseUnitTestCase {
+	@Test
+	public void testExtractorAndBinderAreCached() throws SQLException {
+		final CountingSqlTypeDescriptor descriptor = new CountingSqlTypeDescriptor();
+		final CountingLongType type = new CountingLongType( descriptor );
+		final WrapperOptions options = options( null );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( Long.valueOf( 42L ), type.get( resultSet( 42L ), options ) );
+			type.set( statement( 42L ), 42L, options );
+		}
+
+		assertEquals( 1, descriptor.extractorRequests );
+		assertEquals( 1, descriptor.binderRequests );
+	}
+
+	@Test
+	public void testRemappedDescriptorIsAskedEachTime() throws SQLException {
+		final CountingSqlTypeDescriptor descriptor = new CountingSqlTypeDescriptor();
+		final CountingSqlTypeDescriptor remapped = new CountingSqlTypeDescriptor();
+		final CountingLongType type = new CountingLongType( descriptor );
+		final WrapperOptions options = options( remapped );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( Long.valueOf( 42L ), type.get( resultSet( 42L ), options ) );
+			type.set( statement( 42L ), 42L, options );
+		}
+
+		assertEquals( 0, descriptor.extractorRequests );
+		assertEquals( 0, descriptor.binderRequests );
+		assertEquals( 3, remapped.extractorRequests );
+		assertEquals( 3, remapped.binderRequests );
+
+		// a remapping does not leak into the cache of the type
+		type.get( resultSet( 42L ), options( null ) );
+		type.get( resultSet( 42L ), options( null ) );
+		assertEquals( 1, descriptor.extractorRequests );
+		assertEquals( 3, remapped.extractorRequests );
+	}
+
+	private static WrapperOptions options(final SqlTypeDescriptor remapping) {
+		return new WrapperOptions() {
+			public boolean useStreamForLobBinding() {
+				return false;
+			}
+
+			public LobCreator getLobCreator() {
+				return NonContextualLobCreator.INSTANCE;
+			}
+
+			public SqlTypeDescriptor remapSqlTypeDescriptor(SqlTypeDescriptor sqlTypeDescriptor) {
+				return remapping == null ? sqlTypeDescriptor : remapping;
+			}
+		};
+	}
+
+	private static ResultSet resultSet(final long value) {
+		return (ResultSet) Proxy.newProxyInstance(
+				StandardBasicTypeCachingTest.class.getClassLoader(),
+				new Class[] { ResultSet.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						if ( method.getName().equals( "getLong" ) ) {
+							return value;
+						}
+						if ( method.getName().equals( "wasNull" ) ) {
+							return false;
+						}
+						throw new UnsupportedOperationException( "Unexpected call ResultSet." + method.getName() );
+					}
+				}
+		);
+	}
+
+	private static PreparedStatement statement(final long expectedValue) {
+		return (PreparedStatement) Proxy.newProxyInstance(
+				StandardBasicTypeCachingTest.class.getClassLoader(),
+				new Class[] { PreparedStatement.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						if ( method.getName().equals( "setLong" ) ) {
+							assertEquals( expectedValue, args[1] );
+							return null;
+						}
+						throw new UnsupportedOperationException( "Unexpected call PreparedStatement." + method.getName() );
+					}
+				}
+		);
+	}
+
+	private static class CountingLongType extends AbstractSingleColumnStandardBasicType<Long> {
+		private CountingLongType(SqlTypeDescriptor sqlTypeDescriptor) {
+			super( sqlTypeDescriptor, LongTypeDescriptor.INSTANCE );
+		}
+
+		public String getName() {
+			return "counting_long";
+		}
+
+		private Long get(ResultSet rs, WrapperOptions options) throws SQLException {
+			return nullSafeGet( rs, "n/a", options );
+		}
+
+		private void set(PreparedStatement st, Long value, WrapperOptions options) throws SQLException {
+			nullSafeSet( st, value, 1, options );
+		}
+	}
+
+	private static class CountingSqlTypeDescriptor implements SqlTypeDescriptor {
+		private int extractorRequests;
+		private int binderRequests;
+
+		public int getSqlType() {
+			return Types.BIGINT;
+		}
+
+		public boolean canBeRemapped() {
+			return true;
+		}
+
+		public <X> ValueBinder<X> getBinder(JavaTypeDescriptor<X> javaTypeDescriptor) {
+			binderRequests++;
+			return BigIntTypeDescriptor.INSTANCE.getBinder( javaTypeDescriptor );
+		}
+
+		public <X> ValueExtractor<X> getExtractor(JavaTypeDescriptor<X> javaTypeDescriptor) {
+			extractorRequests++;
+			return BigIntTypeDescriptor.INSTANCE.getExtractor( javaTypeDescriptor );
+		}
+	}
+}
@@ -35,6 +35,7 @@ import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.internal.nonstop.NonstopAccessStrategyFactory;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheCollectionRegion;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheEntityRegion;
+import org.hibernate.cache.ehcache.internal.regions.EhcacheNaturalIdRegion;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheQueryResultsRegion;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheTimestampsRegion;
 import org.hibernate.cache.ehcache.internal.strategy.EhcacheAccessStrategyFactory;
@@ -44,8 +45,9 @@ import org.hibernate.cache.ehcache.management.impl.ProviderMBeanRegistrationHelp
 import org.hibernate.cache.spi.CacheDataDescription;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.NaturalIdRegionFactory;
 import org.hibernate.cache.spi.QueryResultsRegion;
-import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cfg.Settings;
@@ -61,7 +63,7 @@ import org.hibernate.service.spi.InjectService;
  * @author Abhishek Sanoujam
  * @author Alex Snaps
  */
-abstract class AbstractEhcacheRegionFactory implements RegionFactory {
+abstract class AbstractEhcacheRegionFactory implements NaturalIdRegionFactory {
 
     /**
      * The Hibernate system property specifying the location of the ehcache configuration file name.
@@ -144,6 +146,20 @@ abstract class AbstractEhcacheRegionFactory implements RegionFactory {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public NaturalIdRegion buildNaturalIdRegion(String regionName, Properties properties, CacheDataDescription metadata)
+            throws CacheException {
+        return new EhcacheNaturalIdRegion(
+                accessStrategyFactory,
+                getCache( regionName ),
+                settings,
+                metadata,
+                properties
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -23,11 +23,17 @@
  */
 package org.hibernate.cache.ehcache.internal.nonstop;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
+import org.hibernate.cache.spi.access.RegionAccessStrategyHelper;
 import org.hibernate.cache.spi.access.SoftLock;
 
 /**
@@ -37,7 +43,7 @@ import org.hibernate.cache.spi.access.SoftLock;
  * @author Abhishek Sanoujam
  * @author Alex Snaps
  */
-public class NonstopAwareCollectionRegionAccessStrategy implements CollectionRegionAccessStrategy {
+public class NonstopAwareCollectionRegionAccessStrategy implements CollectionRegionAccessStrategy, BulkReadRegionAccessStrategy {
 
 	private final CollectionRegionAccessStrategy actualStrategy;
 	private final HibernateNonstopCacheExceptionHandler hibernateNonstopExceptionHandler;
@@ -106,6 +112,21 @@ public class NonstopAwareCollectionRegionAccessStrategy implements CollectionReg
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy#getAll(java.util.Collection, long)
+	 */
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		try {
+			return RegionAccessStrategyHelper.getAll( actualStrategy, keys, txTimestamp );
+		}
+		catch ( NonStopCacheException nonStopCacheException ) {
+			hibernateNonstopExceptionHandler.handleNonstopCacheException( nonStopCacheException );
+			return Collections.emptyMap();
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
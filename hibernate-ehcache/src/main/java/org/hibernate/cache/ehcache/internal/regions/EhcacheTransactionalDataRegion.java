@@ -23,6 +23,10 @@
  */
 package org.hibernate.cache.ehcache.internal.regions;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import net.sf.ehcache.Ehcache;
@@ -132,6 +136,33 @@ public class EhcacheTransactionalDataRegion extends EhcacheDataRegion implements
 		}
 	}
 
+	/**
+	 * Get the values mapped to the given keys in a single bulk operation.  Keys which have no value mapped
+	 * are not contained in the returned map.
+	 */
+	public final Map<Object, Object> getAll(Collection keys) {
+		try {
+			Map<Object, Element> elements = cache.getAll( keys );
+			Map<Object, Object> values = new HashMap<Object, Object>( elements.size() );
+			for ( Map.Entry<Object, Element> entry : elements.entrySet() ) {
+				if ( entry.getValue() != null ) {
+					values.put( entry.getKey(), entry.getValue().getObjectValue() );
+				}
+			}
+			return values;
+		}
+		catch ( net.sf.ehcache.CacheException e ) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+				return Collections.emptyMap();
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
 	/**
 	 * Map the given value to the given key, replacing any existing mapping for this key
 	 */
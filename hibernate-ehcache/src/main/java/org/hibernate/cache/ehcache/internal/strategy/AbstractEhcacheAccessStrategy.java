@@ -23,6 +23,9 @@
  */
 package org.hibernate.cache.ehcache.internal.strategy;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheTransactionalDataRegion;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -55,6 +58,15 @@ abstract class AbstractEhcacheAccessStrategy<T extends EhcacheTransactionalDataR
 		this.settings = settings;
 	}
 
+	/**
+	 * Reads all the given keys from the underlying cache in a single bulk operation.
+	 *
+	 * @see org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy#getAll(java.util.Collection, long)
+	 */
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		return region.getAll( keys );
+	}
+
 	/**
 	 * This method is a placeholder for method signatures supplied by interfaces pulled in further down the class
 	 * hierarchy.
@@ -24,7 +24,10 @@
 package org.hibernate.cache.ehcache.internal.strategy;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -89,6 +92,32 @@ abstract class AbstractReadWriteEhcacheAccessStrategy<T extends EhcacheTransacti
         }
     }
 
+    /**
+     * Reads the items in a single bulk operation unless the region's locks are independent of the cache, in which
+     * case each item is read under its own lock.  Locked items are not readable, nor are items created after the
+     * start of this transaction.
+     *
+     * @see org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy#getAll(java.util.Collection, long)
+     */
+    @Override
+    public final Map getAll(Collection keys, long txTimestamp) throws CacheException {
+        Map<Object, Object> result = new HashMap<Object, Object>( keys.size() );
+        if ( region.locksAreIndependentOfCache() ) {
+            for ( Object key : keys ) {
+                result.put( key, get( key, txTimestamp ) );
+            }
+        }
+        else {
+            for ( Map.Entry<Object, Object> entry : region.getAll( keys ).entrySet() ) {
+                Lockable item = (Lockable) entry.getValue();
+                if ( item.isReadable( txTimestamp ) ) {
+                    result.put( entry.getKey(), item.getValue() );
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns <code>false</code> and fails to put the value if there is an existing un-writeable item mapped to this
      * key.
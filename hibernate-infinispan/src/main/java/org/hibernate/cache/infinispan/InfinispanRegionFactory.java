@@ -12,6 +12,8 @@ import org.hibernate.cache.spi.CacheDataDescription;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.NaturalIdRegionFactory;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
@@ -19,6 +21,7 @@ import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.infinispan.collection.CollectionRegionImpl;
 import org.hibernate.cache.infinispan.entity.EntityRegionImpl;
 import org.hibernate.cache.infinispan.impl.ClassLoaderAwareCache;
+import org.hibernate.cache.infinispan.naturalid.NaturalIdRegionImpl;
 import org.hibernate.cache.infinispan.query.QueryResultsRegionImpl;
 import org.hibernate.cache.infinispan.timestamp.TimestampTypeOverrides;
 import org.hibernate.cache.infinispan.timestamp.TimestampsRegionImpl;
@@ -43,7 +46,7 @@ import org.infinispan.util.logging.LogFactory;
  * @author Galder Zamarreño
  * @since 3.5
  */
-public class InfinispanRegionFactory implements RegionFactory {
+public class InfinispanRegionFactory implements NaturalIdRegionFactory {
 
    private static final Log log = LogFactory.getLog(InfinispanRegionFactory.class);
 
@@ -181,6 +184,16 @@ public class InfinispanRegionFactory implements RegionFactory {
       return region;
    }
 
+   /** {@inheritDoc} */
+   public NaturalIdRegion buildNaturalIdRegion(String regionName, Properties properties, CacheDataDescription metadata) throws CacheException {
+      if (log.isDebugEnabled()) log.debug("Building natural-id cache region [" + regionName + "]");
+      Cache cache = getCache(regionName, ENTITY_KEY, properties);
+      CacheAdapter cacheAdapter = CacheAdapterImpl.newInstance(cache);
+      NaturalIdRegionImpl region = new NaturalIdRegionImpl(cacheAdapter, regionName, metadata, transactionManager, this);
+      region.start();
+      return region;
+   }
+
    /** {@inheritDoc} */
    public EntityRegion buildEntityRegion(String regionName, Properties properties, CacheDataDescription metadata) throws CacheException {
       if (log.isDebugEnabled()) log.debug("Building entity cache region [" + regionName + "]");
@@ -22,6 +22,9 @@
  * Boston, MA  02110-1301  USA
  */
 package org.hibernate.cache.infinispan.access;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import javax.transaction.Transaction;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
@@ -65,6 +68,17 @@ public class TransactionalAccessDelegate {
       return val;
    }
 
+   public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+      if (!region.checkValid())
+         return Collections.emptyMap();
+      Map vals = cacheAdapter.getAll(keys);
+      for (Object key : keys) {
+         if (!vals.containsKey(key))
+            putValidator.registerPendingPut(key);
+      }
+      return vals;
+   }
+
    public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version) throws CacheException {
       if (!region.checkValid())
          return false;
@@ -1,6 +1,10 @@
 package org.hibernate.cache.infinispan.collection;
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
@@ -12,7 +16,7 @@ import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
  * @author Galder Zamarreño
  * @since 3.5
  */
-class TransactionalAccess implements CollectionRegionAccessStrategy {
+class TransactionalAccess implements CollectionRegionAccessStrategy, BulkReadRegionAccessStrategy {
 
    private final CollectionRegionImpl region;
    
@@ -35,6 +39,10 @@ class TransactionalAccess implements CollectionRegionAccessStrategy {
       return delegate.get(key, txTimestamp);
    }
 
+   public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+      return delegate.getAll(keys, txTimestamp);
+   }
+
    public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version) throws CacheException {
       return delegate.putFromLoad(key, value, txTimestamp, version);
    }
@@ -1,6 +1,10 @@
 package org.hibernate.cache.infinispan.entity;
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
@@ -12,7 +16,7 @@ import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
  * @author Galder Zamarreño
  * @since 3.5
  */
-class TransactionalAccess implements EntityRegionAccessStrategy {
+class TransactionalAccess implements EntityRegionAccessStrategy, BulkReadRegionAccessStrategy {
  
    private final EntityRegionImpl region;
    
@@ -35,6 +39,10 @@ class TransactionalAccess implements EntityRegionAccessStrategy {
       return delegate.get(key, txTimestamp);
    }
 
+   public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+      return delegate.getAll(keys, txTimestamp);
+   }
+
    public EntityRegion getRegion() {
       return this.region;
    }
@@ -0,0 +1,76 @@
+package org.hibernate.cache.infinispan.naturalid;
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
+
+/**
+ * Transactional natural-id region access for Infinispan.
+ */
+class TransactionalAccess implements NaturalIdRegionAccessStrategy, BulkReadRegionAccessStrategy {
+
+   private final NaturalIdRegionImpl region;
+   
+   private final TransactionalAccessDelegate delegate;
+
+   TransactionalAccess(NaturalIdRegionImpl region) {
+      this.region = region;
+      this.delegate = new TransactionalAccessDelegate(region, region.getPutFromLoadValidator());
+   }
+
+   public void evict(Object key) throws CacheException {
+      delegate.evict(key);
+   }
+
+   public void evictAll() throws CacheException {
+      delegate.evictAll();
+   }
+
+   public Object get(Object key, long txTimestamp) throws CacheException {
+      return delegate.get(key, txTimestamp);
+   }
+
+   public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+      return delegate.getAll(keys, txTimestamp);
+   }
+
+   public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version) throws CacheException {
+      return delegate.putFromLoad(key, value, txTimestamp, version);
+   }
+
+   public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version, boolean minimalPutOverride) throws CacheException {
+      return delegate.putFromLoad(key, value, txTimestamp, version, minimalPutOverride);
+   }
+
+   public void remove(Object key) throws CacheException {
+      delegate.remove(key);
+   }
+
+   public void removeAll() throws CacheException {
+      delegate.removeAll();
+   }
+
+   public NaturalIdRegion getRegion() {
+      return region;
+   }
+
+   public SoftLock lockItem(Object key, Object version) throws CacheException {
+      return null;
+   }
+
+   public SoftLock lockRegion() throws CacheException {
+      return null;
+   }
+
+   public void unlockItem(Object key, SoftLock lock) throws CacheException {
+   }
+
+   public void unlockRegion(SoftLock lock) throws CacheException {
+   }
+
+}
\ No newline at end of file
@@ -21,6 +21,7 @@
  * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
  */
 package org.hibernate.cache.infinispan.util;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -89,6 +90,17 @@ public interface CacheAdapter {
     */
    Object get(Object key) throws CacheException;
 
+   /**
+    * Performs a <code>get(Object)</code> for each of the given keys, wrapping any exception in a
+    * {@link CacheException}. In distributed mode the keys are retrieved asynchronously, so that
+    * the remote calls overlap instead of being made one after the other.
+    * 
+    * @param keys keys to retrieve
+    * @return the values found, keyed by their keys; keys without a value are not contained
+    * @throws CacheException
+    */
+   Map getAll(Collection keys) throws CacheException;
+
    /**
     * Performs an <code>get(Object)</code> on the cache ignoring any {@link TimeoutException} 
     * and wrapping any other exception in a {@link CacheException}.
@@ -21,9 +21,12 @@
  * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
  */
 package org.hibernate.cache.infinispan.util;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 import org.hibernate.cache.CacheException;
 import org.infinispan.Cache;
 import org.infinispan.config.Configuration;
@@ -81,6 +84,34 @@ public class CacheAdapterImpl implements CacheAdapter {
       }
    }
 
+   public Map getAll(Collection keys) throws CacheException {
+      try {
+         Map result = new HashMap(keys.size());
+         if (isDistributed(cache.getConfiguration().getCacheMode())) {
+            Map<Object, Future> futures = new HashMap<Object, Future>(keys.size());
+            for (Object key : keys)
+               futures.put(key, cache.getAsync(key));
+            for (Map.Entry<Object, Future> entry : futures.entrySet()) {
+               Object value = entry.getValue().get();
+               if (value != null)
+                  result.put(entry.getKey(), value);
+            }
+         } else {
+            for (Object key : keys) {
+               Object value = cache.get(key);
+               if (value != null)
+                  result.put(key, value);
+            }
+         }
+         return result;
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CacheException(e);
+      } catch (Exception e) {
+         throw new CacheException(e);
+      }
+   }
+
    public Object getAllowingTimeout(Object key) throws CacheException {
       try {
          return getFailSilentCache().get(key);
@@ -162,6 +193,11 @@ public class CacheAdapterImpl implements CacheAdapter {
                || cacheMode == Configuration.CacheMode.REPL_SYNC;
    }
 
+   private static boolean isDistributed(Configuration.CacheMode cacheMode) {
+      return cacheMode == Configuration.CacheMode.DIST_ASYNC
+               || cacheMode == Configuration.CacheMode.DIST_SYNC;
+   }
+
    private static boolean isSynchronous(Configuration.CacheMode cacheMode) {
       return cacheMode == Configuration.CacheMode.REPL_SYNC
                || cacheMode == Configuration.CacheMode.INVALIDATION_SYNC
@@ -26,8 +26,9 @@ import org.hibernate.cache.spi.CacheDataDescription;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.NaturalIdRegionFactory;
 import org.hibernate.cache.spi.QueryResultsRegion;
-import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.infinispan.InfinispanRegionFactory;
@@ -42,7 +43,7 @@ import org.infinispan.util.logging.LogFactory;
  * @author Galder Zamarreño
  * @since 3.5
  */
-public class ClusterAwareRegionFactory implements RegionFactory {
+public class ClusterAwareRegionFactory implements NaturalIdRegionFactory {
    
    private static final Log log = LogFactory.getLog(ClusterAwareRegionFactory.class);
    private static final Hashtable<String, EmbeddedCacheManager> cacheManagers = new Hashtable<String, EmbeddedCacheManager>();
@@ -102,6 +103,11 @@ public class ClusterAwareRegionFactory implements RegionFactory {
       return delegate.buildEntityRegion(regionName, properties, metadata);
    }
 
+   public NaturalIdRegion buildNaturalIdRegion(String regionName, Properties properties,
+            CacheDataDescription metadata) throws CacheException {
+      return delegate.buildNaturalIdRegion(regionName, properties, metadata);
+   }
+
    public QueryResultsRegion buildQueryResultsRegion(String regionName, Properties properties)
             throws CacheException {
       return delegate.buildQueryResultsRegion(regionName, properties);
@@ -38,6 +38,12 @@ abstract public class DialectChecks {
 		}
 	}
 
+	public static class SupportsSequenceNextValues implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsSequenceNextValues();
+		}
+	}
+
 	public static class SupportsExpectedLobUsagePattern implements DialectCheck {
 		public boolean isMatch(Dialect dialect) {
 			return dialect.supportsExpectedLobUsagePattern();
@@ -50,6 +56,12 @@ abstract public class DialectChecks {
 		}
 	}
 
+	public static class SupportsGetGeneratedKeysForBatch implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsIdentityColumns() && dialect.supportsGetGeneratedKeysForBatch();
+		}
+	}
+
 	public static class SupportsColumnCheck implements DialectCheck {
 		public boolean isMatch(Dialect dialect) {
 			return dialect.supportsColumnCheck();
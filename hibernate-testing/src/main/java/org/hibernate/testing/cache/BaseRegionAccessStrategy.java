@@ -23,18 +23,22 @@
  */
 package org.hibernate.testing.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jboss.logging.Logger;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.GeneralDataRegion;
-import org.hibernate.cache.spi.access.RegionAccessStrategy;
+import org.hibernate.cache.spi.access.BulkReadRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
  * @author Strong Liu
  */
-abstract class BaseRegionAccessStrategy implements RegionAccessStrategy {
+abstract class BaseRegionAccessStrategy implements BulkReadRegionAccessStrategy {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class, BaseRegionAccessStrategy.class.getName()
 	);
@@ -48,6 +52,16 @@ abstract class BaseRegionAccessStrategy implements RegionAccessStrategy {
 		return getInternalRegion().get( key );
 	}
 
+	@Override
+	@SuppressWarnings({ "unchecked" })
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		Map result = new HashMap( keys.size() );
+		for ( Object key : keys ) {
+			result.put( key, get( key, txTimestamp ) );
+		}
+		return result;
+	}
+
 	@Override
 	public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version) throws CacheException {
 		return putFromLoad( key, value, txTimestamp, version, isDefaultMinimalPutOverride() );
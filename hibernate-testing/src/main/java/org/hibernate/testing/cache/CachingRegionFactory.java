@@ -32,8 +32,9 @@ import org.hibernate.cache.internal.Timestamper;
 import org.hibernate.cache.spi.CacheDataDescription;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.NaturalIdRegionFactory;
 import org.hibernate.cache.spi.QueryResultsRegion;
-import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cfg.Settings;
@@ -42,7 +43,7 @@ import org.hibernate.internal.CoreMessageLogger;
 /**
  * @author Strong Liu
  */
-public class CachingRegionFactory implements RegionFactory {
+public class CachingRegionFactory implements NaturalIdRegionFactory {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class, CachingRegionFactory.class.getName()
 	);
@@ -92,6 +93,12 @@ public class CachingRegionFactory implements RegionFactory {
 		return new CollectionRegionImpl( regionName, metadata, settings );
 	}
 
+	@Override
+	public NaturalIdRegion buildNaturalIdRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return new NaturalIdRegionImpl( regionName, metadata, settings );
+	}
+
 	@Override
 	public QueryResultsRegion buildQueryResultsRegion(String regionName, Properties properties) throws CacheException {
 		return new QueryResultsRegionImpl( regionName );